@@ -0,0 +1,168 @@
+package io.dropwizard.benchmarks.client;
+
+import io.dropwizard.client.DropwizardApacheConnector;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures sending large request bodies through {@link DropwizardApacheConnector} with chunked encoding
+ * disabled, against the previous strategy of buffering each entity in a new {@link ByteArrayOutputStream}.
+ * The HTTP client is a stub that writes the entity to a discarding stream, so only the buffering is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BufferedRequestEntityBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    public int size = 1024;
+
+    @Param({"pooled", "unpooled"})
+    public String buffering = "pooled";
+
+    private byte[] body = new byte[0];
+    private Client client;
+    private WebTarget target;
+
+    @Setup
+    public void setUp() {
+        body = new byte[size];
+        ThreadLocalRandom.current().nextBytes(body);
+
+        final CloseableHttpClient httpClient = new DiscardingHttpClient();
+        final DropwizardApacheConnector connector = "pooled".equals(buffering) ?
+            new DropwizardApacheConnector(httpClient, null, false) : new UnpooledApacheConnector(httpClient);
+        client = ClientBuilder.newClient(new ClientConfig().connectorProvider((jerseyClient, configuration) -> connector));
+        target = client.target("http://localhost/upload");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+    }
+
+    @Benchmark
+    public int post() {
+        return target.request().post(Entity.entity(body, MediaType.APPLICATION_OCTET_STREAM)).getStatus();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(BufferedRequestEntityBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+
+    /**
+     * Buffers each entity like {@link DropwizardApacheConnector} did before pooling its buffers.
+     */
+    private static class UnpooledApacheConnector extends DropwizardApacheConnector {
+        private UnpooledApacheConnector(CloseableHttpClient client) {
+            super(client, null, false);
+        }
+
+        @Override
+        protected HttpEntity getHttpEntity(ClientRequest jerseyRequest) {
+            if (jerseyRequest.getEntity() == null) {
+                return null;
+            }
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream(512);
+            jerseyRequest.setStreamProvider(contentLength -> stream);
+            try {
+                jerseyRequest.writeEntity();
+            } catch (IOException e) {
+                throw new ProcessingException(e);
+            }
+            return new ByteArrayEntity(stream.toByteArray());
+        }
+    }
+
+    private static class DiscardingHttpClient extends CloseableHttpClient {
+        private final OutputStream discarding = new OutputStream() {
+            @Override
+            public void write(int b) {
+                // discard
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                // discard
+            }
+        };
+
+        @Override
+        protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context)
+            throws IOException {
+            if (request instanceof HttpEntityEnclosingRequest) {
+                final HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+                if (entity != null) {
+                    entity.writeTo(discarding);
+                }
+            }
+            return new NoContentResponse();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public org.apache.http.params.HttpParams getParams() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public org.apache.http.conn.ClientConnectionManager getConnectionManager() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static class NoContentResponse extends BasicHttpResponse implements CloseableHttpResponse {
+        private NoContentResponse() {
+            super(HttpVersion.HTTP_1_1, 204, "No Content");
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package io.dropwizard.benchmarks.jackson;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import com.google.common.collect.ImmutableList;
+import com.google.common.net.HostAndPort;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jackson.JacksonAccelerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the serialization and deserialization throughput of the {@link JacksonAccelerator}s for a
+ * mutable bean and for an immutable, record-like value class using Optionals, Guava, Caffeine and
+ * java.time types.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JacksonAcceleratorBenchmark {
+
+    public static class Item {
+        private String sku = "";
+        private int quantity;
+        private long priceInCents;
+        private boolean giftWrapped;
+
+        public String getSku() {
+            return sku;
+        }
+
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public long getPriceInCents() {
+            return priceInCents;
+        }
+
+        public void setPriceInCents(long priceInCents) {
+            this.priceInCents = priceInCents;
+        }
+
+        public boolean isGiftWrapped() {
+            return giftWrapped;
+        }
+
+        public void setGiftWrapped(boolean giftWrapped) {
+            this.giftWrapped = giftWrapped;
+        }
+    }
+
+    public static final class Order {
+        private final long id;
+        private final String customer;
+        private final Optional<String> coupon;
+        private final ImmutableList<Item> items;
+        private final Instant createdAt;
+        private final Duration timeToLive;
+        private final HostAndPort origin;
+        private final CaffeineSpec cacheSpec;
+
+        @JsonCreator
+        public Order(@JsonProperty("id") long id,
+                     @JsonProperty("customer") String customer,
+                     @JsonProperty("coupon") Optional<String> coupon,
+                     @JsonProperty("items") ImmutableList<Item> items,
+                     @JsonProperty("createdAt") Instant createdAt,
+                     @JsonProperty("timeToLive") Duration timeToLive,
+                     @JsonProperty("origin") HostAndPort origin,
+                     @JsonProperty("cacheSpec") CaffeineSpec cacheSpec) {
+            this.id = id;
+            this.customer = customer;
+            this.coupon = coupon;
+            this.items = items;
+            this.createdAt = createdAt;
+            this.timeToLive = timeToLive;
+            this.origin = origin;
+            this.cacheSpec = cacheSpec;
+        }
+
+        @JsonProperty
+        public long getId() {
+            return id;
+        }
+
+        @JsonProperty
+        public String getCustomer() {
+            return customer;
+        }
+
+        @JsonProperty
+        public Optional<String> getCoupon() {
+            return coupon;
+        }
+
+        @JsonProperty
+        public ImmutableList<Item> getItems() {
+            return items;
+        }
+
+        @JsonProperty
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        @JsonProperty
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        @JsonProperty
+        public HostAndPort getOrigin() {
+            return origin;
+        }
+
+        @JsonProperty
+        public CaffeineSpec getCacheSpec() {
+            return cacheSpec;
+        }
+    }
+
+    @Param({"NONE", "AFTERBURNER", "BLACKBIRD"})
+    public String accelerator = "NONE";
+
+    private ObjectMapper mapper = Jackson.newObjectMapper();
+    private Item item = new Item();
+    private Order order = newOrder();
+    private byte[] itemJson = new byte[0];
+    private byte[] orderJson = new byte[0];
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = Jackson.newObjectMapperWithAccelerator(JacksonAccelerator.valueOf(accelerator));
+        item = newItem(0);
+        order = newOrder();
+        itemJson = mapper.writeValueAsBytes(item);
+        orderJson = mapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] serializeBean() throws IOException {
+        return mapper.writeValueAsBytes(item);
+    }
+
+    @Benchmark
+    public Item deserializeBean() throws IOException {
+        return mapper.readValue(itemJson, Item.class);
+    }
+
+    @Benchmark
+    public byte[] serializeValue() throws IOException {
+        return mapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public Order deserializeValue() throws IOException {
+        return mapper.readValue(orderJson, Order.class);
+    }
+
+    private static Item newItem(int index) {
+        final Item item = new Item();
+        item.setSku("SKU-" + index);
+        item.setQuantity(index + 1);
+        item.setPriceInCents(1999L * (index + 1));
+        item.setGiftWrapped(index % 2 == 0);
+        return item;
+    }
+
+    private static Order newOrder() {
+        final List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            items.add(newItem(i));
+        }
+        return new Order(42L, "Ada Lovelace", Optional.of("WELCOME10"), ImmutableList.copyOf(items),
+            Instant.parse("2022-10-13T10:15:30Z"), Duration.ofMinutes(15), HostAndPort.fromParts("example.com", 8443),
+            CaffeineSpec.parse("maximumSize=1000,expireAfterWrite=10m"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(JacksonAcceleratorBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,78 @@
+package io.dropwizard.benchmarks.jersey;
+
+import io.dropwizard.jersey.params.AbstractParamConverterProvider;
+import io.dropwizard.jersey.params.IntParam;
+import io.dropwizard.jersey.params.LongParam;
+import io.dropwizard.jersey.params.UUIDParam;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.ext.ParamConverter;
+import java.lang.annotation.Annotation;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("deprecation")
+public class AbstractParamConverterBenchmark {
+
+    public static class Resource {
+        public void find(@QueryParam("id") IntParam id) {
+            // stub implementation
+        }
+    }
+
+    private final AbstractParamConverterProvider provider = new AbstractParamConverterProvider();
+
+    private Annotation[] annotations = new Annotation[0];
+    private ParamConverter<IntParam> intParamConverter;
+    private ParamConverter<LongParam> longParamConverter;
+    private ParamConverter<UUIDParam> uuidParamConverter;
+
+    @Setup
+    public void prepare() throws NoSuchMethodException {
+        annotations = Resource.class.getMethod("find", IntParam.class).getParameterAnnotations()[0];
+        intParamConverter = provider.getConverter(IntParam.class, IntParam.class, annotations);
+        longParamConverter = provider.getConverter(LongParam.class, LongParam.class, annotations);
+        uuidParamConverter = provider.getConverter(UUIDParam.class, UUIDParam.class, annotations);
+    }
+
+    @Benchmark
+    public ParamConverter<IntParam> getConverter() {
+        return provider.getConverter(IntParam.class, IntParam.class, annotations);
+    }
+
+    @Benchmark
+    public IntParam intParam() {
+        return intParamConverter.fromString("12345");
+    }
+
+    @Benchmark
+    public LongParam longParam() {
+        return longParamConverter.fromString("1234567890123");
+    }
+
+    @Benchmark
+    public UUIDParam uuidParam() {
+        return uuidParamConverter.fromString("067e6162-3b6f-4ae2-a171-2470b63dff00");
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(AbstractParamConverterBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+}
@@ -1,6 +1,9 @@
 package io.dropwizard.benchmarks.jersey;
 
 import io.dropwizard.jersey.validation.ConstraintMessage;
+import io.dropwizard.jersey.validation.JerseyViolationException;
+import io.dropwizard.jersey.validation.JerseyViolationExceptionMapper;
+import io.dropwizard.jersey.validation.ValidationErrorMessage;
 import io.dropwizard.jersey.validation.Validators;
 import io.dropwizard.logging.BootstrapLogging;
 import org.glassfish.jersey.server.model.Invocable;
@@ -20,6 +23,8 @@ import javax.validation.Valid;
 import javax.validation.Validator;
 import javax.validation.executable.ExecutableValidator;
 import javax.ws.rs.HeaderParam;
+import javax.ws.rs.core.Response;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -45,13 +50,23 @@ public class ConstraintViolationBenchmark {
     public static class Foo {
         @NotEmpty
         private String bar;
+
+        @NotEmpty
+        private String baz;
+
+        @NotEmpty
+        private String qux;
     }
 
     private ConstraintViolation<ConstraintViolationBenchmark.Resource> paramViolation;
     private ConstraintViolation<ConstraintViolationBenchmark.Resource> objViolation;
 
+    private JerseyViolationException objException;
+
     final Invocable invocable = Invocable.create(request -> null);
 
+    final JerseyViolationExceptionMapper mapper = new JerseyViolationExceptionMapper();
+
     @Setup
     public void prepare() throws NoSuchMethodException {
         final Validator validator = Validators.newValidator();
@@ -72,6 +87,7 @@ public class ConstraintViolationBenchmark {
                 new Object[]{new Foo()} // the parameter value
             );
         objViolation = objViolations.iterator().next();
+        objException = new JerseyViolationException(objViolations, invocable);
     }
 
     @Benchmark
@@ -84,6 +100,21 @@ public class ConstraintViolationBenchmark {
         return ConstraintMessage.getMessage(objViolation, invocable);
     }
 
+    @Benchmark
+    public List<String> objViolations() {
+        return ConstraintMessage.getMessages(objException.getConstraintViolations(), invocable);
+    }
+
+    @Benchmark
+    public Response mapObjViolations() {
+        return mapper.toResponse(objException);
+    }
+
+    @Benchmark
+    public List<String> mapAndRenderObjViolations() {
+        return ((ValidationErrorMessage) mapper.toResponse(objException).getEntity()).getErrors();
+    }
+
     public static void main(String[] args) throws Exception {
         new Runner(new OptionsBuilder()
                 .include(ConstraintViolationBenchmark.class.getSimpleName())
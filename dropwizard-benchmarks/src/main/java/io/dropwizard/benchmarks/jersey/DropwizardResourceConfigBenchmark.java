@@ -1,6 +1,7 @@
 package io.dropwizard.benchmarks.jersey;
 
 import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.jersey.ResourceScanCache;
 import org.glassfish.jersey.test.JerseyTest;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -9,6 +10,7 @@ import org.openjdk.jmh.annotations.OutputTimeUnit;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
@@ -19,8 +21,11 @@ import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.core.Application;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 import java.util.concurrent.TimeUnit;
 
 @BenchmarkMode(Mode.AverageTime)
@@ -28,10 +33,20 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Benchmark)
 public class DropwizardResourceConfigBenchmark {
 
+    private static final String PACKAGE = DropwizardResourceConfigBenchmark.class.getPackage().getName();
+
     private final DropwizardResourceConfig dropwizardResourceConfig = DropwizardResourceConfig.forTesting();
 
+    private java.nio.file.Path scanCacheDirectory;
+    private ResourceScanCache scanCache;
+
     @Setup
     public void setUp() throws Exception {
+        scanCacheDirectory = Files.createTempDirectory("jersey-scan-cache");
+        scanCache = new ResourceScanCache(scanCacheDirectory);
+        // Populate the cache; it is only used if the class path consists of JAR files, e.g. benchmarks.jar
+        newConfig(scanCache).scanPackages(true, PACKAGE);
+
         dropwizardResourceConfig.register(DistributionResource.class);
         dropwizardResourceConfig.register(AssetResource.class);
         dropwizardResourceConfig.register(ClustersResource.class);
@@ -47,11 +62,37 @@ public class DropwizardResourceConfigBenchmark {
         jerseyTest.tearDown();
     }
 
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<java.nio.file.Path> files = Files.list(scanCacheDirectory)) {
+            for (java.nio.file.Path file : (Iterable<java.nio.file.Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(scanCacheDirectory);
+    }
+
     @Benchmark
     public String getEndpointsInfo() {
         return dropwizardResourceConfig.getEndpointsInfo();
     }
 
+    @Benchmark
+    public DropwizardResourceConfig scanPackages() {
+        return DropwizardResourceConfig.forTesting().scanPackages(true, PACKAGE);
+    }
+
+    @Benchmark
+    public DropwizardResourceConfig scanPackagesWithCache() {
+        return newConfig(scanCache).scanPackages(true, PACKAGE);
+    }
+
+    private static DropwizardResourceConfig newConfig(ResourceScanCache cache) {
+        final DropwizardResourceConfig config = DropwizardResourceConfig.forTesting();
+        config.setScanCache(cache);
+        return config;
+    }
+
     public static void main(String[] args) throws Exception {
         new Runner(new OptionsBuilder()
                 .include(DropwizardResourceConfigBenchmark.class.getSimpleName())
@@ -0,0 +1,85 @@
+package io.dropwizard.benchmarks.jersey;
+
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.jersey.optional.MessageBodyWriterCache;
+import io.dropwizard.jersey.optional.OptionalLongMessageBodyWriter;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class OptionalMessageBodyWriterBenchmark {
+
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private final MessageBodyWriterCache writerCache = new MessageBodyWriterCache();
+    private final OptionalLongMessageBodyWriter optionalLongWriter = new OptionalLongMessageBodyWriter();
+    private final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+    private final ByteArrayOutputStream entityStream = new ByteArrayOutputStream(32);
+    private final OptionalLong entity = OptionalLong.of(1234567890123L);
+
+    private MessageBodyWorkers workers;
+
+    @Setup
+    public void setUp() {
+        final ApplicationHandler handler = new ApplicationHandler(DropwizardResourceConfig.forTesting());
+        workers = handler.getInjectionManager().getInstance(MessageBodyWorkers.class);
+    }
+
+    @Benchmark
+    public MessageBodyWriter<?> resolveDelegateWriter() {
+        return workers.getMessageBodyWriter(String.class, String.class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Benchmark
+    public MessageBodyWriter<?> resolveCachedDelegateWriter() {
+        return writerCache.get(workers, String.class, String.class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Benchmark
+    public int writeOptionalLong() throws IOException {
+        entityStream.reset();
+        optionalLongWriter.writeTo(entity, OptionalLong.class, OptionalLong.class, NO_ANNOTATIONS,
+            MediaType.TEXT_PLAIN_TYPE, headers, entityStream);
+        return entityStream.size();
+    }
+
+    @Benchmark
+    public int writeOptionalLongAsString() throws IOException {
+        entityStream.reset();
+        entityStream.write(Long.toString(entity.getAsLong()).getBytes(US_ASCII));
+        return entityStream.size();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(OptionalMessageBodyWriterBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+}
@@ -74,8 +74,92 @@ public class SelfValidatingBenchmark {
         }
     }
 
+    @SelfValidating
+    public static class ManySelfValidatingMethodsUser {
+        @SelfValidation
+        public void validate1(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate2(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate3(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate4(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate5(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate6(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate7(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate8(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate9(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate10(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate11(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate12(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate13(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate14(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate15(ViolationCollector collector) {
+            // stub implementation
+        }
+
+        @SelfValidation
+        public void validate16(ViolationCollector collector) {
+            // stub implementation
+        }
+    }
+
     private ValidationMethodUser validationMethodUser;
     private SelfValidatingMethodUser selfValidatingMethodUser;
+    private ManySelfValidatingMethodsUser manySelfValidatingMethodsUser;
     private Validator validator;
 
     final Invocable invocable = Invocable.create(request -> null);
@@ -85,6 +169,7 @@ public class SelfValidatingBenchmark {
         validator = Validators.newValidator();
         validationMethodUser = new ValidationMethodUser();
         selfValidatingMethodUser = new SelfValidatingMethodUser();
+        manySelfValidatingMethodsUser = new ManySelfValidatingMethodsUser();
     }
 
     @Benchmark
@@ -97,6 +182,11 @@ public class SelfValidatingBenchmark {
         validator.validate(selfValidatingMethodUser);
     }
 
+    @Benchmark
+    public void selfValidatingManyMethods() {
+        validator.validate(manySelfValidatingMethodsUser);
+    }
+
     public static void main(String[] args) throws Exception {
         new Runner(new OptionsBuilder()
             .include(SelfValidatingBenchmark.class.getSimpleName())
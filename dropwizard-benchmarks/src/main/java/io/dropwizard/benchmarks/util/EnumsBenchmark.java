@@ -0,0 +1,60 @@
+package io.dropwizard.benchmarks.util;
+
+import io.dropwizard.util.Enums;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EnumsBenchmark {
+
+    public enum TimeZoneName {
+        AFRICA_ABIDJAN, AFRICA_ACCRA, AMERICA_ANCHORAGE, AMERICA_CHICAGO, AMERICA_DENVER, AMERICA_LOS_ANGELES,
+        AMERICA_NEW_YORK, AMERICA_SAO_PAULO, ASIA_DUBAI, ASIA_KOLKATA, ASIA_SHANGHAI, ASIA_TOKYO, AUSTRALIA_SYDNEY,
+        EUROPE_BERLIN, EUROPE_LONDON, EUROPE_MOSCOW, EUROPE_PARIS, PACIFIC_AUCKLAND,
+        UTC {
+            @Override
+            public String toString() {
+                return "Coordinated Universal Time";
+            }
+        }
+    }
+
+    /**
+     * An exact name, a name needing normalization, a match by {@code toString()} and a miss.
+     */
+    @Param({"EUROPE_PARIS", "pacific-auckland", "Coordinated Universal Time", "mars/olympus-mons"})
+    public String value = "EUROPE_PARIS";
+
+    private final TimeZoneName[] constants = TimeZoneName.values();
+
+    @Benchmark
+    public Enum<?> linearScan() {
+        return Enums.fromStringFuzzy(value, constants);
+    }
+
+    @Benchmark
+    public Enum<?> lookupTable() {
+        return Enums.fromStringFuzzy(value, TimeZoneName.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(new OptionsBuilder()
+                .include(EnumsBenchmark.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .measurementIterations(5)
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,51 @@
+package io.dropwizard.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * A pool of byte arrays in power-of-two size classes from 512 bytes to 256 KiB, used to buffer request
+ * entities without allocating a new array for every request. Larger arrays are allocated on demand and
+ * not pooled, so the pool retains at most {@code buffersPerSizeClass} times about 512 KiB.
+ */
+class BufferPool {
+    static final int MIN_BUFFER_SIZE = 1 << 9;
+    static final int MAX_POOLED_BUFFER_SIZE = 1 << 18;
+
+    private static final int MIN_SIZE_SHIFT = 9;
+    private static final int MAX_SIZE_SHIFT = 18;
+
+    private final List<Queue<byte[]>> sizeClasses;
+
+    BufferPool(int buffersPerSizeClass) {
+        this.sizeClasses = new ArrayList<>(MAX_SIZE_SHIFT - MIN_SIZE_SHIFT + 1);
+        for (int shift = MIN_SIZE_SHIFT; shift <= MAX_SIZE_SHIFT; shift++) {
+            sizeClasses.add(new ArrayBlockingQueue<>(buffersPerSizeClass));
+        }
+    }
+
+    /**
+     * Returns an array of at least the given size, which may contain data from a previous use.
+     */
+    byte[] acquire(int minimumSize) {
+        if (minimumSize > MAX_POOLED_BUFFER_SIZE) {
+            return new byte[minimumSize];
+        }
+        final int shift = Math.max(MIN_SIZE_SHIFT, 32 - Integer.numberOfLeadingZeros(minimumSize - 1));
+        final byte[] buffer = sizeClasses.get(shift - MIN_SIZE_SHIFT).poll();
+        return buffer != null ? buffer : new byte[1 << shift];
+    }
+
+    /**
+     * Returns an array to the pool. The caller must not use the array afterwards.
+     */
+    void release(byte[] buffer) {
+        final int length = buffer.length;
+        if (length < MIN_BUFFER_SIZE || length > MAX_POOLED_BUFFER_SIZE || Integer.bitCount(length) != 1) {
+            return;
+        }
+        sizeClasses.get(Integer.numberOfTrailingZeros(length) - MIN_SIZE_SHIFT).offer(buffer);
+    }
+}
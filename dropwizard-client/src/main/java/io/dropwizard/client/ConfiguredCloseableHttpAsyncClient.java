@@ -0,0 +1,73 @@
+package io.dropwizard.client;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link CloseableHttpAsyncClient} together with the default {@link RequestConfig} it was built with.
+ * <p>
+ * A client which isn't managed by a Dropwizard environment is closed together with the last
+ * {@link DropwizardApacheAsyncConnector} using it, so that its I/O reactor threads are stopped
+ * when the Jersey client is closed.
+ * </p>
+ *
+ * @since 2.1.5
+ */
+public class ConfiguredCloseableHttpAsyncClient {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfiguredCloseableHttpAsyncClient.class);
+
+    private final CloseableHttpAsyncClient closeableHttpAsyncClient;
+    private final RequestConfig defaultRequestConfig;
+    private final boolean closedWithConnectors;
+    private final AtomicInteger connectors = new AtomicInteger();
+
+    /* package */ ConfiguredCloseableHttpAsyncClient(CloseableHttpAsyncClient closeableHttpAsyncClient,
+                                                     RequestConfig defaultRequestConfig) {
+        this(closeableHttpAsyncClient, defaultRequestConfig, false);
+    }
+
+    /* package */ ConfiguredCloseableHttpAsyncClient(CloseableHttpAsyncClient closeableHttpAsyncClient,
+                                                     RequestConfig defaultRequestConfig,
+                                                     boolean closedWithConnectors) {
+        this.closeableHttpAsyncClient = closeableHttpAsyncClient;
+        this.defaultRequestConfig = defaultRequestConfig;
+        this.closedWithConnectors = closedWithConnectors;
+    }
+
+    public RequestConfig getDefaultRequestConfig() {
+        return defaultRequestConfig;
+    }
+
+    public CloseableHttpAsyncClient getClient() {
+        return closeableHttpAsyncClient;
+    }
+
+    /**
+     * Registers a connector using the client. A client closed with its connectors is started by the first one,
+     * so that a Jersey client which never creates a connector doesn't leave I/O reactor threads behind.
+     */
+    /* package */ void retain() {
+        if (connectors.getAndIncrement() == 0 && closedWithConnectors) {
+            closeableHttpAsyncClient.start();
+        }
+    }
+
+    /**
+     * Unregisters a connector using the client and closes the client if it was the last one and no environment
+     * manages the client.
+     */
+    /* package */ void release() {
+        if (connectors.decrementAndGet() == 0 && closedWithConnectors) {
+            try {
+                closeableHttpAsyncClient.close();
+            } catch (IOException e) {
+                LOGGER.warn("Unable to close the HTTP client", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package io.dropwizard.client;
+
+import org.apache.http.ContentTooLongException;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.StatusLine;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.nio.ContentDecoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.ContentBufferEntity;
+import org.apache.http.nio.entity.NByteArrayEntity;
+import org.apache.http.nio.protocol.AbstractAsyncResponseConsumer;
+import org.apache.http.nio.protocol.HttpAsyncMethods;
+import org.apache.http.nio.util.HeapByteBufferAllocator;
+import org.apache.http.nio.util.SimpleInputBuffer;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.VersionInfo;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.message.internal.Statuses;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.core.Response;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Dropwizard Apache Async Connector.
+ * <p>
+ * A Jersey {@link org.glassfish.jersey.client.spi.Connector} that uses Apache's
+ * {@link org.apache.http.nio.client.HttpAsyncClient} as an HTTP transport implementation.
+ * In contrast to {@link DropwizardApacheConnector}, asynchronous invocations don't occupy
+ * a thread while the request is in flight: the request and the response are written and read
+ * by the I/O reactor of the client, and the callback is invoked on the given executor once the
+ * response has been received, so response filters and entity readers never run on an I/O
+ * dispatcher thread.
+ * </p>
+ * <p>
+ * Request entities are always buffered, since Jersey serializes them to a blocking
+ * {@link java.io.OutputStream}, and response entities are buffered in memory before
+ * they are handed to Jersey. Responses larger than the maximum buffered response size
+ * fail with a {@link ContentTooLongException}.
+ * </p>
+ *
+ * @since 2.1.5
+ */
+public class DropwizardApacheAsyncConnector implements Connector {
+
+    private static final String ERROR_BUFFERING_ENTITY = "Error buffering the entity.";
+
+    private static final String APACHE_HTTP_ASYNC_CLIENT_VERSION = VersionInfo
+            .loadVersionInfo("org.apache.http.nio.client", DropwizardApacheAsyncConnector.class.getClassLoader())
+            .getRelease();
+
+    /**
+     * Actual HTTP client
+     */
+    private final CloseableHttpAsyncClient client;
+
+    /**
+     * Default HttpUriRequestConfig
+     */
+    @Nullable
+    private final RequestConfig defaultRequestConfig;
+
+    /**
+     * Executor completing asynchronous requests
+     */
+    private final Executor executor;
+
+    /**
+     * Maximum size of a buffered response entity in bytes
+     */
+    private final long maxResponseSize;
+
+    /**
+     * The configured client, if the connector takes part in closing it
+     */
+    @Nullable
+    private final ConfiguredCloseableHttpAsyncClient configuredClient;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    public DropwizardApacheAsyncConnector(CloseableHttpAsyncClient client, @Nullable RequestConfig defaultRequestConfig,
+                                          Executor executor, long maxResponseSize) {
+        this.client = client;
+        this.defaultRequestConfig = defaultRequestConfig;
+        this.executor = executor;
+        this.maxResponseSize = maxResponseSize;
+        this.configuredClient = null;
+    }
+
+    /**
+     * Creates a connector which closes the given client when it's the last connector using it and no
+     * Dropwizard environment manages the client.
+     */
+    public DropwizardApacheAsyncConnector(ConfiguredCloseableHttpAsyncClient configuredClient, Executor executor,
+                                          long maxResponseSize) {
+        this.client = configuredClient.getClient();
+        this.defaultRequestConfig = configuredClient.getDefaultRequestConfig();
+        this.executor = executor;
+        this.maxResponseSize = maxResponseSize;
+        this.configuredClient = configuredClient;
+        configuredClient.retain();
+    }
+
+    /**
+     * Returns the Apache HTTP async client used by the connector.
+     */
+    CloseableHttpAsyncClient getClient() {
+        return client;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ClientResponse apply(ClientRequest jerseyRequest) {
+        try {
+            return toJerseyResponse(jerseyRequest, execute(jerseyRequest, null).get());
+        } catch (ExecutionException e) {
+            throw new ProcessingException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProcessingException(e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<?> apply(final ClientRequest jerseyRequest, final AsyncConnectorCallback callback) {
+        try {
+            return execute(jerseyRequest, new FutureCallback<HttpResponse>() {
+                @Override
+                public void completed(HttpResponse apacheResponse) {
+                    complete(callback, () -> {
+                        final ClientResponse jerseyResponse;
+                        try {
+                            jerseyResponse = toJerseyResponse(jerseyRequest, apacheResponse);
+                        } catch (IOException e) {
+                            callback.failure(new ProcessingException(e));
+                            return;
+                        }
+                        callback.response(jerseyResponse);
+                    });
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    complete(callback, () -> callback.failure(new ProcessingException(e)));
+                }
+
+                @Override
+                public void cancelled() {
+                    complete(callback, () -> callback.failure(
+                        new ProcessingException("The request to " + jerseyRequest.getUri() + " was cancelled")));
+                }
+            });
+        } catch (ProcessingException e) {
+            callback.failure(e);
+            final CompletableFuture<Object> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    /**
+     * Hands the completion of a request off to the executor, since the HTTP client invokes its callbacks on
+     * an I/O dispatcher thread, which must not be blocked by response processing.
+     */
+    private void complete(AsyncConnectorCallback callback, Runnable completion) {
+        try {
+            executor.execute(completion);
+        } catch (RejectedExecutionException e) {
+            callback.failure(new ProcessingException(e));
+        }
+    }
+
+    private Future<HttpResponse> execute(ClientRequest jerseyRequest, @Nullable FutureCallback<HttpResponse> callback) {
+        final HttpUriRequest apacheRequest = buildApacheRequest(jerseyRequest);
+        return client.execute(HttpAsyncMethods.create(apacheRequest), new BoundedResponseConsumer(maxResponseSize),
+            callback);
+    }
+
+    private static ClientResponse toJerseyResponse(ClientRequest jerseyRequest, HttpResponse apacheResponse)
+            throws IOException {
+        final StatusLine statusLine = apacheResponse.getStatusLine();
+        final String reasonPhrase = statusLine.getReasonPhrase();
+        final Response.StatusType status = Statuses.from(statusLine.getStatusCode(), reasonPhrase == null ? "" : reasonPhrase);
+
+        final ClientResponse jerseyResponse = new ClientResponse(status, jerseyRequest);
+        for (Header header : apacheResponse.getAllHeaders()) {
+            jerseyResponse.getHeaders().computeIfAbsent(header.getName(), k -> new ArrayList<>())
+                .add(header.getValue());
+        }
+
+        final HttpEntity httpEntity = apacheResponse.getEntity();
+        jerseyResponse.setEntityStream(httpEntity != null ? httpEntity.getContent() :
+                new ByteArrayInputStream(new byte[0]));
+
+        return jerseyResponse;
+    }
+
+    /**
+     * Build a new Apache's {@link org.apache.http.client.methods.HttpUriRequest}
+     * from Jersey's {@link org.glassfish.jersey.client.ClientRequest}
+     *
+     * @param jerseyRequest representation of an HTTP request in Jersey
+     * @return a new {@link org.apache.http.client.methods.HttpUriRequest}
+     */
+    private HttpUriRequest buildApacheRequest(ClientRequest jerseyRequest) {
+        final RequestBuilder builder = RequestBuilder
+                .create(jerseyRequest.getMethod())
+                .setUri(jerseyRequest.getUri())
+                .setEntity(getHttpEntity(jerseyRequest));
+        for (String headerName : jerseyRequest.getHeaders().keySet()) {
+            builder.addHeader(headerName, jerseyRequest.getHeaderString(headerName));
+        }
+
+        final Integer timeout = jerseyRequest.resolveProperty(ClientProperties.READ_TIMEOUT, Integer.class);
+        final Integer connectTimeout = jerseyRequest.resolveProperty(ClientProperties.CONNECT_TIMEOUT, Integer.class);
+        final Boolean followRedirects = jerseyRequest.resolveProperty(ClientProperties.FOLLOW_REDIRECTS, Boolean.class);
+        if (timeout != null || connectTimeout != null || followRedirects != null) {
+            final RequestConfig.Builder requestConfig = RequestConfig.copy(defaultRequestConfig);
+            if (timeout != null) {
+                requestConfig.setSocketTimeout(timeout);
+            }
+            if (connectTimeout != null) {
+                requestConfig.setConnectTimeout(connectTimeout);
+            }
+            if (followRedirects != null) {
+                requestConfig.setRedirectsEnabled(followRedirects);
+            }
+            builder.setConfig(requestConfig.build());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Get an Apache's {@link org.apache.http.HttpEntity} from Jersey's
+     * {@link org.glassfish.jersey.client.ClientRequest}, buffering the serialized
+     * entity so the I/O reactor can write it without blocking.
+     *
+     * @param jerseyRequest representation of an HTTP request in Jersey
+     * @return an {@link NByteArrayEntity}, or {@code null} if the request has no entity
+     */
+    @Nullable
+    protected HttpEntity getHttpEntity(ClientRequest jerseyRequest) {
+        if (jerseyRequest.getEntity() == null) {
+            return null;
+        }
+
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream(512);
+        jerseyRequest.setStreamProvider(contentLength -> stream);
+        try {
+            jerseyRequest.writeEntity();
+        } catch (IOException e) {
+            throw new ProcessingException(ERROR_BUFFERING_ENTITY, e);
+        }
+        return new NByteArrayEntity(stream.toByteArray());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getName() {
+        return "Apache-HttpAsyncClient/" + APACHE_HTTP_ASYNC_CLIENT_VERSION;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        // The client is shared by all runtimes of the Jersey client, so it's only closed with the last
+        // connector, and only if the Dropwizard environment doesn't manage it
+        if (configuredClient != null && closed.compareAndSet(false, true)) {
+            configuredClient.release();
+        }
+    }
+
+    /**
+     * Buffers a response entity in memory, like the consumer of {@link HttpAsyncMethods#createConsumer()},
+     * but fails responses whose entity exceeds the given size instead of growing the buffer without bounds.
+     */
+    private static class BoundedResponseConsumer extends AbstractAsyncResponseConsumer<HttpResponse> {
+        private static final int DEFAULT_BUFFER_SIZE = 4096;
+
+        private final long maxResponseSize;
+
+        @Nullable
+        private HttpResponse response;
+
+        @Nullable
+        private SimpleInputBuffer buffer;
+
+        private BoundedResponseConsumer(long maxResponseSize) {
+            // The buffer is backed by a single array
+            this.maxResponseSize = Math.min(maxResponseSize, Integer.MAX_VALUE);
+        }
+
+        @Override
+        protected void onResponseReceived(HttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        protected void onEntityEnclosed(HttpEntity entity, ContentType contentType) throws IOException {
+            final long contentLength = entity.getContentLength();
+            if (contentLength > maxResponseSize) {
+                throw new ContentTooLongException("Entity content is too long: " + contentLength);
+            }
+            final long bufferSize = contentLength < 0 ? Math.min(DEFAULT_BUFFER_SIZE, maxResponseSize) : contentLength;
+            buffer = new SimpleInputBuffer((int) bufferSize, HeapByteBufferAllocator.INSTANCE);
+            getResponse().setEntity(new ContentBufferEntity(entity, buffer));
+        }
+
+        @Override
+        protected void onContentReceived(ContentDecoder decoder, IOControl ioControl) throws IOException {
+            if (buffer == null) {
+                throw new IllegalStateException("Content buffer is missing");
+            }
+            buffer.consumeContent(decoder);
+            if (buffer.length() > maxResponseSize) {
+                throw new ContentTooLongException("Entity content is longer than " + maxResponseSize + " bytes");
+            }
+        }
+
+        @Override
+        protected void releaseResources() {
+            response = null;
+            buffer = null;
+        }
+
+        @Override
+        protected HttpResponse buildResult(HttpContext context) {
+            return getResponse();
+        }
+
+        private HttpResponse getResponse() {
+            if (response == null) {
+                throw new IllegalStateException("Response is missing");
+            }
+            return response;
+        }
+    }
+}
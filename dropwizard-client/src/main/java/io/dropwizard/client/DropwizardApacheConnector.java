@@ -3,6 +3,7 @@ package io.dropwizard.client;
 import io.dropwizard.util.DirectExecutorService;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.StatusLine;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
@@ -22,12 +23,13 @@ import javax.annotation.Nullable;
 import javax.ws.rs.ProcessingException;
 import javax.ws.rs.core.Response;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Future;
 
 /**
@@ -51,6 +53,11 @@ public class DropwizardApacheConnector implements Connector {
 
     private static final String ERROR_BUFFERING_ENTITY = "Error buffering the entity.";
 
+    /**
+     * Buffers of the request entities when chunked encoding is disabled, shared by all connectors
+     */
+    private static final BufferPool BUFFER_POOL = new BufferPool(8);
+
     private static final String APACHE_HTTP_CLIENT_VERSION = VersionInfo
             .loadVersionInfo("org.apache.http.client", DropwizardApacheConnector.class.getClassLoader())
             .getRelease();
@@ -84,7 +91,12 @@ public class DropwizardApacheConnector implements Connector {
     public ClientResponse apply(ClientRequest jerseyRequest) {
         try {
             final HttpUriRequest apacheRequest = buildApacheRequest(jerseyRequest);
-            final CloseableHttpResponse apacheResponse = client.execute(apacheRequest);
+            final CloseableHttpResponse apacheResponse;
+            try {
+                apacheResponse = client.execute(apacheRequest);
+            } finally {
+                releaseBuffer(apacheRequest);
+            }
 
             final StatusLine statusLine = apacheResponse.getStatusLine();
             final String reasonPhrase = statusLine.getReasonPhrase();
@@ -106,6 +118,18 @@ public class DropwizardApacheConnector implements Connector {
         }
     }
 
+    /**
+     * Returns the buffer of the request entity to the pool once the request has been sent.
+     */
+    private static void releaseBuffer(HttpUriRequest apacheRequest) {
+        if (apacheRequest instanceof HttpEntityEnclosingRequest) {
+            final HttpEntity entity = ((HttpEntityEnclosingRequest) apacheRequest).getEntity();
+            if (entity instanceof BufferedJerseyRequestHttpEntity) {
+                ((BufferedJerseyRequestHttpEntity) entity).release();
+            }
+        }
+    }
+
     /**
      * Build a new Apache's {@link org.apache.http.client.methods.HttpUriRequest}
      * from Jersey's {@link org.glassfish.jersey.client.ClientRequest}
@@ -278,24 +302,63 @@ public class DropwizardApacheConnector implements Connector {
      * In contrast to {@link io.dropwizard.client.DropwizardApacheConnector.JerseyRequestHttpEntity}
      * its contents are buffered on initialization.
      * </p>
+     * <p>
+     * The buffer is taken from a pool and sized after the previous entities of the same type, and its
+     * contents are written to the connection without being copied first. It's returned to the pool
+     * by {@link #release()} once the request has been executed.
+     * </p>
      */
     private static class BufferedJerseyRequestHttpEntity extends AbstractHttpEntity {
 
         private static final int BUFFER_INITIAL_SIZE = 512;
-        private byte[] buffer;
+        private static final int MAX_EXPECTED_SIZE = 1024 * 1024;
+        private static final int MAX_ENTITY_TYPES = 256;
+
+        /**
+         * Expected sizes of the entities by their type, which follow the largest recent entity and
+         * decay by an eighth per smaller one
+         */
+        private static final ConcurrentMap<Class<?>, Integer> EXPECTED_SIZES = new ConcurrentHashMap<>();
+
+        private final PooledByteArrayOutputStream buffer;
 
         private BufferedJerseyRequestHttpEntity(ClientRequest clientRequest) {
-            final ByteArrayOutputStream stream = new ByteArrayOutputStream(BUFFER_INITIAL_SIZE);
+            final Class<?> entityType = clientRequest.getEntityClass();
+            final PooledByteArrayOutputStream stream = new PooledByteArrayOutputStream(BUFFER_POOL,
+                    EXPECTED_SIZES.getOrDefault(entityType, BUFFER_INITIAL_SIZE));
             clientRequest.setStreamProvider(contentLength -> stream);
+            boolean buffered = false;
             try {
                 clientRequest.writeEntity();
+                buffered = true;
             } catch (IOException e) {
                 throw new ProcessingException(ERROR_BUFFERING_ENTITY, e);
+            } finally {
+                if (!buffered) {
+                    stream.release();
+                }
             }
-            buffer = stream.toByteArray();
+            buffer = stream;
+            recordSize(entityType, stream.size());
             setChunked(false);
         }
 
+        private static void recordSize(Class<?> entityType, int size) {
+            if (EXPECTED_SIZES.size() >= MAX_ENTITY_TYPES && !EXPECTED_SIZES.containsKey(entityType)) {
+                return;
+            }
+            final int expectedSize = Math.max(BUFFER_INITIAL_SIZE, Math.min(size, MAX_EXPECTED_SIZE));
+            EXPECTED_SIZES.merge(entityType, expectedSize,
+                (previous, current) -> Math.max(current, previous - (previous >> 3)));
+        }
+
+        /**
+         * Returns the buffer to the pool. The entity can't be written afterwards.
+         */
+        void release() {
+            buffer.release();
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -309,7 +372,7 @@ public class DropwizardApacheConnector implements Connector {
          */
         @Override
         public long getContentLength() {
-            return buffer.length;
+            return buffer.size();
         }
 
         /**
@@ -330,7 +393,7 @@ public class DropwizardApacheConnector implements Connector {
          */
         @Override
         public void writeTo(OutputStream outstream) throws IOException {
-            outstream.write(buffer);
+            buffer.writeTo(outstream);
             outstream.flush();
         }
 
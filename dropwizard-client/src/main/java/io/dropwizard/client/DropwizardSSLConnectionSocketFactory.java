@@ -5,6 +5,7 @@ import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLInitializationException;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
 import org.apache.http.ssl.PrivateKeyStrategy;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.ssl.TrustStrategy;
@@ -45,6 +46,25 @@ public class DropwizardSSLConnectionSocketFactory {
                 chooseHostnameVerifier());
     }
 
+    /**
+     * Creates the TLS session strategy used by the non-blocking connection manager of Apache HttpAsyncClient.
+     *
+     * @return an {@link SSLIOSessionStrategy} with the same TLS settings as {@link #getSocketFactory()}
+     * @since 2.1.5
+     */
+    public SSLIOSessionStrategy getIOSessionStrategy() throws SSLInitializationException {
+        return new SSLIOSessionStrategy(buildSslContext(), getSupportedProtocols(), getSupportedCiphers(),
+                chooseHostnameVerifier());
+    }
+
+    /**
+     * For internal use only, used in {@link Http2ClientBuilder} to configure the TLS settings of the
+     * Jetty HTTP/2 client.
+     */
+    SSLContext getSslContext() throws SSLInitializationException {
+        return buildSslContext();
+    }
+
     @Nullable
     private String[] getSupportedCiphers() {
         final List<String> supportedCiphers = configuration.getSupportedCiphers();
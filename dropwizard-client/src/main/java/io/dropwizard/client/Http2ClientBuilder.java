@@ -0,0 +1,230 @@
+package io.dropwizard.client;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.client.ssl.TlsConfiguration;
+import io.dropwizard.lifecycle.Managed;
+import io.dropwizard.setup.Environment;
+import org.eclipse.jetty.client.ConnectionPool;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.HttpDestination;
+import org.eclipse.jetty.client.MultiplexConnectionPool;
+import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http2.client.HTTP2Client;
+import org.eclipse.jetty.http2.client.HTTP2ClientConnectionFactory;
+import org.eclipse.jetty.http2.client.http.HttpClientTransportOverHTTP2;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * A convenience class for building Jetty {@link HttpClient} instances which speak HTTP/2.
+ * <p>
+ * In contrast to the HTTP/1.1 clients built by {@link HttpClientBuilder}, the client multiplexes
+ * concurrent requests to the same route as streams over a few connections, which saves sockets and
+ * TLS handshakes when calling HTTP/2 services. {@code http} URIs are requested with HTTP/2 over
+ * cleartext (prior knowledge), {@code https} URIs negotiate HTTP/2 with ALPN, which requires an ALPN
+ * client implementation such as {@code jetty-alpn-java-client} on the class path.
+ * </p>
+ * <p>
+ * The Jetty client is an optional dependency of {@code dropwizard-client}: applications using this builder
+ * need to depend on {@code org.eclipse.jetty.http2:http2-http-client-transport}.
+ * </p>
+ * <p>
+ * The connection pool of each route is instrumented with the following gauges, named
+ * {@code org.eclipse.jetty.client.HttpClient.<name>.<host>:<port>.<metric>}:
+ * <ul>
+ * <li>{@code connections}, {@code active-connections}, {@code idle-connections},
+ * {@code pending-connections} and {@code max-connections}</li>
+ * <li>{@code max-concurrent-streams}: the number of streams a connection may carry, i.e. the lower of
+ * {@link Http2ClientConfiguration#getMaxConcurrentStreamsPerConnection()} and the server's limit</li>
+ * <li>{@code queued-requests}: the requests waiting for a stream</li>
+ * </ul>
+ * </p>
+ *
+ * @since 2.1.5
+ */
+public class Http2ClientBuilder {
+    private final MetricRegistry metricRegistry;
+
+    @Nullable
+    private String environmentName;
+
+    @Nullable
+    private Environment environment;
+
+    private Http2ClientConfiguration configuration = new Http2ClientConfiguration();
+
+    public Http2ClientBuilder(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    public Http2ClientBuilder(Environment environment) {
+        this(environment.metrics());
+        name(environment.getName());
+        this.environment = environment;
+    }
+
+    /**
+     * Use the given environment name. This is used in the user agent.
+     *
+     * @param environmentName an environment name to use in the user agent.
+     * @return {@code this}
+     */
+    public Http2ClientBuilder name(String environmentName) {
+        this.environmentName = environmentName;
+        return this;
+    }
+
+    /**
+     * Use the given {@link Http2ClientConfiguration} instance.
+     *
+     * @param configuration a {@link Http2ClientConfiguration} instance
+     * @return {@code this}
+     */
+    public Http2ClientBuilder using(Http2ClientConfiguration configuration) {
+        this.configuration = configuration;
+        return this;
+    }
+
+    /**
+     * Builds and starts the {@link HttpClient}. If an environment is present, the client is
+     * stopped with it.
+     *
+     * @param name the name of the client, used in the user agent and the metric names
+     * @return a started {@link HttpClient}
+     */
+    public HttpClient build(String name) {
+        final HttpClient client = createClient(name);
+        try {
+            client.start();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to start the HTTP/2 client " + name, e);
+        }
+
+        // If the environment is present, we tie the client with the server lifecycle
+        if (environment != null) {
+            environment.lifecycle().manage(new Managed() {
+                @Override
+                public void stop() throws Exception {
+                    client.stop();
+                }
+            });
+        }
+        return client;
+    }
+
+    /**
+     * Map the parameters in {@link Http2ClientConfiguration} to a new, not yet started {@link HttpClient}.
+     *
+     * Intended for use by subclasses to customize the client.
+     *
+     * @param name the name of the client
+     * @return the configured {@link HttpClient}
+     */
+    protected HttpClient createClient(String name) {
+        final long connectionTimeout = configuration.getConnectionTimeout().toMilliseconds();
+        final long idleTimeout = configuration.getIdleTimeout().toMilliseconds();
+
+        final HTTP2Client http2Client = new HTTP2Client();
+        http2Client.setClientConnectionFactory(new HTTP2ClientConnectionFactory());
+        http2Client.setConnectTimeout(connectionTimeout);
+        http2Client.setIdleTimeout(idleTimeout);
+
+        final HttpClientTransportOverHTTP2 transport = new HttpClientTransportOverHTTP2(http2Client);
+        transport.setConnectionPoolFactory(destination -> createConnectionPool(destination, name));
+
+        final HttpClient client = new HttpClient(transport, createSslContextFactory());
+        client.setName(name);
+        client.setConnectTimeout(connectionTimeout);
+        client.setIdleTimeout(idleTimeout);
+        client.setMaxConnectionsPerDestination(configuration.getMaxConnectionsPerRoute());
+        client.setMaxRequestsQueuedPerDestination(configuration.getMaxRequestsQueuedPerRoute());
+        client.setFollowRedirects(configuration.isFollowRedirects());
+        client.setUserAgentField(new HttpField(HttpHeader.USER_AGENT, createUserAgent(name)));
+        return client;
+    }
+
+    /**
+     * Creates the instrumented connection pool of a route, which carries at most
+     * {@link Http2ClientConfiguration#getMaxConcurrentStreamsPerConnection()} streams per connection.
+     *
+     * @param destination the route
+     * @param name        the name of the client
+     * @return a {@link ConnectionPool} for the route
+     */
+    protected ConnectionPool createConnectionPool(HttpDestination destination, String name) {
+        final StreamLimitingConnectionPool pool = new StreamLimitingConnectionPool(destination,
+            configuration.getMaxConnectionsPerRoute(), configuration.getMaxConcurrentStreamsPerConnection());
+
+        final String route = destination.getHost() + ":" + destination.getPort();
+        registerGauge(name, route, "connections", pool::getConnectionCount);
+        registerGauge(name, route, "active-connections", pool::getActiveConnectionCount);
+        registerGauge(name, route, "idle-connections", pool::getIdleConnectionCount);
+        registerGauge(name, route, "pending-connections", pool::getPendingConnectionCount);
+        registerGauge(name, route, "max-connections", pool::getMaxConnectionCount);
+        registerGauge(name, route, "max-concurrent-streams", pool::getMaxMultiplex);
+        registerGauge(name, route, "queued-requests", destination::getQueuedRequestCount);
+        return pool;
+    }
+
+    private void registerGauge(String name, String route, String metric, Supplier<Integer> value) {
+        // Destinations may be removed and recreated, the gauges must follow the current pool
+        final String metricName = MetricRegistry.name(HttpClient.class, name, route, metric);
+        metricRegistry.remove(metricName);
+        metricRegistry.register(metricName, (Gauge<Integer>) value::get);
+    }
+
+    private SslContextFactory.Client createSslContextFactory() {
+        final SslContextFactory.Client sslContextFactory = new SslContextFactory.Client();
+        final TlsConfiguration tlsConfiguration = configuration.getTlsConfiguration();
+        if (tlsConfiguration == null) {
+            return sslContextFactory;
+        }
+
+        sslContextFactory.setSslContext(new DropwizardSSLConnectionSocketFactory(tlsConfiguration).getSslContext());
+        sslContextFactory.setEndpointIdentificationAlgorithm(tlsConfiguration.isVerifyHostname() ? "HTTPS" : null);
+        final List<String> supportedProtocols = tlsConfiguration.getSupportedProtocols();
+        if (supportedProtocols != null) {
+            sslContextFactory.setIncludeProtocols(supportedProtocols.toArray(new String[0]));
+        }
+        final List<String> supportedCiphers = tlsConfiguration.getSupportedCiphers();
+        if (supportedCiphers != null) {
+            sslContextFactory.setIncludeCipherSuites(supportedCiphers.toArray(new String[0]));
+        }
+        return sslContextFactory;
+    }
+
+    /**
+     * Create a user agent string using the configured user agent if defined, otherwise
+     * using a combination of the environment name and this client name
+     *
+     * @param name the name of this client
+     * @return the user agent string to be used by this client
+     */
+    protected String createUserAgent(String name) {
+        final String defaultUserAgent = environmentName == null ? name : String.format("%s (%s)", environmentName, name);
+        return configuration.getUserAgent().orElse(defaultUserAgent);
+    }
+
+    /**
+     * A {@link MultiplexConnectionPool} which never opens more streams on a connection than configured,
+     * even if the server announces a higher {@code SETTINGS_MAX_CONCURRENT_STREAMS}.
+     */
+    private static class StreamLimitingConnectionPool extends MultiplexConnectionPool {
+        private final int maxConcurrentStreams;
+
+        StreamLimitingConnectionPool(HttpDestination destination, int maxConnections, int maxConcurrentStreams) {
+            super(destination, maxConnections, destination, maxConcurrentStreams);
+            this.maxConcurrentStreams = maxConcurrentStreams;
+        }
+
+        @Override
+        public void setMaxMultiplex(int maxMultiplex) {
+            super.setMaxMultiplex(Math.min(maxMultiplex, maxConcurrentStreams));
+        }
+    }
+}
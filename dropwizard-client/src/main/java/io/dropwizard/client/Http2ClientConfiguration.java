@@ -0,0 +1,182 @@
+package io.dropwizard.client;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.client.ssl.TlsConfiguration;
+import io.dropwizard.util.Duration;
+
+import javax.annotation.Nullable;
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.Optional;
+
+/**
+ * The configuration class used by {@link Http2ClientBuilder}.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code connectionTimeout}</td>
+ *         <td>500 milliseconds</td>
+ *         <td>The maximum time to wait for a connection to open.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code idleTimeout}</td>
+ *         <td>1 minute</td>
+ *         <td>The maximum time a connection may be idle before it is closed.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxConnectionsPerRoute}</td>
+ *         <td>4</td>
+ *         <td>The maximum number of connections to a single host and port.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxConcurrentStreamsPerConnection}</td>
+ *         <td>128</td>
+ *         <td>
+ *             The maximum number of requests multiplexed over one connection. The lower of this
+ *             and the {@code SETTINGS_MAX_CONCURRENT_STREAMS} announced by the server applies.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxRequestsQueuedPerRoute}</td>
+ *         <td>1024</td>
+ *         <td>
+ *             The maximum number of requests waiting for a stream to a single host and port. Further
+ *             requests are rejected.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code followRedirects}</td>
+ *         <td>true</td>
+ *         <td>Whether redirects are followed.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code userAgent}</td>
+ *         <td>(none)</td>
+ *         <td>The user agent; the environment and client name are used if it's not set.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code tls}</td>
+ *         <td>(none)</td>
+ *         <td>The TLS settings for {@code https} URIs, which negotiate HTTP/2 with ALPN.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1.5
+ */
+public class Http2ClientConfiguration {
+    @NotNull
+    private Duration connectionTimeout = Duration.milliseconds(500);
+
+    @NotNull
+    private Duration idleTimeout = Duration.minutes(1);
+
+    @Min(1)
+    @Max(Integer.MAX_VALUE)
+    private int maxConnectionsPerRoute = 4;
+
+    @Min(1)
+    @Max(Integer.MAX_VALUE)
+    private int maxConcurrentStreamsPerConnection = 128;
+
+    @Min(1)
+    @Max(Integer.MAX_VALUE)
+    private int maxRequestsQueuedPerRoute = 1024;
+
+    private boolean followRedirects = true;
+
+    @NotNull
+    private Optional<String> userAgent = Optional.empty();
+
+    @Valid
+    @Nullable
+    private TlsConfiguration tlsConfiguration;
+
+    @JsonProperty
+    public Duration getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    @JsonProperty
+    public void setConnectionTimeout(Duration connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    @JsonProperty
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    @JsonProperty
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    @JsonProperty
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    @JsonProperty
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    @JsonProperty
+    public int getMaxConcurrentStreamsPerConnection() {
+        return maxConcurrentStreamsPerConnection;
+    }
+
+    @JsonProperty
+    public void setMaxConcurrentStreamsPerConnection(int maxConcurrentStreamsPerConnection) {
+        this.maxConcurrentStreamsPerConnection = maxConcurrentStreamsPerConnection;
+    }
+
+    @JsonProperty
+    public int getMaxRequestsQueuedPerRoute() {
+        return maxRequestsQueuedPerRoute;
+    }
+
+    @JsonProperty
+    public void setMaxRequestsQueuedPerRoute(int maxRequestsQueuedPerRoute) {
+        this.maxRequestsQueuedPerRoute = maxRequestsQueuedPerRoute;
+    }
+
+    @JsonProperty
+    public boolean isFollowRedirects() {
+        return followRedirects;
+    }
+
+    @JsonProperty
+    public void setFollowRedirects(boolean followRedirects) {
+        this.followRedirects = followRedirects;
+    }
+
+    @JsonProperty
+    public Optional<String> getUserAgent() {
+        return userAgent;
+    }
+
+    @JsonProperty
+    public void setUserAgent(Optional<String> userAgent) {
+        this.userAgent = userAgent;
+    }
+
+    @JsonProperty("tls")
+    @Nullable
+    public TlsConfiguration getTlsConfiguration() {
+        return tlsConfiguration;
+    }
+
+    @JsonProperty("tls")
+    public void setTlsConfiguration(@Nullable TlsConfiguration tlsConfiguration) {
+        this.tlsConfiguration = tlsConfiguration;
+    }
+}
@@ -5,9 +5,22 @@ import com.codahale.metrics.httpclient.HttpClientMetricNameStrategies;
 import com.codahale.metrics.httpclient.HttpClientMetricNameStrategy;
 import com.codahale.metrics.httpclient.InstrumentedHttpClientConnectionManager;
 import com.codahale.metrics.httpclient.InstrumentedHttpRequestExecutor;
+import com.codahale.metrics.httpasyncclient.InstrumentedNClientConnManager;
+import com.codahale.metrics.httpasyncclient.InstrumentedNHttpClientBuilder;
+import io.dropwizard.client.cache.CacheMetricsInterceptor;
+import io.dropwizard.client.cache.HttpCacheConfiguration;
+import io.dropwizard.client.loadbalancing.LoadBalancerConfiguration;
+import io.dropwizard.client.loadbalancing.LoadBalancingHttpClient;
 import io.dropwizard.client.proxy.AuthConfiguration;
 import io.dropwizard.client.proxy.NonProxyListProxyRoutePlanner;
 import io.dropwizard.client.proxy.ProxyConfiguration;
+import io.dropwizard.client.resilience.BulkheadConfiguration;
+import io.dropwizard.client.resilience.CircuitBreakerConfiguration;
+import io.dropwizard.client.resilience.HedgingConfiguration;
+import io.dropwizard.client.resilience.HedgingHttpClient;
+import io.dropwizard.client.resilience.ResilientHttpClient;
+import io.dropwizard.client.resilience.RetryBudgetConfiguration;
+import io.dropwizard.client.resilience.RetryingHttpClient;
 import io.dropwizard.client.ssl.TlsConfiguration;
 import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.setup.Environment;
@@ -41,13 +54,26 @@ import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
+import org.apache.http.impl.client.cache.CacheConfig;
+import org.apache.http.impl.client.cache.CachingHttpClientBuilder;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
 import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.conn.ManagedNHttpClientConnectionFactory;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.ConnectingIOReactor;
+import org.apache.http.nio.reactor.IOReactorException;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.protocol.HttpProcessor;
 import org.apache.http.protocol.HttpRequestExecutor;
 
 import javax.annotation.Nullable;
 import javax.net.ssl.HostnameVerifier;
+import java.io.File;
 import java.util.List;
 
 /**
@@ -303,6 +329,33 @@ public class HttpClientBuilder {
                 createConnectionManager(createConfiguredRegistry(), name), name);
     }
 
+    /**
+     * For internal use only, used in {@link io.dropwizard.client.JerseyClientBuilder}
+     * to create an instance of {@link io.dropwizard.client.DropwizardApacheAsyncConnector}
+     *
+     * @param name
+     * @return a {@link io.dropwizard.client.ConfiguredCloseableHttpAsyncClient}, which is started and closed
+     * with the environment if there is one, or else started by the first and closed by the last
+     * {@link DropwizardApacheAsyncConnector} using it
+     */
+    ConfiguredCloseableHttpAsyncClient buildAsyncWithDefaultRequestConfiguration(String name) {
+        final ConfiguredCloseableHttpAsyncClient client = createAsyncClient(createAsyncBuilder(name),
+                createAsyncConnectionManager(createConfiguredIOSessionStrategyRegistry(), name), name);
+        // The I/O reactor threads must be stopped explicitly, so we tie the client with the server lifecycle,
+        // or with the connectors using it if there is no environment, in which case the first connector starts it
+        if (environment == null) {
+            return new ConfiguredCloseableHttpAsyncClient(client.getClient(), client.getDefaultRequestConfig(), true);
+        }
+        client.getClient().start();
+        environment.lifecycle().manage(new Managed() {
+            @Override
+            public void stop() throws Exception {
+                client.getClient().close();
+            }
+        });
+        return client;
+    }
+
     /**
      * Creates a {@link org.apache.http.protocol.HttpRequestExecutor}.
      *
@@ -323,13 +376,56 @@ public class HttpClientBuilder {
      * Intended for use by subclasses to create builder instance from subclass of
      * {@link org.apache.http.impl.client.HttpClientBuilder}
      *
+     * If a response cache is configured, a {@link CachingHttpClientBuilder} is returned.
+     *
      * @return an {@link org.apache.http.impl.client.HttpClientBuilder}
      * @since 2.0
      */
     protected org.apache.http.impl.client.HttpClientBuilder createBuilder() {
+        final HttpCacheConfiguration cacheConfiguration = configuration.getCacheConfiguration();
+        if (cacheConfiguration != null) {
+            return createCachingBuilder(cacheConfiguration);
+        }
         return org.apache.http.impl.client.HttpClientBuilder.create();
     }
 
+    private static CachingHttpClientBuilder createCachingBuilder(HttpCacheConfiguration cacheConfiguration) {
+        final CacheConfig cacheConfig = CacheConfig.custom()
+            .setMaxCacheEntries(cacheConfiguration.getMaxCacheEntries())
+            .setMaxObjectSize(cacheConfiguration.getMaxObjectSize().toBytes())
+            .setSharedCache(cacheConfiguration.isSharedCache())
+            .setHeuristicCachingEnabled(cacheConfiguration.isHeuristicCachingEnabled())
+            .setHeuristicDefaultLifetime(cacheConfiguration.getHeuristicDefaultLifetime().toSeconds())
+            .build();
+
+        final CachingHttpClientBuilder builder = CachingHttpClientBuilder.create();
+        builder.setCacheConfig(cacheConfig);
+
+        // The cached bodies are kept on the heap unless a cache directory is set, in which case they are
+        // written to files which are deleted when they are evicted or the client is closed
+        final String directory = cacheConfiguration.getDirectory();
+        if (cacheConfiguration.getStorage() == HttpCacheConfiguration.Storage.FILE && directory != null) {
+            builder.setCacheDir(new File(directory));
+        }
+        return builder;
+    }
+
+    /**
+     * Creates an Apache {@link HttpAsyncClientBuilder}.
+     *
+     * Intended for use by subclasses to create builder instance from subclass of
+     * {@link HttpAsyncClientBuilder}. The default implementation is an
+     * {@link com.codahale.metrics.httpasyncclient.InstrumentedNHttpClientBuilder}, which times the requests
+     * like {@link #createRequestExecutor(String)} does for the blocking client.
+     *
+     * @param name
+     * @return an {@link HttpAsyncClientBuilder}
+     * @since 2.1.5
+     */
+    protected HttpAsyncClientBuilder createAsyncBuilder(String name) {
+        return new InstrumentedNHttpClientBuilder(metricRegistry, metricNameStrategy, name);
+    }
+
     /**
      * Configures an Apache {@link org.apache.http.impl.client.HttpClientBuilder}.
      *
@@ -356,11 +452,7 @@ public class HttpClientBuilder {
             final org.apache.http.impl.client.HttpClientBuilder builder,
             final InstrumentedHttpClientConnectionManager manager,
             final String name) {
-        final String cookiePolicy = configuration.isCookiesEnabled() ? CookieSpecs.DEFAULT : CookieSpecs.IGNORE_COOKIES;
         final Integer timeout = (int) configuration.getTimeout().toMilliseconds();
-        final Integer connectionTimeout = (int) configuration.getConnectionTimeout().toMilliseconds();
-        final Integer connectionRequestTimeout = (int) configuration.getConnectionRequestTimeout().toMilliseconds();
-        final boolean normalizeUri = configuration.isNormalizeUriEnabled();
         final long keepAlive = configuration.getKeepAlive().toMilliseconds();
         final ConnectionReuseStrategy reuseStrategy = keepAlive == 0
                 ? new NoConnectionReuseStrategy()
@@ -370,13 +462,7 @@ public class HttpClientBuilder {
                 : (httpRequestRetryHandler == null ? new DefaultHttpRequestRetryHandler(configuration.getRetries(),
                 false) : httpRequestRetryHandler);
 
-        final RequestConfig requestConfig
-                = RequestConfig.custom().setCookieSpec(cookiePolicy)
-                .setSocketTimeout(timeout)
-                .setConnectTimeout(connectionTimeout)
-                .setConnectionRequestTimeout(connectionRequestTimeout)
-                .setNormalizeUri(normalizeUri)
-                .build();
+        final RequestConfig requestConfig = createDefaultRequestConfig();
         final SocketConfig socketConfig = SocketConfig.custom()
                 .setTcpNoDelay(true)
                 .setSoTimeout(timeout)
@@ -391,36 +477,13 @@ public class HttpClientBuilder {
             .setUserAgent(createUserAgent(name));
 
         if (keepAlive != 0) {
-            // either keep alive based on response header Keep-Alive,
-            // or if the server can keep a persistent connection (-1), then override based on client's configuration
-            builder.setKeepAliveStrategy(new DefaultConnectionKeepAliveStrategy() {
-                @Override
-                public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
-                    final long duration = super.getKeepAliveDuration(response, context);
-                    return (duration == -1) ? keepAlive : duration;
-                }
-            });
+            builder.setKeepAliveStrategy(createKeepAliveStrategy(keepAlive));
         }
 
         // create a tunnel through a proxy host if it's specified in the config
-        final ProxyConfiguration proxy = configuration.getProxyConfiguration();
-        if (proxy != null) {
-            final HttpHost httpHost = new HttpHost(proxy.getHost(), proxy.getPort(), proxy.getScheme());
-            builder.setRoutePlanner(new NonProxyListProxyRoutePlanner(httpHost, proxy.getNonProxyHosts()));
-            // if the proxy host requires authentication then add the host credentials to the credentials provider
-            final AuthConfiguration auth = proxy.getAuth();
-            if (auth != null) {
-                if (credentialsProvider == null) {
-                    credentialsProvider = new BasicCredentialsProvider();
-                }
-                // set the AuthScope
-                AuthScope authScope = new AuthScope(httpHost, auth.getRealm(), auth.getAuthScheme());
-
-                // set the credentials type
-                Credentials credentials = configureCredentials(auth);
-
-                credentialsProvider.setCredentials(authScope, credentials);
-            }
+        final HttpRoutePlanner proxyRoutePlanner = createProxyRoutePlanner();
+        if (proxyRoutePlanner != null) {
+            builder.setRoutePlanner(proxyRoutePlanner);
         }
 
         if (credentialsProvider != null) {
@@ -455,9 +518,169 @@ public class HttpClientBuilder {
             builder.setServiceUnavailableRetryStrategy(serviceUnavailableRetryStrategy);
         }
 
+        if (configuration.getCacheConfiguration() != null) {
+            builder.addInterceptorLast(new CacheMetricsInterceptor(metricRegistry, name));
+        }
+
         customizeBuilder(builder);
 
-        return new ConfiguredCloseableHttpClient(builder.build(), requestConfig);
+        return new ConfiguredCloseableHttpClient(decorateClient(builder.build(), name), requestConfig);
+    }
+
+    /**
+     * Wraps the built client with the circuit breakers, bulkheads, load balancing, hedging and retries which
+     * are configured, in this order. Retries are outermost, so every retry is balanced and passes the circuit
+     * breaker again, and circuit breakers guard the hosts chosen by the load balancer.
+     */
+    private CloseableHttpClient decorateClient(CloseableHttpClient client, String name) {
+        CloseableHttpClient decorated = client;
+
+        final CircuitBreakerConfiguration circuitBreakerConfiguration = configuration.getCircuitBreakerConfiguration();
+        final BulkheadConfiguration bulkheadConfiguration = configuration.getBulkheadConfiguration();
+        if (circuitBreakerConfiguration != null || bulkheadConfiguration != null) {
+            decorated = new ResilientHttpClient(decorated, metricRegistry, name, circuitBreakerConfiguration,
+                bulkheadConfiguration);
+        }
+
+        final LoadBalancerConfiguration loadBalancerConfiguration = configuration.getLoadBalancerConfiguration();
+        if (loadBalancerConfiguration != null) {
+            decorated = new LoadBalancingHttpClient(decorated, metricRegistry, name, loadBalancerConfiguration);
+        }
+
+        final HedgingConfiguration hedgingConfiguration = configuration.getHedgingConfiguration();
+        if (hedgingConfiguration != null) {
+            decorated = new HedgingHttpClient(decorated, metricRegistry, name, hedgingConfiguration);
+        }
+
+        final RetryBudgetConfiguration retryBudgetConfiguration = configuration.getRetryBudgetConfiguration();
+        if (retryBudgetConfiguration != null) {
+            decorated = new RetryingHttpClient(decorated, metricRegistry, name, retryBudgetConfiguration);
+        }
+
+        return decorated;
+    }
+
+    /**
+     * Map the parameters in {@link HttpClientConfiguration} to configuration on a
+     * {@link HttpAsyncClientBuilder} instance.
+     * <p>
+     * Apache HttpAsyncClient neither retries requests nor decompresses responses, so
+     * the retry and content compression settings only apply to the blocking client.
+     * </p>
+     *
+     * @param builder
+     * @param manager
+     * @param name
+     * @return the configured, not yet started {@link ConfiguredCloseableHttpAsyncClient}
+     * @since 2.1.5
+     */
+    protected ConfiguredCloseableHttpAsyncClient createAsyncClient(
+            final HttpAsyncClientBuilder builder,
+            final InstrumentedNClientConnManager manager,
+            final String name) {
+        final long keepAlive = configuration.getKeepAlive().toMilliseconds();
+        final ConnectionReuseStrategy reuseStrategy = keepAlive == 0
+                ? new NoConnectionReuseStrategy()
+                : new DefaultConnectionReuseStrategy();
+        final RequestConfig requestConfig = createDefaultRequestConfig();
+
+        builder.setConnectionManager(manager)
+            .setDefaultRequestConfig(requestConfig)
+            .setConnectionReuseStrategy(reuseStrategy)
+            .setUserAgent(createUserAgent(name));
+
+        if (keepAlive != 0) {
+            builder.setKeepAliveStrategy(createKeepAliveStrategy(keepAlive));
+        }
+
+        final HttpRoutePlanner proxyRoutePlanner = createProxyRoutePlanner();
+        if (proxyRoutePlanner != null) {
+            builder.setRoutePlanner(proxyRoutePlanner);
+        }
+
+        if (credentialsProvider != null) {
+            builder.setDefaultCredentialsProvider(credentialsProvider);
+        }
+
+        if (routePlanner != null) {
+            builder.setRoutePlanner(routePlanner);
+        }
+
+        if (redirectStrategy != null) {
+            builder.setRedirectStrategy(redirectStrategy);
+        }
+
+        if (defaultHeaders != null) {
+            builder.setDefaultHeaders(defaultHeaders);
+        }
+
+        if (httpProcessor != null) {
+            builder.setHttpProcessor(httpProcessor);
+        }
+
+        customizeAsyncBuilder(builder);
+
+        return new ConfiguredCloseableHttpAsyncClient(builder.build(), requestConfig);
+    }
+
+    /**
+     * Configures an Apache {@link HttpAsyncClientBuilder}.
+     *
+     * Intended for use by subclasses to inject HttpAsyncClientBuilder
+     * configuration. The default implementation is an identity
+     * function.
+     *
+     * @since 2.1.5
+     */
+    protected HttpAsyncClientBuilder customizeAsyncBuilder(HttpAsyncClientBuilder builder) {
+        return builder;
+    }
+
+    private RequestConfig createDefaultRequestConfig() {
+        final String cookiePolicy = configuration.isCookiesEnabled() ? CookieSpecs.DEFAULT : CookieSpecs.IGNORE_COOKIES;
+        return RequestConfig.custom().setCookieSpec(cookiePolicy)
+                .setSocketTimeout((int) configuration.getTimeout().toMilliseconds())
+                .setConnectTimeout((int) configuration.getConnectionTimeout().toMilliseconds())
+                .setConnectionRequestTimeout((int) configuration.getConnectionRequestTimeout().toMilliseconds())
+                .setNormalizeUri(configuration.isNormalizeUriEnabled())
+                .build();
+    }
+
+    private static DefaultConnectionKeepAliveStrategy createKeepAliveStrategy(long keepAlive) {
+        // either keep alive based on response header Keep-Alive,
+        // or if the server can keep a persistent connection (-1), then override based on client's configuration
+        return new DefaultConnectionKeepAliveStrategy() {
+            @Override
+            public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+                final long duration = super.getKeepAliveDuration(response, context);
+                return (duration == -1) ? keepAlive : duration;
+            }
+        };
+    }
+
+    @Nullable
+    private HttpRoutePlanner createProxyRoutePlanner() {
+        final ProxyConfiguration proxy = configuration.getProxyConfiguration();
+        if (proxy == null) {
+            return null;
+        }
+
+        final HttpHost httpHost = new HttpHost(proxy.getHost(), proxy.getPort(), proxy.getScheme());
+        // if the proxy host requires authentication then add the host credentials to the credentials provider
+        final AuthConfiguration auth = proxy.getAuth();
+        if (auth != null) {
+            if (credentialsProvider == null) {
+                credentialsProvider = new BasicCredentialsProvider();
+            }
+            // set the AuthScope
+            AuthScope authScope = new AuthScope(httpHost, auth.getRealm(), auth.getAuthScheme());
+
+            // set the credentials type
+            Credentials credentials = configureCredentials(auth);
+
+            credentialsProvider.setCredentials(authScope, credentials);
+        }
+        return new NonProxyListProxyRoutePlanner(httpHost, proxy.getNonProxyHosts());
     }
 
     /**
@@ -495,6 +718,61 @@ public class HttpClientBuilder {
         return configureConnectionManager(manager);
     }
 
+    /**
+     * Create an InstrumentedNClientConnManager based on the
+     * HttpClientConfiguration. It registers the same connection pool gauges as
+     * {@link #createConnectionManager(Registry, String)}, prefixed with
+     * {@code org.apache.http.nio.conn.NHttpClientConnectionManager}.
+     *
+     * @param registry
+     * @param name
+     * @return an InstrumentedNClientConnManager instance
+     * @since 2.1.5
+     */
+    protected InstrumentedNClientConnManager createAsyncConnectionManager(Registry<SchemeIOSessionStrategy> registry,
+                                                                          String name) {
+        final int timeout = (int) configuration.getTimeout().toMilliseconds();
+        final IOReactorConfig ioReactorConfig = IOReactorConfig.custom()
+            .setSoTimeout(timeout)
+            .setConnectTimeout((int) configuration.getConnectionTimeout().toMilliseconds())
+            .setTcpNoDelay(true)
+            .build();
+
+        final ConnectingIOReactor ioReactor;
+        try {
+            ioReactor = new DefaultConnectingIOReactor(ioReactorConfig);
+        } catch (IOReactorException e) {
+            throw new IllegalStateException("Unable to create the I/O reactor of the " + name + " client", e);
+        }
+
+        final Duration ttl = configuration.getTimeToLive();
+        final InstrumentedNClientConnManager manager = new InstrumentedNClientConnManager(ioReactor,
+            ManagedNHttpClientConnectionFactory.INSTANCE, DefaultSchemePortResolver.INSTANCE, metricRegistry,
+            registry, ttl.getQuantity(), ttl.getUnit(), resolver, name);
+        manager.setDefaultMaxPerRoute(configuration.getMaxConnectionsPerRoute());
+        manager.setMaxTotal(configuration.getMaxConnections());
+        return manager;
+    }
+
+    Registry<SchemeIOSessionStrategy> createConfiguredIOSessionStrategyRegistry() {
+        TlsConfiguration tlsConfiguration = configuration.getTlsConfiguration();
+        if (tlsConfiguration == null && verifier != null) {
+            tlsConfiguration = new TlsConfiguration();
+        }
+
+        final SchemeIOSessionStrategy sslStrategy;
+        if (tlsConfiguration == null) {
+            sslStrategy = SSLIOSessionStrategy.getDefaultStrategy();
+        } else {
+            sslStrategy = new DropwizardSSLConnectionSocketFactory(tlsConfiguration, verifier).getIOSessionStrategy();
+        }
+
+        return RegistryBuilder.<SchemeIOSessionStrategy>create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", sslStrategy)
+                .build();
+    }
+
     Registry<ConnectionSocketFactory> createConfiguredRegistry() {
         if (registry != null) {
             return registry;
@@ -1,7 +1,13 @@
 package io.dropwizard.client;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.client.cache.HttpCacheConfiguration;
+import io.dropwizard.client.loadbalancing.LoadBalancerConfiguration;
 import io.dropwizard.client.proxy.ProxyConfiguration;
+import io.dropwizard.client.resilience.BulkheadConfiguration;
+import io.dropwizard.client.resilience.CircuitBreakerConfiguration;
+import io.dropwizard.client.resilience.HedgingConfiguration;
+import io.dropwizard.client.resilience.RetryBudgetConfiguration;
 import io.dropwizard.client.ssl.TlsConfiguration;
 import io.dropwizard.util.Duration;
 
@@ -67,6 +73,30 @@ public class HttpClientConfiguration {
     @Nullable
     private TlsConfiguration tlsConfiguration;
 
+    @Valid
+    @Nullable
+    private CircuitBreakerConfiguration circuitBreakerConfiguration;
+
+    @Valid
+    @Nullable
+    private BulkheadConfiguration bulkheadConfiguration;
+
+    @Valid
+    @Nullable
+    private HedgingConfiguration hedgingConfiguration;
+
+    @Valid
+    @Nullable
+    private RetryBudgetConfiguration retryBudgetConfiguration;
+
+    @Valid
+    @Nullable
+    private HttpCacheConfiguration cacheConfiguration;
+
+    @Valid
+    @Nullable
+    private LoadBalancerConfiguration loadBalancerConfiguration;
+
     @JsonProperty
     public void setKeepAlive(Duration keepAlive) {
         this.keepAlive = keepAlive;
@@ -213,4 +243,106 @@ public class HttpClientConfiguration {
     public void setTlsConfiguration(TlsConfiguration tlsConfiguration) {
         this.tlsConfiguration = tlsConfiguration;
     }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("circuitBreaker")
+    @Nullable
+    public CircuitBreakerConfiguration getCircuitBreakerConfiguration() {
+        return circuitBreakerConfiguration;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("circuitBreaker")
+    public void setCircuitBreakerConfiguration(@Nullable CircuitBreakerConfiguration circuitBreakerConfiguration) {
+        this.circuitBreakerConfiguration = circuitBreakerConfiguration;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("bulkhead")
+    @Nullable
+    public BulkheadConfiguration getBulkheadConfiguration() {
+        return bulkheadConfiguration;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("bulkhead")
+    public void setBulkheadConfiguration(@Nullable BulkheadConfiguration bulkheadConfiguration) {
+        this.bulkheadConfiguration = bulkheadConfiguration;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("hedging")
+    @Nullable
+    public HedgingConfiguration getHedgingConfiguration() {
+        return hedgingConfiguration;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("hedging")
+    public void setHedgingConfiguration(@Nullable HedgingConfiguration hedgingConfiguration) {
+        this.hedgingConfiguration = hedgingConfiguration;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("retryBudget")
+    @Nullable
+    public RetryBudgetConfiguration getRetryBudgetConfiguration() {
+        return retryBudgetConfiguration;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("retryBudget")
+    public void setRetryBudgetConfiguration(@Nullable RetryBudgetConfiguration retryBudgetConfiguration) {
+        this.retryBudgetConfiguration = retryBudgetConfiguration;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("cache")
+    @Nullable
+    public HttpCacheConfiguration getCacheConfiguration() {
+        return cacheConfiguration;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("cache")
+    public void setCacheConfiguration(@Nullable HttpCacheConfiguration cacheConfiguration) {
+        this.cacheConfiguration = cacheConfiguration;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("loadBalancer")
+    @Nullable
+    public LoadBalancerConfiguration getLoadBalancerConfiguration() {
+        return loadBalancerConfiguration;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("loadBalancer")
+    public void setLoadBalancerConfiguration(@Nullable LoadBalancerConfiguration loadBalancerConfiguration) {
+        this.loadBalancerConfiguration = loadBalancerConfiguration;
+    }
 }
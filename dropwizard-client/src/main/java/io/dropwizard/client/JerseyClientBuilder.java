@@ -337,6 +337,11 @@ public class JerseyClientBuilder {
                     "an executor service and an object mapper");
         }
 
+        if (connectorProvider == null && !configuration.isAsyncConnectorConfigurationValid()) {
+            throw new IllegalStateException("The asynchronous connector doesn't support the circuit breaker, " +
+                    "bulkhead, hedging, retry budget, cache and load balancer settings");
+        }
+
         if (executorService == null) {
             // Create an ExecutorService based on the provided
             // configuration. The DisposableExecutorService decorator
@@ -410,7 +415,12 @@ public class JerseyClientBuilder {
 
         config.register(new DropwizardExecutorProvider(threadPool));
 
-        if (connectorProvider == null) {
+        if (connectorProvider == null && configuration.isAsyncConnectorEnabled()) {
+            final ConfiguredCloseableHttpAsyncClient apacheHttpAsyncClient =
+                    apacheHttpClientBuilder.buildAsyncWithDefaultRequestConfiguration(name);
+            config.connectorProvider((client, runtimeConfig) ->
+                    createDropwizardApacheAsyncConnector(apacheHttpAsyncClient, threadPool));
+        } else if (connectorProvider == null) {
             final ConfiguredCloseableHttpClient apacheHttpClient =
                     apacheHttpClientBuilder.buildWithDefaultRequestConfiguration(name);
             config.connectorProvider((client, runtimeConfig) -> createDropwizardApacheConnector(apacheHttpClient));
@@ -429,4 +439,17 @@ public class JerseyClientBuilder {
         return new DropwizardApacheConnector(configuredClient.getClient(), configuredClient.getDefaultRequestConfig(),
                 configuration.isChunkedEncodingEnabled());
     }
+
+    /**
+     * Builds {@link DropwizardApacheAsyncConnector} based on the configured Apache HTTP async client
+     * as {@link ConfiguredCloseableHttpAsyncClient}, which completes asynchronous requests on the given thread pool
+     * and buffers responses up to the configured maximum size.
+     *
+     * @since 2.1.5
+     */
+    protected DropwizardApacheAsyncConnector createDropwizardApacheAsyncConnector(
+            ConfiguredCloseableHttpAsyncClient configuredClient, ExecutorService threadPool) {
+        return new DropwizardApacheAsyncConnector(configuredClient, threadPool,
+                configuration.getMaxBufferedResponseSize().toBytes());
+    }
 }
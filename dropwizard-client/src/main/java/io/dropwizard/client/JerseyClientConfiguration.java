@@ -2,10 +2,13 @@ package io.dropwizard.client;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.validation.MinDataSize;
 import io.dropwizard.validation.ValidationMethod;
 
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
 
 /**
  * The configuration class used by {@link JerseyClientBuilder}. Extends
@@ -33,6 +36,12 @@ public class JerseyClientConfiguration extends HttpClientConfiguration {
 
     private boolean chunkedEncodingEnabled = true;
 
+    private boolean asyncConnectorEnabled = false;
+
+    @NotNull
+    @MinDataSize(1)
+    private DataSize maxBufferedResponseSize = DataSize.mebibytes(16);
+
     @JsonProperty
     public int getMinThreads() {
         return minThreads;
@@ -83,6 +92,38 @@ public class JerseyClientConfiguration extends HttpClientConfiguration {
         this.chunkedEncodingEnabled = chunkedEncodingEnabled;
     }
 
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty
+    public boolean isAsyncConnectorEnabled() {
+        return asyncConnectorEnabled;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty
+    public void setAsyncConnectorEnabled(boolean asyncConnectorEnabled) {
+        this.asyncConnectorEnabled = asyncConnectorEnabled;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty
+    public DataSize getMaxBufferedResponseSize() {
+        return maxBufferedResponseSize;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty
+    public void setMaxBufferedResponseSize(DataSize maxBufferedResponseSize) {
+        this.maxBufferedResponseSize = maxBufferedResponseSize;
+    }
+
     @JsonProperty
     public int getWorkQueueSize() {
         return workQueueSize;
@@ -104,4 +145,23 @@ public class JerseyClientConfiguration extends HttpClientConfiguration {
     public boolean isCompressionConfigurationValid() {
         return !gzipEnabledForRequests || gzipEnabled;
     }
+
+    /**
+     * The asynchronous connector sends the requests with its own client, which doesn't apply the circuit breaker,
+     * bulkhead, hedging, retry budget, cache and load balancer of the blocking client.
+     *
+     * @since 2.1.5
+     */
+    @JsonIgnore
+    @ValidationMethod(message = ".asyncConnectorEnabled doesn't support the circuitBreaker, bulkhead, hedging, " +
+        "retryBudget, cache and loadBalancer settings")
+    public boolean isAsyncConnectorConfigurationValid() {
+        return !asyncConnectorEnabled
+            || (getCircuitBreakerConfiguration() == null
+            && getBulkheadConfiguration() == null
+            && getHedgingConfiguration() == null
+            && getRetryBudgetConfiguration() == null
+            && getCacheConfiguration() == null
+            && getLoadBalancerConfiguration() == null);
+    }
 }
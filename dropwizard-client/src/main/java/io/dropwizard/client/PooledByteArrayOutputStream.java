@@ -0,0 +1,87 @@
+package io.dropwizard.client;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@link OutputStream} buffering its contents in arrays taken from a {@link BufferPool}. Unlike
+ * {@link java.io.ByteArrayOutputStream}, the contents are written to another stream straight from the
+ * buffer, without copying them to a new array first.
+ */
+class PooledByteArrayOutputStream extends OutputStream {
+    private final BufferPool pool;
+    @Nullable
+    private byte[] buffer;
+    private int count;
+
+    PooledByteArrayOutputStream(BufferPool pool, int expectedSize) {
+        this.pool = pool;
+        this.buffer = pool.acquire(expectedSize);
+    }
+
+    @Override
+    public void write(int b) {
+        final byte[] target = ensureCapacity(count + 1);
+        target[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException();
+        }
+        final byte[] target = ensureCapacity(count + length);
+        System.arraycopy(bytes, offset, target, count, length);
+        count += length;
+    }
+
+    /**
+     * Returns the number of buffered bytes.
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * Writes the buffered bytes to the given stream.
+     */
+    void writeTo(OutputStream outputStream) throws IOException {
+        outputStream.write(buffer(), 0, count);
+    }
+
+    /**
+     * Returns the buffer to the pool. The stream can't be used afterwards.
+     */
+    void release() {
+        final byte[] released = buffer;
+        buffer = null;
+        if (released != null) {
+            pool.release(released);
+        }
+    }
+
+    private byte[] ensureCapacity(int minimumCapacity) {
+        final byte[] current = buffer();
+        if (minimumCapacity < 0) {
+            throw new OutOfMemoryError("Request entity too large to buffer");
+        }
+        if (minimumCapacity <= current.length) {
+            return current;
+        }
+        final int doubled = current.length << 1;
+        final byte[] grown = pool.acquire(doubled < 0 ? minimumCapacity : Math.max(doubled, minimumCapacity));
+        System.arraycopy(current, 0, grown, 0, count);
+        buffer = grown;
+        pool.release(current);
+        return grown;
+    }
+
+    private byte[] buffer() {
+        final byte[] current = buffer;
+        if (current == null) {
+            throw new IllegalStateException("The buffer has been released");
+        }
+        return current;
+    }
+}
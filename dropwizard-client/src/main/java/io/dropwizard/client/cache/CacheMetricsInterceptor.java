@@ -0,0 +1,56 @@
+package io.dropwizard.client.cache;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.cache.CacheResponseStatus;
+import org.apache.http.client.cache.HttpCacheContext;
+import org.apache.http.protocol.HttpContext;
+
+/**
+ * Counts how the HTTP response cache of a client answered each request: from the cache
+ * ({@code cache.hits}), from the server ({@code cache.misses}), from the cache after a successful
+ * revalidation with the server ({@code cache.validations}), or with a response generated by the cache
+ * itself, e.g. for {@code Cache-Control: only-if-cached} ({@code cache.module-responses}).
+ *
+ * @since 2.1.5
+ */
+public class CacheMetricsInterceptor implements HttpResponseInterceptor {
+    private final Meter hits;
+    private final Meter misses;
+    private final Meter validations;
+    private final Meter moduleResponses;
+
+    public CacheMetricsInterceptor(MetricRegistry metricRegistry, String name) {
+        this.hits = metricRegistry.meter(MetricRegistry.name(HttpClient.class, name, "cache", "hits"));
+        this.misses = metricRegistry.meter(MetricRegistry.name(HttpClient.class, name, "cache", "misses"));
+        this.validations = metricRegistry.meter(MetricRegistry.name(HttpClient.class, name, "cache", "validations"));
+        this.moduleResponses = metricRegistry.meter(MetricRegistry.name(HttpClient.class, name, "cache", "module-responses"));
+    }
+
+    @Override
+    public void process(HttpResponse response, HttpContext context) {
+        final CacheResponseStatus status = HttpCacheContext.adapt(context).getCacheResponseStatus();
+        if (status == null) {
+            // The request could not be served from the cache, e.g. a POST
+            return;
+        }
+        switch (status) {
+            case CACHE_HIT:
+                hits.mark();
+                break;
+            case CACHE_MISS:
+                misses.mark();
+                break;
+            case VALIDATED:
+                validations.mark();
+                break;
+            case CACHE_MODULE_RESPONSE:
+            default:
+                moduleResponses.mark();
+                break;
+        }
+    }
+}
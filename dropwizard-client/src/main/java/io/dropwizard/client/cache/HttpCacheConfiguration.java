@@ -0,0 +1,177 @@
+package io.dropwizard.client.cache;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDataSize;
+import io.dropwizard.validation.ValidationMethod;
+
+import javax.annotation.Nullable;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Configuration of the HTTP response cache of a client, which serves responses to repeated requests
+ * as allowed by their {@code Cache-Control} and {@code Expires} headers, and revalidates stale
+ * responses with conditional requests.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code storage}</td>
+ *         <td>heap</td>
+ *         <td>
+ *             Where the cached response bodies are kept: {@code heap} for the Java heap, or {@code file}
+ *             for files in {@code directory}.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code directory}</td>
+ *         <td>(none)</td>
+ *         <td>The directory of the cached response bodies. Required for {@code file} storage.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxCacheEntries}</td>
+ *         <td>1000</td>
+ *         <td>The maximum number of cached responses. The least recently used responses are evicted first.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxObjectSize}</td>
+ *         <td>8 KiB</td>
+ *         <td>The maximum size of a cached response body. Larger responses are not cached.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code sharedCache}</td>
+ *         <td>true</td>
+ *         <td>
+ *             Whether the cache behaves as a shared cache, which doesn't store responses marked
+ *             {@code Cache-Control: private}.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code heuristicCachingEnabled}</td>
+ *         <td>false</td>
+ *         <td>Whether responses without explicit freshness information are cached.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code heuristicDefaultLifetime}</td>
+ *         <td>0 seconds</td>
+ *         <td>How long responses cached by heuristic stay fresh.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1.5
+ */
+public class HttpCacheConfiguration {
+    /**
+     * Where the cached response bodies are kept.
+     */
+    public enum Storage {
+        HEAP, FILE
+    }
+
+    @NotNull
+    private Storage storage = Storage.HEAP;
+
+    @Nullable
+    private String directory;
+
+    @Min(1)
+    @Max(Integer.MAX_VALUE)
+    private int maxCacheEntries = 1000;
+
+    @NotNull
+    @MinDataSize(1)
+    private DataSize maxObjectSize = DataSize.kibibytes(8);
+
+    private boolean sharedCache = true;
+
+    private boolean heuristicCachingEnabled = false;
+
+    @NotNull
+    private Duration heuristicDefaultLifetime = Duration.seconds(0);
+
+    @JsonProperty
+    public Storage getStorage() {
+        return storage;
+    }
+
+    @JsonProperty
+    public void setStorage(Storage storage) {
+        this.storage = storage;
+    }
+
+    @JsonProperty
+    @Nullable
+    public String getDirectory() {
+        return directory;
+    }
+
+    @JsonProperty
+    public void setDirectory(@Nullable String directory) {
+        this.directory = directory;
+    }
+
+    @JsonProperty
+    public int getMaxCacheEntries() {
+        return maxCacheEntries;
+    }
+
+    @JsonProperty
+    public void setMaxCacheEntries(int maxCacheEntries) {
+        this.maxCacheEntries = maxCacheEntries;
+    }
+
+    @JsonProperty
+    public DataSize getMaxObjectSize() {
+        return maxObjectSize;
+    }
+
+    @JsonProperty
+    public void setMaxObjectSize(DataSize maxObjectSize) {
+        this.maxObjectSize = maxObjectSize;
+    }
+
+    @JsonProperty
+    public boolean isSharedCache() {
+        return sharedCache;
+    }
+
+    @JsonProperty
+    public void setSharedCache(boolean sharedCache) {
+        this.sharedCache = sharedCache;
+    }
+
+    @JsonProperty
+    public boolean isHeuristicCachingEnabled() {
+        return heuristicCachingEnabled;
+    }
+
+    @JsonProperty
+    public void setHeuristicCachingEnabled(boolean heuristicCachingEnabled) {
+        this.heuristicCachingEnabled = heuristicCachingEnabled;
+    }
+
+    @JsonProperty
+    public Duration getHeuristicDefaultLifetime() {
+        return heuristicDefaultLifetime;
+    }
+
+    @JsonProperty
+    public void setHeuristicDefaultLifetime(Duration heuristicDefaultLifetime) {
+        this.heuristicDefaultLifetime = heuristicDefaultLifetime;
+    }
+
+    @JsonIgnore
+    @ValidationMethod(message = ".directory must be set for file storage")
+    public boolean isDirectorySetForFileStorage() {
+        return storage != Storage.FILE || directory != null;
+    }
+}
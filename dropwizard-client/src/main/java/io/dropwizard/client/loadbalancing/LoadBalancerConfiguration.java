@@ -0,0 +1,94 @@
+package io.dropwizard.client.loadbalancing;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration of client-side load balancing. Requests to the host name of one of the {@code upstreams},
+ * e.g. {@code http://users/...} for the upstream {@code users}, are sent to one of its hosts instead.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code strategy}</td>
+ *         <td>power-of-two-choices</td>
+ *         <td>
+ *             How a host is chosen: {@code round-robin} cycles through the hosts,
+ *             {@code least-outstanding-requests} picks the host with the fewest requests in flight, and
+ *             {@code power-of-two-choices} picks the one with fewer requests in flight of two random hosts.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code upstreams}</td>
+ *         <td>REQUIRED</td>
+ *         <td>The {@code host:port} of the hosts of each upstream, by the name of the upstream.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code outlierDetection}</td>
+ *         <td>(defaults)</td>
+ *         <td>The {@link OutlierDetectionConfiguration} ejecting failing hosts.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1.5
+ */
+public class LoadBalancerConfiguration {
+    /**
+     * How the host of a request is chosen.
+     */
+    public enum Strategy {
+        ROUND_ROBIN, LEAST_OUTSTANDING_REQUESTS, POWER_OF_TWO_CHOICES
+    }
+
+    @NotNull
+    private Strategy strategy = Strategy.POWER_OF_TWO_CHOICES;
+
+    @NotEmpty
+    private Map<String, @NotEmpty List<String>> upstreams = Collections.emptyMap();
+
+    @Valid
+    @NotNull
+    private OutlierDetectionConfiguration outlierDetection = new OutlierDetectionConfiguration();
+
+    @JsonProperty
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    @JsonProperty
+    public void setStrategy(Strategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @JsonProperty
+    public Map<String, List<String>> getUpstreams() {
+        return upstreams;
+    }
+
+    @JsonProperty
+    public void setUpstreams(Map<String, List<String>> upstreams) {
+        this.upstreams = new LinkedHashMap<>(upstreams);
+    }
+
+    @JsonProperty
+    public OutlierDetectionConfiguration getOutlierDetection() {
+        return outlierDetection;
+    }
+
+    @JsonProperty
+    public void setOutlierDetection(OutlierDetectionConfiguration outlierDetection) {
+        this.outlierDetection = outlierDetection;
+    }
+}
@@ -0,0 +1,221 @@
+package io.dropwizard.client.loadbalancing;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.client.resilience.BulkheadFullException;
+import io.dropwizard.client.resilience.CircuitBreakerOpenException;
+import io.dropwizard.client.resilience.PermitHoldingResponse;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.execchain.RequestAbortedException;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link CloseableHttpClient} sending requests to the host name of an upstream to one of the upstream's
+ * hosts, as chosen by the configured {@link LoadBalancerConfiguration.Strategy}. Other requests are sent
+ * unchanged.
+ * <p>
+ * The request URI is rewritten to point to the chosen host, so the {@code Host} header names the host
+ * which actually receives the request. The following metrics are registered for each host, named after
+ * the client, the upstream and the host's {@code host:port}: the {@code outstanding-requests} and
+ * {@code ejected} gauges, and the {@code requests}, {@code failures} and {@code ejections} meters.
+ * A request is outstanding until its response entity has been read to the end or the response has been closed.
+ * </p>
+ * <p>
+ * Requests rejected by a {@link BulkheadFullException bulkhead} or an {@link CircuitBreakerOpenException open circuit
+ * breaker} of the wrapped client never reached the host, so they don't count as its failures.
+ * </p>
+ *
+ * @see LoadBalancerConfiguration
+ * @since 2.1.5
+ */
+public class LoadBalancingHttpClient extends CloseableHttpClient {
+    private final CloseableHttpClient delegate;
+    private final Map<String, Upstream> upstreams;
+    private final Map<UpstreamHost, HostMetrics> hostMetrics;
+
+    public LoadBalancingHttpClient(CloseableHttpClient delegate,
+                                   MetricRegistry metricRegistry,
+                                   String name,
+                                   LoadBalancerConfiguration configuration) {
+        this(delegate, metricRegistry, name, configuration, Clock.defaultClock());
+    }
+
+    LoadBalancingHttpClient(CloseableHttpClient delegate,
+                            MetricRegistry metricRegistry,
+                            String name,
+                            LoadBalancerConfiguration configuration,
+                            Clock clock) {
+        this.delegate = delegate;
+        final Map<String, Upstream> upstreamsByName = new HashMap<>();
+        final Map<UpstreamHost, HostMetrics> metricsByHost = new HashMap<>();
+        final OutlierDetectionConfiguration outlierDetection = configuration.getOutlierDetection();
+        for (Map.Entry<String, List<String>> entry : configuration.getUpstreams().entrySet()) {
+            final String upstreamName = entry.getKey();
+            final List<UpstreamHost> hosts = new ArrayList<>();
+            for (String address : entry.getValue()) {
+                final UpstreamHost host = new UpstreamHost(HttpHost.create(address), outlierDetection, clock);
+                hosts.add(host);
+                metricsByHost.put(host, new HostMetrics(metricRegistry, name, upstreamName, host));
+            }
+            upstreamsByName.put(upstreamName.toLowerCase(Locale.ROOT), new Upstream(upstreamName,
+                Collections.unmodifiableList(hosts), configuration.getStrategy(), outlierDetection.getMaxEjectionPercent()));
+        }
+        this.upstreams = Collections.unmodifiableMap(upstreamsByName);
+        this.hostMetrics = Collections.unmodifiableMap(metricsByHost);
+    }
+
+    /**
+     * Returns the upstream with the given name, if it's configured.
+     */
+    @Nullable
+    public Upstream getUpstream(String name) {
+        return upstreams.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    protected CloseableHttpResponse doExecute(@Nullable HttpHost target, HttpRequest request,
+                                              @Nullable HttpContext context) throws IOException, ClientProtocolException {
+        final Upstream upstream = target == null ? null : getUpstream(target.getHostName());
+        if (target == null || upstream == null) {
+            return delegate.execute(target, request, context);
+        }
+
+        final UpstreamHost host = upstream.choose();
+        final HttpHost chosenTarget = new HttpHost(host.getHost().getHostName(), host.getHost().getPort(),
+            target.getSchemeName());
+        final HttpRequest rewritten = rewrite(request, chosenTarget);
+        final HostMetrics metrics = requireNonNull(hostMetrics.get(host));
+
+        host.onRequest();
+        metrics.requests.mark();
+        boolean responded = false;
+        boolean failure = true;
+        boolean rejected = false;
+        try {
+            // The host is busy with the request until its entity has been consumed
+            final CloseableHttpResponse response = PermitHoldingResponse.wrap(
+                delegate.execute(chosenTarget, rewritten, context), host::onCompleted);
+            responded = true;
+            failure = response.getStatusLine().getStatusCode() >= 500;
+            return response;
+        } catch (BulkheadFullException | CircuitBreakerOpenException e) {
+            // Rejected by this client before reaching the host, so it says nothing about the host's health
+            rejected = true;
+            throw e;
+        } finally {
+            if (!responded) {
+                host.onCompleted();
+            }
+            if (!rejected) {
+                if (failure) {
+                    metrics.failures.mark();
+                }
+                if (upstream.onResult(host, failure)) {
+                    metrics.ejections.mark();
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the request with its URI pointing to the chosen host. The copy shares the entity of the request,
+     * and aborting the original request aborts the copy.
+     */
+    private static HttpRequest rewrite(HttpRequest request, HttpHost chosenTarget) throws IOException {
+        if (request instanceof HttpRequestBase) {
+            final HttpRequestBase original = (HttpRequestBase) request;
+            if (original.isAborted()) {
+                throw new RequestAbortedException("Request aborted");
+            }
+            final HttpUriRequest copy = RequestBuilder.copy(original)
+                .setUri(rewriteUri(original.getURI(), chosenTarget))
+                .build();
+            original.setCancellable(() -> {
+                copy.abort();
+                return true;
+            });
+            return copy;
+        }
+        final HttpRequestWrapper wrapper = HttpRequestWrapper.wrap(request, chosenTarget);
+        wrapper.setURI(rewriteUri(wrapper.getURI(), chosenTarget));
+        return wrapper;
+    }
+
+    private static URI rewriteUri(URI uri, HttpHost chosenTarget) throws ClientProtocolException {
+        if (!uri.isAbsolute()) {
+            return uri;
+        }
+        try {
+            return URIUtils.rewriteURI(uri, chosenTarget);
+        } catch (URISyntaxException e) {
+            throw new ClientProtocolException("Invalid URI: " + uri, e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public HttpParams getParams() {
+        return delegate.getParams();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public ClientConnectionManager getConnectionManager() {
+        return delegate.getConnectionManager();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private static class HostMetrics {
+        private final Meter requests;
+        private final Meter failures;
+        private final Meter ejections;
+
+        private HostMetrics(MetricRegistry metricRegistry, String name, String upstream, UpstreamHost host) {
+            final String prefix = MetricRegistry.name(HttpClient.class, name, "load-balancer", upstream,
+                host.getHost().toHostString());
+            this.requests = metricRegistry.meter(MetricRegistry.name(prefix, "requests"));
+            this.failures = metricRegistry.meter(MetricRegistry.name(prefix, "failures"));
+            this.ejections = metricRegistry.meter(MetricRegistry.name(prefix, "ejections"));
+            register(metricRegistry, MetricRegistry.name(prefix, "outstanding-requests"),
+                (Gauge<Integer>) host::getOutstandingRequests);
+            register(metricRegistry, MetricRegistry.name(prefix, "ejected"),
+                (Gauge<Boolean>) host::isEjected);
+        }
+
+        private static void register(MetricRegistry metricRegistry, String metricName, Gauge<?> gauge) {
+            metricRegistry.remove(metricName);
+            metricRegistry.register(metricName, gauge);
+        }
+    }
+}
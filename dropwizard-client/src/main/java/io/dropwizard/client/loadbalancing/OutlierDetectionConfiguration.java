@@ -0,0 +1,162 @@
+package io.dropwizard.client.loadbalancing;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of the passive outlier detection of a load balancer, which stops sending requests to hosts
+ * failing too many of them. Requests failing with an I/O error or answered with a 5xx status count as
+ * failures.
+ * <p/>
+ * A host failing at least {@code failureRateThreshold} percent of at least {@code minimumNumberOfCalls}
+ * requests in an {@code interval} is ejected for {@code baseEjectionDuration}, multiplied by the number of
+ * times it has been ejected recently, up to {@code maxEjectionDuration}. At most {@code maxEjectionPercent}
+ * of the hosts of an upstream are ejected at the same time, and if no host is available, all of them are used.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code enabled}</td>
+ *         <td>true</td>
+ *         <td>Whether failing hosts are ejected.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code interval}</td>
+ *         <td>10 seconds</td>
+ *         <td>The period over which the requests and failures of a host are counted.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code failureRateThreshold}</td>
+ *         <td>50</td>
+ *         <td>The percentage of failed requests at which a host is ejected.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code minimumNumberOfCalls}</td>
+ *         <td>10</td>
+ *         <td>The number of requests to a host in an interval before its failure rate is evaluated.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code baseEjectionDuration}</td>
+ *         <td>30 seconds</td>
+ *         <td>How long a host is ejected the first time.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxEjectionDuration}</td>
+ *         <td>5 minutes</td>
+ *         <td>The maximum time a host is ejected.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxEjectionPercent}</td>
+ *         <td>50</td>
+ *         <td>The maximum percentage of the hosts of an upstream which may be ejected at the same time.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1.5
+ */
+public class OutlierDetectionConfiguration {
+    private boolean enabled = true;
+
+    @NotNull
+    @MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+    private Duration interval = Duration.seconds(10);
+
+    @Min(1)
+    @Max(100)
+    private int failureRateThreshold = 50;
+
+    @Min(1)
+    @Max(Integer.MAX_VALUE)
+    private int minimumNumberOfCalls = 10;
+
+    @NotNull
+    private Duration baseEjectionDuration = Duration.seconds(30);
+
+    @NotNull
+    private Duration maxEjectionDuration = Duration.minutes(5);
+
+    @Min(0)
+    @Max(100)
+    private int maxEjectionPercent = 50;
+
+    @JsonProperty
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @JsonProperty
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @JsonProperty
+    public Duration getInterval() {
+        return interval;
+    }
+
+    @JsonProperty
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    @JsonProperty
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    @JsonProperty
+    public void setFailureRateThreshold(int failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    @JsonProperty
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    @JsonProperty
+    public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+    }
+
+    @JsonProperty
+    public Duration getBaseEjectionDuration() {
+        return baseEjectionDuration;
+    }
+
+    @JsonProperty
+    public void setBaseEjectionDuration(Duration baseEjectionDuration) {
+        this.baseEjectionDuration = baseEjectionDuration;
+    }
+
+    @JsonProperty
+    public Duration getMaxEjectionDuration() {
+        return maxEjectionDuration;
+    }
+
+    @JsonProperty
+    public void setMaxEjectionDuration(Duration maxEjectionDuration) {
+        this.maxEjectionDuration = maxEjectionDuration;
+    }
+
+    @JsonProperty
+    public int getMaxEjectionPercent() {
+        return maxEjectionPercent;
+    }
+
+    @JsonProperty
+    public void setMaxEjectionPercent(int maxEjectionPercent) {
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+}
@@ -0,0 +1,100 @@
+package io.dropwizard.client.loadbalancing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The hosts of an upstream, of which one is chosen for each request.
+ *
+ * @since 2.1.5
+ */
+public class Upstream {
+    private final String name;
+    private final List<UpstreamHost> hosts;
+    private final LoadBalancerConfiguration.Strategy strategy;
+    private final int maxEjectionPercent;
+    private final AtomicInteger position = new AtomicInteger();
+
+    Upstream(String name, List<UpstreamHost> hosts, LoadBalancerConfiguration.Strategy strategy, int maxEjectionPercent) {
+        this.name = name;
+        this.hosts = hosts;
+        this.strategy = strategy;
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<UpstreamHost> getHosts() {
+        return hosts;
+    }
+
+    /**
+     * Chooses the host of a request among the hosts which aren't ejected, or among all hosts if all of
+     * them are ejected.
+     */
+    public UpstreamHost choose() {
+        final List<UpstreamHost> candidates = new ArrayList<>(hosts.size());
+        for (UpstreamHost host : hosts) {
+            if (!host.isEjected()) {
+                candidates.add(host);
+            }
+        }
+        if (candidates.isEmpty()) {
+            candidates.addAll(hosts);
+        }
+
+        final int size = candidates.size();
+        if (size == 1) {
+            return candidates.get(0);
+        }
+        switch (strategy) {
+            case ROUND_ROBIN:
+                return candidates.get(Math.floorMod(position.getAndIncrement(), size));
+            case LEAST_OUTSTANDING_REQUESTS:
+                // Start at a rotating position so ties don't always go to the same host
+                final int start = Math.floorMod(position.getAndIncrement(), size);
+                UpstreamHost least = candidates.get(start);
+                for (int i = 1; i < size; i++) {
+                    final UpstreamHost candidate = candidates.get((start + i) % size);
+                    if (candidate.getOutstandingRequests() < least.getOutstandingRequests()) {
+                        least = candidate;
+                    }
+                }
+                return least;
+            case POWER_OF_TWO_CHOICES:
+            default:
+                final ThreadLocalRandom random = ThreadLocalRandom.current();
+                final int first = random.nextInt(size);
+                int second = random.nextInt(size - 1);
+                if (second >= first) {
+                    second++;
+                }
+                final UpstreamHost a = candidates.get(first);
+                final UpstreamHost b = candidates.get(second);
+                return b.getOutstandingRequests() < a.getOutstandingRequests() ? b : a;
+        }
+    }
+
+    /**
+     * Records the outcome of a request to one of the hosts.
+     *
+     * @return whether the host has been ejected
+     */
+    synchronized boolean onResult(UpstreamHost host, boolean failure) {
+        return host.onResult(failure, mayEjectAnotherHost());
+    }
+
+    private boolean mayEjectAnotherHost() {
+        int ejected = 0;
+        for (UpstreamHost host : hosts) {
+            if (host.isEjected()) {
+                ejected++;
+            }
+        }
+        return (ejected + 1) * 100L <= maxEjectionPercent * (long) hosts.size();
+    }
+}
@@ -0,0 +1,106 @@
+package io.dropwizard.client.loadbalancing;
+
+import com.codahale.metrics.Clock;
+import org.apache.http.HttpHost;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A host of an upstream, tracking its requests in flight and whether it is ejected as an outlier.
+ *
+ * @since 2.1.5
+ */
+public class UpstreamHost {
+    private final HttpHost host;
+    private final OutlierDetectionConfiguration outlierDetection;
+    private final Clock clock;
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+
+    // Guarded by this
+    private long intervalStart;
+    private int calls;
+    private int failures;
+    private int ejections;
+    private long ejectedUntil;
+    private boolean ejected;
+
+    UpstreamHost(HttpHost host, OutlierDetectionConfiguration outlierDetection, Clock clock) {
+        this.host = host;
+        this.outlierDetection = outlierDetection;
+        this.clock = clock;
+        this.intervalStart = clock.getTick();
+    }
+
+    public HttpHost getHost() {
+        return host;
+    }
+
+    public int getOutstandingRequests() {
+        return outstandingRequests.get();
+    }
+
+    public synchronized boolean isEjected() {
+        if (ejected && clock.getTick() - ejectedUntil >= 0) {
+            ejected = false;
+            resetInterval(clock.getTick());
+        }
+        return ejected;
+    }
+
+    void onRequest() {
+        outstandingRequests.incrementAndGet();
+    }
+
+    /**
+     * Records that a request no longer occupies the host: it failed, was rejected by the client itself, or its
+     * response has been consumed or closed.
+     */
+    void onCompleted() {
+        outstandingRequests.decrementAndGet();
+    }
+
+    /**
+     * Records the outcome of a request, once its response has arrived or it failed. A request rejected by the
+     * client itself, e.g. by a bulkhead or an open circuit breaker, never reached the host and has no outcome.
+     *
+     * @param failure   whether the request failed
+     * @param mayEject  whether the host may be ejected, because not too many hosts of its upstream are ejected
+     * @return whether the host has been ejected
+     */
+    synchronized boolean onResult(boolean failure, boolean mayEject) {
+        if (!outlierDetection.isEnabled() || isEjected()) {
+            return false;
+        }
+
+        final long now = clock.getTick();
+        if (now - intervalStart >= outlierDetection.getInterval().toNanoseconds()) {
+            if (ejections > 0 && failures * 100L < outlierDetection.getFailureRateThreshold() * (long) calls) {
+                // A healthy interval makes the next ejection shorter
+                ejections--;
+            }
+            resetInterval(now);
+        }
+
+        calls++;
+        if (failure) {
+            failures++;
+        }
+        if (!mayEject || calls < outlierDetection.getMinimumNumberOfCalls()
+            || failures * 100L < outlierDetection.getFailureRateThreshold() * (long) calls) {
+            return false;
+        }
+
+        ejections++;
+        final long ejectionNanos = Math.min(outlierDetection.getMaxEjectionDuration().toNanoseconds(),
+            outlierDetection.getBaseEjectionDuration().toNanoseconds() * ejections);
+        ejected = true;
+        ejectedUntil = now + ejectionNanos;
+        return true;
+    }
+
+    private void resetInterval(long now) {
+        intervalStart = now;
+        calls = 0;
+        failures = 0;
+    }
+}
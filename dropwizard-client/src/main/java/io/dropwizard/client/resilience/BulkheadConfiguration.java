@@ -0,0 +1,64 @@
+package io.dropwizard.client.resilience;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Configuration of the bulkhead limiting the concurrent calls to each route of an HTTP client, so a
+ * slow dependency can't occupy the whole connection pool.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxConcurrentCallsPerRoute}</td>
+ *         <td>64</td>
+ *         <td>The maximum number of calls to a route awaiting their response at the same time.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxWaitDuration}</td>
+ *         <td>0 milliseconds</td>
+ *         <td>
+ *             How long a call waits for a free slot before it fails with a {@link BulkheadFullException}.
+ *         </td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1.5
+ */
+public class BulkheadConfiguration {
+    @Min(1)
+    @Max(Integer.MAX_VALUE)
+    private int maxConcurrentCallsPerRoute = 64;
+
+    @NotNull
+    private Duration maxWaitDuration = Duration.milliseconds(0);
+
+    @JsonProperty
+    public int getMaxConcurrentCallsPerRoute() {
+        return maxConcurrentCallsPerRoute;
+    }
+
+    @JsonProperty
+    public void setMaxConcurrentCallsPerRoute(int maxConcurrentCallsPerRoute) {
+        this.maxConcurrentCallsPerRoute = maxConcurrentCallsPerRoute;
+    }
+
+    @JsonProperty
+    public Duration getMaxWaitDuration() {
+        return maxWaitDuration;
+    }
+
+    @JsonProperty
+    public void setMaxWaitDuration(Duration maxWaitDuration) {
+        this.maxWaitDuration = maxWaitDuration;
+    }
+}
@@ -0,0 +1,16 @@
+package io.dropwizard.client.resilience;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of sending a request when the maximum number of concurrent calls to its route is reached.
+ *
+ * @since 2.1.5
+ */
+public class BulkheadFullException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    public BulkheadFullException(String route) {
+        super("The bulkhead for " + route + " is full");
+    }
+}
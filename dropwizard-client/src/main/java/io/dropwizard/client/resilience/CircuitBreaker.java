@@ -0,0 +1,143 @@
+package io.dropwizard.client.resilience;
+
+import com.codahale.metrics.Clock;
+
+/**
+ * A count-based circuit breaker, recording the outcome of the most recent calls in a ring buffer.
+ *
+ * @see CircuitBreakerConfiguration
+ * @since 2.1.5
+ */
+public class CircuitBreaker {
+    /**
+     * The states of a circuit breaker. The ordinal is reported by the {@code state} gauge.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureRateThreshold;
+    private final int minimumNumberOfCalls;
+    private final long waitDurationInOpenStateNanos;
+    private final int permittedCallsInHalfOpenState;
+    private final Clock clock;
+
+    private final boolean[] outcomes;
+    private int position;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenCalls;
+    private int halfOpenFailures;
+
+    public CircuitBreaker(CircuitBreakerConfiguration configuration) {
+        this(configuration, Clock.defaultClock());
+    }
+
+    public CircuitBreaker(CircuitBreakerConfiguration configuration, Clock clock) {
+        this.failureRateThreshold = configuration.getFailureRateThreshold();
+        this.minimumNumberOfCalls = Math.min(configuration.getMinimumNumberOfCalls(),
+            configuration.getSlidingWindowSize());
+        this.waitDurationInOpenStateNanos = configuration.getWaitDurationInOpenState().toNanoseconds();
+        this.permittedCallsInHalfOpenState = configuration.getPermittedCallsInHalfOpenState();
+        this.clock = clock;
+        this.outcomes = new boolean[configuration.getSlidingWindowSize()];
+    }
+
+    /**
+     * Returns whether a call may be made. Every permitted call must be followed by exactly one call to
+     * {@link #onResult(boolean)}.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (clock.getTick() - openedAtNanos < waitDurationInOpenStateNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= permittedCallsInHalfOpenState) {
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    /**
+     * Records the outcome of a permitted call.
+     *
+     * @param failure whether the call failed
+     */
+    public synchronized void onResult(boolean failure) {
+        switch (state) {
+            case CLOSED:
+                record(failure);
+                if (recordedCalls >= minimumNumberOfCalls && failedCalls * 100L >= failureRateThreshold * (long) recordedCalls) {
+                    transitionTo(State.OPEN);
+                }
+                break;
+            case HALF_OPEN:
+                halfOpenCalls++;
+                if (failure) {
+                    halfOpenFailures++;
+                }
+                if (halfOpenFailures * 100L >= failureRateThreshold * (long) permittedCallsInHalfOpenState) {
+                    transitionTo(State.OPEN);
+                } else if (halfOpenCalls >= permittedCallsInHalfOpenState) {
+                    transitionTo(State.CLOSED);
+                }
+                break;
+            case OPEN:
+            default:
+                // The call was permitted before the circuit opened, its outcome no longer matters
+                break;
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && clock.getTick() - openedAtNanos >= waitDurationInOpenStateNanos) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return state;
+    }
+
+    /**
+     * Returns the share of failed calls in the sliding window, between 0 and 1.
+     */
+    public synchronized double getFailureRate() {
+        return recordedCalls == 0 ? 0.0 : (double) failedCalls / recordedCalls;
+    }
+
+    private void record(boolean failure) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[position]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[position] = failure;
+        if (failure) {
+            failedCalls++;
+        }
+        position = (position + 1) % outcomes.length;
+    }
+
+    private void transitionTo(State newState) {
+        state = newState;
+        halfOpenPermits = 0;
+        halfOpenCalls = 0;
+        halfOpenFailures = 0;
+        if (newState == State.OPEN) {
+            openedAtNanos = clock.getTick();
+        } else if (newState == State.CLOSED) {
+            position = 0;
+            recordedCalls = 0;
+            failedCalls = 0;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.dropwizard.client.resilience;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of the circuit breaker guarding each route of an HTTP client.
+ * <p/>
+ * The circuit breaker records the outcome of the last {@code slidingWindowSize} calls to a route. Once
+ * at least {@code minimumNumberOfCalls} have been recorded and the share of failures reaches
+ * {@code failureRateThreshold}, the circuit opens and calls to the route fail immediately with a
+ * {@link CircuitBreakerOpenException}. After {@code waitDurationInOpenState} the circuit becomes
+ * half-open and lets {@code permittedCallsInHalfOpenState} trial calls through, which either close
+ * or open it again.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code failureRateThreshold}</td>
+ *         <td>50</td>
+ *         <td>The percentage of failed calls at which the circuit opens.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code slidingWindowSize}</td>
+ *         <td>100</td>
+ *         <td>The number of most recent calls the failure rate is computed from.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code minimumNumberOfCalls}</td>
+ *         <td>20</td>
+ *         <td>The number of calls which must be recorded before the failure rate is evaluated.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code waitDurationInOpenState}</td>
+ *         <td>10 seconds</td>
+ *         <td>How long the circuit stays open before trial calls are let through.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code permittedCallsInHalfOpenState}</td>
+ *         <td>5</td>
+ *         <td>The number of trial calls in the half-open state.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code serverErrorsAreFailures}</td>
+ *         <td>true</td>
+ *         <td>Whether responses with a 5xx status count as failures, in addition to I/O errors.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1.5
+ */
+public class CircuitBreakerConfiguration {
+    @Min(1)
+    @Max(100)
+    private int failureRateThreshold = 50;
+
+    @Min(1)
+    @Max(Integer.MAX_VALUE)
+    private int slidingWindowSize = 100;
+
+    @Min(1)
+    @Max(Integer.MAX_VALUE)
+    private int minimumNumberOfCalls = 20;
+
+    @NotNull
+    @MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+    private Duration waitDurationInOpenState = Duration.seconds(10);
+
+    @Min(1)
+    @Max(Integer.MAX_VALUE)
+    private int permittedCallsInHalfOpenState = 5;
+
+    private boolean serverErrorsAreFailures = true;
+
+    @JsonProperty
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    @JsonProperty
+    public void setFailureRateThreshold(int failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    @JsonProperty
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    @JsonProperty
+    public void setSlidingWindowSize(int slidingWindowSize) {
+        this.slidingWindowSize = slidingWindowSize;
+    }
+
+    @JsonProperty
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    @JsonProperty
+    public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+    }
+
+    @JsonProperty
+    public Duration getWaitDurationInOpenState() {
+        return waitDurationInOpenState;
+    }
+
+    @JsonProperty
+    public void setWaitDurationInOpenState(Duration waitDurationInOpenState) {
+        this.waitDurationInOpenState = waitDurationInOpenState;
+    }
+
+    @JsonProperty
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+    @JsonProperty
+    public void setPermittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+    }
+
+    @JsonProperty
+    public boolean isServerErrorsAreFailures() {
+        return serverErrorsAreFailures;
+    }
+
+    @JsonProperty
+    public void setServerErrorsAreFailures(boolean serverErrorsAreFailures) {
+        this.serverErrorsAreFailures = serverErrorsAreFailures;
+    }
+}
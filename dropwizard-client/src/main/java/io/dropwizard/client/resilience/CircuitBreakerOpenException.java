@@ -0,0 +1,16 @@
+package io.dropwizard.client.resilience;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of sending a request when the circuit breaker of its route is open.
+ *
+ * @since 2.1.5
+ */
+public class CircuitBreakerOpenException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    public CircuitBreakerOpenException(String route) {
+        super("The circuit breaker for " + route + " is open");
+    }
+}
@@ -0,0 +1,127 @@
+package io.dropwizard.client.resilience;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+
+import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+/**
+ * Configuration of request hedging: if an idempotent request to a route hasn't been answered once the
+ * {@code delayPercentile} of the route's latency has passed, a second copy of the request is sent and
+ * whichever response arrives first is used. The other request is aborted.
+ * <p/>
+ * Hedged requests add load to the route, so at most {@code maxConcurrentHedges} hedged requests are in flight at a
+ * time, and the hedged requests within each 10 second window may only add {@code maxHedgedRatio} of the requests
+ * made in it. Requests whose hedge would exceed either limit are not hedged.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code delayPercentile}</td>
+ *         <td>95.0</td>
+ *         <td>The latency percentile of the route after which the hedged request is sent.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code minimumDelay}</td>
+ *         <td>5 milliseconds</td>
+ *         <td>The minimum time to wait before sending the hedged request.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code minimumNumberOfCalls}</td>
+ *         <td>20</td>
+ *         <td>The number of calls to a route which must be measured before requests to it are hedged.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxConcurrentHedges}</td>
+ *         <td>16</td>
+ *         <td>The maximum number of hedged requests in flight at a time, which is also the number of threads
+ *         sending them.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxHedgedRatio}</td>
+ *         <td>0.1</td>
+ *         <td>The maximum number of hedged requests per request, on average.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1.5
+ */
+public class HedgingConfiguration {
+    @DecimalMin("50.0")
+    @DecimalMax("100.0")
+    private double delayPercentile = 95.0;
+
+    @NotNull
+    private Duration minimumDelay = Duration.milliseconds(5);
+
+    @Min(1)
+    @Max(Integer.MAX_VALUE)
+    private int minimumNumberOfCalls = 20;
+
+    @Min(1)
+    @Max(Integer.MAX_VALUE)
+    private int maxConcurrentHedges = 16;
+
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double maxHedgedRatio = 0.1;
+
+    @JsonProperty
+    public double getDelayPercentile() {
+        return delayPercentile;
+    }
+
+    @JsonProperty
+    public void setDelayPercentile(double delayPercentile) {
+        this.delayPercentile = delayPercentile;
+    }
+
+    @JsonProperty
+    public Duration getMinimumDelay() {
+        return minimumDelay;
+    }
+
+    @JsonProperty
+    public void setMinimumDelay(Duration minimumDelay) {
+        this.minimumDelay = minimumDelay;
+    }
+
+    @JsonProperty
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    @JsonProperty
+    public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+    }
+
+    @JsonProperty
+    public int getMaxConcurrentHedges() {
+        return maxConcurrentHedges;
+    }
+
+    @JsonProperty
+    public void setMaxConcurrentHedges(int maxConcurrentHedges) {
+        this.maxConcurrentHedges = maxConcurrentHedges;
+    }
+
+    @JsonProperty
+    public double getMaxHedgedRatio() {
+        return maxHedgedRatio;
+    }
+
+    @JsonProperty
+    public void setMaxHedgedRatio(double maxHedgedRatio) {
+        this.maxHedgedRatio = maxHedgedRatio;
+    }
+}
@@ -0,0 +1,375 @@
+package io.dropwizard.client.resilience;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import io.dropwizard.util.Duration;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link CloseableHttpClient} hedging idempotent requests: if a request hasn't been answered after the
+ * configured percentile of its route's latency, a copy of it is sent from a background thread and the
+ * first response is used, while the other request is aborted.
+ * <p>
+ * Only requests extending {@link HttpRequestBase}, which can be copied and aborted, are hedged. Each route
+ * reports the latency of its answered requests in the {@code hedging.latency} timer, and the hedged
+ * requests sent and answered first in the {@code hedging.issued} and {@code hedging.won} meters.
+ * </p>
+ * <p>
+ * Hedged requests are sent from a pool of {@link HedgingConfiguration#getMaxConcurrentHedges()} threads and are
+ * budgeted like the retries of a {@link RetryBudget}. A hedge exceeding either limit is skipped, which is reported
+ * in the {@code hedging.skipped} meter of the route.
+ * </p>
+ *
+ * @see HedgingConfiguration
+ * @since 2.1.5
+ */
+public class HedgingHttpClient extends CloseableHttpClient {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HedgingHttpClient.class);
+
+    private final CloseableHttpClient delegate;
+    private final MetricRegistry metricRegistry;
+    private final String name;
+    private final HedgingConfiguration configuration;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ThreadPoolExecutor hedgeExecutor;
+    private final Semaphore hedgePermits;
+    private final RetryBudget hedgeBudget;
+    private final ConcurrentMap<String, RouteStats> routeStats = new ConcurrentHashMap<>();
+
+    public HedgingHttpClient(CloseableHttpClient delegate,
+                             MetricRegistry metricRegistry,
+                             String name,
+                             HedgingConfiguration configuration) {
+        this.delegate = delegate;
+        this.metricRegistry = metricRegistry;
+        this.name = name;
+        this.configuration = configuration;
+        this.scheduler = new ScheduledThreadPoolExecutor(1, threadFactory(name + "-hedge-scheduler-%d"));
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        // The permits keep the number of queued hedges below the number of threads
+        final int maxConcurrentHedges = configuration.getMaxConcurrentHedges();
+        this.hedgeExecutor = new ThreadPoolExecutor(maxConcurrentHedges, maxConcurrentHedges, 1, TimeUnit.MINUTES,
+            new LinkedBlockingQueue<>(), threadFactory(name + "-hedge-%d"));
+        this.hedgeExecutor.allowCoreThreadTimeOut(true);
+        this.hedgePermits = new Semaphore(maxConcurrentHedges);
+
+        final RetryBudgetConfiguration budgetConfiguration = new RetryBudgetConfiguration();
+        budgetConfiguration.setBudgetRatio(configuration.getMaxHedgedRatio());
+        budgetConfiguration.setMinRetriesPerSecond(0);
+        budgetConfiguration.setBudgetWindow(Duration.seconds(10));
+        this.hedgeBudget = new RetryBudget(budgetConfiguration, Clock.defaultClock());
+    }
+
+    @Override
+    protected CloseableHttpResponse doExecute(@Nullable HttpHost target, HttpRequest request,
+                                              @Nullable HttpContext context) throws IOException, ClientProtocolException {
+        final RouteStats stats = routeStats.computeIfAbsent(Routes.name(target), this::createRouteStats);
+        final long delayNanos = hedgeDelayNanos(stats);
+        if (delayNanos < 0 || !(request instanceof HttpRequestBase) || !RetryingHttpClient.isRetryable(request)) {
+            return timedExecute(stats, target, request, context);
+        }
+
+        hedgeBudget.onRequest();
+        final HedgedCall call = new HedgedCall(stats, target, (HttpRequestBase) request, context);
+        call.scheduledHedge = scheduler.schedule(call::submitHedge, delayNanos, TimeUnit.NANOSECONDS);
+        final CloseableHttpResponse response;
+        try {
+            response = timedExecute(stats, target, request, context);
+        } catch (IOException | RuntimeException e) {
+            return call.onPrimaryFailure(e);
+        }
+        return call.onPrimaryResponse(response);
+    }
+
+    private long hedgeDelayNanos(RouteStats stats) {
+        if (stats.latency.getCount() < configuration.getMinimumNumberOfCalls()) {
+            return -1;
+        }
+        final double percentile = stats.latency.getSnapshot().getValue(configuration.getDelayPercentile() / 100.0);
+        return Math.max(configuration.getMinimumDelay().toNanoseconds(), (long) percentile);
+    }
+
+    private CloseableHttpResponse timedExecute(RouteStats stats, @Nullable HttpHost target, HttpRequest request,
+                                               @Nullable HttpContext context) throws IOException {
+        final long start = System.nanoTime();
+        final CloseableHttpResponse response = delegate.execute(target, request, context);
+        stats.latency.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return response;
+    }
+
+    private RouteStats createRouteStats(String route) {
+        return new RouteStats(
+            metricRegistry.timer(MetricRegistry.name(HttpClient.class, name, route, "hedging", "latency")),
+            metricRegistry.meter(MetricRegistry.name(HttpClient.class, name, route, "hedging", "issued")),
+            metricRegistry.meter(MetricRegistry.name(HttpClient.class, name, route, "hedging", "won")),
+            metricRegistry.meter(MetricRegistry.name(HttpClient.class, name, route, "hedging", "skipped")));
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public HttpParams getParams() {
+        return delegate.getParams();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public ClientConnectionManager getConnectionManager() {
+        return delegate.getConnectionManager();
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        hedgeExecutor.shutdownNow();
+        delegate.close();
+    }
+
+    private static ThreadFactory threadFactory(String nameFormat) {
+        final ThreadFactory defaultThreadFactory = Executors.defaultThreadFactory();
+        final AtomicInteger count = new AtomicInteger();
+        return r -> {
+            final Thread thread = defaultThreadFactory.newThread(r);
+            thread.setName(String.format(Locale.ROOT, nameFormat, count.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void closeQuietly(CloseableHttpResponse response) {
+        try {
+            response.close();
+        } catch (IOException e) {
+            LOGGER.debug("Unable to close the response of a discarded request", e);
+        }
+    }
+
+    private static class RouteStats {
+        private final Timer latency;
+        private final Meter issued;
+        private final Meter won;
+        private final Meter skipped;
+
+        private RouteStats(Timer latency, Meter issued, Meter won, Meter skipped) {
+            this.latency = latency;
+            this.issued = issued;
+            this.won = won;
+            this.skipped = skipped;
+        }
+    }
+
+    private enum Winner {
+        NONE, PRIMARY, HEDGE
+    }
+
+    /**
+     * The state shared between the thread sending a request and the thread sending its hedged copy.
+     */
+    private class HedgedCall {
+        private final RouteStats stats;
+        @Nullable
+        private final HttpHost target;
+        private final HttpRequestBase primary;
+        @Nullable
+        private final HttpContext context;
+        private final CompletableFuture<CloseableHttpResponse> hedgeResult = new CompletableFuture<>();
+
+        @Nullable
+        private volatile ScheduledFuture<?> scheduledHedge;
+
+        // Guarded by this
+        private Winner winner = Winner.NONE;
+        private boolean hedgeStarted;
+        private boolean primaryFailed;
+        @Nullable
+        private HttpRequestBase hedge;
+
+        private HedgedCall(RouteStats stats, @Nullable HttpHost target, HttpRequestBase primary,
+                           @Nullable HttpContext context) {
+            this.stats = stats;
+            this.target = target;
+            this.primary = primary;
+            this.context = context;
+        }
+
+        private void submitHedge() {
+            if (!hedgePermits.tryAcquire()) {
+                stats.skipped.mark();
+                return;
+            }
+            if (!hedgeBudget.tryAcquireRetry()) {
+                hedgePermits.release();
+                stats.skipped.mark();
+                return;
+            }
+            try {
+                hedgeExecutor.execute(() -> {
+                    try {
+                        sendHedge();
+                    } finally {
+                        hedgePermits.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                hedgePermits.release();
+                LOGGER.debug("Unable to send a hedged request, the client is closed", e);
+            }
+        }
+
+        private void sendHedge() {
+            final HttpRequestBase copy;
+            synchronized (this) {
+                if (winner != Winner.NONE || hedgeStarted) {
+                    return;
+                }
+                try {
+                    copy = (HttpRequestBase) primary.clone();
+                } catch (CloneNotSupportedException e) {
+                    LOGGER.debug("Unable to copy the request to hedge it", e);
+                    return;
+                }
+                hedge = copy;
+                hedgeStarted = true;
+            }
+
+            stats.issued.mark();
+            final CloseableHttpResponse response;
+            try {
+                // Attributes set by the hedged request must not leak into the caller's context
+                response = timedExecute(stats, target, copy, context == null ? null : new BasicHttpContext(context));
+            } catch (IOException | RuntimeException e) {
+                hedgeResult.completeExceptionally(e);
+                return;
+            }
+
+            final boolean won;
+            synchronized (this) {
+                won = winner == Winner.NONE;
+                if (won) {
+                    winner = Winner.HEDGE;
+                    if (!primaryFailed) {
+                        primary.abort();
+                    }
+                }
+            }
+            if (won) {
+                stats.won.mark();
+                hedgeResult.complete(response);
+            } else {
+                closeQuietly(response);
+                hedgeResult.cancel(false);
+            }
+        }
+
+        private CloseableHttpResponse onPrimaryResponse(CloseableHttpResponse response) throws IOException {
+            final boolean hedgeWon;
+            final HttpRequestBase hedgeToAbort;
+            synchronized (this) {
+                hedgeWon = winner == Winner.HEDGE;
+                if (hedgeWon) {
+                    primary.reset();
+                    hedgeToAbort = null;
+                } else {
+                    winner = Winner.PRIMARY;
+                    hedgeToAbort = hedge;
+                }
+            }
+            if (hedgeWon) {
+                closeQuietly(response);
+                return awaitHedge();
+            }
+            cancelScheduledHedge();
+            if (hedgeToAbort != null) {
+                hedgeToAbort.abort();
+            }
+            return response;
+        }
+
+        private CloseableHttpResponse onPrimaryFailure(Exception failure) throws IOException {
+            final boolean awaitHedge;
+            synchronized (this) {
+                if (winner == Winner.HEDGE) {
+                    primary.reset();
+                }
+                primaryFailed = true;
+                awaitHedge = hedgeStarted;
+                if (!awaitHedge) {
+                    winner = Winner.PRIMARY;
+                }
+            }
+            if (!awaitHedge) {
+                cancelScheduledHedge();
+                throw rethrow(failure);
+            }
+            try {
+                return awaitHedge();
+            } catch (IOException | RuntimeException e) {
+                failure.addSuppressed(e);
+                throw rethrow(failure);
+            }
+        }
+
+        private CloseableHttpResponse awaitHedge() throws IOException {
+            try {
+                return hedgeResult.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                final InterruptedIOException exception = new InterruptedIOException("Interrupted while awaiting a hedged request");
+                exception.initCause(e);
+                throw exception;
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+
+        private void cancelScheduledHedge() {
+            final ScheduledFuture<?> future = scheduledHedge;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+
+        private IOException rethrow(Exception failure) {
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            return (IOException) failure;
+        }
+    }
+}
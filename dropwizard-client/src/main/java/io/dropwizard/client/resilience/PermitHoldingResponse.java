@@ -0,0 +1,269 @@
+package io.dropwizard.client.resilience;
+
+import org.apache.http.Header;
+import org.apache.http.HeaderIterator;
+import org.apache.http.HttpEntity;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.StatusLine;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.conn.EofSensorInputStream;
+import org.apache.http.conn.EofSensorWatcher;
+import org.apache.http.entity.HttpEntityWrapper;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link CloseableHttpResponse} which holds a permit while its entity is streamed, and releases it once the
+ * entity has been read or aborted, or the response has been closed, whichever happens first.
+ *
+ * @since 2.1.5
+ */
+@SuppressWarnings("deprecation")
+public final class PermitHoldingResponse implements CloseableHttpResponse {
+    private final CloseableHttpResponse delegate;
+    private final Permit permit;
+
+    private PermitHoldingResponse(CloseableHttpResponse delegate, Permit permit) {
+        this.delegate = delegate;
+        this.permit = permit;
+    }
+
+    /**
+     * Makes the given response hold the permit until it has been consumed.
+     *
+     * @param response the response
+     * @param release  releases the permit; called exactly once
+     * @return the response holding the permit, or the given response, if it doesn't stream an entity, in which
+     * case the permit has already been released
+     */
+    public static CloseableHttpResponse wrap(CloseableHttpResponse response, Runnable release) {
+        final HttpEntity entity = response.getEntity();
+        if (entity == null || !entity.isStreaming()) {
+            release.run();
+            return response;
+        }
+        final Permit permit = new Permit(release);
+        response.setEntity(new PermitHoldingEntity(entity, permit));
+        return new PermitHoldingResponse(response, permit);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            delegate.close();
+        } finally {
+            permit.release();
+        }
+    }
+
+    @Override
+    public StatusLine getStatusLine() {
+        return delegate.getStatusLine();
+    }
+
+    @Override
+    public void setStatusLine(StatusLine statusline) {
+        delegate.setStatusLine(statusline);
+    }
+
+    @Override
+    public void setStatusLine(ProtocolVersion ver, int code) {
+        delegate.setStatusLine(ver, code);
+    }
+
+    @Override
+    public void setStatusLine(ProtocolVersion ver, int code, String reason) {
+        delegate.setStatusLine(ver, code, reason);
+    }
+
+    @Override
+    public void setStatusCode(int code) {
+        delegate.setStatusCode(code);
+    }
+
+    @Override
+    public void setReasonPhrase(String reason) {
+        delegate.setReasonPhrase(reason);
+    }
+
+    @Override
+    public HttpEntity getEntity() {
+        return delegate.getEntity();
+    }
+
+    @Override
+    public void setEntity(HttpEntity entity) {
+        delegate.setEntity(entity);
+    }
+
+    @Override
+    public Locale getLocale() {
+        return delegate.getLocale();
+    }
+
+    @Override
+    public void setLocale(Locale loc) {
+        delegate.setLocale(loc);
+    }
+
+    @Override
+    public ProtocolVersion getProtocolVersion() {
+        return delegate.getProtocolVersion();
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        return delegate.containsHeader(name);
+    }
+
+    @Override
+    public Header[] getHeaders(String name) {
+        return delegate.getHeaders(name);
+    }
+
+    @Override
+    public Header getFirstHeader(String name) {
+        return delegate.getFirstHeader(name);
+    }
+
+    @Override
+    public Header getLastHeader(String name) {
+        return delegate.getLastHeader(name);
+    }
+
+    @Override
+    public Header[] getAllHeaders() {
+        return delegate.getAllHeaders();
+    }
+
+    @Override
+    public void addHeader(Header header) {
+        delegate.addHeader(header);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        delegate.addHeader(name, value);
+    }
+
+    @Override
+    public void setHeader(Header header) {
+        delegate.setHeader(header);
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        delegate.setHeader(name, value);
+    }
+
+    @Override
+    public void setHeaders(Header[] headers) {
+        delegate.setHeaders(headers);
+    }
+
+    @Override
+    public void removeHeader(Header header) {
+        delegate.removeHeader(header);
+    }
+
+    @Override
+    public void removeHeaders(String name) {
+        delegate.removeHeaders(name);
+    }
+
+    @Override
+    public HeaderIterator headerIterator() {
+        return delegate.headerIterator();
+    }
+
+    @Override
+    public HeaderIterator headerIterator(String name) {
+        return delegate.headerIterator(name);
+    }
+
+    @Override
+    public org.apache.http.params.HttpParams getParams() {
+        return delegate.getParams();
+    }
+
+    @Override
+    public void setParams(org.apache.http.params.HttpParams params) {
+        delegate.setParams(params);
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    private static final class Permit {
+        private final Runnable release;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Runnable release) {
+            this.release = release;
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                release.run();
+            }
+        }
+    }
+
+    /**
+     * Releases the permit once the content of the wrapped entity has been read to the end, closed or aborted.
+     */
+    private static final class PermitHoldingEntity extends HttpEntityWrapper {
+        private final Permit permit;
+
+        private PermitHoldingEntity(HttpEntity wrappedEntity, Permit permit) {
+            super(wrappedEntity);
+            this.permit = permit;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            final InputStream content;
+            try {
+                content = super.getContent();
+            } catch (IOException | RuntimeException e) {
+                permit.release();
+                throw e;
+            }
+            return new EofSensorInputStream(content, new EofSensorWatcher() {
+                @Override
+                public boolean eofDetected(@Nullable InputStream wrapped) throws IOException {
+                    permit.release();
+                    return true;
+                }
+
+                @Override
+                public boolean streamClosed(@Nullable InputStream wrapped) throws IOException {
+                    permit.release();
+                    return true;
+                }
+
+                @Override
+                public boolean streamAbort(@Nullable InputStream wrapped) throws IOException {
+                    permit.release();
+                    return true;
+                }
+            });
+        }
+
+        @Override
+        public void writeTo(OutputStream outStream) throws IOException {
+            try {
+                super.writeTo(outStream);
+            } finally {
+                permit.release();
+            }
+        }
+    }
+}
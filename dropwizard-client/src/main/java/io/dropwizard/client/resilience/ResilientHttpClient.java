@@ -0,0 +1,223 @@
+package io.dropwizard.client.resilience;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link CloseableHttpClient} guarding every route of the wrapped client with a {@link CircuitBreaker}
+ * and a bulkhead limiting the concurrent calls to the route.
+ * <p>
+ * The following metrics are registered for each route, named after the client and the route's
+ * {@code host:port}:
+ * <ul>
+ * <li>{@code circuit-breaker.state}: the ordinal of the {@link CircuitBreaker.State}</li>
+ * <li>{@code circuit-breaker.failure-rate}: the share of failed calls in the sliding window</li>
+ * <li>{@code circuit-breaker.rejected}: the calls rejected because the circuit was open</li>
+ * <li>{@code bulkhead.available-permits}: the number of further calls which may be made concurrently</li>
+ * <li>{@code bulkhead.rejected}: the calls rejected because the bulkhead was full</li>
+ * </ul>
+ * </p>
+ * <p>
+ * A call holds its bulkhead permit until the entity of its response has been read or the response has been
+ * closed, since the connection stays busy until then.
+ * </p>
+ *
+ * @since 2.1.5
+ */
+public class ResilientHttpClient extends CloseableHttpClient {
+    private final CloseableHttpClient delegate;
+    private final MetricRegistry metricRegistry;
+    private final String name;
+    @Nullable
+    private final CircuitBreakerConfiguration circuitBreakerConfiguration;
+    @Nullable
+    private final BulkheadConfiguration bulkheadConfiguration;
+    private final Clock clock;
+    private final ConcurrentMap<String, RouteGuard> routeGuards = new ConcurrentHashMap<>();
+
+    public ResilientHttpClient(CloseableHttpClient delegate,
+                               MetricRegistry metricRegistry,
+                               String name,
+                               @Nullable CircuitBreakerConfiguration circuitBreakerConfiguration,
+                               @Nullable BulkheadConfiguration bulkheadConfiguration) {
+        this(delegate, metricRegistry, name, circuitBreakerConfiguration, bulkheadConfiguration, Clock.defaultClock());
+    }
+
+    ResilientHttpClient(CloseableHttpClient delegate,
+                        MetricRegistry metricRegistry,
+                        String name,
+                        @Nullable CircuitBreakerConfiguration circuitBreakerConfiguration,
+                        @Nullable BulkheadConfiguration bulkheadConfiguration,
+                        Clock clock) {
+        this.delegate = delegate;
+        this.metricRegistry = metricRegistry;
+        this.name = name;
+        this.circuitBreakerConfiguration = circuitBreakerConfiguration;
+        this.bulkheadConfiguration = bulkheadConfiguration;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the circuit breaker of the given route, if circuit breaking is configured and the route
+     * has been called.
+     *
+     * @param route the {@code host:port} of the route
+     */
+    @Nullable
+    public CircuitBreaker getCircuitBreaker(String route) {
+        final RouteGuard guard = routeGuards.get(route);
+        return guard == null ? null : guard.circuitBreaker;
+    }
+
+    @Override
+    protected CloseableHttpResponse doExecute(@Nullable HttpHost target, HttpRequest request,
+                                              @Nullable HttpContext context) throws IOException, ClientProtocolException {
+        final String route = Routes.name(target);
+        final RouteGuard guard = routeGuards.computeIfAbsent(route, this::createRouteGuard);
+
+        final Semaphore bulkhead = guard.bulkhead;
+        if (bulkhead != null && !acquire(bulkhead)) {
+            guard.bulkheadRejections.mark();
+            throw new BulkheadFullException(route);
+        }
+
+        boolean permitHandedOver = false;
+        try {
+            final CloseableHttpResponse response = executeWithCircuitBreaker(guard, route, target, request, context);
+            if (bulkhead == null) {
+                return response;
+            }
+            // The call occupies the route until its response has been consumed
+            final CloseableHttpResponse holdingResponse = PermitHoldingResponse.wrap(response, bulkhead::release);
+            permitHandedOver = true;
+            return holdingResponse;
+        } finally {
+            if (bulkhead != null && !permitHandedOver) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private CloseableHttpResponse executeWithCircuitBreaker(RouteGuard guard, String route, @Nullable HttpHost target,
+                                                            HttpRequest request, @Nullable HttpContext context)
+        throws IOException {
+        final CircuitBreaker circuitBreaker = guard.circuitBreaker;
+        if (circuitBreaker == null) {
+            return delegate.execute(target, request, context);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            guard.circuitBreakerRejections.mark();
+            throw new CircuitBreakerOpenException(route);
+        }
+
+        boolean failure = true;
+        try {
+            final CloseableHttpResponse response = delegate.execute(target, request, context);
+            failure = guard.serverErrorsAreFailures && response.getStatusLine().getStatusCode() >= 500;
+            return response;
+        } finally {
+            circuitBreaker.onResult(failure);
+        }
+    }
+
+    private boolean acquire(Semaphore bulkhead) throws InterruptedIOException {
+        final long maxWaitNanos = bulkheadConfiguration == null ? 0 : bulkheadConfiguration.getMaxWaitDuration().toNanoseconds();
+        if (maxWaitNanos == 0) {
+            return bulkhead.tryAcquire();
+        }
+        try {
+            return bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException exception = new InterruptedIOException("Interrupted while waiting for the bulkhead");
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+    private RouteGuard createRouteGuard(String route) {
+        final CircuitBreaker circuitBreaker = circuitBreakerConfiguration == null
+            ? null : new CircuitBreaker(circuitBreakerConfiguration, clock);
+        if (circuitBreaker != null) {
+            register(MetricRegistry.name(HttpClient.class, name, route, "circuit-breaker", "state"),
+                (Gauge<Integer>) () -> circuitBreaker.getState().ordinal());
+            register(MetricRegistry.name(HttpClient.class, name, route, "circuit-breaker", "failure-rate"),
+                (Gauge<Double>) circuitBreaker::getFailureRate);
+        }
+
+        final Semaphore bulkhead = bulkheadConfiguration == null
+            ? null : new Semaphore(bulkheadConfiguration.getMaxConcurrentCallsPerRoute());
+        if (bulkhead != null) {
+            register(MetricRegistry.name(HttpClient.class, name, route, "bulkhead", "available-permits"),
+                (Gauge<Integer>) bulkhead::availablePermits);
+        }
+
+        return new RouteGuard(circuitBreaker, bulkhead,
+            circuitBreakerConfiguration != null && circuitBreakerConfiguration.isServerErrorsAreFailures(),
+            metricRegistry.meter(MetricRegistry.name(HttpClient.class, name, route, "circuit-breaker", "rejected")),
+            metricRegistry.meter(MetricRegistry.name(HttpClient.class, name, route, "bulkhead", "rejected")));
+    }
+
+    private void register(String metricName, Gauge<?> gauge) {
+        metricRegistry.remove(metricName);
+        metricRegistry.register(metricName, gauge);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public HttpParams getParams() {
+        return delegate.getParams();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public ClientConnectionManager getConnectionManager() {
+        return delegate.getConnectionManager();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    private static class RouteGuard {
+        @Nullable
+        private final CircuitBreaker circuitBreaker;
+        @Nullable
+        private final Semaphore bulkhead;
+        private final boolean serverErrorsAreFailures;
+        private final Meter circuitBreakerRejections;
+        private final Meter bulkheadRejections;
+
+        private RouteGuard(@Nullable CircuitBreaker circuitBreaker,
+                           @Nullable Semaphore bulkhead,
+                           boolean serverErrorsAreFailures,
+                           Meter circuitBreakerRejections,
+                           Meter bulkheadRejections) {
+            this.circuitBreaker = circuitBreaker;
+            this.bulkhead = bulkhead;
+            this.serverErrorsAreFailures = serverErrorsAreFailures;
+            this.circuitBreakerRejections = circuitBreakerRejections;
+            this.bulkheadRejections = bulkheadRejections;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package io.dropwizard.client.resilience;
+
+import com.codahale.metrics.Clock;
+
+/**
+ * Limits the share of retries among the requests of a client, counting both in fixed time windows.
+ *
+ * @see RetryBudgetConfiguration
+ * @since 2.1.5
+ */
+public class RetryBudget {
+    private final double budgetRatio;
+    private final double reservedRetries;
+    private final long windowNanos;
+    private final Clock clock;
+
+    private long windowStart;
+    private long requests;
+    private long retries;
+
+    public RetryBudget(RetryBudgetConfiguration configuration, Clock clock) {
+        this.budgetRatio = configuration.getBudgetRatio();
+        this.windowNanos = configuration.getBudgetWindow().toNanoseconds();
+        this.reservedRetries = configuration.getMinRetriesPerSecond() * (windowNanos / 1e9);
+        this.clock = clock;
+        this.windowStart = clock.getTick();
+    }
+
+    /**
+     * Records a request, which adds {@code budgetRatio} retries to the budget.
+     */
+    public synchronized void onRequest() {
+        roll();
+        requests++;
+    }
+
+    /**
+     * Withdraws a retry from the budget.
+     *
+     * @return whether the budget allowed the retry
+     */
+    public synchronized boolean tryAcquireRetry() {
+        roll();
+        if (retries + 1 > reservedRetries + budgetRatio * requests) {
+            return false;
+        }
+        retries++;
+        return true;
+    }
+
+    private void roll() {
+        final long now = clock.getTick();
+        if (now - windowStart >= windowNanos) {
+            windowStart = now;
+            requests = 0;
+            retries = 0;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package io.dropwizard.client.resilience;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+
+import javax.validation.constraints.DecimalMin;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration of budgeted retries of idempotent requests.
+ * <p/>
+ * Requests failing with an I/O error other than a timeout, or answered with one of the
+ * {@code retryableStatusCodes}, are retried after a randomized exponential backoff: the n-th retry waits
+ * for a random duration between zero and {@code initialBackoff * 2^(n-1)}, capped at {@code maxBackoff}.
+ * To keep retries from amplifying an outage, the retries within each {@code budgetWindow} may only add
+ * {@code budgetRatio} of the requests made in it, plus {@code minRetriesPerSecond}.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxRetries}</td>
+ *         <td>3</td>
+ *         <td>The maximum number of retries of a single request.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code budgetRatio}</td>
+ *         <td>0.1</td>
+ *         <td>The number of retries allowed per request, on average.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code minRetriesPerSecond}</td>
+ *         <td>10</td>
+ *         <td>The number of retries per second allowed regardless of the number of requests.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code budgetWindow}</td>
+ *         <td>10 seconds</td>
+ *         <td>The period over which requests and retries are counted.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code initialBackoff}</td>
+ *         <td>25 milliseconds</td>
+ *         <td>The maximum backoff before the first retry.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxBackoff}</td>
+ *         <td>1 second</td>
+ *         <td>The upper bound of the backoff before any retry.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code retryableStatusCodes}</td>
+ *         <td>502, 503, 504</td>
+ *         <td>The response status codes on which requests are retried.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1.5
+ */
+public class RetryBudgetConfiguration {
+    @Min(0)
+    @Max(1000)
+    private int maxRetries = 3;
+
+    @DecimalMin("0.0")
+    private double budgetRatio = 0.1;
+
+    @Min(0)
+    @Max(Integer.MAX_VALUE)
+    private int minRetriesPerSecond = 10;
+
+    @NotNull
+    @MinDuration(value = 1, unit = TimeUnit.SECONDS)
+    private Duration budgetWindow = Duration.seconds(10);
+
+    @NotNull
+    private Duration initialBackoff = Duration.milliseconds(25);
+
+    @NotNull
+    private Duration maxBackoff = Duration.seconds(1);
+
+    @NotNull
+    private Set<Integer> retryableStatusCodes = new HashSet<>(Arrays.asList(502, 503, 504));
+
+    @JsonProperty
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    @JsonProperty
+    public void setMaxRetries(int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    @JsonProperty
+    public double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    @JsonProperty
+    public void setBudgetRatio(double budgetRatio) {
+        this.budgetRatio = budgetRatio;
+    }
+
+    @JsonProperty
+    public int getMinRetriesPerSecond() {
+        return minRetriesPerSecond;
+    }
+
+    @JsonProperty
+    public void setMinRetriesPerSecond(int minRetriesPerSecond) {
+        this.minRetriesPerSecond = minRetriesPerSecond;
+    }
+
+    @JsonProperty
+    public Duration getBudgetWindow() {
+        return budgetWindow;
+    }
+
+    @JsonProperty
+    public void setBudgetWindow(Duration budgetWindow) {
+        this.budgetWindow = budgetWindow;
+    }
+
+    @JsonProperty
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    @JsonProperty
+    public void setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+    }
+
+    @JsonProperty
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    @JsonProperty
+    public void setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+    }
+
+    @JsonProperty
+    public Set<Integer> getRetryableStatusCodes() {
+        return retryableStatusCodes;
+    }
+
+    @JsonProperty
+    public void setRetryableStatusCodes(Set<Integer> retryableStatusCodes) {
+        this.retryableStatusCodes = retryableStatusCodes;
+    }
+}
@@ -0,0 +1,163 @@
+package io.dropwizard.client.resilience;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+
+import javax.annotation.Nullable;
+import javax.net.ssl.SSLException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link CloseableHttpClient} retrying idempotent requests after failures, within a {@link RetryBudget}
+ * and with randomized exponential backoff.
+ * <p>
+ * Timeouts and other {@link InterruptedIOException}s, unknown hosts, TLS errors and requests rejected by a
+ * circuit breaker or bulkhead are not retried: a retry would be unlikely to succeed, or would only add to
+ * the latency of the call. The retries and the retries denied by the budget are reported in the
+ * {@code retries} and {@code retry-budget-exhausted} meters of the client.
+ * </p>
+ *
+ * @see RetryBudgetConfiguration
+ * @since 2.1.5
+ */
+public class RetryingHttpClient extends CloseableHttpClient {
+    private static final Set<String> IDEMPOTENT_METHODS = new HashSet<>(
+        Arrays.asList("GET", "HEAD", "OPTIONS", "TRACE", "PUT", "DELETE"));
+
+    private final CloseableHttpClient delegate;
+    private final RetryBudgetConfiguration configuration;
+    private final RetryBudget budget;
+    private final Meter retries;
+    private final Meter budgetExhausted;
+
+    public RetryingHttpClient(CloseableHttpClient delegate,
+                              MetricRegistry metricRegistry,
+                              String name,
+                              RetryBudgetConfiguration configuration) {
+        this(delegate, metricRegistry, name, configuration, Clock.defaultClock());
+    }
+
+    RetryingHttpClient(CloseableHttpClient delegate,
+                       MetricRegistry metricRegistry,
+                       String name,
+                       RetryBudgetConfiguration configuration,
+                       Clock clock) {
+        this.delegate = delegate;
+        this.configuration = configuration;
+        this.budget = new RetryBudget(configuration, clock);
+        this.retries = metricRegistry.meter(MetricRegistry.name(HttpClient.class, name, "retries"));
+        this.budgetExhausted = metricRegistry.meter(MetricRegistry.name(HttpClient.class, name, "retry-budget-exhausted"));
+    }
+
+    @Override
+    protected CloseableHttpResponse doExecute(@Nullable HttpHost target, HttpRequest request,
+                                              @Nullable HttpContext context) throws IOException, ClientProtocolException {
+        budget.onRequest();
+        final boolean retryable = isRetryable(request);
+        for (int attempt = 0; ; attempt++) {
+            final boolean mayRetry = retryable && attempt < configuration.getMaxRetries();
+            try {
+                final CloseableHttpResponse response = delegate.execute(target, request, context);
+                if (!mayRetry
+                    || !configuration.getRetryableStatusCodes().contains(response.getStatusLine().getStatusCode())
+                    || !acquireRetry()) {
+                    return response;
+                }
+                EntityUtils.consumeQuietly(response.getEntity());
+                response.close();
+            } catch (IOException e) {
+                if (!mayRetry || !isRetryable(e) || !acquireRetry()) {
+                    throw e;
+                }
+            }
+            retries.mark();
+            backOff(attempt);
+            if (request instanceof HttpRequestBase) {
+                ((HttpRequestBase) request).reset();
+            }
+        }
+    }
+
+    private boolean acquireRetry() {
+        if (budget.tryAcquireRetry()) {
+            return true;
+        }
+        budgetExhausted.mark();
+        return false;
+    }
+
+    private void backOff(int attempt) throws InterruptedIOException {
+        final long maxBackoffNanos = configuration.getMaxBackoff().toNanoseconds();
+        final long backoffNanos = attempt >= 62 ? maxBackoffNanos
+            : Math.min(maxBackoffNanos, configuration.getInitialBackoff().toNanoseconds() << attempt);
+        if (backoffNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(backoffNanos + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final InterruptedIOException exception = new InterruptedIOException("Interrupted while backing off");
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+    static boolean isRetryable(HttpRequest request) {
+        if (!IDEMPOTENT_METHODS.contains(request.getRequestLine().getMethod().toUpperCase(Locale.ROOT))) {
+            return false;
+        }
+        if (request instanceof HttpEntityEnclosingRequest) {
+            final HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+            return entity == null || entity.isRepeatable();
+        }
+        return true;
+    }
+
+    private static boolean isRetryable(IOException e) {
+        return !(e instanceof InterruptedIOException
+            || e instanceof UnknownHostException
+            || e instanceof SSLException
+            || e instanceof CircuitBreakerOpenException
+            || e instanceof BulkheadFullException);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public HttpParams getParams() {
+        return delegate.getParams();
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public ClientConnectionManager getConnectionManager() {
+        return delegate.getConnectionManager();
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+}
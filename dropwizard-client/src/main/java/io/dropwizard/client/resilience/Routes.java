@@ -0,0 +1,19 @@
+package io.dropwizard.client.resilience;
+
+import org.apache.http.HttpHost;
+
+import javax.annotation.Nullable;
+
+final class Routes {
+    private static final String DEFAULT_ROUTE = "default";
+
+    private Routes() {
+    }
+
+    /**
+     * Returns the name of the route to the given target, used as key for per-route state and in metric names.
+     */
+    static String name(@Nullable HttpHost target) {
+        return target == null ? DEFAULT_ROUTE : target.toHostString();
+    }
+}
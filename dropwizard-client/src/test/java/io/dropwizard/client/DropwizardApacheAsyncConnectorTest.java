@@ -0,0 +1,231 @@
+package io.dropwizard.client;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.health.HealthCheck;
+import io.dropwizard.Application;
+import io.dropwizard.Configuration;
+import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.testing.junit5.DropwizardAppExtension;
+import io.dropwizard.testing.junit5.DropwizardExtensionsSupport;
+import io.dropwizard.util.DataSize;
+import io.dropwizard.util.Duration;
+import org.apache.http.ContentTooLongException;
+import org.eclipse.jetty.util.component.LifeCycle;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.JerseyClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.client.ClientResponseFilter;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.client.Invocation;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@ExtendWith(DropwizardExtensionsSupport.class)
+class DropwizardApacheAsyncConnectorTest {
+
+    private static final int SLEEP_TIME_IN_MILLIS = 1000;
+    private static final int DEFAULT_READ_TIMEOUT_IN_MILLIS = 500;
+
+    private static final DropwizardAppExtension<Configuration> APP_RULE = new DropwizardAppExtension<>(
+            TestApplication.class,
+            "yaml/dropwizardApacheConnectorTest.yml",
+            new ResourceConfigurationSourceProvider());
+
+    private final URI testUri = URI.create("http://localhost:" + APP_RULE.getLocalPort());
+
+    private JerseyClient client;
+    private Environment environment;
+
+    @BeforeEach
+    void setup() throws Exception {
+        JerseyClientConfiguration clientConfiguration = new JerseyClientConfiguration();
+        clientConfiguration.setAsyncConnectorEnabled(true);
+        clientConfiguration.setMinThreads(1);
+        clientConfiguration.setMaxThreads(1);
+        clientConfiguration.setTimeout(Duration.milliseconds(DEFAULT_READ_TIMEOUT_IN_MILLIS));
+
+        environment = new Environment("test-dropwizard-apache-async-connector");
+        client = (JerseyClient) new JerseyClientBuilder(environment)
+                .using(clientConfiguration)
+                .build("test");
+        for (LifeCycle lifeCycle : environment.lifecycle().getManagedObjects()) {
+            lifeCycle.start();
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (LifeCycle lifeCycle : environment.lifecycle().getManagedObjects()) {
+            lifeCycle.stop();
+        }
+        assertThat(client.isClosed()).isTrue();
+    }
+
+    @Test
+    void uses_the_async_connector() {
+        assertThat(client.target(testUri + "/echo").request().post(Entity.text("connector"), String.class))
+            .isEqualTo("connector");
+        assertThat(client.getConfiguration().getConnector())
+            .isInstanceOf(DropwizardApacheAsyncConnector.class);
+    }
+
+    @Test
+    void closes_the_async_client_with_the_jersey_client_without_an_environment() {
+        final JerseyClientConfiguration clientConfiguration = new JerseyClientConfiguration();
+        clientConfiguration.setAsyncConnectorEnabled(true);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final JerseyClient standaloneClient = (JerseyClient) new JerseyClientBuilder(new MetricRegistry())
+                    .using(clientConfiguration)
+                    .using(executor, Jackson.newObjectMapper())
+                    .build("standalone");
+            assertThat(standaloneClient.target(testUri + "/echo").request().post(Entity.text("standalone"), String.class))
+                .isEqualTo("standalone");
+            final DropwizardApacheAsyncConnector connector =
+                (DropwizardApacheAsyncConnector) standaloneClient.getConfiguration().getConnector();
+            assertThat(connector.getClient().isRunning()).isTrue();
+
+            standaloneClient.close();
+            assertThat(connector.getClient().isRunning()).isFalse();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void async_requests_do_not_occupy_the_client_threads() throws Exception {
+        final List<Future<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            responses.add(client.target(testUri + "/long_running")
+                .property(ClientProperties.READ_TIMEOUT, SLEEP_TIME_IN_MILLIS * 2)
+                .request()
+                .async()
+                .get(String.class));
+        }
+
+        // With a single client thread blocking requests would take four times as long
+        final long start = System.nanoTime();
+        for (Future<String> response : responses) {
+            assertThat(response.get(SLEEP_TIME_IN_MILLIS * 3L, TimeUnit.MILLISECONDS)).isEqualTo("success");
+        }
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(SLEEP_TIME_IN_MILLIS * 3L);
+    }
+
+    @Test
+    void completes_async_requests_on_the_client_threads() throws Exception {
+        final AtomicReference<String> filterThread = new AtomicReference<>();
+        client.register((ClientResponseFilter) (requestContext, responseContext) ->
+            filterThread.set(Thread.currentThread().getName()));
+
+        assertThat(client.target(testUri + "/echo")
+                .request()
+                .async()
+                .post(Entity.text("async"), String.class)
+                .get(SLEEP_TIME_IN_MILLIS, TimeUnit.MILLISECONDS))
+            .isEqualTo("async");
+        assertThat(filterThread.get()).startsWith("jersey-client-test-");
+    }
+
+    @Test
+    void fails_responses_exceeding_the_max_buffered_response_size() throws Exception {
+        JerseyClientConfiguration clientConfiguration = new JerseyClientConfiguration();
+        clientConfiguration.setAsyncConnectorEnabled(true);
+        clientConfiguration.setMaxBufferedResponseSize(DataSize.bytes(4));
+
+        Environment smallEnvironment = new Environment("test-dropwizard-apache-async-connector-small");
+        JerseyClient smallClient = (JerseyClient) new JerseyClientBuilder(smallEnvironment)
+                .using(clientConfiguration)
+                .build("small");
+        for (LifeCycle lifeCycle : smallEnvironment.lifecycle().getManagedObjects()) {
+            lifeCycle.start();
+        }
+        try {
+            Invocation.Builder request = smallClient.target(testUri + "/echo").request();
+            assertThat(request.post(Entity.text("tiny"), String.class)).isEqualTo("tiny");
+            assertThatExceptionOfType(ProcessingException.class)
+                .isThrownBy(() -> request.post(Entity.text("too large"), String.class))
+                .withCauseInstanceOf(ContentTooLongException.class);
+        } finally {
+            for (LifeCycle lifeCycle : smallEnvironment.lifecycle().getManagedObjects()) {
+                lifeCycle.stop();
+            }
+        }
+    }
+
+    @Test
+    void sends_buffered_request_entities() {
+        assertThat(client.target(testUri + "/echo")
+                .request()
+                .post(Entity.text("hello"), String.class))
+            .isEqualTo("hello");
+    }
+
+    @Test
+    void when_no_read_timeout_override_then_client_request_times_out() {
+        Invocation.Builder request = client.target(testUri + "/long_running").request();
+        assertThatExceptionOfType(ProcessingException.class)
+            .isThrownBy(request::get)
+            .withCauseInstanceOf(SocketTimeoutException.class);
+    }
+
+    @Test
+    void registers_the_connection_pool_metrics() {
+        assertThat(client.target(testUri + "/echo").request().post(Entity.text("metrics"), String.class))
+            .isEqualTo("metrics");
+        assertThat(environment.metrics().getGauges().keySet())
+            .contains("org.apache.http.nio.conn.NHttpClientConnectionManager.test.available-connections",
+                "org.apache.http.nio.conn.NHttpClientConnectionManager.test.leased-connections",
+                "org.apache.http.nio.conn.NHttpClientConnectionManager.test.max-connections",
+                "org.apache.http.nio.conn.NHttpClientConnectionManager.test.pending-connections");
+    }
+
+    @Path("/")
+    public static class TestResource {
+
+        @GET
+        @Path("/long_running")
+        public String getWithSleep() throws InterruptedException {
+            TimeUnit.MILLISECONDS.sleep(SLEEP_TIME_IN_MILLIS);
+            return "success";
+        }
+
+        @POST
+        @Path("/echo")
+        public String echo(String body) {
+            return body;
+        }
+    }
+
+    public static class TestApplication extends Application<Configuration> {
+        @Override
+        public void run(Configuration configuration, Environment environment) {
+            environment.jersey().register(TestResource.class);
+            environment.healthChecks().register("dummy", new HealthCheck() {
+                @Override
+                protected Result check() {
+                    return Result.healthy();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.dropwizard.client;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.Application;
+import io.dropwizard.Configuration;
+import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
+import io.dropwizard.setup.Environment;
+import io.dropwizard.testing.junit5.DropwizardAppExtension;
+import io.dropwizard.testing.junit5.DropwizardExtensionsSupport;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.util.FutureResponseListener;
+import org.eclipse.jetty.http.HttpVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(DropwizardExtensionsSupport.class)
+class Http2ClientBuilderTest {
+    private static final DropwizardAppExtension<Configuration> APP_RULE = new DropwizardAppExtension<>(
+            TestApplication.class,
+            "yaml/http2ClientBuilderTest.yml",
+            new ResourceConfigurationSourceProvider());
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final Http2ClientConfiguration configuration = new Http2ClientConfiguration();
+
+    private HttpClient client;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (client != null) {
+            client.stop();
+        }
+    }
+
+    @Test
+    void requestsAreSentOverHttp2() throws Exception {
+        client = new Http2ClientBuilder(metricRegistry).name("test-environment").using(configuration).build("test");
+
+        final ContentResponse response = client.GET(uri("/agent"));
+
+        assertThat(response.getVersion()).isEqualTo(HttpVersion.HTTP_2);
+        assertThat(response.getContentAsString()).isEqualTo("test-environment (test)");
+    }
+
+    @Test
+    void multiplexesRequestsOverTheConfiguredNumberOfConnections() throws Exception {
+        configuration.setMaxConnectionsPerRoute(1);
+        configuration.setMaxConcurrentStreamsPerConnection(4);
+        client = new Http2ClientBuilder(metricRegistry).using(configuration).build("test");
+
+        final List<FutureResponseListener> responses = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            final Request request = client.newRequest(uri("/agent"));
+            final FutureResponseListener listener = new FutureResponseListener(request);
+            request.send(listener);
+            responses.add(listener);
+        }
+        for (FutureResponseListener response : responses) {
+            assertThat(response.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        }
+
+        final String prefix = "org.eclipse.jetty.client.HttpClient.test.localhost:" + APP_RULE.getLocalPort() + ".";
+        assertThat(gauge(prefix + "connections")).isEqualTo(1);
+        assertThat(gauge(prefix + "max-connections")).isEqualTo(1);
+        assertThat(gauge(prefix + "max-concurrent-streams")).isEqualTo(4);
+        assertThat(gauge(prefix + "queued-requests")).isZero();
+    }
+
+    @Test
+    void usesTheConfiguredUserAgent() throws Exception {
+        configuration.setUserAgent(Optional.of("custom"));
+        client = new Http2ClientBuilder(metricRegistry).using(configuration).build("test");
+
+        assertThat(client.GET(uri("/agent")).getContentAsString()).isEqualTo("custom");
+    }
+
+    private Object gauge(String name) {
+        final Gauge<?> gauge = metricRegistry.getGauges().get(name);
+        assertThat(gauge).as(name).isNotNull();
+        return gauge.getValue();
+    }
+
+    private static String uri(String path) {
+        return "http://localhost:" + APP_RULE.getLocalPort() + path;
+    }
+
+    @Path("/")
+    public static class TestResource {
+        @GET
+        @Path("/agent")
+        public String agent(@HeaderParam("User-Agent") String userAgent) {
+            return userAgent;
+        }
+    }
+
+    public static class TestApplication extends Application<Configuration> {
+        @Override
+        public void run(Configuration configuration, Environment environment) {
+            environment.jersey().register(TestResource.class);
+        }
+    }
+}
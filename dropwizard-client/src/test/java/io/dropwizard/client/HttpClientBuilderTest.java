@@ -3,12 +3,14 @@ package io.dropwizard.client;
 import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.httpclient.HttpClientMetricNameStrategies;
 import com.codahale.metrics.httpclient.InstrumentedHttpClientConnectionManager;
+import io.dropwizard.client.cache.HttpCacheConfiguration;
 import io.dropwizard.client.proxy.AuthConfiguration;
 import io.dropwizard.client.proxy.ProxyConfiguration;
 import io.dropwizard.client.ssl.TlsConfiguration;
 import io.dropwizard.lifecycle.Managed;
 import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
 import io.dropwizard.setup.Environment;
+import io.dropwizard.util.DataSize;
 import io.dropwizard.util.Duration;
 import org.apache.http.Header;
 import org.apache.http.HeaderIterator;
@@ -41,6 +43,8 @@ import org.apache.http.impl.DefaultConnectionReuseStrategy;
 import org.apache.http.impl.NoConnectionReuseStrategy;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.cache.CacheConfig;
+import org.apache.http.impl.client.cache.CachingHttpClientBuilder;
 import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.SystemDefaultDnsResolver;
 import org.apache.http.impl.conn.SystemDefaultRoutePlanner;
@@ -168,6 +172,30 @@ class HttpClientBuilderTest {
         verify(connectionManager).setDefaultMaxPerRoute(413);
     }
 
+    @Test
+    void usesAPlainBuilderWithoutACache() {
+        assertThat(builder.using(configuration).createBuilder())
+            .isNotInstanceOf(CachingHttpClientBuilder.class);
+    }
+
+    @Test
+    void usesACachingBuilderIfACacheIsConfigured() {
+        final HttpCacheConfiguration cacheConfiguration = new HttpCacheConfiguration();
+        cacheConfiguration.setMaxCacheEntries(42);
+        cacheConfiguration.setMaxObjectSize(DataSize.kibibytes(64));
+        cacheConfiguration.setSharedCache(false);
+        configuration.setCacheConfiguration(cacheConfiguration);
+
+        assertThat(builder.using(configuration).createBuilder())
+            .isInstanceOf(CachingHttpClientBuilder.class)
+            .extracting("cacheConfig")
+            .isInstanceOfSatisfying(CacheConfig.class, cacheConfig -> {
+                assertThat(cacheConfig.getMaxCacheEntries()).isEqualTo(42);
+                assertThat(cacheConfig.getMaxObjectSize()).isEqualTo(64 * 1024L);
+                assertThat(cacheConfig.isSharedCache()).isFalse();
+            });
+    }
+
     @Test
     void setsTheUserAgent() {
         configuration.setUserAgent(Optional.of("qwerty"));
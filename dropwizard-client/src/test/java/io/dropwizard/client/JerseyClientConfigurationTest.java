@@ -1,9 +1,11 @@
 package io.dropwizard.client;
 
+import io.dropwizard.client.resilience.CircuitBreakerConfiguration;
 import io.dropwizard.configuration.ResourceConfigurationSourceProvider;
 import io.dropwizard.configuration.YamlConfigurationFactory;
 import io.dropwizard.jackson.Jackson;
 import io.dropwizard.jersey.validation.Validators;
+import io.dropwizard.util.DataSize;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,5 +23,19 @@ class JerseyClientConfigurationTest {
         assertThat(configuration.isGzipEnabled()).isFalse();
         assertThat(configuration.isGzipEnabledForRequests()).isFalse();
         assertThat(configuration.isChunkedEncodingEnabled()).isFalse();
+        assertThat(configuration.isAsyncConnectorEnabled()).isTrue();
+        assertThat(configuration.getMaxBufferedResponseSize()).isEqualTo(DataSize.mebibytes(1));
+    }
+
+    @Test
+    void asyncConnectorDoesNotSupportTheResilienceSettings() {
+        final JerseyClientConfiguration configuration = new JerseyClientConfiguration();
+        configuration.setAsyncConnectorEnabled(true);
+        assertThat(Validators.newValidator().validate(configuration)).isEmpty();
+
+        configuration.setCircuitBreakerConfiguration(new CircuitBreakerConfiguration());
+        assertThat(Validators.newValidator().validate(configuration))
+            .singleElement()
+            .satisfies(violation -> assertThat(violation.getMessage()).contains("circuitBreaker"));
     }
 }
@@ -20,7 +20,9 @@ import javax.ws.rs.client.Client;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.InetSocketAddress;
@@ -112,6 +114,56 @@ class JerseyClientIntegrationTest {
         postRequest(configuration);
     }
 
+    @Test
+    void testBufferedLargePost() throws Exception {
+        final byte[] body = new byte[1024 * 1024 + 17];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) i;
+        }
+        httpServer.createContext("/upload", httpExchange -> {
+            try {
+                Headers requestHeaders = httpExchange.getRequestHeaders();
+                assertThat(requestHeaders.get(HttpHeaders.CONTENT_LENGTH)).containsExactly(String.valueOf(body.length));
+                assertThat(requestHeaders.get(TRANSFER_ENCODING)).isNull();
+
+                final ByteArrayOutputStream received = new ByteArrayOutputStream();
+                final byte[] chunk = new byte[8192];
+                final InputStream requestBody = httpExchange.getRequestBody();
+                int read;
+                while ((read = requestBody.read(chunk)) != -1) {
+                    received.write(chunk, 0, read);
+                }
+                assertThat(received.toByteArray()).isEqualTo(body);
+
+                httpExchange.sendResponseHeaders(204, -1);
+            } finally {
+                httpExchange.close();
+            }
+        });
+        httpServer.start();
+
+        JerseyClientConfiguration configuration = new JerseyClientConfiguration();
+        configuration.setChunkedEncodingEnabled(false);
+        configuration.setGzipEnabledForRequests(false);
+        configuration.setTimeout(Duration.seconds(10));
+        configuration.setConnectionTimeout(Duration.seconds(10));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Client jersey = new JerseyClientBuilder(new MetricRegistry())
+                .using(executor, JSON_MAPPER)
+                .using(configuration)
+                .build("jersey-test");
+        WebTarget target = jersey.target("http://127.0.0.1:" + httpServer.getAddress().getPort() + "/upload");
+        // The second request starts from the size learned from the first one
+        for (int i = 0; i < 2; i++) {
+            assertThat(target.request().post(Entity.entity(body, MediaType.APPLICATION_OCTET_STREAM)).getStatus())
+                    .isEqualTo(204);
+        }
+
+        executor.shutdown();
+        jersey.close();
+    }
+
     @Test
     void testChunkedPost() throws Exception {
         httpServer.createContext("/register", httpExchange -> {
@@ -0,0 +1,68 @@
+package io.dropwizard.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class PooledByteArrayOutputStreamTest {
+    private final BufferPool pool = new BufferPool(2);
+
+    @Test
+    void roundsBuffersUpToTheirSizeClass() {
+        assertThat(pool.acquire(1)).hasSize(512);
+        assertThat(pool.acquire(513)).hasSize(1024);
+        assertThat(pool.acquire(4096)).hasSize(4096);
+        assertThat(pool.acquire(BufferPool.MAX_POOLED_BUFFER_SIZE + 1)).hasSize(BufferPool.MAX_POOLED_BUFFER_SIZE + 1);
+    }
+
+    @Test
+    void reusesReleasedBuffers() {
+        final byte[] buffer = pool.acquire(2000);
+        pool.release(buffer);
+
+        assertThat(pool.acquire(1500)).isSameAs(buffer);
+        assertThat(pool.acquire(1500)).isNotSameAs(buffer);
+    }
+
+    @Test
+    void doesNotPoolBuffersOutsideTheSizeClasses() {
+        final byte[] large = pool.acquire(BufferPool.MAX_POOLED_BUFFER_SIZE * 2);
+        pool.release(large);
+        final byte[] odd = new byte[1000];
+        pool.release(odd);
+
+        assertThat(pool.acquire(BufferPool.MAX_POOLED_BUFFER_SIZE * 2)).isNotSameAs(large);
+        assertThat(pool.acquire(1000)).isNotSameAs(odd);
+    }
+
+    @Test
+    void growsAndWritesTheBufferedBytes() throws Exception {
+        final PooledByteArrayOutputStream stream = new PooledByteArrayOutputStream(pool, 512);
+        final byte[] bytes = new byte[3000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        stream.write(bytes, 0, 1000);
+        stream.write(bytes[1000]);
+        stream.write(bytes, 1001, 1999);
+
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        stream.writeTo(target);
+
+        assertThat(stream.size()).isEqualTo(3000);
+        assertThat(target.toByteArray()).isEqualTo(bytes);
+    }
+
+    @Test
+    void returnsTheBufferToThePoolOnRelease() {
+        final PooledByteArrayOutputStream stream = new PooledByteArrayOutputStream(pool, 100);
+        stream.write(42);
+        stream.release();
+
+        assertThatIllegalStateException().isThrownBy(() -> stream.writeTo(new ByteArrayOutputStream()));
+        assertThat(pool.acquire(512)[0]).isEqualTo((byte) 42);
+    }
+}
@@ -0,0 +1,47 @@
+package io.dropwizard.client.cache;
+
+import com.codahale.metrics.MetricRegistry;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.cache.CacheResponseStatus;
+import org.apache.http.client.cache.HttpCacheContext;
+import org.apache.http.message.BasicHttpResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheMetricsInterceptorTest {
+    private static final String PREFIX = "org.apache.http.client.HttpClient.test.cache.";
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final CacheMetricsInterceptor interceptor = new CacheMetricsInterceptor(metricRegistry, "test");
+    private final HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+
+    @Test
+    void countsTheCacheResponseStatuses() {
+        process(CacheResponseStatus.CACHE_HIT);
+        process(CacheResponseStatus.CACHE_HIT);
+        process(CacheResponseStatus.CACHE_MISS);
+        process(CacheResponseStatus.VALIDATED);
+        process(CacheResponseStatus.CACHE_MODULE_RESPONSE);
+
+        assertThat(metricRegistry.meter(PREFIX + "hits").getCount()).isEqualTo(2);
+        assertThat(metricRegistry.meter(PREFIX + "misses").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.meter(PREFIX + "validations").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.meter(PREFIX + "module-responses").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void ignoresRequestsWhichBypassedTheCache() {
+        interceptor.process(response, HttpCacheContext.create());
+
+        assertThat(metricRegistry.getMeters().values())
+            .allSatisfy(meter -> assertThat(meter.getCount()).isZero());
+    }
+
+    private void process(CacheResponseStatus status) {
+        final HttpCacheContext context = HttpCacheContext.create();
+        context.setAttribute(HttpCacheContext.CACHE_RESPONSE_STATUS, status);
+        interceptor.process(response, context);
+    }
+}
@@ -0,0 +1,277 @@
+package io.dropwizard.client.loadbalancing;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.client.resilience.BulkheadFullException;
+import io.dropwizard.util.Duration;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LoadBalancingHttpClientTest {
+    private static final String PREFIX = "org.apache.http.client.HttpClient.test.load-balancer.users.";
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final CloseableHttpClient delegate = mock(CloseableHttpClient.class);
+    private final LoadBalancerConfiguration configuration = new LoadBalancerConfiguration();
+    private final List<String> requestedUris = Collections.synchronizedList(new ArrayList<>());
+    private final CloseableHttpResponse ok = response(200);
+    private long tick;
+    private final Clock clock = new Clock() {
+        @Override
+        public long getTick() {
+            return tick;
+        }
+    };
+
+    @BeforeEach
+    void setUp() throws Exception {
+        configuration.setUpstreams(Collections.singletonMap("users",
+            Arrays.asList("users-1.internal:8080", "users-2.internal:8080", "users-3.internal:8080")));
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenAnswer(invocation -> {
+                final HttpHost target = invocation.getArgument(0);
+                final HttpUriRequest request = invocation.getArgument(1);
+                assertThat(request.getURI().getHost()).isEqualTo(target.getHostName());
+                requestedUris.add(request.getURI().toString());
+                return ok;
+            });
+    }
+
+    @Test
+    void distributesRequestsRoundRobin() throws Exception {
+        configuration.setStrategy(LoadBalancerConfiguration.Strategy.ROUND_ROBIN);
+        final LoadBalancingHttpClient client = client();
+
+        for (int i = 0; i < 6; i++) {
+            client.execute(new HttpGet("http://users/api/users?id=" + i));
+        }
+
+        assertThat(requestedUris).containsExactly(
+            "http://users-1.internal:8080/api/users?id=0",
+            "http://users-2.internal:8080/api/users?id=1",
+            "http://users-3.internal:8080/api/users?id=2",
+            "http://users-1.internal:8080/api/users?id=3",
+            "http://users-2.internal:8080/api/users?id=4",
+            "http://users-3.internal:8080/api/users?id=5");
+        assertThat(metricRegistry.meter(PREFIX + "users-1.internal:8080.requests").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void keepsTheSchemeAndPathOfTheRequest() throws Exception {
+        client().execute(new HttpGet("https://users/api/users/%C3%A9?q=a%20b"));
+
+        assertThat(requestedUris).hasSize(1);
+        assertThat(requestedUris.get(0)).matches("https://users-\\d\\.internal:8080/api/users/%C3%A9\\?q=a%20b");
+    }
+
+    @Test
+    void keepsTheEntityOfTheRequest() throws Exception {
+        final HttpPost post = new HttpPost("http://users/api/users");
+        final InputStreamEntity entity = new InputStreamEntity(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+        post.setEntity(entity);
+        final ArgumentCaptor<HttpRequest> captor = ArgumentCaptor.forClass(HttpRequest.class);
+
+        client().execute(post);
+
+        verify(delegate).execute(any(HttpHost.class), captor.capture(), nullable(HttpContext.class));
+        assertThat(captor.getValue())
+            .isInstanceOfSatisfying(HttpEntityEnclosingRequest.class, request ->
+                assertThat(request.getEntity()).isSameAs(entity));
+    }
+
+    @Test
+    void abortingTheRequestAbortsTheCopy() throws Exception {
+        final HttpGet get = new HttpGet("http://users/");
+        final ArgumentCaptor<HttpRequest> captor = ArgumentCaptor.forClass(HttpRequest.class);
+        client().execute(get);
+        verify(delegate).execute(any(HttpHost.class), captor.capture(), nullable(HttpContext.class));
+
+        get.abort();
+
+        assertThat(captor.getValue())
+            .isInstanceOfSatisfying(HttpUriRequest.class, request -> assertThat(request.isAborted()).isTrue());
+    }
+
+    @Test
+    void sendsOtherRequestsUnchanged() throws Exception {
+        client().execute(new HttpGet("http://example.com/"));
+
+        assertThat(requestedUris).containsExactly("http://example.com/");
+    }
+
+    @Test
+    void prefersHostsWithFewerOutstandingRequests() {
+        configuration.setStrategy(LoadBalancerConfiguration.Strategy.LEAST_OUTSTANDING_REQUESTS);
+        final Upstream upstream = requireNonNull(client().getUpstream("users"));
+        final UpstreamHost busy = upstream.getHosts().get(0);
+        final UpstreamHost idle = upstream.getHosts().get(1);
+        busy.onRequest();
+        upstream.getHosts().get(2).onRequest();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(upstream.choose()).isSameAs(idle);
+        }
+    }
+
+    @Test
+    void powerOfTwoChoicesNeverPicksTheBusiestHost() {
+        final Upstream upstream = requireNonNull(client().getUpstream("users"));
+        final UpstreamHost busiest = upstream.getHosts().get(0);
+        busiest.onRequest();
+        busiest.onRequest();
+        upstream.getHosts().get(1).onRequest();
+
+        final Set<UpstreamHost> chosen = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            chosen.add(upstream.choose());
+        }
+        assertThat(chosen).doesNotContain(busiest).isNotEmpty();
+    }
+
+    @Test
+    void ejectsFailingHosts() throws Exception {
+        configuration.setStrategy(LoadBalancerConfiguration.Strategy.ROUND_ROBIN);
+        configuration.getOutlierDetection().setMinimumNumberOfCalls(2);
+        configuration.getOutlierDetection().setBaseEjectionDuration(Duration.seconds(30));
+        when(delegate.execute(eq(new HttpHost("users-1.internal", 8080, "http")), any(HttpRequest.class),
+            nullable(HttpContext.class))).thenThrow(new IOException("connection refused"));
+        final LoadBalancingHttpClient client = client();
+
+        for (int i = 0; i < 6; i++) {
+            try {
+                client.execute(new HttpGet("http://users/"));
+            } catch (IOException e) {
+                assertThat(e).hasMessage("connection refused");
+            }
+        }
+        final UpstreamHost failing = requireNonNull(client.getUpstream("users")).getHosts().get(0);
+        assertThat(failing.isEjected()).isTrue();
+        assertThat(metricRegistry.meter(PREFIX + "users-1.internal:8080.ejections").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.getGauges().get(PREFIX + "users-1.internal:8080.ejected").getValue()).isEqualTo(true);
+
+        requestedUris.clear();
+        for (int i = 0; i < 4; i++) {
+            client.execute(new HttpGet("http://users/"));
+        }
+        assertThat(requestedUris).noneMatch(uri -> uri.contains("users-1"));
+
+        tick += TimeUnit.SECONDS.toNanos(30);
+        assertThat(failing.isEjected()).isFalse();
+    }
+
+    @Test
+    void doesNotCountLocalRejectionsAsHostFailures() throws Exception {
+        configuration.getOutlierDetection().setMinimumNumberOfCalls(1);
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenThrow(new BulkheadFullException("users-1.internal:8080"));
+        final LoadBalancingHttpClient client = client();
+
+        for (int i = 0; i < 6; i++) {
+            assertThatExceptionOfType(BulkheadFullException.class)
+                .isThrownBy(() -> client.execute(new HttpGet("http://users/")));
+        }
+
+        for (UpstreamHost host : requireNonNull(client.getUpstream("users")).getHosts()) {
+            assertThat(host.isEjected()).isFalse();
+            assertThat(host.getOutstandingRequests()).isZero();
+        }
+        assertThat(metricRegistry.meter(PREFIX + "users-1.internal:8080.failures").getCount()).isZero();
+    }
+
+    @Test
+    void keepsRequestsOutstandingUntilTheResponseIsConsumed() throws Exception {
+        configuration.setUpstreams(Collections.singletonMap("users", Collections.singletonList("users-1.internal:8080")));
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenAnswer(invocation -> streamingResponse("body"));
+        final LoadBalancingHttpClient client = client();
+        final UpstreamHost host = requireNonNull(client.getUpstream("users")).getHosts().get(0);
+
+        final CloseableHttpResponse read = client.execute(new HttpGet("http://users/"));
+        final CloseableHttpResponse closed = client.execute(new HttpGet("http://users/"));
+        assertThat(host.getOutstandingRequests()).isEqualTo(2);
+
+        assertThat(EntityUtils.toString(read.getEntity())).isEqualTo("body");
+        assertThat(host.getOutstandingRequests()).isEqualTo(1);
+
+        closed.close();
+        closed.close();
+        assertThat(host.getOutstandingRequests()).isZero();
+    }
+
+    @Test
+    void neverEjectsMoreThanTheMaximumShareOfHosts() throws Exception {
+        configuration.getOutlierDetection().setMinimumNumberOfCalls(1);
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenThrow(new IOException("connection refused"));
+        final LoadBalancingHttpClient client = client();
+
+        for (int i = 0; i < 20; i++) {
+            assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> client.execute(new HttpGet("http://users/")));
+        }
+
+        assertThat(requireNonNull(client.getUpstream("users")).getHosts())
+            .filteredOn(UpstreamHost::isEjected)
+            .hasSize(1);
+    }
+
+    private LoadBalancingHttpClient client() {
+        return new LoadBalancingHttpClient(delegate, metricRegistry, "test", configuration, clock);
+    }
+
+    private static CloseableHttpResponse streamingResponse(String body) {
+        final BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.setEntity(new InputStreamEntity(new ByteArrayInputStream(body.getBytes(UTF_8))));
+        final CloseableHttpResponse closeable = mock(CloseableHttpResponse.class);
+        when(closeable.getStatusLine()).thenReturn(response.getStatusLine());
+        when(closeable.getEntity()).thenAnswer(invocation -> response.getEntity());
+        doAnswer(invocation -> {
+            response.setEntity(invocation.getArgument(0));
+            return null;
+        }).when(closeable).setEntity(any());
+        return closeable;
+    }
+
+    private static CloseableHttpResponse response(int status) {
+        final CloseableHttpResponse response = mock(CloseableHttpResponse.class);
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(HttpVersion.HTTP_1_1, status, "reason"));
+        return response;
+    }
+}
@@ -0,0 +1,123 @@
+package io.dropwizard.client.resilience;
+
+import com.codahale.metrics.Clock;
+import io.dropwizard.util.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+    private final ManualClock clock = new ManualClock();
+    private final CircuitBreakerConfiguration configuration = new CircuitBreakerConfiguration();
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        configuration.setFailureRateThreshold(50);
+        configuration.setSlidingWindowSize(10);
+        configuration.setMinimumNumberOfCalls(4);
+        configuration.setWaitDurationInOpenState(Duration.seconds(5));
+        configuration.setPermittedCallsInHalfOpenState(2);
+        circuitBreaker = new CircuitBreaker(configuration, clock);
+    }
+
+    @Test
+    void staysClosedUntilTheMinimumNumberOfCallsIsRecorded() {
+        call(true);
+        call(true);
+        call(true);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    void opensWhenTheFailureRateReachesTheThreshold() {
+        call(false);
+        call(false);
+        call(true);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        call(true);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void onlyConsidersTheSlidingWindow() {
+        for (int i = 0; i < 4; i++) {
+            call(false);
+            call(false);
+            call(true);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(0.4);
+    }
+
+    @Test
+    void becomesHalfOpenAfterTheWaitDuration() {
+        open();
+
+        clock.advance(4, TimeUnit.SECONDS);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        clock.advance(1, TimeUnit.SECONDS);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    void closesWhenTheTrialCallsSucceed() {
+        open();
+        clock.advance(5, TimeUnit.SECONDS);
+
+        call(false);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        call(false);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isZero();
+    }
+
+    @Test
+    void opensAgainWhenTheTrialCallsFail() {
+        open();
+        clock.advance(5, TimeUnit.SECONDS);
+
+        call(true);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean failure) {
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        circuitBreaker.onResult(failure);
+    }
+
+    private static class ManualClock extends Clock {
+        private long tick;
+
+        void advance(long duration, TimeUnit unit) {
+            tick += unit.toNanos(duration);
+        }
+
+        @Override
+        public long getTick() {
+            return tick;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.dropwizard.client.resilience;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.util.Duration;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.execchain.RequestAbortedException;
+import org.apache.http.message.BasicStatusLine;
+import org.apache.http.protocol.HttpContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HedgingHttpClientTest {
+    private static final String PREFIX = "org.apache.http.client.HttpClient.test.example.com:8080.hedging.";
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final CloseableHttpClient delegate = mock(CloseableHttpClient.class);
+    private final CloseableHttpResponse warmUp = response();
+    private final CloseableHttpResponse slow = response();
+    private final CloseableHttpResponse fast = response();
+    private final HedgingConfiguration configuration = new HedgingConfiguration();
+    private final HedgingHttpClient client;
+
+    HedgingHttpClientTest() {
+        configuration.setMinimumNumberOfCalls(1);
+        configuration.setMinimumDelay(Duration.milliseconds(10));
+        configuration.setMaxHedgedRatio(1.0);
+        client = new HedgingHttpClient(delegate, metricRegistry, "test", configuration);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+    }
+
+    @Test
+    void usesTheHedgedResponseIfTheRequestIsSlow() throws Exception {
+        final HttpGet slowRequest = new HttpGet("http://example.com:8080/");
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenReturn(warmUp)
+            .thenAnswer(invocation -> {
+                final HttpRequest request = invocation.getArgument(1);
+                if (request != slowRequest) {
+                    return fast;
+                }
+                final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (!slowRequest.isAborted() && System.nanoTime() < deadline) {
+                    Thread.sleep(1);
+                }
+                if (slowRequest.isAborted()) {
+                    throw new RequestAbortedException("aborted");
+                }
+                return slow;
+            });
+
+        assertThat(client.execute(new HttpGet("http://example.com:8080/"))).isSameAs(warmUp);
+        assertThat(client.execute(slowRequest)).isSameAs(fast);
+
+        assertThat(slowRequest.isAborted()).isFalse();
+        assertThat(metricRegistry.meter(PREFIX + "issued").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.meter(PREFIX + "won").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void skipsHedgesExceedingTheBudget() throws Exception {
+        final HedgingHttpClient unbudgeted = new HedgingHttpClient(delegate, metricRegistry, "test", budget(0.0));
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenReturn(warmUp)
+            .thenAnswer(invocation -> {
+                Thread.sleep(100);
+                return slow;
+            });
+
+        try {
+            unbudgeted.execute(new HttpGet("http://example.com:8080/"));
+            assertThat(unbudgeted.execute(new HttpGet("http://example.com:8080/"))).isSameAs(slow);
+        } finally {
+            unbudgeted.close();
+        }
+
+        verify(delegate, times(2)).execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class));
+        assertThat(metricRegistry.meter(PREFIX + "issued").getCount()).isZero();
+        assertThat(metricRegistry.meter(PREFIX + "skipped").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotHedgeRequestsAnsweredInTime() throws Exception {
+        configuration.setMinimumDelay(Duration.seconds(5));
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenReturn(warmUp);
+
+        client.execute(new HttpGet("http://example.com:8080/"));
+        client.execute(new HttpGet("http://example.com:8080/"));
+
+        verify(delegate, times(2)).execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class));
+        assertThat(metricRegistry.meter(PREFIX + "issued").getCount()).isZero();
+        assertThat(metricRegistry.timer(PREFIX + "latency").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotHedgeNonIdempotentRequests() throws Exception {
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenReturn(warmUp)
+            .thenAnswer(invocation -> {
+                Thread.sleep(100);
+                return slow;
+            });
+
+        client.execute(new HttpPost("http://example.com:8080/"));
+        assertThat(client.execute(new HttpPost("http://example.com:8080/"))).isSameAs(slow);
+
+        assertThat(metricRegistry.meter(PREFIX + "issued").getCount()).isZero();
+    }
+
+    private static HedgingConfiguration budget(double maxHedgedRatio) {
+        final HedgingConfiguration configuration = new HedgingConfiguration();
+        configuration.setMinimumNumberOfCalls(1);
+        configuration.setMinimumDelay(Duration.milliseconds(10));
+        configuration.setMaxHedgedRatio(maxHedgedRatio);
+        return configuration;
+    }
+
+    private static CloseableHttpResponse response() {
+        final CloseableHttpResponse response = mock(CloseableHttpResponse.class);
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(HttpVersion.HTTP_1_1, 200, "OK"));
+        return response;
+    }
+}
@@ -0,0 +1,176 @@
+package io.dropwizard.client.resilience;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.entity.InputStreamEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResilientHttpClientTest {
+    private static final String PREFIX = "org.apache.http.client.HttpClient.test.example.com:8080.";
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final CloseableHttpClient delegate = mock(CloseableHttpClient.class);
+
+    @Test
+    void opensTheCircuitAfterServerErrors() throws Exception {
+        final CircuitBreakerConfiguration circuitBreaker = new CircuitBreakerConfiguration();
+        circuitBreaker.setSlidingWindowSize(2);
+        circuitBreaker.setMinimumNumberOfCalls(2);
+        final CloseableHttpResponse serverError = response(503);
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenReturn(serverError);
+
+        final ResilientHttpClient client = new ResilientHttpClient(delegate, metricRegistry, "test", circuitBreaker, null);
+        assertThat(client.execute(new HttpGet("http://example.com:8080/"))).isSameAs(serverError);
+        assertThat(client.execute(new HttpGet("http://example.com:8080/"))).isSameAs(serverError);
+
+        assertThatExceptionOfType(CircuitBreakerOpenException.class)
+            .isThrownBy(() -> client.execute(new HttpGet("http://example.com:8080/")));
+        verify(delegate, times(2)).execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class));
+        assertThat(metricRegistry.getGauges().get(PREFIX + "circuit-breaker.state").getValue())
+            .isEqualTo(CircuitBreaker.State.OPEN.ordinal());
+        assertThat(metricRegistry.meter(PREFIX + "circuit-breaker.rejected").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void countsIoErrorsAsFailures() throws Exception {
+        final CircuitBreakerConfiguration circuitBreaker = new CircuitBreakerConfiguration();
+        circuitBreaker.setSlidingWindowSize(1);
+        circuitBreaker.setMinimumNumberOfCalls(1);
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenThrow(new IOException("connection refused"));
+
+        final ResilientHttpClient client = new ResilientHttpClient(delegate, metricRegistry, "test", circuitBreaker, null);
+        assertThatExceptionOfType(IOException.class)
+            .isThrownBy(() -> client.execute(new HttpGet("http://example.com:8080/")))
+            .withMessage("connection refused");
+
+        assertThatExceptionOfType(CircuitBreakerOpenException.class)
+            .isThrownBy(() -> client.execute(new HttpGet("http://example.com:8080/")));
+    }
+
+    @Test
+    void ignoresServerErrorsIfConfigured() throws Exception {
+        final CircuitBreakerConfiguration circuitBreaker = new CircuitBreakerConfiguration();
+        circuitBreaker.setSlidingWindowSize(1);
+        circuitBreaker.setMinimumNumberOfCalls(1);
+        circuitBreaker.setServerErrorsAreFailures(false);
+        final CloseableHttpResponse serverError = response(500);
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenReturn(serverError);
+
+        final ResilientHttpClient client = new ResilientHttpClient(delegate, metricRegistry, "test", circuitBreaker, null);
+        client.execute(new HttpGet("http://example.com:8080/"));
+
+        assertThat(client.execute(new HttpGet("http://example.com:8080/"))).isSameAs(serverError);
+    }
+
+    @Test
+    void rejectsCallsWhenTheBulkheadIsFull() throws Exception {
+        final BulkheadConfiguration bulkhead = new BulkheadConfiguration();
+        bulkhead.setMaxConcurrentCallsPerRoute(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch finish = new CountDownLatch(1);
+        final CloseableHttpResponse ok = response(200);
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenAnswer(invocation -> {
+                started.countDown();
+                finish.await(5, TimeUnit.SECONDS);
+                return ok;
+            });
+
+        final ResilientHttpClient client = new ResilientHttpClient(delegate, metricRegistry, "test", null, bulkhead);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<CloseableHttpResponse> pending = executor.submit(() -> client.execute(new HttpGet("http://example.com:8080/")));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThatExceptionOfType(BulkheadFullException.class)
+                .isThrownBy(() -> client.execute(new HttpGet("http://example.com:8080/")));
+            assertThat(metricRegistry.meter(PREFIX + "bulkhead.rejected").getCount()).isEqualTo(1);
+
+            finish.countDown();
+            assertThat(pending.get(5, TimeUnit.SECONDS)).isSameAs(ok);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final Gauge<?> availablePermits = metricRegistry.getGauges().get(PREFIX + "bulkhead.available-permits");
+        assertThat(availablePermits.getValue()).isEqualTo(1);
+        assertThat(client.execute(new HttpGet("http://example.com:8080/"))).isSameAs(ok);
+    }
+
+    @Test
+    void holdsTheBulkheadPermitUntilTheResponseIsConsumed() throws Exception {
+        final BulkheadConfiguration bulkhead = new BulkheadConfiguration();
+        bulkhead.setMaxConcurrentCallsPerRoute(1);
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenAnswer(invocation -> streamingResponse("body"));
+
+        final ResilientHttpClient client = new ResilientHttpClient(delegate, metricRegistry, "test", null, bulkhead);
+        final CloseableHttpResponse read = client.execute(new HttpGet("http://example.com:8080/"));
+        assertThatExceptionOfType(BulkheadFullException.class)
+            .isThrownBy(() -> client.execute(new HttpGet("http://example.com:8080/")));
+
+        assertThat(EntityUtils.toString(read.getEntity())).isEqualTo("body");
+        final CloseableHttpResponse closed = client.execute(new HttpGet("http://example.com:8080/"));
+        assertThat(availablePermits()).isEqualTo(0);
+
+        closed.close();
+        closed.close();
+        assertThat(availablePermits()).isEqualTo(1);
+    }
+
+    private Object availablePermits() {
+        return requireNonNull(metricRegistry.getGauges().get(PREFIX + "bulkhead.available-permits")).getValue();
+    }
+
+    private static CloseableHttpResponse streamingResponse(String body) {
+        final BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.setEntity(new InputStreamEntity(new ByteArrayInputStream(body.getBytes(UTF_8))));
+        final CloseableHttpResponse closeable = mock(CloseableHttpResponse.class);
+        when(closeable.getStatusLine()).thenReturn(response.getStatusLine());
+        when(closeable.getEntity()).thenAnswer(invocation -> response.getEntity());
+        doAnswer(invocation -> {
+            response.setEntity(invocation.getArgument(0));
+            return null;
+        }).when(closeable).setEntity(any());
+        return closeable;
+    }
+
+    private static CloseableHttpResponse response(int status) {
+        final CloseableHttpResponse response = mock(CloseableHttpResponse.class);
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(HttpVersion.HTTP_1_1, status, "reason"));
+        return response;
+    }
+}
@@ -0,0 +1,129 @@
+package io.dropwizard.client.resilience;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.util.Duration;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.conn.ConnectTimeoutException;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.message.BasicStatusLine;
+import org.apache.http.protocol.HttpContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.SocketException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RetryingHttpClientTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final CloseableHttpClient delegate = mock(CloseableHttpClient.class);
+    private final RetryBudgetConfiguration configuration = new RetryBudgetConfiguration();
+    private long tick;
+    private final Clock clock = new Clock() {
+        @Override
+        public long getTick() {
+            return tick;
+        }
+    };
+
+    RetryingHttpClientTest() {
+        configuration.setInitialBackoff(Duration.milliseconds(1));
+        configuration.setMaxBackoff(Duration.milliseconds(2));
+    }
+
+    @Test
+    void retriesRetryableStatusCodes() throws Exception {
+        final CloseableHttpResponse unavailable = response(503);
+        final CloseableHttpResponse ok = response(200);
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenReturn(unavailable, unavailable, ok);
+
+        assertThat(client().execute(new HttpGet("http://example.com/"))).isSameAs(ok);
+
+        verify(unavailable, times(2)).close();
+        assertThat(metricRegistry.meter("org.apache.http.client.HttpClient.test.retries").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    void retriesIoErrorsUpToTheMaximum() throws Exception {
+        configuration.setMaxRetries(2);
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenThrow(new SocketException("connection reset"));
+
+        assertThatExceptionOfType(SocketException.class)
+            .isThrownBy(() -> client().execute(new HttpGet("http://example.com/")));
+
+        verify(delegate, times(3)).execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class));
+    }
+
+    @Test
+    void doesNotRetryTimeouts() throws Exception {
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenThrow(new ConnectTimeoutException("timed out"));
+
+        assertThatExceptionOfType(ConnectTimeoutException.class)
+            .isThrownBy(() -> client().execute(new HttpGet("http://example.com/")));
+
+        verify(delegate, times(1)).execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class));
+    }
+
+    @Test
+    void doesNotRetryNonIdempotentRequests() throws Exception {
+        final CloseableHttpResponse unavailable = response(503);
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenReturn(unavailable);
+
+        assertThat(client().execute(new HttpPost("http://example.com/"))).isSameAs(unavailable);
+
+        verify(delegate, times(1)).execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class));
+    }
+
+    @Test
+    void stopsRetryingWhenTheBudgetIsExhausted() throws Exception {
+        configuration.setMinRetriesPerSecond(0);
+        configuration.setBudgetRatio(0.5);
+        configuration.setMaxRetries(1);
+        when(delegate.execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class)))
+            .thenThrow(new IOException("broken"));
+
+        final RetryingHttpClient client = client();
+        for (int i = 0; i < 4; i++) {
+            assertThatExceptionOfType(IOException.class)
+                .isThrownBy(() -> client.execute(new HttpGet("http://example.com/")));
+        }
+
+        // Four requests earn two retries
+        verify(delegate, times(6)).execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class));
+        assertThat(metricRegistry.meter("org.apache.http.client.HttpClient.test.retry-budget-exhausted").getCount())
+            .isEqualTo(2);
+
+        // The budget is renewed in the next window
+        tick += configuration.getBudgetWindow().toNanoseconds();
+        assertThatExceptionOfType(IOException.class)
+            .isThrownBy(() -> client.execute(new HttpGet("http://example.com/")));
+        verify(delegate, times(7)).execute(any(HttpHost.class), any(HttpRequest.class), nullable(HttpContext.class));
+    }
+
+    private RetryingHttpClient client() {
+        return new RetryingHttpClient(delegate, metricRegistry, "test", configuration, clock);
+    }
+
+    private static CloseableHttpResponse response(int status) {
+        final CloseableHttpResponse response = mock(CloseableHttpResponse.class);
+        when(response.getStatusLine()).thenReturn(new BasicStatusLine(HttpVersion.HTTP_1_1, status, "reason"));
+        return response;
+    }
+}
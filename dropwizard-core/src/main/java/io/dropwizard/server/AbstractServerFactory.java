@@ -12,6 +12,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dropwizard.jersey.filter.AllowedMethodsFilter;
 import io.dropwizard.jersey.jackson.JacksonFeature;
+import io.dropwizard.jersey.limits.RequestBodySizeLimitFeature;
 import io.dropwizard.jersey.setup.JerseyEnvironment;
 import io.dropwizard.jersey.validation.HibernateValidationBinder;
 import io.dropwizard.jetty.GzipHandlerFactory;
@@ -22,7 +23,9 @@ import io.dropwizard.request.logging.LogbackAccessRequestLogFactory;
 import io.dropwizard.request.logging.RequestLogFactory;
 import io.dropwizard.servlets.ThreadNameFilter;
 import io.dropwizard.setup.AdminEnvironment;
+import io.dropwizard.setup.Environment;
 import io.dropwizard.setup.ExceptionMapperBinder;
+import io.dropwizard.util.DataSize;
 import io.dropwizard.util.Duration;
 import io.dropwizard.validation.MinDuration;
 import io.dropwizard.validation.ValidationMethod;
@@ -174,6 +177,23 @@ import java.util.stream.Collectors;
  *         </td>
  *     </tr>
  *     <tr>
+ *         <td>{@code errorStorm}</td>
+ *         <td></td>
+ *         <td>
+ *            The {@link ErrorStormFactory} configuration, which limits the logging of identical stack traces by
+ *            the default exception mapper.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxRequestBodySize}</td>
+ *         <td>(none)</td>
+ *         <td>
+ *            The maximum size of request entities accepted by Jersey resources. Larger requests are rejected
+ *            with a 413 Request Entity Too Large response. Individual resources can override this with
+ *            {@link io.dropwizard.jersey.limits.MaxBodySize}.
+ *         </td>
+ *     </tr>
+ *     <tr>
  *         <td>{@code shutdownGracePeriod}</td>
  *         <td>30 seconds</td>
  *         <td>
@@ -205,6 +225,13 @@ import java.util.stream.Collectors;
  *         </td>
  *     </tr>
  *     <tr>
+ *         <td>{@code asyncExecutor}</td>
+ *         <td></td>
+ *         <td>
+ *           The {@link AsyncExecutorFactory executor} for asynchronous Jersey resource methods.
+ *         </td>
+ *     </tr>
+ *     <tr>
  *         <td>{@code dumpAfterStart}</td>
  *         <td>true</td>
  *         <td>
@@ -279,6 +306,13 @@ public abstract class AbstractServerFactory implements ServerFactory {
 
     private Boolean detailedJsonProcessingExceptionMapper = Boolean.FALSE;
 
+    @Valid
+    @NotNull
+    private ErrorStormFactory errorStorm = new ErrorStormFactory();
+
+    @Nullable
+    private DataSize maxRequestBodySize;
+
     private Duration shutdownGracePeriod = Duration.seconds(30);
 
     @NotNull
@@ -288,6 +322,10 @@ public abstract class AbstractServerFactory implements ServerFactory {
 
     private boolean enableThreadNameFilter = true;
 
+    @Valid
+    @NotNull
+    private AsyncExecutorFactory asyncExecutor = new AsyncExecutorFactory();
+
     private boolean dumpAfterStart = false;
 
     private boolean dumpBeforeStop = false;
@@ -518,6 +556,55 @@ public abstract class AbstractServerFactory implements ServerFactory {
         this.enableThreadNameFilter = enableThreadNameFilter;
     }
 
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("errorStorm")
+    public ErrorStormFactory getErrorStormFactory() {
+        return errorStorm;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("errorStorm")
+    public void setErrorStormFactory(ErrorStormFactory errorStorm) {
+        this.errorStorm = errorStorm;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty
+    @Nullable
+    public DataSize getMaxRequestBodySize() {
+        return maxRequestBodySize;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty
+    public void setMaxRequestBodySize(@Nullable DataSize maxRequestBodySize) {
+        this.maxRequestBodySize = maxRequestBodySize;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("asyncExecutor")
+    public AsyncExecutorFactory getAsyncExecutorFactory() {
+        return asyncExecutor;
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @JsonProperty("asyncExecutor")
+    public void setAsyncExecutorFactory(AsyncExecutorFactory asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
     /**
      * @since 2.0
      */
@@ -577,6 +664,21 @@ public abstract class AbstractServerFactory implements ServerFactory {
         }
     }
 
+    /**
+     * Registers the {@link AsyncExecutorFactory configured} executor for asynchronous resource methods with Jersey,
+     * unless it is disabled or an executor has already been set. Called from {@link #configure(Environment)}, so the
+     * executor is available from {@link JerseyEnvironment#getAsyncExecutor()} in
+     * {@link io.dropwizard.Application#run(io.dropwizard.Configuration, Environment)}.
+     *
+     * @since 2.1.5
+     */
+    protected void configureAsyncExecutor(Environment environment) {
+        final JerseyEnvironment jersey = environment.jersey();
+        if (asyncExecutor.isEnabled() && !jersey.getAsyncExecutor().isPresent()) {
+            jersey.setAsyncExecutor(asyncExecutor.build(environment.lifecycle(), environment.metrics()));
+        }
+    }
+
     protected Handler createAppServlet(Server server,
                                        JerseyEnvironment jersey,
                                        ObjectMapper objectMapper,
@@ -594,10 +696,14 @@ public abstract class AbstractServerFactory implements ServerFactory {
         serverPush.addFilter(handler);
         if (jerseyContainer != null) {
             jerseyRootPath.ifPresent(jersey::setUrlPattern);
+            if (maxRequestBodySize != null) {
+                jersey.property(RequestBodySizeLimitFeature.MAX_REQUEST_BODY_SIZE, maxRequestBodySize.toBytes());
+            }
             jersey.register(new JacksonFeature(objectMapper));
             jersey.register(new HibernateValidationBinder(validator));
             if (registerDefaultExceptionMappers == null || registerDefaultExceptionMappers) {
-                jersey.register(new ExceptionMapperBinder(detailedJsonProcessingExceptionMapper));
+                jersey.register(new ExceptionMapperBinder(detailedJsonProcessingExceptionMapper,
+                    errorStorm.build(metricRegistry)));
             }
             handler.addServlet(new ServletHolder("jersey", jerseyContainer), jersey.getUrlPattern());
         }
@@ -0,0 +1,201 @@
+package io.dropwizard.server;
+
+import com.codahale.metrics.InstrumentedExecutorService;
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.lifecycle.ExecutorServiceManager;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.validation.constraints.Min;
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+
+/**
+ * A factory for the executor which runs asynchronous Jersey resource methods, i.e. methods annotated with
+ * {@link org.glassfish.jersey.server.ManagedAsync}. The executor is also available to resources via
+ * {@link io.dropwizard.jersey.setup.JerseyEnvironment#getAsyncExecutor()}, e.g. for completing
+ * {@link java.util.concurrent.CompletionStage} results. It is registered when the server factory configures the
+ * environment, before {@link io.dropwizard.Application#run(io.dropwizard.Configuration,
+ * io.dropwizard.setup.Environment) Application#run} is called, so applications which set their own executor must
+ * leave this one disabled.
+ * <p/>
+ * The executor is disabled by default, so Jersey's default executor keeps running {@code @ManagedAsync} methods
+ * unless it is enabled explicitly. Unlike Jersey's executor, this one is bounded: tasks which exceed both
+ * {@code maxThreads} and {@code maxQueuedTasks} are rejected with a
+ * {@link java.util.concurrent.RejectedExecutionException}.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code enabled}</td>
+ *         <td>false</td>
+ *         <td>
+ *             Whether or not to register the executor with Jersey. If disabled, Jersey's default executor is used.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxThreads}</td>
+ *         <td>64</td>
+ *         <td>The maximum number of threads running asynchronous tasks.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxQueuedTasks}</td>
+ *         <td>1024</td>
+ *         <td>
+ *             The maximum number of tasks to queue when all threads are busy. Further tasks are rejected.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code keepAliveTime}</td>
+ *         <td>1 minute</td>
+ *         <td>The amount of time a thread can be idle before being stopped.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code shutdownTime}</td>
+ *         <td>5 seconds</td>
+ *         <td>The maximum time to wait for running tasks when the application is stopped.</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code useVirtualThreads}</td>
+ *         <td>false</td>
+ *         <td>
+ *             Whether to run every task on its own virtual thread instead of using a bounded thread pool.
+ *             Requires a Java runtime with virtual threads; otherwise the thread pool is used.
+ *         </td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1.5
+ */
+public class AsyncExecutorFactory {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncExecutorFactory.class);
+    private static final String NAME = "jersey-async";
+
+    private boolean enabled = false;
+
+    @Min(1)
+    private int maxThreads = 64;
+
+    @Min(0)
+    private int maxQueuedTasks = 1024;
+
+    @MinDuration(0)
+    private Duration keepAliveTime = Duration.minutes(1);
+
+    @MinDuration(0)
+    private Duration shutdownTime = Duration.seconds(5);
+
+    private boolean useVirtualThreads = false;
+
+    @JsonProperty
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @JsonProperty
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @JsonProperty
+    public int getMaxThreads() {
+        return maxThreads;
+    }
+
+    @JsonProperty
+    public void setMaxThreads(int maxThreads) {
+        this.maxThreads = maxThreads;
+    }
+
+    @JsonProperty
+    public int getMaxQueuedTasks() {
+        return maxQueuedTasks;
+    }
+
+    @JsonProperty
+    public void setMaxQueuedTasks(int maxQueuedTasks) {
+        this.maxQueuedTasks = maxQueuedTasks;
+    }
+
+    @JsonProperty
+    public Duration getKeepAliveTime() {
+        return keepAliveTime;
+    }
+
+    @JsonProperty
+    public void setKeepAliveTime(Duration keepAliveTime) {
+        this.keepAliveTime = keepAliveTime;
+    }
+
+    @JsonProperty
+    public Duration getShutdownTime() {
+        return shutdownTime;
+    }
+
+    @JsonProperty
+    public void setShutdownTime(Duration shutdownTime) {
+        this.shutdownTime = shutdownTime;
+    }
+
+    @JsonProperty
+    public boolean isUseVirtualThreads() {
+        return useVirtualThreads;
+    }
+
+    @JsonProperty
+    public void setUseVirtualThreads(boolean useVirtualThreads) {
+        this.useVirtualThreads = useVirtualThreads;
+    }
+
+    /**
+     * Builds an instrumented executor which is shut down with the application.
+     *
+     * @param lifecycle      the lifecycle which manages the executor
+     * @param metricRegistry the registry for the executor's metrics
+     * @return the executor for asynchronous resource methods
+     */
+    public ExecutorService build(LifecycleEnvironment lifecycle, MetricRegistry metricRegistry) {
+        ExecutorService executor = useVirtualThreads ? newVirtualThreadPerTaskExecutor() : null;
+        if (executor != null) {
+            lifecycle.manage(new ExecutorServiceManager(executor, shutdownTime, NAME));
+        } else {
+            final BlockingQueue<Runnable> queue = maxQueuedTasks > 0
+                ? new ArrayBlockingQueue<>(maxQueuedTasks)
+                : new SynchronousQueue<>();
+            executor = lifecycle.executorService(NAME + "-%d")
+                .minThreads(maxThreads)
+                .maxThreads(maxThreads)
+                .allowCoreThreadTimeOut(true)
+                .keepAliveTime(keepAliveTime)
+                .shutdownTime(shutdownTime)
+                .workQueue(queue)
+                .build();
+        }
+        return new InstrumentedExecutorService(executor, metricRegistry, NAME);
+    }
+
+    @Nullable
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.warn("Virtual threads are not available in this Java runtime, using a thread pool instead");
+            return null;
+        }
+    }
+}
@@ -185,6 +185,8 @@ public class DefaultServerFactory extends AbstractServerFactory {
 
         LOGGER.info("Registering admin handler with root path prefix: {}", adminContextPath);
         environment.getAdminContext().setContextPath(adminContextPath);
+
+        configureAsyncExecutor(environment);
     }
 
     private RoutingHandler buildRoutingHandler(MetricRegistry metricRegistry,
@@ -0,0 +1,100 @@
+package io.dropwizard.server;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.dropwizard.jersey.errors.ErrorStormLimiter;
+import io.dropwizard.util.Duration;
+import io.dropwizard.validation.MinDuration;
+
+import javax.annotation.Nullable;
+import javax.validation.constraints.Min;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A factory for the {@link ErrorStormLimiter} of the default exception mapper, which limits how often the stack
+ * traces of identical unexpected exceptions are logged.
+ * <p/>
+ * <b>Configuration Parameters:</b>
+ * <table>
+ *     <tr>
+ *         <td>Name</td>
+ *         <td>Default</td>
+ *         <td>Description</td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code enabled}</td>
+ *         <td>false</td>
+ *         <td>
+ *             Whether or not to limit the logging of identical stack traces. If disabled, every stack trace is logged.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code maxStackTraces}</td>
+ *         <td>10</td>
+ *         <td>
+ *             The maximum number of stack traces logged per {@code interval} for exceptions with the same class and
+ *             the same top stack frames. Further exceptions are logged as a single line.
+ *         </td>
+ *     </tr>
+ *     <tr>
+ *         <td>{@code interval}</td>
+ *         <td>1 minute</td>
+ *         <td>The interval in which at most {@code maxStackTraces} identical stack traces are logged.</td>
+ *     </tr>
+ * </table>
+ *
+ * @since 2.1.5
+ */
+public class ErrorStormFactory {
+    private boolean enabled = false;
+
+    @Min(0)
+    private int maxStackTraces = 10;
+
+    @MinDuration(value = 1, unit = TimeUnit.MILLISECONDS)
+    private Duration interval = Duration.minutes(1);
+
+    @JsonProperty
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @JsonProperty
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @JsonProperty
+    public int getMaxStackTraces() {
+        return maxStackTraces;
+    }
+
+    @JsonProperty
+    public void setMaxStackTraces(int maxStackTraces) {
+        this.maxStackTraces = maxStackTraces;
+    }
+
+    @JsonProperty
+    public Duration getInterval() {
+        return interval;
+    }
+
+    @JsonProperty
+    public void setInterval(Duration interval) {
+        this.interval = interval;
+    }
+
+    /**
+     * Builds the limiter, if enabled.
+     *
+     * @param metricRegistry the registry for the per-exception-class meters
+     * @return the limiter, or {@code null} if the logging of stack traces should not be limited
+     */
+    @Nullable
+    public ErrorStormLimiter build(MetricRegistry metricRegistry) {
+        if (!enabled) {
+            return null;
+        }
+        return new ErrorStormLimiter(metricRegistry, maxStackTraces, interval.getQuantity(), interval.getUnit());
+    }
+}
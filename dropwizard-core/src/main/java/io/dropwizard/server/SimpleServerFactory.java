@@ -145,5 +145,7 @@ public class SimpleServerFactory extends AbstractServerFactory {
 
         LOGGER.info("Registering admin handler with root path prefix: {}", adminContextPath);
         environment.getAdminContext().setContextPath(adminContextPath);
+
+        configureAsyncExecutor(environment);
     }
 }
@@ -28,6 +28,7 @@ import javax.validation.ValidatorFactory;
 import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Objects.requireNonNull;
 
@@ -51,6 +52,8 @@ public class Bootstrap<T extends Configuration> {
     private ConfigurationFactoryFactory<T> configurationFactoryFactory;
     private ValidatorFactory validatorFactory;
 
+    private final long objectMapperConstructionNanos;
+
     private boolean metricsAreRegistered;
     private HealthCheckRegistry healthCheckRegistry;
 
@@ -61,7 +64,9 @@ public class Bootstrap<T extends Configuration> {
      */
     public Bootstrap(Application<T> application) {
         this.application = application;
+        final long objectMapperStart = System.nanoTime();
         this.objectMapper = Jackson.newObjectMapper();
+        this.objectMapperConstructionNanos = System.nanoTime() - objectMapperStart;
         this.configuredBundles = new ArrayList<>();
         this.commands = new ArrayList<>();
         this.validatorFactory = Validators.newValidatorFactory();
@@ -74,7 +79,8 @@ public class Bootstrap<T extends Configuration> {
 
     /**
      * Registers the JVM metrics to the metric registry and start to report
-     * the registry metrics via JMX.
+     * the registry metrics via JMX. Also records the time it took to create the
+     * default {@link ObjectMapper} in the {@code io.dropwizard.setup.Bootstrap.startup.object-mapper} timer.
      */
     public void registerMetrics() {
         if (metricsAreRegistered) {
@@ -89,6 +95,8 @@ public class Bootstrap<T extends Configuration> {
         getMetricRegistry().register("jvm.gc", new GarbageCollectorMetricSet());
         getMetricRegistry().register("jvm.memory", new MemoryUsageGaugeSet());
         getMetricRegistry().register("jvm.threads", new ThreadStatesGaugeSet());
+        getMetricRegistry().timer(MetricRegistry.name(Bootstrap.class, "startup", "object-mapper"))
+                .update(objectMapperConstructionNanos, TimeUnit.NANOSECONDS);
 
         jmxReporter = JmxReporter.forRegistry(metricRegistry).build();
         jmxReporter.start();
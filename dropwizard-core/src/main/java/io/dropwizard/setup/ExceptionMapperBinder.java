@@ -2,6 +2,7 @@ package io.dropwizard.setup;
 
 import io.dropwizard.jersey.errors.EarlyEofExceptionMapper;
 import io.dropwizard.jersey.errors.EofExceptionWriterInterceptor;
+import io.dropwizard.jersey.errors.ErrorStormLimiter;
 import io.dropwizard.jersey.errors.IllegalStateExceptionMapper;
 import io.dropwizard.jersey.errors.LoggingExceptionMapper;
 import io.dropwizard.jersey.jackson.JsonProcessingExceptionMapper;
@@ -9,6 +10,7 @@ import io.dropwizard.jersey.optional.EmptyOptionalExceptionMapper;
 import io.dropwizard.jersey.validation.JerseyViolationExceptionMapper;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
 
+import javax.annotation.Nullable;
 import javax.ws.rs.ext.ExceptionMapper;
 import javax.ws.rs.ext.WriterInterceptor;
 
@@ -19,14 +21,32 @@ import javax.ws.rs.ext.WriterInterceptor;
 public class ExceptionMapperBinder extends AbstractBinder {
     private final boolean showDetails;
 
+    @Nullable
+    private final ErrorStormLimiter errorStormLimiter;
+
     public ExceptionMapperBinder(boolean showDetails) {
+        this(showDetails, null);
+    }
+
+    /**
+     * @param showDetails       whether to show details of JSON processing exceptions
+     * @param errorStormLimiter limits the logging of identical stack traces, or {@code null} to log all of them
+     * @since 2.1.5
+     */
+    public ExceptionMapperBinder(boolean showDetails, @Nullable ErrorStormLimiter errorStormLimiter) {
         this.showDetails = showDetails;
+        this.errorStormLimiter = errorStormLimiter;
     }
 
     @Override
     protected void configure() {
-        bind(new LoggingExceptionMapper<Throwable>() {
-        }).to(ExceptionMapper.class);
+        if (errorStormLimiter == null) {
+            bind(new LoggingExceptionMapper<Throwable>() {
+            }).to(ExceptionMapper.class);
+        } else {
+            bind(new LoggingExceptionMapper<Throwable>(errorStormLimiter) {
+            }).to(ExceptionMapper.class);
+        }
         bind(JerseyViolationExceptionMapper.class).to(ExceptionMapper.class);
         bind(new JsonProcessingExceptionMapper(isShowDetails())).to(ExceptionMapper.class);
         bind(EarlyEofExceptionMapper.class).to(ExceptionMapper.class);
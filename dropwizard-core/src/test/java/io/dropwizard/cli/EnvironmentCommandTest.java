@@ -0,0 +1,61 @@
+package io.dropwizard.cli;
+
+import io.dropwizard.Application;
+import io.dropwizard.Configuration;
+import io.dropwizard.server.DefaultServerFactory;
+import io.dropwizard.setup.Bootstrap;
+import io.dropwizard.setup.Environment;
+import net.sourceforge.argparse4j.inf.Namespace;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class EnvironmentCommandTest {
+    private static class AsyncApplication extends Application<Configuration> {
+        private Optional<ExecutorService> asyncExecutor = Optional.empty();
+
+        @Override
+        public void run(Configuration configuration, Environment environment) {
+            asyncExecutor = environment.jersey().getAsyncExecutor();
+        }
+    }
+
+    private static class NoopCommand extends EnvironmentCommand<Configuration> {
+        NoopCommand(Application<Configuration> application) {
+            super(application, "noop", "Does nothing");
+        }
+
+        @Override
+        protected void run(Environment environment, Namespace namespace, Configuration configuration) {
+        }
+    }
+
+    private final AsyncApplication application = new AsyncApplication();
+    private final NoopCommand command = new NoopCommand(application);
+
+    @Test
+    void providesTheAsyncExecutorToTheApplication() throws Exception {
+        final DefaultServerFactory serverFactory = new DefaultServerFactory();
+        serverFactory.getAsyncExecutorFactory().setEnabled(true);
+        final Configuration configuration = new Configuration();
+        configuration.setServerFactory(serverFactory);
+
+        command.run(new Bootstrap<>(application), mock(Namespace.class), configuration);
+
+        assertThat(application.asyncExecutor).isPresent();
+        assertThat(command.getEnvironment()).isNotNull()
+            .satisfies(environment -> assertThat(environment.jersey().getAsyncExecutor())
+                .isEqualTo(application.asyncExecutor));
+    }
+
+    @Test
+    void doesNotProvideADisabledAsyncExecutor() throws Exception {
+        command.run(new Bootstrap<>(application), mock(Namespace.class), new Configuration());
+
+        assertThat(application.asyncExecutor).isEmpty();
+    }
+}
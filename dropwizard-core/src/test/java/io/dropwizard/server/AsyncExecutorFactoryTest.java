@@ -0,0 +1,46 @@
+package io.dropwizard.server;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.lifecycle.setup.LifecycleEnvironment;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncExecutorFactoryTest {
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final LifecycleEnvironment lifecycle = new LifecycleEnvironment(metricRegistry);
+
+    @Test
+    void isDisabledByDefault() {
+        assertThat(new AsyncExecutorFactory().isEnabled()).isFalse();
+    }
+
+    @Test
+    void buildsManagedInstrumentedExecutor() throws Exception {
+        final ExecutorService executor = new AsyncExecutorFactory().build(lifecycle, metricRegistry);
+        try {
+            assertThat(executor.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS))
+                .startsWith("jersey-async-");
+            assertThat(metricRegistry.meter("jersey-async.submitted").getCount()).isEqualTo(1);
+            assertThat(lifecycle.getManagedObjects()).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void fallsBackToThreadPoolOrUsesVirtualThreads() throws Exception {
+        final AsyncExecutorFactory factory = new AsyncExecutorFactory();
+        factory.setUseVirtualThreads(true);
+        final ExecutorService executor = factory.build(lifecycle, metricRegistry);
+        try {
+            assertThat(executor.submit(() -> "done").get(5, TimeUnit.SECONDS)).isEqualTo("done");
+            assertThat(lifecycle.getManagedObjects()).hasSize(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -70,6 +70,13 @@ class BootstrapTest {
                         "jvm.attribute.vendor", "jvm.classloader.loaded", "jvm.filedescriptor");
     }
 
+    @Test
+    void recordsTheObjectMapperConstructionTime() {
+        bootstrap.registerMetrics();
+        assertThat(bootstrap.getMetricRegistry().timer("io.dropwizard.setup.Bootstrap.startup.object-mapper").getCount())
+                .isEqualTo(1);
+    }
+
     @Test
     void defaultsToDefaultConfigurationFactoryFactory() throws Exception {
         assertThat(bootstrap.getConfigurationFactoryFactory())
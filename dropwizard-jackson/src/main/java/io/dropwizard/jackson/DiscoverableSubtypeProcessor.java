@@ -0,0 +1,135 @@
+package io.dropwizard.jackson;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * An annotation processor which generates an index of the {@link Discoverable} subtypes of a jar, which
+ * {@link DiscoverableSubtypeResolver} reads instead of the {@code META-INF/services} files of that jar.
+ * <p>
+ * Every concrete class annotated with {@link com.fasterxml.jackson.annotation.JsonTypeName} is indexed as a
+ * subtype of each of its supertypes which directly extend {@link Discoverable}. As the index replaces the
+ * services files of the jar, subtypes without {@code @JsonTypeName} must not be part of a jar built with this
+ * processor. The processor has to see all sources of the jar, so it doesn't support incremental compilation.
+ * <p>
+ * The processor is not registered as a service and has to be enabled explicitly, for example with the
+ * {@code annotationProcessors} setting of the {@code maven-compiler-plugin}.
+ *
+ * @since 2.1.5
+ */
+@SupportedAnnotationTypes(DiscoverableSubtypeProcessor.JSON_TYPE_NAME)
+public class DiscoverableSubtypeProcessor extends AbstractProcessor {
+    /**
+     * The location of the generated index.
+     */
+    public static final String INDEX_RESOURCE = "META-INF/dropwizard/discoverable-subtypes";
+
+    static final String JSON_TYPE_NAME = "com.fasterxml.jackson.annotation.JsonTypeName";
+
+    /**
+     * The lines of the index, as the name of the service type followed by the name of the subtype.
+     */
+    private final Set<String> entries = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        final Elements elements = processingEnv.getElementUtils();
+        final TypeElement discoverable = elements.getTypeElement(Discoverable.class.getName());
+        if (discoverable == null) {
+            return false;
+        }
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.CLASS && !element.getModifiers().contains(Modifier.ABSTRACT)) {
+                    final TypeElement subtype = (TypeElement) element;
+                    for (TypeElement service : findServices(subtype, discoverable)) {
+                        entries.add(elements.getBinaryName(service) + " " + elements.getBinaryName(subtype));
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the supertypes of the given type which directly extend {@link Discoverable}.
+     */
+    private Set<TypeElement> findServices(TypeElement subtype, TypeElement discoverable) {
+        final Types types = processingEnv.getTypeUtils();
+        final Set<TypeElement> services = new HashSet<>();
+        final Set<TypeElement> visited = new HashSet<>();
+        final Deque<TypeElement> pending = new ArrayDeque<>();
+        pending.add(subtype);
+        while (!pending.isEmpty()) {
+            final TypeElement type = pending.remove();
+            for (TypeMirror supertype : types.directSupertypes(type.asType())) {
+                if (supertype.getKind() != TypeKind.DECLARED) {
+                    continue;
+                }
+                final TypeElement supertypeElement = (TypeElement) ((DeclaredType) supertype).asElement();
+                if (supertypeElement.equals(discoverable)) {
+                    if (!type.equals(subtype)) {
+                        services.add(type);
+                    }
+                } else if (visited.add(supertypeElement)) {
+                    pending.add(supertypeElement);
+                }
+            }
+        }
+        return services;
+    }
+
+    private void writeIndex() {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            final FileObject resource = processingEnv.getFiler()
+                .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_RESOURCE);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write("# Generated by " + DiscoverableSubtypeProcessor.class.getName() + "\n");
+                for (String entry : entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                "Unable to write " + INDEX_RESOURCE + ": " + e.getMessage());
+        }
+    }
+}
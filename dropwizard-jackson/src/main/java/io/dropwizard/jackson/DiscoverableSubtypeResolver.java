@@ -1,5 +1,11 @@
 package io.dropwizard.jackson;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedClass;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.SubtypeResolver;
 import com.fasterxml.jackson.databind.jsontype.impl.StdSubtypeResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,22 +15,45 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.reflect.Method;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * A subtype resolver which discovers subtypes via
  * {@code META-INF/services/io.dropwizard.jackson.Discoverable}.
+ * <p>
+ * The subtypes in jars containing an index generated by {@link DiscoverableSubtypeProcessor} are read from the
+ * index instead of their {@code META-INF/services} files, while the services themselves are still read from
+ * {@code META-INF/services/io.dropwizard.jackson.Discoverable}. In either case, subtypes are only loaded once Jackson
+ * looks up the subtypes of a related type.
+ * <p>
+ * Subclasses overriding {@link #discoverServices(Class)} keep the previous behaviour: the services and their
+ * subtypes are discovered through that method and loaded when the resolver is created, and the index is not read.
  */
 public class DiscoverableSubtypeResolver extends StdSubtypeResolver {
     private static final long serialVersionUID = 1L;
     private static final Logger LOGGER = LoggerFactory.getLogger(DiscoverableSubtypeResolver.class);
+    private static final String SERVICES_DIRECTORY = "META-INF/services/";
 
     /**
-     * The list of discovered subtypes.
+     * The names of the subtypes which have not been loaded yet, by the name of their service type.
+     */
+    private final Map<String, List<String>> pendingSubtypes;
+
+    /**
+     * The list of discovered subtypes which have been loaded.
      */
     private final List<Class<?>> discoveredSubtypes;
 
@@ -41,14 +70,53 @@ public class DiscoverableSubtypeResolver extends StdSubtypeResolver {
      * @param rootKlass the class to choose the correct {@code META-INF/services} file from
      */
     public DiscoverableSubtypeResolver(Class<?> rootKlass) {
-        final List<Class<?>> subtypes = new ArrayList<>();
-        for (Class<?> klass : discoverServices(rootKlass)) {
-            for (Class<?> subtype : discoverServices(klass)) {
-                subtypes.add(subtype);
-                registerSubtypes(subtype);
+        this.pendingSubtypes = new LinkedHashMap<>();
+        this.discoveredSubtypes = new ArrayList<>();
+
+        if (overridesDiscoverServices()) {
+            for (Class<?> klass : discoverServices(rootKlass)) {
+                for (Class<?> subtype : discoverServices(klass)) {
+                    discoveredSubtypes.add(subtype);
+                    registerSubtypes(subtype);
+                }
+            }
+            return;
+        }
+
+        final Set<String> indexedLocations = new HashSet<>();
+        if (rootKlass == Discoverable.class) {
+            readIndex(indexedLocations);
+        }
+        // the services are always read from all jars: an indexed jar may declare a service whose subtypes live in
+        // jars without an index
+        for (String service : discoverServiceNames(rootKlass.getName(), Collections.emptySet())) {
+            for (String subtype : discoverServiceNames(service, indexedLocations)) {
+                addPendingSubtype(service, subtype);
             }
         }
-        this.discoveredSubtypes = subtypes;
+    }
+
+    /**
+     * Constructs a copy of the given subtype resolver, without discovering subtypes again.
+     *
+     * @param src the subtype resolver to copy
+     * @since 2.1.5
+     */
+    protected DiscoverableSubtypeResolver(DiscoverableSubtypeResolver src) {
+        super(src);
+        synchronized (src) {
+            this.pendingSubtypes = new LinkedHashMap<>();
+            src.pendingSubtypes.forEach((service, subtypes) -> pendingSubtypes.put(service, new ArrayList<>(subtypes)));
+            this.discoveredSubtypes = new ArrayList<>(src.discoveredSubtypes);
+        }
+    }
+
+    /**
+     * @since 2.1.5
+     */
+    @Override
+    public synchronized SubtypeResolver copy() {
+        return new DiscoverableSubtypeResolver(this);
     }
 
     /**
@@ -56,10 +124,177 @@ public class DiscoverableSubtypeResolver extends StdSubtypeResolver {
      *
      * @return a list of {@link Class} objects representing the subtypes
      */
-    public List<Class<?>> getDiscoveredSubtypes() {
+    public synchronized List<Class<?>> getDiscoveredSubtypes() {
+        loadPendingSubtypes(null);
         return discoveredSubtypes;
     }
 
+    @Override
+    public synchronized Collection<NamedType> collectAndResolveSubtypesByClass(MapperConfig<?> config,
+                                                                             AnnotatedMember property,
+                                                                             JavaType baseType) {
+        loadPendingSubtypes(baseType.getRawClass());
+        return super.collectAndResolveSubtypesByClass(config, property, baseType);
+    }
+
+    @Override
+    public synchronized Collection<NamedType> collectAndResolveSubtypesByClass(MapperConfig<?> config,
+                                                                             AnnotatedClass type) {
+        loadPendingSubtypes(type.getRawType());
+        return super.collectAndResolveSubtypesByClass(config, type);
+    }
+
+    @Override
+    public synchronized Collection<NamedType> collectAndResolveSubtypesByTypeId(MapperConfig<?> config,
+                                                                              AnnotatedMember property,
+                                                                              JavaType baseType) {
+        loadPendingSubtypes(baseType.getRawClass());
+        return super.collectAndResolveSubtypesByTypeId(config, property, baseType);
+    }
+
+    @Override
+    public synchronized Collection<NamedType> collectAndResolveSubtypesByTypeId(MapperConfig<?> config,
+                                                                              AnnotatedClass baseType) {
+        loadPendingSubtypes(baseType.getRawType());
+        return super.collectAndResolveSubtypesByTypeId(config, baseType);
+    }
+
+    @Override
+    public synchronized void registerSubtypes(NamedType... types) {
+        super.registerSubtypes(types);
+    }
+
+    @Override
+    public synchronized void registerSubtypes(Class<?>... classes) {
+        super.registerSubtypes(classes);
+    }
+
+    @Override
+    public synchronized void registerSubtypes(Collection<Class<?>> subtypes) {
+        super.registerSubtypes(subtypes);
+    }
+
+    /**
+     * Loads and registers the pending subtypes of all service types related to the given type.
+     *
+     * @param baseType the type whose subtypes are looked up, or {@code null} to load all subtypes
+     */
+    private void loadPendingSubtypes(@Nullable Class<?> baseType) {
+        final Iterator<Map.Entry<String, List<String>>> services = pendingSubtypes.entrySet().iterator();
+        while (services.hasNext()) {
+            final Map.Entry<String, List<String>> entry = services.next();
+            final Class<?> service = loadClass(entry.getKey());
+            if (service == null) {
+                services.remove();
+            } else if (baseType == null || service.isAssignableFrom(baseType) || baseType.isAssignableFrom(service)) {
+                services.remove();
+                for (String name : entry.getValue()) {
+                    final Class<?> subtype = loadClass(name);
+                    if (subtype != null) {
+                        discoveredSubtypes.add(subtype);
+                        super.registerSubtypes(subtype);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns whether a subclass customizes the discovery by overriding {@link #discoverServices(Class)}.
+     */
+    private boolean overridesDiscoverServices() {
+        for (Class<?> klass = getClass(); klass != DiscoverableSubtypeResolver.class; klass = klass.getSuperclass()) {
+            for (Method method : klass.getDeclaredMethods()) {
+                if ("discoverServices".equals(method.getName())
+                    && Arrays.equals(method.getParameterTypes(), new Class<?>[]{Class.class})) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void addPendingSubtype(String service, String subtype) {
+        final List<String> subtypes = pendingSubtypes.computeIfAbsent(service, key -> new ArrayList<>());
+        if (!subtypes.contains(subtype)) {
+            subtypes.add(subtype);
+        }
+    }
+
+    /**
+     * Reads all subtype indexes generated by {@link DiscoverableSubtypeProcessor} and remembers their locations,
+     * whose {@code META-INF/services} files listing subtypes are skipped.
+     */
+    private void readIndex(Set<String> indexedLocations) {
+        try {
+            final Enumeration<URL> resources = getClassLoader().getResources(DiscoverableSubtypeProcessor.INDEX_RESOURCE);
+            while (resources.hasMoreElements()) {
+                final URL url = resources.nextElement();
+                indexedLocations.add(location(url, DiscoverableSubtypeProcessor.INDEX_RESOURCE));
+                for (String line : readLines(url)) {
+                    final String[] names = line.split("\\s+");
+                    if (names.length == 2) {
+                        addPendingSubtype(names[0], names[1]);
+                    } else {
+                        LOGGER.warn("Ignoring malformed line in {}: {}", url, line);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to load {}", DiscoverableSubtypeProcessor.INDEX_RESOURCE, e);
+        }
+    }
+
+    /**
+     * Discovers the names of the services in the {@code META-INF/services} folder for the provided class name,
+     * without loading them.
+     */
+    private List<String> discoverServiceNames(String name, Set<String> indexedLocations) {
+        final List<String> serviceNames = new ArrayList<>();
+        final String resource = SERVICES_DIRECTORY + name;
+        try {
+            // use classloader that loaded this class to find the service descriptors on the classpath
+            // better than ClassLoader.getSystemResources() which may not be the same classloader if ths app
+            // is running in a container (e.g. via maven exec:java)
+            final Enumeration<URL> resources = getClassLoader().getResources(resource);
+            while (resources.hasMoreElements()) {
+                final URL url = resources.nextElement();
+                if (!indexedLocations.contains(location(url, resource))) {
+                    serviceNames.addAll(readLines(url));
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to load {}", resource, e);
+        }
+        return serviceNames;
+    }
+
+    private static List<String> readLines(URL url) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        try (InputStream input = url.openStream();
+             InputStreamReader streamReader = new InputStreamReader(input, StandardCharsets.UTF_8);
+             BufferedReader reader = new BufferedReader(streamReader)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String trimmed = line.trim();
+                if (!trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                    lines.add(trimmed);
+                }
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the location of the jar or directory the given resource was loaded from.
+     */
+    private static String location(URL url, String resource) {
+        final String externalForm = url.toExternalForm();
+        return externalForm.endsWith(resource)
+            ? externalForm.substring(0, externalForm.length() - resource.length())
+            : externalForm;
+    }
+
     /**
      * Returns a {@link ClassLoader} from the current class.
      *
@@ -70,36 +305,20 @@ public class DiscoverableSubtypeResolver extends StdSubtypeResolver {
     }
 
     /**
-     * Discovers the services in the {@code META-INF/services} folder for the provided class.
+     * Discovers the services in the {@code META-INF/services} folder for the provided class. Overriding this method
+     * makes the resolver discover and load all subtypes through it when it is created, instead of reading the
+     * subtype index and loading the subtypes lazily.
      *
      * @param klass the class to lookup services
      * @return the discovered services
      */
     protected List<Class<?>> discoverServices(Class<?> klass) {
         final List<Class<?>> serviceClasses = new ArrayList<>();
-        try {
-            // use classloader that loaded this class to find the service descriptors on the classpath
-            // better than ClassLoader.getSystemResources() which may not be the same classloader if ths app
-            // is running in a container (e.g. via maven exec:java)
-            final Enumeration<URL> resources = getClassLoader().getResources("META-INF/services/" + klass.getName());
-            while (resources.hasMoreElements()) {
-                final URL url = resources.nextElement();
-                try (InputStream input = url.openStream();
-                     InputStreamReader streamReader = new InputStreamReader(input, StandardCharsets.UTF_8);
-                     BufferedReader reader = new BufferedReader(streamReader)) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        if (!line.startsWith("#")) {
-                            final Class<?> loadedClass = loadClass(line);
-                            if (loadedClass != null) {
-                                serviceClasses.add(loadedClass);
-                            }
-                        }
-                    }
-                }
+        for (String name : discoverServiceNames(klass.getName(), Collections.emptySet())) {
+            final Class<?> loadedClass = loadClass(name);
+            if (loadedClass != null) {
+                serviceClasses.add(loadedClass);
             }
-        } catch (IOException e) {
-            LOGGER.warn("Unable to load META-INF/services/{}", klass.getName(), e);
         }
         return serviceClasses;
     }
@@ -37,22 +37,22 @@ public class FuzzyEnumModule extends Module {
     private static class PermissiveEnumDeserializer extends StdScalarDeserializer<Enum<?>> {
         private static final long serialVersionUID = 1L;
 
-        private final Enum<?>[] constants;
+        private final Class<Enum<?>> enumType;
         private final List<String> acceptedValues;
 
         @SuppressWarnings("unchecked")
         protected PermissiveEnumDeserializer(Class<Enum<?>> clazz) {
             super(clazz);
-            this.constants = ((Class<Enum<?>>) handledType()).getEnumConstants();
+            this.enumType = (Class<Enum<?>>) handledType();
             this.acceptedValues = new ArrayList<>();
-            for (Enum<?> constant : constants) {
+            for (Enum<?> constant : enumType.getEnumConstants()) {
                 acceptedValues.add(constant.name());
             }
         }
 
         @Override
         public Enum<?> deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-            Enum<?> constant = Enums.fromStringFuzzy(jp.getText(), constants);
+            Enum<?> constant = Enums.fromStringFuzzy(jp.getText(), enumType);
             if (constant != null) {
                 return constant;
             }
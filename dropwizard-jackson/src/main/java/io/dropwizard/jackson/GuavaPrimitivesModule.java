@@ -0,0 +1,249 @@
+package io.dropwizard.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.google.common.primitives.ImmutableDoubleArray;
+import com.google.common.primitives.ImmutableIntArray;
+import com.google.common.primitives.ImmutableLongArray;
+
+import java.io.IOException;
+
+/**
+ * A Jackson module that can (de)serialize {@link ImmutableIntArray ImmutableIntArrays},
+ * {@link ImmutableLongArray ImmutableLongArrays} and {@link ImmutableDoubleArray ImmutableDoubleArrays}
+ * as JSON arrays without boxing their elements.
+ *
+ * @since 2.1.5
+ */
+public class GuavaPrimitivesModule extends Module {
+    private static class ImmutableIntArraySerializer extends StdSerializer<ImmutableIntArray> {
+        private static final long serialVersionUID = 1L;
+
+        ImmutableIntArraySerializer() {
+            super(ImmutableIntArray.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, ImmutableIntArray value) {
+            return value.isEmpty();
+        }
+
+        @Override
+        public void serialize(ImmutableIntArray value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            final int length = value.length();
+            gen.writeStartArray(value, length);
+            for (int i = 0; i < length; i++) {
+                gen.writeNumber(value.get(i));
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    private static class ImmutableLongArraySerializer extends StdSerializer<ImmutableLongArray> {
+        private static final long serialVersionUID = 1L;
+
+        ImmutableLongArraySerializer() {
+            super(ImmutableLongArray.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, ImmutableLongArray value) {
+            return value.isEmpty();
+        }
+
+        @Override
+        public void serialize(ImmutableLongArray value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            final int length = value.length();
+            gen.writeStartArray(value, length);
+            for (int i = 0; i < length; i++) {
+                gen.writeNumber(value.get(i));
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    private static class ImmutableDoubleArraySerializer extends StdSerializer<ImmutableDoubleArray> {
+        private static final long serialVersionUID = 1L;
+
+        ImmutableDoubleArraySerializer() {
+            super(ImmutableDoubleArray.class);
+        }
+
+        @Override
+        public boolean isEmpty(SerializerProvider provider, ImmutableDoubleArray value) {
+            return value.isEmpty();
+        }
+
+        @Override
+        public void serialize(ImmutableDoubleArray value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            final int length = value.length();
+            gen.writeStartArray(value, length);
+            for (int i = 0; i < length; i++) {
+                gen.writeNumber(value.get(i));
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    private static class ImmutableIntArrayDeserializer extends StdDeserializer<ImmutableIntArray> {
+        private static final long serialVersionUID = 1L;
+
+        ImmutableIntArrayDeserializer() {
+            super(ImmutableIntArray.class);
+        }
+
+        @Override
+        public ImmutableIntArray deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                if (ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+                    return ImmutableIntArray.of(_parseIntPrimitive(p, ctxt));
+                }
+                return (ImmutableIntArray) ctxt.handleUnexpectedToken(ImmutableIntArray.class, p);
+            }
+
+            final ImmutableIntArray.Builder builder = ImmutableIntArray.builder();
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                builder.add(token == JsonToken.VALUE_NUMBER_INT ? p.getIntValue() : _parseIntPrimitive(p, ctxt));
+            }
+            return builder.build();
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return ImmutableIntArray.of();
+        }
+    }
+
+    private static class ImmutableLongArrayDeserializer extends StdDeserializer<ImmutableLongArray> {
+        private static final long serialVersionUID = 1L;
+
+        ImmutableLongArrayDeserializer() {
+            super(ImmutableLongArray.class);
+        }
+
+        @Override
+        public ImmutableLongArray deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                if (ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+                    return ImmutableLongArray.of(_parseLongPrimitive(p, ctxt));
+                }
+                return (ImmutableLongArray) ctxt.handleUnexpectedToken(ImmutableLongArray.class, p);
+            }
+
+            final ImmutableLongArray.Builder builder = ImmutableLongArray.builder();
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                builder.add(token == JsonToken.VALUE_NUMBER_INT ? p.getLongValue() : _parseLongPrimitive(p, ctxt));
+            }
+            return builder.build();
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return ImmutableLongArray.of();
+        }
+    }
+
+    private static class ImmutableDoubleArrayDeserializer extends StdDeserializer<ImmutableDoubleArray> {
+        private static final long serialVersionUID = 1L;
+
+        ImmutableDoubleArrayDeserializer() {
+            super(ImmutableDoubleArray.class);
+        }
+
+        @Override
+        public ImmutableDoubleArray deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                if (ctxt.isEnabled(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY)) {
+                    return ImmutableDoubleArray.of(_parseDoublePrimitive(p, ctxt));
+                }
+                return (ImmutableDoubleArray) ctxt.handleUnexpectedToken(ImmutableDoubleArray.class, p);
+            }
+
+            final ImmutableDoubleArray.Builder builder = ImmutableDoubleArray.builder();
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                builder.add(token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_NUMBER_INT
+                    ? p.getDoubleValue() : _parseDoublePrimitive(p, ctxt));
+            }
+            return builder.build();
+        }
+
+        @Override
+        public Object getEmptyValue(DeserializationContext ctxt) {
+            return ImmutableDoubleArray.of();
+        }
+    }
+
+    private static class GuavaPrimitivesDeserializers extends Deserializers.Base {
+        @Override
+        public JsonDeserializer<?> findBeanDeserializer(JavaType type,
+                                                        DeserializationConfig config,
+                                                        BeanDescription beanDesc) throws JsonMappingException {
+            final Class<?> rawClass = type.getRawClass();
+            if (rawClass == ImmutableIntArray.class) {
+                return new ImmutableIntArrayDeserializer();
+            }
+            if (rawClass == ImmutableLongArray.class) {
+                return new ImmutableLongArrayDeserializer();
+            }
+            if (rawClass == ImmutableDoubleArray.class) {
+                return new ImmutableDoubleArrayDeserializer();
+            }
+
+            return super.findBeanDeserializer(type, config, beanDesc);
+        }
+    }
+
+    private static class GuavaPrimitivesSerializers extends Serializers.Base {
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            final Class<?> rawClass = type.getRawClass();
+            if (rawClass == ImmutableIntArray.class) {
+                return new ImmutableIntArraySerializer();
+            }
+            if (rawClass == ImmutableLongArray.class) {
+                return new ImmutableLongArraySerializer();
+            }
+            if (rawClass == ImmutableDoubleArray.class) {
+                return new ImmutableDoubleArraySerializer();
+            }
+
+            return super.findSerializer(config, type, beanDesc);
+        }
+    }
+
+    @Override
+    public String getModuleName() {
+        return "guava-primitives";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        context.addDeserializers(new GuavaPrimitivesDeserializers());
+        context.addSerializers(new GuavaPrimitivesSerializers());
+    }
+}
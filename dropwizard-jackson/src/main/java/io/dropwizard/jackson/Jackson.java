@@ -1,19 +1,15 @@
 package io.dropwizard.jackson;
 
 import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.joda.JodaModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 
 import javax.annotation.Nullable;
 
-import java.util.List;
-
 import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 
 /**
@@ -22,16 +18,33 @@ import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKN
 public class Jackson {
     private Jackson() { /* singleton */ }
 
+    /**
+     * Holds the accelerator of the default mappers, which is chosen once, from the
+     * {@value JacksonAccelerator#PROPERTY} system property.
+     */
+    private static final class DefaultAccelerator {
+        private static final JacksonAccelerator ACCELERATOR = JacksonAccelerator.fromSystemProperties();
+    }
+
+    /**
+     * Holds a fully configured {@link ObjectMapper} which is never used itself, but copied by
+     * {@link #newObjectMapper()}. Copying skips the module registration and subtype discovery.
+     */
+    private static final class Template {
+        private static final ObjectMapper MAPPER = configure(new ObjectMapper(), DefaultAccelerator.ACCELERATOR);
+    }
+
     /**
      * Creates a new {@link ObjectMapper} with Guava, Logback, and Joda Time support, as well as
      * support for {@link JsonSnakeCase}. Also includes all {@link Discoverable} interface implementations.
+     * <p>
+     * The returned mapper is a copy of a shared template which is configured on first use, so creating
+     * further mappers is cheap.
      *
      * @return the configured {@link ObjectMapper}
      */
     public static ObjectMapper newObjectMapper() {
-        final ObjectMapper mapper = new ObjectMapper();
-
-        return configure(mapper);
+        return Template.MAPPER.copy();
     }
 
     /**
@@ -44,9 +57,24 @@ public class Jackson {
      * @return the configured {@link ObjectMapper}
      */
     public static ObjectMapper newObjectMapper(@Nullable JsonFactory jsonFactory) {
+        if (jsonFactory == null) {
+            return newObjectMapper();
+        }
         final ObjectMapper mapper = new ObjectMapper(jsonFactory);
 
-        return configure(mapper);
+        return configure(mapper, DefaultAccelerator.ACCELERATOR);
+    }
+
+    /**
+     * Creates a new {@link ObjectMapper} like {@link #newObjectMapper()}, but with the given accelerator
+     * instead of the one selected by the {@value JacksonAccelerator#PROPERTY} system property.
+     *
+     * @param accelerator the accelerator module to register
+     * @return the configured {@link ObjectMapper}
+     * @since 2.1.5
+     */
+    public static ObjectMapper newObjectMapperWithAccelerator(JacksonAccelerator accelerator) {
+        return configure(new ObjectMapper(), accelerator);
     }
 
     /**
@@ -67,22 +95,17 @@ public class Jackson {
      * Configures an {@link ObjectMapper} with a set of common modules and properties.
      *
      * @param mapper the {@link ObjectMapper} to configure
+     * @param accelerator the accelerator module to register
      * @return the configured {@link ObjectMapper}
      */
-    private static ObjectMapper configure(ObjectMapper mapper) {
-        final List<Module> modules = ObjectMapper.findModules();
-
+    private static ObjectMapper configure(ObjectMapper mapper, JacksonAccelerator accelerator) {
         mapper.registerModule(new GuavaModule());
         mapper.registerModule(new GuavaExtrasModule());
+        mapper.registerModule(new GuavaPrimitivesModule());
         mapper.registerModule(new CaffeineModule());
         mapper.registerModule(new JodaModule());
 
-        final Module acceleratorModule = modules.stream()
-                .filter(module -> "AfterburnerModule" .equals(module.getModuleName()))
-                .findFirst()
-                .orElse(new BlackbirdModule());
-
-        mapper.registerModule(acceleratorModule);
+        accelerator.newModule().ifPresent(mapper::registerModule);
         mapper.registerModule(new FuzzyEnumModule());
         mapper.registerModule(new ParameterNamesModule());
         mapper.registerModule(new Jdk8Module());
@@ -0,0 +1,140 @@
+package io.dropwizard.jackson;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * The Jackson module which {@link Jackson#newObjectMapper()} registers to speed up serialization and
+ * deserialization by generating accessors instead of using reflection.
+ * <p>
+ * The default mappers use the accelerator named by the {@value #PROPERTY} system property, or {@link #AUTO}
+ * if the property isn't set.
+ *
+ * @since 2.1.5
+ */
+public enum JacksonAccelerator {
+    /**
+     * Afterburner if it is on the class path, otherwise Blackbird.
+     */
+    AUTO,
+
+    /**
+     * The {@code jackson-module-afterburner}, which generates bytecode and has to be added to the class path.
+     */
+    AFTERBURNER,
+
+    /**
+     * The {@code jackson-module-blackbird}, which uses {@code LambdaMetafactory}.
+     */
+    BLACKBIRD,
+
+    /**
+     * No accelerator; Jackson uses reflection.
+     */
+    NONE;
+
+    /**
+     * The name of the system property selecting the accelerator of the default mappers.
+     */
+    public static final String PROPERTY = "dropwizard.jackson.accelerator";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JacksonAccelerator.class);
+    private static final String AFTERBURNER_MODULE = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    /**
+     * Holds the Afterburner module class discovered on the class path, because {@link ObjectMapper#findModules()}
+     * scans the class path for service descriptors.
+     */
+    private static final class Afterburner {
+        @Nullable
+        private static final Class<? extends Module> MODULE = ObjectMapper.findModules().stream()
+                .filter(module -> "AfterburnerModule".equals(module.getModuleName()))
+                .<Class<? extends Module>>map(Module::getClass)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Returns the accelerator named by the {@value #PROPERTY} system property, ignoring case. An unknown
+     * accelerator is logged and replaced by {@link #AUTO}, since the property is read while creating the
+     * default mappers, where an exception would leave {@link Jackson} unusable. The same applies to
+     * {@link #AFTERBURNER} if it isn't on the class path.
+     *
+     * @return the configured accelerator, or {@link #AUTO} if the property isn't set or invalid
+     */
+    public static JacksonAccelerator fromSystemProperties() {
+        final String value = System.getProperty(PROPERTY);
+        if (value == null || value.trim().isEmpty()) {
+            return AUTO;
+        }
+        final JacksonAccelerator accelerator;
+        try {
+            accelerator = valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            LOGGER.warn("Unknown Jackson accelerator '{}' in the system property {}, expected one of {}; using {}",
+                value, PROPERTY, Arrays.toString(values()), AUTO);
+            return AUTO;
+        }
+        if (accelerator == AFTERBURNER && !isAfterburnerAvailable()) {
+            LOGGER.warn("The Jackson accelerator {} requires jackson-module-afterburner; using {}", AFTERBURNER, AUTO);
+            return AUTO;
+        }
+        return accelerator;
+    }
+
+    /**
+     * Creates a new instance of the accelerator module.
+     *
+     * @return the module, or an empty optional for {@link #NONE}
+     * @throws IllegalStateException if Afterburner was selected, but isn't on the class path
+     */
+    public Optional<Module> newModule() {
+        switch (this) {
+            case AUTO:
+                return Optional.of(Afterburner.MODULE != null ? newAfterburnerModule(Afterburner.MODULE)
+                    : new BlackbirdModule());
+            case AFTERBURNER:
+                return Optional.of(newAfterburnerModule(loadAfterburnerModule()));
+            case BLACKBIRD:
+                return Optional.of(new BlackbirdModule());
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private static boolean isAfterburnerAvailable() {
+        try {
+            loadAfterburnerModule();
+            return true;
+        } catch (IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private static Class<? extends Module> loadAfterburnerModule() {
+        if (Afterburner.MODULE != null) {
+            return Afterburner.MODULE;
+        }
+        try {
+            return Class.forName(AFTERBURNER_MODULE).asSubclass(Module.class);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("The Afterburner accelerator requires jackson-module-afterburner", e);
+        }
+    }
+
+    private static Module newAfterburnerModule(Class<? extends Module> moduleClass) {
+        try {
+            return moduleClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create " + moduleClass.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.dropwizard.jackson;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DiscoverableSubtypeProcessorTest {
+    @Test
+    void indexesNamedSubtypesOfDiscoverableServices(@TempDir Path output) throws IOException {
+        final List<JavaFileObject> sources = Arrays.asList(
+            source("example.WidgetFactory",
+                "package example; public interface WidgetFactory extends io.dropwizard.jackson.Discoverable {}"),
+            source("example.HammerFactory",
+                "package example; @com.fasterxml.jackson.annotation.JsonTypeName(\"hammer\") "
+                    + "public class HammerFactory implements WidgetFactory {}"),
+            source("example.HeavyHammerFactory",
+                "package example; @com.fasterxml.jackson.annotation.JsonTypeName(\"heavy\") "
+                    + "public class HeavyHammerFactory extends HammerFactory {}"),
+            source("example.AbstractFactory",
+                "package example; @com.fasterxml.jackson.annotation.JsonTypeName(\"abstract\") "
+                    + "public abstract class AbstractFactory implements WidgetFactory {}"),
+            source("example.Unrelated",
+                "package example; @com.fasterxml.jackson.annotation.JsonTypeName(\"unrelated\") "
+                    + "public class Unrelated {}"));
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, UTF_8)) {
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                Arrays.asList("-d", output.toString(), "-classpath", System.getProperty("java.class.path"),
+                    "-proc:only"),
+                null, sources);
+            task.setProcessors(Collections.singletonList(new DiscoverableSubtypeProcessor()));
+            assertThat(task.call()).isTrue();
+        }
+
+        assertThat(Files.readAllLines(output.resolve(DiscoverableSubtypeProcessor.INDEX_RESOURCE), UTF_8))
+            .filteredOn(line -> !line.startsWith("#"))
+            .containsExactly(
+                "example.WidgetFactory example.HammerFactory",
+                "example.WidgetFactory example.HeavyHammerFactory");
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+            JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
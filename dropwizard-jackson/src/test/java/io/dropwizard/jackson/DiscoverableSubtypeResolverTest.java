@@ -3,7 +3,25 @@ package io.dropwizard.jackson;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class DiscoverableSubtypeResolverTest {
@@ -23,4 +41,107 @@ class DiscoverableSubtypeResolverTest {
         assertThat(mapper.readValue("{\"type\":\"b\"}", ExampleSPI.class))
                 .isInstanceOf(ImplB.class);
     }
+
+    @Test
+    void copiesKeepTheDiscoveredSubtypes() throws Exception {
+        final ObjectMapper copy = mapper.copy();
+
+        assertThat(copy.getSubtypeResolver())
+                .isInstanceOfSatisfying(DiscoverableSubtypeResolver.class, copiedResolver ->
+                        assertThat(copiedResolver.getDiscoveredSubtypes())
+                                .isEqualTo(resolver.getDiscoveredSubtypes()));
+        assertThat(copy.readValue("{\"type\":\"a\"}", ExampleSPI.class))
+                .isInstanceOf(ImplA.class);
+    }
+
+    @Test
+    void discoversSubtypesThroughOverriddenDiscoverServices() {
+        final DiscoverableSubtypeResolver filteringResolver = new DiscoverableSubtypeResolver(ExampleTag.class) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected List<Class<?>> discoverServices(Class<?> klass) {
+                return super.discoverServices(klass).stream()
+                    .filter(service -> service != ImplB.class)
+                    .collect(Collectors.toList());
+            }
+        };
+
+        assertThat(filteringResolver.getDiscoveredSubtypes()).containsExactly(ImplA.class);
+    }
+
+    @Test
+    void readsTheIndexAndLoadsSubtypesLazily(@TempDir Path directory) throws Exception {
+        final Path index = directory.resolve(DiscoverableSubtypeProcessor.INDEX_RESOURCE);
+        Files.createDirectories(index.getParent());
+        Files.write(index, Arrays.asList(
+            "# Generated",
+            "io.dropwizard.jackson.IndexedSPI io.dropwizard.jackson.IndexedImpl",
+            "io.dropwizard.jackson.MissingSPI io.dropwizard.jackson.MissingImpl"), UTF_8);
+
+        final List<String> loadedClasses = new CopyOnWriteArrayList<>();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()},
+            getClass().getClassLoader()) {
+            @Override
+            public Class<?> loadClass(String name) throws ClassNotFoundException {
+                loadedClasses.add(name);
+                return super.loadClass(name);
+            }
+        }) {
+            final DiscoverableSubtypeResolver indexedResolver = new DiscoverableSubtypeResolver() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected ClassLoader getClassLoader() {
+                    return classLoader;
+                }
+            };
+            assertThat(loadedClasses).isEmpty();
+
+            final ObjectMapper indexedMapper = new ObjectMapper().setSubtypeResolver(indexedResolver);
+            assertThat(indexedMapper.readValue("{\"type\":\"indexed\"}", IndexedSPI.class))
+                .isInstanceOf(IndexedImpl.class);
+            assertThat(loadedClasses).contains(IndexedImpl.class.getName());
+            assertThat(indexedResolver.getDiscoveredSubtypes()).containsExactly(IndexedImpl.class);
+        }
+    }
+
+    @Test
+    void discoversSubtypesOfIndexedServicesInJarsWithoutAnIndex(@TempDir Path directory) throws Exception {
+        final Map<String, String> serviceJar = new LinkedHashMap<>();
+        serviceJar.put("META-INF/services/" + Discoverable.class.getName(), IndexedSPI.class.getName() + "\n");
+        serviceJar.put(DiscoverableSubtypeProcessor.INDEX_RESOURCE, "# Generated\n");
+        final Path indexed = writeJar(directory.resolve("indexed.jar"), serviceJar);
+        final Path unindexed = writeJar(directory.resolve("unindexed.jar"), Collections.singletonMap(
+            "META-INF/services/" + IndexedSPI.class.getName(), IndexedImpl.class.getName() + "\n"));
+
+        try (URLClassLoader classLoader = new URLClassLoader(
+            new URL[]{indexed.toUri().toURL(), unindexed.toUri().toURL()}, getClass().getClassLoader())) {
+            final DiscoverableSubtypeResolver indexedResolver = new DiscoverableSubtypeResolver() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected ClassLoader getClassLoader() {
+                    return classLoader;
+                }
+            };
+
+            final ObjectMapper indexedMapper = new ObjectMapper().setSubtypeResolver(indexedResolver);
+            assertThat(indexedMapper.readValue("{\"type\":\"indexed\"}", IndexedSPI.class))
+                .isInstanceOf(IndexedImpl.class);
+            assertThat(indexedResolver.getDiscoveredSubtypes()).containsExactly(IndexedImpl.class);
+        }
+    }
+
+    private static Path writeJar(Path jar, Map<String, String> entries) throws IOException {
+        try (OutputStream output = Files.newOutputStream(jar);
+             JarOutputStream jarOutput = new JarOutputStream(output)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                jarOutput.putNextEntry(new ZipEntry(entry.getKey()));
+                jarOutput.write(entry.getValue().getBytes(UTF_8));
+                jarOutput.closeEntry();
+            }
+        }
+        return jar;
+    }
 }
@@ -0,0 +1,91 @@
+package io.dropwizard.jackson;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.google.common.primitives.ImmutableDoubleArray;
+import com.google.common.primitives.ImmutableIntArray;
+import com.google.common.primitives.ImmutableLongArray;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class GuavaPrimitivesModuleTest {
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new GuavaPrimitivesModule());
+
+    @Test
+    void canDeserializeImmutableIntArrays() throws Exception {
+        assertThat(mapper.readValue("[1,-2,\"3\"]", ImmutableIntArray.class))
+                .isEqualTo(ImmutableIntArray.of(1, -2, 3));
+    }
+
+    @Test
+    void canSerializeImmutableIntArrays() throws Exception {
+        assertThat(mapper.writeValueAsString(ImmutableIntArray.of(1, -2, 3))).isEqualTo("[1,-2,3]");
+    }
+
+    @Test
+    void canDeserializeImmutableLongArrays() throws Exception {
+        assertThat(mapper.readValue("[9007199254740993,0]", ImmutableLongArray.class))
+                .isEqualTo(ImmutableLongArray.of(9007199254740993L, 0L));
+    }
+
+    @Test
+    void canSerializeImmutableLongArrays() throws Exception {
+        assertThat(mapper.writeValueAsString(ImmutableLongArray.of(9007199254740993L, 0L)))
+                .isEqualTo("[9007199254740993,0]");
+    }
+
+    @Test
+    void canDeserializeImmutableDoubleArrays() throws Exception {
+        assertThat(mapper.readValue("[1.5,2,-0.25]", ImmutableDoubleArray.class))
+                .isEqualTo(ImmutableDoubleArray.of(1.5, 2.0, -0.25));
+    }
+
+    @Test
+    void canSerializeImmutableDoubleArrays() throws Exception {
+        assertThat(mapper.writeValueAsString(ImmutableDoubleArray.of(1.5, 2.0, -0.25)))
+                .isEqualTo("[1.5,2.0,-0.25]");
+    }
+
+    @Test
+    void canDeserializeEmptyArrays() throws Exception {
+        assertThat(mapper.readValue("[]", ImmutableIntArray.class).isEmpty()).isTrue();
+    }
+
+    @Test
+    void rejectsNonArrayValues() {
+        assertThatExceptionOfType(MismatchedInputException.class)
+                .isThrownBy(() -> mapper.readValue("{}", ImmutableIntArray.class));
+    }
+
+    @Test
+    void canAcceptSingleValuesAsArrays() throws Exception {
+        final ObjectMapper lenientMapper = mapper.copy().enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
+        assertThat(lenientMapper.readValue("42", ImmutableLongArray.class))
+                .isEqualTo(ImmutableLongArray.of(42L));
+    }
+
+    @Test
+    void canOmitEmptyArrays() throws Exception {
+        assertThat(mapper.writeValueAsString(new Samples(ImmutableIntArray.of()))).isEqualTo("{}");
+        assertThat(mapper.readValue("{\"values\":[4,5]}", Samples.class).values)
+                .isEqualTo(ImmutableIntArray.of(4, 5));
+    }
+
+    static class Samples {
+        @JsonProperty
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        ImmutableIntArray values = ImmutableIntArray.of();
+
+        Samples() {
+        }
+
+        Samples(ImmutableIntArray values) {
+            this.values = values;
+        }
+    }
+}
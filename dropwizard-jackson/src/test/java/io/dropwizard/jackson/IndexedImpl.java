@@ -0,0 +1,7 @@
+package io.dropwizard.jackson;
+
+import com.fasterxml.jackson.annotation.JsonTypeName;
+
+@JsonTypeName("indexed")
+public class IndexedImpl implements IndexedSPI {
+}
@@ -0,0 +1,7 @@
+package io.dropwizard.jackson;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+public interface IndexedSPI extends Discoverable {
+}
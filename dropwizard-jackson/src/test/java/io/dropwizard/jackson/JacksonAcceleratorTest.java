@@ -0,0 +1,46 @@
+package io.dropwizard.jackson;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JacksonAcceleratorTest {
+    private static final String AFTERBURNER = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+    private static final String BLACKBIRD = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+
+    @AfterEach
+    void clearProperty() {
+        System.clearProperty(JacksonAccelerator.PROPERTY);
+    }
+
+    @Test
+    void registersTheSelectedAccelerator() {
+        assertThat(Jackson.newObjectMapperWithAccelerator(JacksonAccelerator.BLACKBIRD).getRegisteredModuleIds())
+            .contains(BLACKBIRD)
+            .doesNotContain(AFTERBURNER);
+        assertThat(Jackson.newObjectMapperWithAccelerator(JacksonAccelerator.AFTERBURNER).getRegisteredModuleIds())
+            .contains(AFTERBURNER)
+            .doesNotContain(BLACKBIRD);
+        assertThat(Jackson.newObjectMapperWithAccelerator(JacksonAccelerator.NONE).getRegisteredModuleIds())
+            .doesNotContain(AFTERBURNER, BLACKBIRD);
+    }
+
+    @Test
+    void autoPrefersAfterburnerOnTheClassPath() {
+        assertThat(Jackson.newObjectMapperWithAccelerator(JacksonAccelerator.AUTO).getRegisteredModuleIds())
+            .contains(AFTERBURNER)
+            .doesNotContain(BLACKBIRD);
+    }
+
+    @Test
+    void readsTheSystemProperty() {
+        assertThat(JacksonAccelerator.fromSystemProperties()).isEqualTo(JacksonAccelerator.AUTO);
+
+        System.setProperty(JacksonAccelerator.PROPERTY, " blackbird ");
+        assertThat(JacksonAccelerator.fromSystemProperties()).isEqualTo(JacksonAccelerator.BLACKBIRD);
+
+        System.setProperty(JacksonAccelerator.PROPERTY, "rocket");
+        assertThat(JacksonAccelerator.fromSystemProperties()).isEqualTo(JacksonAccelerator.AUTO);
+    }
+}
@@ -3,6 +3,7 @@ package io.dropwizard.jackson;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import org.junit.jupiter.api.Test;
 
 import javax.annotation.Nullable;
@@ -61,6 +62,22 @@ class JacksonTest {
                 .doesNotContain("com.fasterxml.jackson.module.blackbird.BlackbirdModule");
     }
 
+    @Test
+    void objectMappersAreIndependentCopies() {
+        final ObjectMapper first = Jackson.newObjectMapper();
+        final ObjectMapper second = Jackson.newObjectMapper();
+        first.enable(SerializationFeature.INDENT_OUTPUT);
+
+        assertThat(first).isNotSameAs(second);
+        assertThat(second.isEnabled(SerializationFeature.INDENT_OUTPUT)).isFalse();
+        assertThat(second.getRegisteredModuleIds()).isEqualTo(first.getRegisteredModuleIds());
+    }
+
+    @Test
+    void objectMapperUsesDiscoverableSubtypeResolver() {
+        assertThat(Jackson.newObjectMapper().getSubtypeResolver()).isInstanceOf(DiscoverableSubtypeResolver.class);
+    }
+
     static class LogMetadata {
 
         @Nullable
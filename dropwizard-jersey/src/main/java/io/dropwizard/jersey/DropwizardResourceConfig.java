@@ -2,10 +2,15 @@ package io.dropwizard.jersey;
 
 import com.codahale.metrics.Clock;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
 import com.codahale.metrics.jersey2.InstrumentedResourceMethodApplicationListener;
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.classmate.TypeResolver;
+import io.dropwizard.jersey.async.AsyncMetricsApplicationListener;
 import io.dropwizard.jersey.caching.CacheControlledResponseFeature;
+import io.dropwizard.jersey.caching.CachedResponseFeature;
+import io.dropwizard.jersey.caching.RequestCoalescingFeature;
+import io.dropwizard.jersey.limits.RequestBodySizeLimitFeature;
 import io.dropwizard.jersey.params.AbstractParamConverterProvider;
 import io.dropwizard.jersey.sessions.SessionFactoryProvider;
 import io.dropwizard.jersey.validation.FuzzyEnumParamConverterProvider;
@@ -28,6 +33,8 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 import javax.validation.constraints.NotNull;
+import javax.ws.rs.core.Feature;
+import javax.ws.rs.core.FeatureContext;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -35,12 +42,15 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static com.codahale.metrics.MetricRegistry.name;
 import static java.util.Objects.requireNonNull;
 
 public class DropwizardResourceConfig extends ResourceConfig {
@@ -52,7 +62,11 @@ public class DropwizardResourceConfig extends ResourceConfig {
 
     private String urlPattern = "/*";
     private String contextPath = "/";
-    private final ComponentLoggingListener loggingListener = new ComponentLoggingListener(this);
+    private final ComponentLoggingListener loggingListener;
+    private final Timer scanningTimer;
+
+    @Nullable
+    private ResourceScanCache scanCache;
 
     public DropwizardResourceConfig() {
         this(null);
@@ -65,12 +79,21 @@ public class DropwizardResourceConfig extends ResourceConfig {
             metricRegistry = new MetricRegistry();
         }
 
+        this.loggingListener = new ComponentLoggingListener(this, startupTimer(metricRegistry, "endpoint-logging"));
+        this.scanningTimer = startupTimer(metricRegistry, "scanning");
+
         property(ServerProperties.WADL_FEATURE_DISABLE, Boolean.TRUE);
         register(loggingListener);
+        register(new StartupTimingListener(startupTimer(metricRegistry, "binding"),
+            startupTimer(metricRegistry, "validation")));
 
         register(new MetricRegistryBinder(metricRegistry));
         register(new InstrumentedResourceMethodApplicationListener(metricRegistry, Clock.defaultClock(), true));
+        register(new AsyncMetricsApplicationListener(metricRegistry));
         register(CacheControlledResponseFeature.class);
+        register(CachedResponseFeature.class);
+        register(RequestCoalescingFeature.class);
+        register(RequestBodySizeLimitFeature.class);
         register(io.dropwizard.jersey.guava.OptionalMessageBodyWriter.class);
         register(new io.dropwizard.jersey.guava.OptionalParamBinder());
         register(io.dropwizard.jersey.optional.OptionalMessageBodyWriter.class);
@@ -105,6 +128,84 @@ public class DropwizardResourceConfig extends ResourceConfig {
         return config;
     }
 
+    private static Timer startupTimer(MetricRegistry metricRegistry, String phase) {
+        return metricRegistry.timer(name(DropwizardResourceConfig.class, "startup", phase));
+    }
+
+    /**
+     * Sets the cache for the classes found by {@link #scanPackages(boolean, String...)}.
+     *
+     * @param scanCache the cache, or {@code null} to always scan the packages
+     * @since 2.1.5
+     */
+    public void setScanCache(@Nullable ResourceScanCache scanCache) {
+        this.scanCache = scanCache;
+    }
+
+    /**
+     * @return the cache for the classes found by {@link #scanPackages(boolean, String...)}, if one is set
+     * @since 2.1.5
+     */
+    public Optional<ResourceScanCache> getScanCache() {
+        return Optional.ofNullable(scanCache);
+    }
+
+    /**
+     * Scans the given packages for resource and provider classes and registers them. Unlike
+     * {@link #packages(boolean, String...)}, the packages are scanned immediately, the time spent is recorded in the
+     * {@code startup.scanning} timer and the result is taken from the {@link #setScanCache(ResourceScanCache) scan
+     * cache}, if one is set and contains the packages.
+     *
+     * @param recursive whether to scan nested packages
+     * @param packages  the names of the packages to scan
+     * @return this configuration
+     * @since 2.1.5
+     */
+    public DropwizardResourceConfig scanPackages(boolean recursive, String... packages) {
+        requireNonNull(packages);
+        try (Timer.Context context = scanningTimer.time()) {
+            final ResourceScanCache cache = scanCache;
+            Set<Class<?>> classes = null;
+            if (cache != null) {
+                final Optional<Set<String>> classNames = cache.read(recursive, packages);
+                if (classNames.isPresent()) {
+                    classes = loadClasses(classNames.get());
+                }
+            }
+            if (classes == null) {
+                classes = scanClasses(recursive, packages);
+                if (cache != null) {
+                    cache.write(classes.stream().map(Class::getName).collect(Collectors.toCollection(TreeSet::new)),
+                        recursive, packages);
+                }
+            }
+            registerClasses(classes);
+        }
+        return this;
+    }
+
+    @Nullable
+    private Set<Class<?>> loadClasses(Set<String> classNames) {
+        final Set<Class<?>> classes = new HashSet<>();
+        for (String className : classNames) {
+            try {
+                classes.add(Class.forName(className, false, getClassLoader()));
+            } catch (ClassNotFoundException e) {
+                LOGGER.debug("Cached class {} not found, scanning packages again", className);
+                return null;
+            }
+        }
+        return classes;
+    }
+
+    private Set<Class<?>> scanClasses(boolean recursive, String... packages) {
+        // A separate configuration is used, so that only the classes found in the packages are returned
+        return new ResourceConfig()
+            .setClassLoader(getClassLoader())
+            .packages(recursive, packages)
+            .getClasses();
+    }
+
     public String getUrlPattern() {
         return urlPattern;
     }
@@ -228,33 +329,83 @@ public class DropwizardResourceConfig extends ResourceConfig {
         }
     }
 
+    /**
+     * Records the time Jersey spends on binding the components and building the resource model (from the
+     * configuration of the features until the start of the application initialization) and on validating the
+     * resource model and building the request processing chain (until the application initialization finished).
+     */
+    private static class StartupTimingListener implements ApplicationEventListener, Feature {
+        private final Timer bindingTimer;
+        private final Timer validationTimer;
+        private volatile long bindingStart;
+        private volatile long validationStart;
+
+        StartupTimingListener(Timer bindingTimer, Timer validationTimer) {
+            this.bindingTimer = bindingTimer;
+            this.validationTimer = validationTimer;
+        }
+
+        @Override
+        public boolean configure(FeatureContext context) {
+            bindingStart = System.nanoTime();
+            return true;
+        }
+
+        @Override
+        public void onEvent(ApplicationEvent event) {
+            final long now = System.nanoTime();
+            if (event.getType() == ApplicationEvent.Type.INITIALIZATION_START) {
+                if (bindingStart != 0) {
+                    bindingTimer.update(now - bindingStart, TimeUnit.NANOSECONDS);
+                }
+                validationStart = now;
+            } else if (event.getType() == ApplicationEvent.Type.INITIALIZATION_APP_FINISHED && validationStart != 0) {
+                validationTimer.update(now - validationStart, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        @Nullable
+        public RequestEventListener onRequest(RequestEvent requestEvent) {
+            return null;
+        }
+    }
+
     private static class ComponentLoggingListener implements ApplicationEventListener {
         private final DropwizardResourceConfig config;
+        private final Timer endpointLoggingTimer;
         private List<Resource> resources = Collections.emptyList();
         private Set<Class<?>> providers = Collections.emptySet();
 
-        ComponentLoggingListener(DropwizardResourceConfig config) {
+        @Nullable
+        private volatile EndpointsInfo endpointsInfo;
+
+        ComponentLoggingListener(DropwizardResourceConfig config, Timer endpointLoggingTimer) {
             this.config = config;
+            this.endpointLoggingTimer = endpointLoggingTimer;
         }
 
         @Override
         @SuppressWarnings("Slf4jFormatShouldBeConst")
         public void onEvent(ApplicationEvent event) {
             if (event.getType() == ApplicationEvent.Type.INITIALIZATION_APP_FINISHED) {
-                resources = event.getResourceModel().getResources();
-                providers = event.getProviders();
-
-                final String resourceClasses = resources.stream()
-                        .map(x -> x.getClass().getCanonicalName())
-                        .collect(Collectors.joining(", "));
-
-                final String providerClasses = providers.stream()
-                        .map(Class::getCanonicalName)
-                        .collect(Collectors.joining(", "));
-
-                LOGGER.debug("resources = {}", resourceClasses);
-                LOGGER.debug("providers = {}", providerClasses);
-                LOGGER.info(getEndpointsInfo());
+                try (Timer.Context context = endpointLoggingTimer.time()) {
+                    resources = event.getResourceModel().getResources();
+                    providers = event.getProviders();
+                    endpointsInfo = null;
+
+                    final String resourceClasses = resources.stream()
+                            .map(x -> x.getClass().getCanonicalName())
+                            .collect(Collectors.joining(", "));
+
+                    final String providerClasses = providers.stream()
+                            .map(Class::getCanonicalName)
+                            .collect(Collectors.joining(", "));
+
+                    LOGGER.debug("resources = {}", resourceClasses);
+                    LOGGER.debug("providers = {}", providerClasses);
+                    LOGGER.info(getEndpointsInfo());
+                }
             }
         }
 
@@ -324,6 +475,19 @@ public class DropwizardResourceConfig extends ResourceConfig {
         }
 
         String getEndpointsInfo() {
+            // The endpoints only change when the application is initialized again or the paths are changed
+            final EndpointsInfo cached = endpointsInfo;
+            if (cached != null && cached.contextPath.equals(config.getContextPath())
+                && cached.urlPattern.equals(config.getUrlPattern())) {
+                return cached.info;
+            }
+            final EndpointsInfo computed = new EndpointsInfo(config.getContextPath(), config.getUrlPattern(),
+                computeEndpointsInfo());
+            endpointsInfo = computed;
+            return computed.info;
+        }
+
+        private String computeEndpointsInfo() {
             final StringBuilder msg = new StringBuilder(1024);
             final Set<EndpointLogLine> endpointLogLines = new TreeSet<>(new EndpointComparator());
             final String contextPath = config.getContextPath();
@@ -368,6 +532,18 @@ public class DropwizardResourceConfig extends ResourceConfig {
         }
     }
 
+    private static final class EndpointsInfo {
+        private final String contextPath;
+        private final String urlPattern;
+        private final String info;
+
+        EndpointsInfo(String contextPath, String urlPattern, String info) {
+            this.contextPath = contextPath;
+            this.urlPattern = urlPattern;
+            this.info = info;
+        }
+    }
+
     static final class MetricRegistryBinder extends AbstractBinder {
         private final MetricRegistry metricRegistry;
 
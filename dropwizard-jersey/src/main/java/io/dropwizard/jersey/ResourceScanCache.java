@@ -0,0 +1,190 @@
+package io.dropwizard.jersey;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.regex.Pattern;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Caches the names of the resource and provider classes found by scanning packages in
+ * {@link DropwizardResourceConfig#scanPackages(boolean, String...)}, so that the class path does not have to be scanned
+ * again on the next start of the application.
+ * <p/>
+ * The cache is keyed by a hash of the class path, which covers the path, size and modification time of every
+ * class path entry, including the jars referenced by the {@code Class-Path} attribute of the jars' manifests. Class
+ * paths containing directories, e.g. when running from an IDE, are never cached, since
+ * their contents can change without changing the directory itself.
+ *
+ * @since 2.1.5
+ */
+public class ResourceScanCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResourceScanCache.class);
+    private static final Pattern PATH_SEPARATOR = Pattern.compile(Pattern.quote(File.pathSeparator));
+
+    private final Path directory;
+
+    @Nullable
+    private final String classPathHash;
+
+    /**
+     * @param directory the directory which holds the cache files
+     */
+    public ResourceScanCache(Path directory) {
+        this(directory, System.getProperty("java.class.path", ""));
+    }
+
+    ResourceScanCache(Path directory, String classPath) {
+        this.directory = requireNonNull(directory);
+        this.classPathHash = hashClassPath(classPath);
+    }
+
+    /**
+     * Returns the cached class names for the given packages.
+     *
+     * @param recursive whether nested packages were scanned
+     * @param packages  the scanned packages
+     * @return the cached class names, or an empty optional if the packages have not been cached for this class path
+     */
+    public Optional<Set<String>> read(boolean recursive, String... packages) {
+        final Path file = getFile(recursive, packages);
+        if (file == null || !Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try {
+            final Set<String> classNames = new LinkedHashSet<>();
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (!line.isEmpty()) {
+                    classNames.add(line);
+                }
+            }
+            return Optional.of(classNames);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to read resource scan cache {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the class names found by scanning the given packages.
+     *
+     * @param classNames the names of the resource and provider classes
+     * @param recursive  whether nested packages were scanned
+     * @param packages   the scanned packages
+     */
+    public void write(Set<String> classNames, boolean recursive, String... packages) {
+        final Path file = getFile(recursive, packages);
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            final Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            Files.write(temporaryFile, classNames, StandardCharsets.UTF_8);
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to write resource scan cache {}", file, e);
+        }
+    }
+
+    @Nullable
+    private Path getFile(boolean recursive, String... packages) {
+        if (classPathHash == null) {
+            return null;
+        }
+        final String key = classPathHash + '|' + recursive + '|' + String.join(",", packages);
+        return directory.resolve("jersey-scan-" + sha256(key) + ".txt");
+    }
+
+    @Nullable
+    static String hashClassPath(String classPath) {
+        final Deque<File> pending = new ArrayDeque<>();
+        for (String element : PATH_SEPARATOR.split(classPath)) {
+            if (!element.isEmpty()) {
+                pending.add(new File(element));
+            }
+        }
+
+        final StringBuilder entries = new StringBuilder();
+        final Set<String> visited = new HashSet<>();
+        while (!pending.isEmpty()) {
+            final File file = pending.remove();
+            if (file.isDirectory()) {
+                return null;
+            }
+            final String path = file.getAbsolutePath();
+            if (!visited.add(path)) {
+                continue;
+            }
+            entries.append(path).append(':')
+                .append(file.length()).append(':')
+                .append(file.lastModified()).append('\n');
+            pending.addAll(getManifestClassPath(file));
+        }
+        return sha256(entries.toString());
+    }
+
+    private static Set<File> getManifestClassPath(File jar) {
+        final Set<File> files = new LinkedHashSet<>();
+        if (!jar.isFile()) {
+            return files;
+        }
+        try (JarFile jarFile = new JarFile(jar)) {
+            final Manifest manifest = jarFile.getManifest();
+            final String classPath = manifest == null ? null
+                : manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+            if (classPath == null) {
+                return files;
+            }
+            final URI base = jar.getAbsoluteFile().toURI();
+            for (String entry : classPath.trim().split("\\s+")) {
+                if (entry.isEmpty()) {
+                    continue;
+                }
+                try {
+                    files.add(new File(base.resolve(entry)));
+                } catch (IllegalArgumentException e) {
+                    LOGGER.debug("Ignoring invalid Class-Path entry {} in {}", entry, jar, e);
+                }
+            }
+        } catch (IOException e) {
+            // Not a jar, so it can't reference other class path entries
+            LOGGER.debug("Unable to read the manifest of {}", jar, e);
+        }
+        return files;
+    }
+
+    private static String sha256(String value) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final StringBuilder hex = new StringBuilder(64);
+        for (byte b : digest.digest(value.getBytes(StandardCharsets.UTF_8))) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,137 @@
+package io.dropwizard.jersey.async;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceMethod;
+import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.ServiceUnavailableException;
+import java.util.concurrent.CompletionStage;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * Tracks requests which are handled by asynchronous resource methods, i.e. methods with a
+ * {@link javax.ws.rs.container.Suspended} {@link javax.ws.rs.container.AsyncResponse} parameter, methods annotated
+ * with {@link org.glassfish.jersey.server.ManagedAsync} and methods returning a {@link CompletionStage}.
+ * <p/>
+ * The following metrics are registered:
+ * <ul>
+ *     <li>{@code io.dropwizard.jersey.async.requests}: a meter of asynchronous requests</li>
+ *     <li>{@code io.dropwizard.jersey.async.suspended}: a counter of asynchronous requests which are in flight</li>
+ *     <li>{@code io.dropwizard.jersey.async.timeouts}: a meter of suspended requests which timed out</li>
+ * </ul>
+ * <p/>
+ * If the application has no asynchronous resource methods, no request listener is installed at all. Otherwise a
+ * single stateless request listener is shared by all requests, which keeps its per-request state in the request
+ * properties, so synchronous requests don't allocate anything.
+ *
+ * @since 2.1.5
+ */
+public class AsyncMetricsApplicationListener implements ApplicationEventListener {
+    private static final String PREFIX = name("io.dropwizard.jersey", "async");
+    private static final String SUSPENDED_PROPERTY = AsyncMetricsApplicationListener.class.getName() + ".suspended";
+    private static final String METHOD_FINISHED_PROPERTY =
+        AsyncMetricsApplicationListener.class.getName() + ".methodFinished";
+
+    private final Meter requests;
+    private final Counter suspended;
+    private final Meter timeouts;
+    private final RequestEventListener requestEventListener = new AsyncRequestEventListener();
+    // Until the resource model is known, assume that there are asynchronous resource methods
+    private volatile boolean hasAsyncMethods = true;
+
+    public AsyncMetricsApplicationListener(MetricRegistry metricRegistry) {
+        this.requests = metricRegistry.meter(name(PREFIX, "requests"));
+        this.suspended = metricRegistry.counter(name(PREFIX, "suspended"));
+        this.timeouts = metricRegistry.meter(name(PREFIX, "timeouts"));
+    }
+
+    @Override
+    public void onEvent(ApplicationEvent event) {
+        if (event.getType() == ApplicationEvent.Type.INITIALIZATION_FINISHED
+            || event.getType() == ApplicationEvent.Type.RELOAD_FINISHED) {
+            final ResourceModel resourceModel = event.getResourceModel();
+            if (resourceModel != null) {
+                hasAsyncMethods = resourceModel.getResources().stream()
+                    .anyMatch(AsyncMetricsApplicationListener::hasAsyncMethods);
+            }
+        }
+    }
+
+    @Override
+    @Nullable
+    public RequestEventListener onRequest(RequestEvent requestEvent) {
+        return hasAsyncMethods ? requestEventListener : null;
+    }
+
+    private static boolean hasAsyncMethods(Resource resource) {
+        // Resources returned by sub-resource locators are only known at runtime
+        return resource.getResourceLocator() != null
+            || resource.getAllMethods().stream().anyMatch(AsyncMetricsApplicationListener::isAsync)
+            || resource.getChildResources().stream().anyMatch(AsyncMetricsApplicationListener::hasAsyncMethods);
+    }
+
+    static boolean isAsync(ResourceMethod method) {
+        return method.isSuspendDeclared()
+            || method.isManagedAsyncDeclared()
+            || CompletionStage.class.isAssignableFrom(method.getInvocable().getRawResponseType());
+    }
+
+    private static boolean isTimeout(@Nullable Throwable exception) {
+        // Exceptions passed to AsyncResponse#resume are wrapped before they are mapped
+        return exception instanceof ServiceUnavailableException
+            || (exception != null && exception.getCause() instanceof ServiceUnavailableException);
+    }
+
+    private class AsyncRequestEventListener implements RequestEventListener {
+        @Override
+        public void onEvent(RequestEvent event) {
+            // Events of a suspended request may be delivered on different threads, so the state of each request is
+            // kept in its properties instead of in this listener
+            final ContainerRequest request = event.getContainerRequest();
+            switch (event.getType()) {
+                case RESOURCE_METHOD_START:
+                    final ResourceMethod method = event.getUriInfo().getMatchedResourceMethod();
+                    if (method != null && isAsync(method)) {
+                        request.setProperty(SUSPENDED_PROPERTY, Boolean.TRUE);
+                        requests.mark();
+                        suspended.inc();
+                    }
+                    break;
+                case RESOURCE_METHOD_FINISHED:
+                    if (isSuspended(request)) {
+                        request.setProperty(METHOD_FINISHED_PROPERTY, Boolean.TRUE);
+                    }
+                    break;
+                case ON_EXCEPTION:
+                    // Jersey resumes suspended requests which timed out without a timeout handler with a 503
+                    if (isSuspended(request) && request.getProperty(METHOD_FINISHED_PROPERTY) != null
+                        && isTimeout(event.getException())) {
+                        timeouts.mark();
+                    }
+                    break;
+                case FINISHED:
+                    if (isSuspended(request)) {
+                        request.removeProperty(SUSPENDED_PROPERTY);
+                        suspended.dec();
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private boolean isSuspended(ContainerRequest request) {
+            return request.getProperty(SUSPENDED_PROPERTY) != null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package io.dropwizard.jersey.async;
+
+import org.glassfish.jersey.server.ManagedAsyncExecutor;
+import org.glassfish.jersey.spi.ExecutorServiceProvider;
+
+import java.util.concurrent.ExecutorService;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Makes an externally managed {@link ExecutorService} available to Jersey as the executor for
+ * {@link org.glassfish.jersey.server.ManagedAsync} resource methods.
+ * <p/>
+ * The executor's lifecycle is not tied to Jersey; disposing of the provider leaves it running, so that it can be
+ * shut down by whoever created it (usually the application's lifecycle environment).
+ *
+ * @since 2.1.5
+ */
+@ManagedAsyncExecutor
+public class ManagedAsyncExecutorProvider implements ExecutorServiceProvider {
+    private final ExecutorService executorService;
+
+    public ManagedAsyncExecutorProvider(ExecutorService executorService) {
+        this.executorService = requireNonNull(executorService);
+    }
+
+    @Override
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    @Override
+    public void dispose(ExecutorService executorService) {
+        // The executor is managed by the application's lifecycle
+    }
+}
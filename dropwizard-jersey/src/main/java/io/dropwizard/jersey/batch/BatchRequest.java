@@ -0,0 +1,105 @@
+package io.dropwizard.jersey.batch;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import javax.annotation.Nullable;
+import javax.validation.constraints.NotEmpty;
+import javax.ws.rs.HttpMethod;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A single request in a batch handled by {@link BatchResource}.
+ *
+ * @since 2.1.5
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class BatchRequest {
+    @NotEmpty
+    private final String method;
+
+    @NotEmpty
+    private final String path;
+
+    private final Map<String, String> headers;
+
+    @Nullable
+    private final JsonNode body;
+
+    public BatchRequest(String method, String path) {
+        this(method, path, Collections.emptyMap(), null);
+    }
+
+    @JsonCreator
+    public BatchRequest(@Nullable @JsonProperty("method") String method,
+                        @JsonProperty("path") String path,
+                        @Nullable @JsonProperty("headers") Map<String, String> headers,
+                        @Nullable @JsonProperty("body") JsonNode body) {
+        this.method = method == null ? HttpMethod.GET : method;
+        this.path = path;
+        this.headers = headers == null ? Collections.emptyMap() : headers;
+        this.body = body;
+    }
+
+    /**
+     * @return the HTTP method of the request, {@code GET} by default
+     */
+    @JsonProperty("method")
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * @return the path and query of the request, relative to the base URI of the application
+     */
+    @JsonProperty("path")
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the headers of the request, which take precedence over the headers of the batch request
+     */
+    @JsonProperty("headers")
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @return the entity of the request, which is sent as JSON unless a {@code Content-Type} header is given
+     */
+    @JsonProperty("body")
+    @Nullable
+    public JsonNode getBody() {
+        return body;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final BatchRequest other = (BatchRequest) obj;
+        return method.equals(other.method)
+            && path.equals(other.path)
+            && headers.equals(other.headers)
+            && Objects.equals(body, other.body);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(method, path, headers, body);
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + path;
+    }
+}
@@ -0,0 +1,265 @@
+package io.dropwizard.jersey.batch;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.dropwizard.util.Duration;
+import org.glassfish.jersey.internal.MapPropertiesDelegate;
+import org.glassfish.jersey.server.ApplicationHandler;
+import org.glassfish.jersey.server.ContainerRequest;
+import org.glassfish.jersey.server.ContainerResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A resource which processes a list of {@link BatchRequest}s in a single HTTP request and responds
+ * with the list of their {@link BatchResponse}s, in the same order.
+ *
+ * <p>The requests are dispatched in-process through the Jersey {@link ApplicationHandler}, in
+ * parallel on the given executor, whose size therefore bounds the number of requests of all batches
+ * processed at the same time. Every request passes through the same filters, exception mappers and
+ * resource method metrics as a regular request. It inherits the headers and the security context
+ * of the batch request, but has no servlet request or response. Batches can't be nested.</p>
+ *
+ * <p>The resource publishes a {@code batch-size} histogram, a {@code requests} timer and a
+ * {@code timeouts} meter for the requests of all batches.</p>
+ *
+ * @since 2.1.5
+ */
+@Path("/batch")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class BatchResource {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchResource.class);
+
+    /**
+     * The default maximum number of requests in a batch.
+     */
+    public static final int DEFAULT_MAX_REQUESTS = 50;
+
+    /**
+     * The default maximum time to wait for the requests of a batch.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.seconds(30);
+
+    private static final List<String> ENTITY_HEADERS = Collections.unmodifiableList(Arrays.asList(
+        HttpHeaders.CONTENT_LENGTH.toLowerCase(Locale.ROOT),
+        HttpHeaders.CONTENT_TYPE.toLowerCase(Locale.ROOT),
+        HttpHeaders.CONTENT_ENCODING.toLowerCase(Locale.ROOT),
+        "transfer-encoding"));
+
+    /**
+     * Marks the requests dispatched by a batch, so that they can't start another batch.
+     */
+    private static final String NESTED_PROPERTY = BatchResource.class.getName() + ".nested";
+
+    private static final Pattern REPEATED_SLASHES = Pattern.compile("/{2,}");
+    private static final Pattern MATRIX_PARAMETERS = Pattern.compile(";[^/]*");
+
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final int maxRequests;
+    private final Duration timeout;
+    private final Histogram batchSize;
+    private final Timer requests;
+    private final Meter timeouts;
+
+    public BatchResource(ObjectMapper objectMapper, Executor executor, MetricRegistry metricRegistry) {
+        this(objectMapper, executor, metricRegistry, DEFAULT_MAX_REQUESTS, DEFAULT_TIMEOUT);
+    }
+
+    public BatchResource(ObjectMapper objectMapper, Executor executor, MetricRegistry metricRegistry,
+                         int maxRequests, Duration timeout) {
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.maxRequests = maxRequests;
+        this.timeout = timeout;
+        this.batchSize = metricRegistry.histogram(name(BatchResource.class, "batch-size"));
+        this.requests = metricRegistry.timer(name(BatchResource.class, "requests"));
+        this.timeouts = metricRegistry.meter(name(BatchResource.class, "timeouts"));
+    }
+
+    @POST
+    public List<BatchResponse> process(@NotNull @Valid List<BatchRequest> batch,
+                                       @Context ApplicationHandler handler,
+                                       @Context ContainerRequest batchRequest) {
+        if (batchRequest.getProperty(NESTED_PROPERTY) != null) {
+            throw new WebApplicationException("Batches can't be nested", Response.Status.BAD_REQUEST);
+        }
+        if (batch.size() > maxRequests) {
+            throw new WebApplicationException("A batch must not contain more than " + maxRequests + " requests",
+                Response.Status.BAD_REQUEST);
+        }
+        batchSize.update(batch.size());
+
+        final List<Future<BatchResponse>> futures = new ArrayList<>(batch.size());
+        for (BatchRequest request : batch) {
+            final FutureTask<BatchResponse> task = new FutureTask<>(() -> dispatch(handler, batchRequest, request));
+            executor.execute(task);
+            futures.add(task);
+        }
+
+        final long deadline = System.nanoTime() + timeout.toNanoseconds();
+        final List<BatchResponse> responses = new ArrayList<>(futures.size());
+        for (Future<BatchResponse> future : futures) {
+            responses.add(await(future, deadline));
+        }
+        return responses;
+    }
+
+    private BatchResponse await(Future<BatchResponse> future, long deadline) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.mark();
+            // Interrupts the request if it's already running, so that it doesn't hold a thread of the executor
+            future.cancel(true);
+            return error(Response.Status.GATEWAY_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return error(Response.Status.SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            LOGGER.warn("Unable to process batched request", e.getCause());
+            return error(Response.Status.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private BatchResponse dispatch(ApplicationHandler handler, ContainerRequest batchRequest, BatchRequest request) {
+        final URI baseUri = batchRequest.getBaseUri();
+        final URI requestUri = baseUri.resolve(stripLeadingSlashes(request.getPath())).normalize();
+        if (!requestUri.toString().startsWith(baseUri.toString())
+            || canonicalPath(requestUri).equals(canonicalPath(batchRequest.getRequestUri()))) {
+            return error(Response.Status.BAD_REQUEST);
+        }
+
+        final ContainerRequest containerRequest = new ContainerRequest(baseUri, requestUri, request.getMethod(),
+            batchRequest.getSecurityContext(), new MapPropertiesDelegate(), handler.getConfiguration());
+        containerRequest.setProperty(NESTED_PROPERTY, Boolean.TRUE);
+        batchRequest.getRequestHeaders().forEach((header, values) -> {
+            if (!ENTITY_HEADERS.contains(header.toLowerCase(Locale.ROOT))) {
+                containerRequest.getHeaders().put(header, new ArrayList<>(values));
+            }
+        });
+        request.getHeaders().forEach(containerRequest.getHeaders()::putSingle);
+
+        final JsonNode body = request.getBody();
+        if (body != null) {
+            final byte[] entity;
+            try {
+                entity = objectMapper.writeValueAsBytes(body);
+            } catch (IOException e) {
+                return error(Response.Status.BAD_REQUEST);
+            }
+            if (containerRequest.getHeaderString(HttpHeaders.CONTENT_TYPE) == null) {
+                containerRequest.getHeaders().putSingle(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
+            }
+            containerRequest.getHeaders().putSingle(HttpHeaders.CONTENT_LENGTH, Integer.toString(entity.length));
+            containerRequest.setEntityStream(new ByteArrayInputStream(entity));
+        }
+
+        final ByteArrayOutputStream entityStream = new ByteArrayOutputStream();
+        try (Timer.Context context = requests.time()) {
+            final ContainerResponse response = handler.apply(containerRequest, entityStream)
+                .get(timeout.getQuantity(), timeout.getUnit());
+            return toBatchResponse(response, entityStream.toByteArray());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return error(Response.Status.SERVICE_UNAVAILABLE);
+        } catch (TimeoutException e) {
+            return error(Response.Status.GATEWAY_TIMEOUT);
+        } catch (ExecutionException | IOException e) {
+            LOGGER.warn("Unable to process batched request {}", request, e);
+            return error(Response.Status.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private BatchResponse toBatchResponse(ContainerResponse response, byte[] entity) throws IOException {
+        final Map<String, String> headers = new LinkedHashMap<>();
+        response.getStringHeaders().forEach((header, values) -> headers.put(header, String.join(",", values)));
+
+        final MediaType mediaType = response.getMediaType();
+        final JsonNode body;
+        if (entity.length == 0) {
+            body = null;
+        } else if (mediaType != null && isJson(mediaType)) {
+            body = objectMapper.readTree(entity);
+        } else {
+            body = new TextNode(new String(entity, charset(mediaType)));
+        }
+        return new BatchResponse(response.getStatus(), headers, body);
+    }
+
+    private static boolean isJson(MediaType mediaType) {
+        return MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType) || mediaType.getSubtype().endsWith("+json");
+    }
+
+    private static Charset charset(@Nullable MediaType mediaType) {
+        final String charset = mediaType == null ? null : mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        return charset == null ? UTF_8 : Charset.forName(charset);
+    }
+
+    /**
+     * Returns the decoded path of the given URI without repeated or trailing slashes and matrix
+     * parameters, which Jersey ignores when matching resources.
+     */
+    private static String canonicalPath(URI uri) {
+        final String decoded = uri.normalize().getPath();
+        String path = MATRIX_PARAMETERS.matcher(REPEATED_SLASHES.matcher(decoded == null ? "" : decoded).replaceAll("/"))
+            .replaceAll("");
+        while (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path;
+    }
+
+    private static String stripLeadingSlashes(String path) {
+        int start = 0;
+        while (start < path.length() && path.charAt(start) == '/') {
+            start++;
+        }
+        return path.substring(start);
+    }
+
+    private static BatchResponse error(Response.Status status) {
+        return new BatchResponse(status.getStatusCode(), Collections.emptyMap(), null);
+    }
+}
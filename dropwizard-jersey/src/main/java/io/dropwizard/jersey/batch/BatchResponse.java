@@ -0,0 +1,75 @@
+package io.dropwizard.jersey.batch;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The response to a single {@link BatchRequest}. JSON entities are embedded as they are, all other
+ * entities as a string.
+ *
+ * @since 2.1.5
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class BatchResponse {
+    private final int status;
+    private final Map<String, String> headers;
+
+    @Nullable
+    private final JsonNode body;
+
+    @JsonCreator
+    public BatchResponse(@JsonProperty("status") int status,
+                         @Nullable @JsonProperty("headers") Map<String, String> headers,
+                         @Nullable @JsonProperty("body") JsonNode body) {
+        this.status = status;
+        this.headers = headers == null ? Collections.emptyMap() : headers;
+        this.body = body;
+    }
+
+    @JsonProperty("status")
+    public int getStatus() {
+        return status;
+    }
+
+    @JsonProperty("headers")
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    @JsonProperty("body")
+    @Nullable
+    public JsonNode getBody() {
+        return body;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final BatchResponse other = (BatchResponse) obj;
+        return status == other.status
+            && headers.equals(other.headers)
+            && Objects.equals(body, other.body);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(status, headers, body);
+    }
+
+    @Override
+    public String toString() {
+        return "BatchResponse{status=" + status + ", headers=" + headers + ", body=" + body + "}";
+    }
+}
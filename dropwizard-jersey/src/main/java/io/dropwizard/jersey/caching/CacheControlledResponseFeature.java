@@ -1,21 +1,45 @@
 package io.dropwizard.jersey.caching;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.glassfish.jersey.server.model.AnnotatedMethod;
 
+import javax.annotation.Nullable;
+import javax.ws.rs.HttpMethod;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.container.DynamicFeature;
 import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.FeatureContext;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.Providers;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
+import static java.util.Objects.requireNonNull;
+
 @Provider
 public class CacheControlledResponseFeature implements DynamicFeature {
 
+    @Context
+    @Nullable
+    private Providers providers;
+
     @Override
     public void configure(final ResourceInfo resourceInfo, final FeatureContext configuration) {
         final AnnotatedMethod am = new AnnotatedMethod(resourceInfo.getResourceMethod());
@@ -25,6 +49,12 @@ public class CacheControlledResponseFeature implements DynamicFeature {
         if (cc != null) {
             configuration.register(new CacheControlledResponseFilter(cc));
         }
+
+        // check to see if it has entity tag annotation
+        final ETagged eTagged = am.getAnnotation(ETagged.class);
+        if (eTagged != null) {
+            configuration.register(new ETaggedResponseFilter(eTagged, providers));
+        }
     }
 
     private static class CacheControlledResponseFilter implements ContainerResponseFilter {
@@ -59,4 +89,137 @@ public class CacheControlledResponseFeature implements DynamicFeature {
         }
 
     }
+
+    /**
+     * Adds an {@code ETag} to the response, computed by serializing the entity straight into a digest, and evaluates the
+     * preconditions of the request against it before the body is written.
+     * <p>
+     * If {@link ETagged#hashCacheTtl()} is set, the last tag computed for a request URI, media type and set of
+     * {@code Accept}, {@code Authorization} and {@code Cookie} headers is kept. A conditional request matching the kept
+     * tag is answered with {@code 304 Not Modified} without serializing the entity at all. Any other request computes
+     * the tag of the current entity, so the tag sent with a body always belongs to that body.
+     */
+    private static class ETaggedResponseFilter implements ContainerResponseFilter {
+        private static final String DIGEST_ALGORITHM = "SHA-256";
+        private static final int NOT_MODIFIED = Response.Status.NOT_MODIFIED.getStatusCode();
+        private static final List<String> KEY_HEADERS =
+            Arrays.asList(HttpHeaders.ACCEPT, HttpHeaders.AUTHORIZATION, HttpHeaders.COOKIE);
+
+        @Nullable
+        private final Providers providers;
+
+        private final boolean weak;
+
+        @Nullable
+        private final Cache<String, EntityTag> tagCache;
+
+        ETaggedResponseFilter(ETagged eTagged, @Nullable Providers providers) {
+            this.providers = providers;
+            this.weak = eTagged.weak();
+            if (eTagged.hashCacheTtl() > 0) {
+                this.tagCache = Caffeine.newBuilder()
+                    .expireAfterWrite(eTagged.hashCacheTtl(), eTagged.hashCacheTtlUnit())
+                    .maximumSize(eTagged.hashCacheMaximumSize())
+                    .build();
+            } else {
+                this.tagCache = null;
+            }
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext,
+                           ContainerResponseContext responseContext) throws IOException {
+            final Object entity = responseContext.getEntity();
+            final String method = requestContext.getMethod();
+            if (entity == null
+                || providers == null
+                || responseContext.getStatus() != Response.Status.OK.getStatusCode()
+                || responseContext.getHeaders().containsKey(HttpHeaders.ETAG)
+                || !(HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method))) {
+                return;
+            }
+
+            final MediaType mediaType = responseContext.getMediaType();
+            final Cache<String, EntityTag> cache = tagCache;
+            final String key = cache == null ? "" : RequestKeys.of(requestContext, KEY_HEADERS) + '\n' + mediaType;
+            if (cache != null) {
+                final EntityTag cached = cache.getIfPresent(key);
+                // A kept tag may be outdated, so it only saves the work for requests it doesn't fail
+                if (cached != null && getPreconditionStatus(requestContext, cached) == NOT_MODIFIED) {
+                    withoutBody(responseContext, cached, NOT_MODIFIED);
+                    return;
+                }
+            }
+
+            final EntityTag tag = computeEntityTag(entity, mediaType, responseContext);
+            if (tag == null) {
+                return;
+            }
+            if (cache != null) {
+                cache.put(key, tag);
+            }
+
+            final int status = getPreconditionStatus(requestContext, tag);
+            if (status == Response.Status.OK.getStatusCode()) {
+                responseContext.getHeaders().putSingle(HttpHeaders.ETAG, tag);
+            } else {
+                // Either 304 Not Modified for a matching If-None-Match, or 412 Precondition Failed for If-Match
+                withoutBody(responseContext, tag, status);
+            }
+        }
+
+        private static int getPreconditionStatus(ContainerRequestContext requestContext, EntityTag tag) {
+            final Response.ResponseBuilder precondition = requestContext.getRequest().evaluatePreconditions(tag);
+            return precondition == null ? Response.Status.OK.getStatusCode() : precondition.build().getStatus();
+        }
+
+        private static void withoutBody(ContainerResponseContext responseContext, EntityTag tag, int status) {
+            responseContext.getHeaders().putSingle(HttpHeaders.ETAG, tag);
+            responseContext.setStatus(status);
+            responseContext.setEntity(null);
+            responseContext.getHeaders().remove(HttpHeaders.CONTENT_TYPE);
+        }
+
+        /**
+         * Serializes the entity straight into a digest, so no copy of the body is buffered.
+         */
+        @Nullable
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private EntityTag computeEntityTag(Object entity, MediaType mediaType,
+                                           ContainerResponseContext responseContext) throws IOException {
+            final MessageBodyWriter writer = requireNonNull(providers).getMessageBodyWriter(
+                responseContext.getEntityClass(), responseContext.getEntityType(),
+                responseContext.getEntityAnnotations(), mediaType);
+            if (writer == null) {
+                return null;
+            }
+
+            final MessageDigest digest = newDigest();
+            try (DigestOutputStream output = new DigestOutputStream(new DiscardingOutputStream(), digest)) {
+                writer.writeTo(entity, responseContext.getEntityClass(), responseContext.getEntityType(),
+                    responseContext.getEntityAnnotations(), mediaType, new MultivaluedHashMap<>(), output);
+            }
+            return new EntityTag(Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()), weak);
+        }
+
+        private static MessageDigest newDigest() {
+            try {
+                return MessageDigest.getInstance(DIGEST_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Every Java platform must support " + DIGEST_ALGORITHM, e);
+            }
+        }
+    }
+
+    private static class DiscardingOutputStream extends OutputStream {
+        @Override
+        public void write(int b) {
+            // discarded, only the digest is of interest
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            // discarded, only the digest is of interest
+        }
+    }
 }
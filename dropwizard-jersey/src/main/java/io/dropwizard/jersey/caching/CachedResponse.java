@@ -0,0 +1,56 @@
+package io.dropwizard.jersey.caching;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An annotation which caches the serialized responses of the annotated {@code GET} method on the
+ * server. Subsequent requests for the same path, query parameters and selected headers are served
+ * from the cache without invoking the resource method until the cached response expires.
+ *
+ * <p>Only successful ({@code 200 OK}) responses which don't set cookies are cached, along with their headers.
+ * Responses are keyed by the {@code Accept} header and the headers listed in {@link #varyBy()}, so
+ * resources returning user specific content must list e.g. {@code Authorization} there.</p>
+ *
+ * @see CachedResponseFeature
+ * @since 2.1.5
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachedResponse {
+    /**
+     * The amount of time a response is cached for. The unit of this amount is determined by
+     * {@link #ttlUnit()}.
+     *
+     * @return the number of {@link #ttlUnit()}s for which a response is cached
+     */
+    int ttl();
+
+    /**
+     * The time unit of {@link #ttl()}.
+     *
+     * @return the time unit of {@link #ttl()}
+     */
+    TimeUnit ttlUnit() default TimeUnit.SECONDS;
+
+    /**
+     * The maximum size in bytes of a cached response. Larger responses are not cached. The total size of all cached
+     * responses is limited by {@link CachedResponseFeature#MAXIMUM_WEIGHT_PROPERTY}.
+     *
+     * @return the maximum size of a cached response in bytes
+     */
+    long maximumResponseSize() default 1024L * 1024L;
+
+    /**
+     * The names of the request headers, in addition to {@code Accept}, whose values select
+     * different cached responses.
+     *
+     * @return the names of the request headers which are part of the cache key
+     */
+    String[] varyBy() default {};
+}
@@ -0,0 +1,247 @@
+package io.dropwizard.jersey.caching;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.RatioGauge;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.glassfish.jersey.server.model.AnnotatedMethod;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Configuration;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A {@link DynamicFeature} which caches the serialized responses of resource methods annotated
+ * with {@link CachedResponse}.
+ *
+ * <p>The responses of all annotated methods share a single cache, whose total size in bytes is limited by the
+ * {@value #MAXIMUM_WEIGHT_PROPERTY} property, {@value #DEFAULT_MAXIMUM_WEIGHT} bytes by default. Cached responses
+ * keep the headers of the original response.</p>
+ *
+ * <p>For each annotated method, the feature publishes {@code hits} and {@code misses} meters and a
+ * {@code hit-ratio} gauge, named after the resource method.</p>
+ *
+ * @since 2.1.5
+ */
+@Provider
+public class CachedResponseFeature implements DynamicFeature {
+    /**
+     * The name of the Jersey property which sets the maximum total size in bytes of all cached responses.
+     */
+    public static final String MAXIMUM_WEIGHT_PROPERTY = CachedResponseFeature.class.getName() + ".maximumWeight";
+
+    /**
+     * The default maximum total size in bytes of all cached responses.
+     */
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 64L * 1024L * 1024L;
+
+    private final MetricRegistry metricRegistry;
+
+    @Nullable
+    private Cache<String, CachedEntry> cache;
+
+    @Inject
+    public CachedResponseFeature(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    @Override
+    public void configure(final ResourceInfo resourceInfo, final FeatureContext configuration) {
+        final Method method = resourceInfo.getResourceMethod();
+        final CachedResponse cachedResponse = new AnnotatedMethod(method).getAnnotation(CachedResponse.class);
+        if (cachedResponse != null) {
+            final String metricName = name(resourceInfo.getResourceClass(), method.getName(), "cached-response");
+            final ResponseCachingFilter filter = new ResponseCachingFilter(getCache(configuration.getConfiguration()),
+                method.toGenericString(), cachedResponse, metricRegistry, metricName);
+            configuration.register(filter, Priorities.USER);
+        }
+    }
+
+    private synchronized Cache<String, CachedEntry> getCache(Configuration configuration) {
+        Cache<String, CachedEntry> result = cache;
+        if (result == null) {
+            final Object property = configuration.getProperty(MAXIMUM_WEIGHT_PROPERTY);
+            final long maximumWeight = property == null ? DEFAULT_MAXIMUM_WEIGHT : Long.parseLong(property.toString());
+            result = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .<String, CachedEntry>weigher((key, entry) -> key.length() + entry.weight())
+                .expireAfter(new Expiry<String, CachedEntry>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedEntry entry, long currentTime) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedEntry entry, long currentTime,
+                                                  long currentDuration) {
+                        return entry.ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedEntry entry, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+            cache = result;
+        }
+        return result;
+    }
+
+    private static final class CachedEntry {
+        private final byte[] body;
+        @Nullable
+        private final MediaType mediaType;
+        private final MultivaluedMap<String, Object> headers;
+        private final long ttlNanos;
+
+        private CachedEntry(byte[] body, @Nullable MediaType mediaType, MultivaluedMap<String, Object> headers,
+                            long ttlNanos) {
+            this.body = body;
+            this.mediaType = mediaType;
+            this.headers = new MultivaluedHashMap<>();
+            for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getKey())
+                    && !HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(header.getKey())) {
+                    this.headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+                }
+            }
+            this.ttlNanos = ttlNanos;
+        }
+
+        private int weight() {
+            int weight = body.length;
+            for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+                for (Object value : header.getValue()) {
+                    weight += header.getKey().length() + String.valueOf(value).length();
+                }
+            }
+            return weight;
+        }
+
+        private Response toResponse() {
+            final Response.ResponseBuilder builder = Response.ok(body, mediaType);
+            for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+                for (Object value : header.getValue()) {
+                    builder.header(header.getKey(), value);
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Serves cached responses from the request filter chain and captures the serialized bytes of
+     * cacheable responses while they are written to the client.
+     */
+    private static class ResponseCachingFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+        private static final String KEY_PROPERTY = ResponseCachingFilter.class.getName() + ".key";
+        private static final String CACHEABLE_PROPERTY = ResponseCachingFilter.class.getName() + ".cacheable";
+
+        private final Cache<String, CachedEntry> cache;
+        private final String keyPrefix;
+        private final List<String> varyBy;
+        private final long maximumResponseSize;
+        private final long ttlNanos;
+        private final Meter hits;
+        private final Meter misses;
+
+        ResponseCachingFilter(Cache<String, CachedEntry> cache, String methodName, CachedResponse cachedResponse,
+                              MetricRegistry metricRegistry, String metricName) {
+            this.cache = cache;
+            // The cache is shared by all methods, so the keys of different methods must not collide
+            this.keyPrefix = methodName + '\n';
+            this.maximumResponseSize = cachedResponse.maximumResponseSize();
+            this.ttlNanos = cachedResponse.ttlUnit().toNanos(cachedResponse.ttl());
+
+            final List<String> headers = new ArrayList<>();
+            headers.add(HttpHeaders.ACCEPT);
+            Collections.addAll(headers, cachedResponse.varyBy());
+            this.varyBy = Collections.unmodifiableList(headers);
+
+            this.hits = metricRegistry.meter(name(metricName, "hits"));
+            this.misses = metricRegistry.meter(name(metricName, "misses"));
+            metricRegistry.gauge(name(metricName, "hit-ratio"), () -> new RatioGauge() {
+                @Override
+                protected Ratio getRatio() {
+                    return Ratio.of(hits.getOneMinuteRate(), hits.getOneMinuteRate() + misses.getOneMinuteRate());
+                }
+            });
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) throws IOException {
+            if (!HttpMethod.GET.equals(requestContext.getMethod())) {
+                return;
+            }
+
+            final String key = keyPrefix + RequestKeys.of(requestContext, varyBy);
+            final CachedEntry entry = cache.getIfPresent(key);
+            if (entry != null) {
+                hits.mark();
+                requestContext.abortWith(entry.toResponse());
+            } else {
+                misses.mark();
+                requestContext.setProperty(KEY_PROPERTY, key);
+            }
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext,
+                           ContainerResponseContext responseContext) throws IOException {
+            if (requestContext.getProperty(KEY_PROPERTY) != null
+                && responseContext.getStatus() == Response.Status.OK.getStatusCode()
+                && responseContext.hasEntity()
+                && !responseContext.getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+                requestContext.setProperty(CACHEABLE_PROPERTY, Boolean.TRUE);
+            }
+        }
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+            final Object key = context.getProperty(KEY_PROPERTY);
+            if (!(key instanceof String) || context.getProperty(CACHEABLE_PROPERTY) == null) {
+                context.proceed();
+                return;
+            }
+
+            final CapturingOutputStream capturing =
+                new CapturingOutputStream(context.getOutputStream(), maximumResponseSize);
+            context.setOutputStream(capturing);
+            context.proceed();
+            final byte[] body = capturing.getCaptured();
+            if (body != null) {
+                // The headers include the ones set by the message body writer
+                cache.put((String) key, new CachedEntry(body, context.getMediaType(), context.getHeaders(), ttlNanos));
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.dropwizard.jersey.caching;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Copies the bytes written to the wrapped stream, unless they turn out to be larger than a limit.
+ */
+class CapturingOutputStream extends FilterOutputStream {
+    private final long limit;
+    @Nullable
+    private ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+    CapturingOutputStream(OutputStream out, long limit) {
+        super(out);
+        this.limit = limit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        final ByteArrayOutputStream buffer = captured;
+        if (buffer != null) {
+            if (buffer.size() + 1L > limit) {
+                captured = null;
+            } else {
+                buffer.write(b);
+            }
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        final ByteArrayOutputStream buffer = captured;
+        if (buffer != null) {
+            if (buffer.size() + (long) len > limit) {
+                captured = null;
+            } else {
+                buffer.write(b, off, len);
+            }
+        }
+    }
+
+    /**
+     * @return the written bytes, or {@code null} if they exceeded the limit
+     */
+    @Nullable
+    byte[] getCaptured() {
+        final ByteArrayOutputStream buffer = captured;
+        return buffer == null ? null : buffer.toByteArray();
+    }
+}
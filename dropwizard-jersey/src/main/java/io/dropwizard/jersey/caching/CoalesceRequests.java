@@ -0,0 +1,80 @@
+package io.dropwizard.jersey.caching;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An annotation which coalesces concurrent, equivalent {@code GET} requests to the annotated
+ * method. While a request is being processed, equivalent requests wait for it to finish and are
+ * answered with a copy of its serialized response instead of invoking the resource method again.
+ *
+ * <p>Only successful ({@code 200 OK}) responses which don't set cookies are shared, together with
+ * their headers. If the response can't be shared or doesn't arrive within {@link #maxWait()},
+ * waiting requests are processed on their own.</p>
+ *
+ * <p>By default, the {@code Authorization} and {@code Cookie} headers are part of the request key,
+ * so requests carrying different credentials are never coalesced. A custom {@link #keyExtractor()}
+ * must take care of this itself: requests with the same key are answered with the same response,
+ * whoever sent them.</p>
+ *
+ * <p>Waiting requests hold their server thread, so at most {@link #maxWaitingRequests()} requests
+ * wait at a time, and further equivalent requests are processed on their own.</p>
+ *
+ * @see RequestCoalescingFeature
+ * @since 2.1.5
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CoalesceRequests {
+    /**
+     * The names of the request headers, in addition to {@code Accept}, {@code Authorization} and
+     * {@code Cookie}, whose values are part of the default request key. Ignored if a {@link #keyExtractor()} is set.
+     *
+     * @return the names of the request headers which are part of the request key
+     */
+    String[] varyBy() default {};
+
+    /**
+     * The {@link RequestKeyExtractor} deciding which requests are equivalent. By default, requests
+     * are equivalent if they have the same path, query parameters, {@code Accept},
+     * {@code Authorization} and {@code Cookie} headers and {@link #varyBy()} headers.
+     *
+     * @return the class of the key extractor
+     */
+    Class<? extends RequestKeyExtractor> keyExtractor() default RequestKeyExtractor.class;
+
+    /**
+     * The maximum amount of time a request waits for an equivalent request in flight. The unit of
+     * this amount is determined by {@link #maxWaitUnit()}.
+     *
+     * @return the number of {@link #maxWaitUnit()}s to wait for an equivalent request
+     */
+    long maxWait() default 5L;
+
+    /**
+     * The time unit of {@link #maxWait()}.
+     *
+     * @return the time unit of {@link #maxWait()}
+     */
+    TimeUnit maxWaitUnit() default TimeUnit.SECONDS;
+
+    /**
+     * The maximum number of requests to the annotated method which wait for an equivalent request
+     * at the same time.
+     *
+     * @return the maximum number of waiting requests
+     */
+    int maxWaitingRequests() default 16;
+
+    /**
+     * The maximum size in bytes of a response which is shared with waiting requests.
+     *
+     * @return the maximum size of a shared response in bytes
+     */
+    long maximumResponseSize() default 10L * 1024L * 1024L;
+}
@@ -0,0 +1,61 @@
+package io.dropwizard.jersey.caching;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An annotation which adds an {@code ETag} header, computed from the serialized entity, to the
+ * response produced by the annotated method. Conditional {@code GET} and {@code HEAD} requests
+ * whose {@code If-None-Match} header matches the tag are answered with
+ * {@code 304 Not Modified} without writing the body.
+ *
+ * <p>The entity is serialized straight into a digest to compute the tag, without buffering the
+ * body. Conditional requests which are answered with {@code 304 Not Modified} are therefore never
+ * serialized to the client, while other responses are serialized a second time as the body.</p>
+ *
+ * <p>Clients polling an unchanged resource can be answered without serializing the entity at all
+ * by keeping the computed tags for a short time with {@link #hashCacheTtl()}. A kept tag is only
+ * used to answer requests whose {@code If-None-Match} header matches it, so a resource which
+ * changes within the time to live keeps answering such requests with {@code 304 Not Modified}
+ * until the tag expires.</p>
+ *
+ * @since 2.1.5
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ETagged {
+    /**
+     * Controls whether the {@code ETag} is weak. Weak tags stay valid if the response is
+     * transformed afterwards, e.g. compressed by the server.
+     *
+     * @return {@code true} if a weak entity tag should be produced
+     */
+    boolean weak() default true;
+
+    /**
+     * Controls for how long the tag computed for a request URI is kept. The unit of this amount is
+     * determined by {@link #hashCacheTtlUnit()}. A non-positive value disables the cache.
+     *
+     * @return the number of {@link #hashCacheTtlUnit()}s for which computed tags are kept
+     */
+    int hashCacheTtl() default 0;
+
+    /**
+     * The time unit of {@link #hashCacheTtl()}.
+     *
+     * @return the time unit of {@link #hashCacheTtl()}
+     */
+    TimeUnit hashCacheTtlUnit() default TimeUnit.SECONDS;
+
+    /**
+     * The maximum number of computed tags kept by the cache enabled by {@link #hashCacheTtl()}.
+     *
+     * @return the maximum number of kept tags
+     */
+    long hashCacheMaximumSize() default 1_000L;
+}
@@ -0,0 +1,270 @@
+package io.dropwizard.jersey.caching;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import org.glassfish.jersey.server.CloseableService;
+import org.glassfish.jersey.server.model.AnnotatedMethod;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A {@link DynamicFeature} which coalesces concurrent, equivalent requests to resource methods
+ * annotated with {@link CoalesceRequests} into a single execution.
+ *
+ * <p>For each annotated method, the feature publishes an {@code executions} meter for requests
+ * which invoked the resource method, a {@code coalesced} meter for requests answered with the
+ * response of an equivalent request, a {@code fallbacks} meter for requests which were processed on
+ * their own although an equivalent request was in flight, and {@code in-flight} and {@code waiting}
+ * gauges.</p>
+ *
+ * @since 2.1.5
+ */
+@Provider
+public class RequestCoalescingFeature implements DynamicFeature {
+    private final MetricRegistry metricRegistry;
+
+    @Context
+    @Nullable
+    private CloseableService closeableService;
+
+    @Inject
+    public RequestCoalescingFeature(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    @Override
+    public void configure(final ResourceInfo resourceInfo, final FeatureContext configuration) {
+        final Method method = resourceInfo.getResourceMethod();
+        final CoalesceRequests coalesceRequests = new AnnotatedMethod(method).getAnnotation(CoalesceRequests.class);
+        if (coalesceRequests != null) {
+            final String metricName = name(resourceInfo.getResourceClass(), method.getName(), "coalesced-requests");
+            final RequestCoalescingFilter filter = new RequestCoalescingFilter(coalesceRequests,
+                createKeyExtractor(coalesceRequests), metricRegistry, metricName, closeableService);
+            configuration.register(filter, Priorities.USER);
+        }
+    }
+
+    private static RequestKeyExtractor createKeyExtractor(CoalesceRequests coalesceRequests) {
+        final Class<? extends RequestKeyExtractor> extractorClass = coalesceRequests.keyExtractor();
+        if (extractorClass == RequestKeyExtractor.class) {
+            final List<String> headers = new ArrayList<>();
+            headers.add(HttpHeaders.ACCEPT);
+            // Requests of different users must never share a response
+            headers.add(HttpHeaders.AUTHORIZATION);
+            headers.add(HttpHeaders.COOKIE);
+            Collections.addAll(headers, coalesceRequests.varyBy());
+            final List<String> varyBy = Collections.unmodifiableList(headers);
+            return requestContext -> RequestKeys.of(requestContext, varyBy);
+        }
+
+        try {
+            return extractorClass.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unable to create request key extractor " + extractorClass, e);
+        }
+    }
+
+    private static final class SharedResponse {
+        private final byte[] body;
+        private final MultivaluedMap<String, Object> headers;
+
+        private SharedResponse(byte[] body, MultivaluedMap<String, Object> headers) {
+            this.body = body;
+            this.headers = new MultivaluedHashMap<>();
+            for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+                if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(header.getKey())) {
+                    this.headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+                }
+            }
+        }
+
+        private Response toResponse() {
+            final Response.ResponseBuilder builder = Response.ok(body);
+            for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+                for (Object value : header.getValue()) {
+                    builder.header(header.getKey(), value);
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * Lets the first of several equivalent requests invoke the resource method, and answers the
+     * others from the request filter chain with a copy of its serialized response and headers.
+     * <p>
+     * The filter API can't suspend a request, so waiting requests hold their thread. At most
+     * {@link CoalesceRequests#maxWaitingRequests()} requests wait at a time; further requests are
+     * processed on their own.
+     */
+    private static class RequestCoalescingFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+        private static final String LEADER_PROPERTY = RequestCoalescingFilter.class.getName() + ".leader";
+        private static final String SHAREABLE_PROPERTY = RequestCoalescingFilter.class.getName() + ".shareable";
+
+        private final ConcurrentMap<String, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+        private final RequestKeyExtractor keyExtractor;
+        private final long maxWaitNanos;
+        private final long maximumResponseSize;
+        private final int maxWaitingRequests;
+        private final AtomicInteger waiting = new AtomicInteger();
+        @Nullable
+        private final CloseableService closeableService;
+        private final Meter executions;
+        private final Meter coalesced;
+        private final Meter fallbacks;
+
+        RequestCoalescingFilter(CoalesceRequests coalesceRequests, RequestKeyExtractor keyExtractor,
+                                MetricRegistry metricRegistry, String metricName,
+                                @Nullable CloseableService closeableService) {
+            this.keyExtractor = keyExtractor;
+            this.maxWaitNanos = coalesceRequests.maxWaitUnit().toNanos(coalesceRequests.maxWait());
+            this.maximumResponseSize = coalesceRequests.maximumResponseSize();
+            this.maxWaitingRequests = coalesceRequests.maxWaitingRequests();
+            this.closeableService = closeableService;
+            this.executions = metricRegistry.meter(name(metricName, "executions"));
+            this.coalesced = metricRegistry.meter(name(metricName, "coalesced"));
+            this.fallbacks = metricRegistry.meter(name(metricName, "fallbacks"));
+            metricRegistry.remove(name(metricName, "in-flight"));
+            metricRegistry.register(name(metricName, "in-flight"), (Gauge<Integer>) inFlight::size);
+            metricRegistry.remove(name(metricName, "waiting"));
+            metricRegistry.register(name(metricName, "waiting"), (Gauge<Integer>) waiting::get);
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) throws IOException {
+            if (!HttpMethod.GET.equals(requestContext.getMethod())) {
+                return;
+            }
+
+            final String key = keyExtractor.getKey(requestContext);
+            final CompletableFuture<SharedResponse> future = new CompletableFuture<>();
+            final CompletableFuture<SharedResponse> leader = inFlight.putIfAbsent(key, future);
+            if (leader == null) {
+                executions.mark();
+                final Leader self = new Leader(key, future);
+                requestContext.setProperty(LEADER_PROPERTY, self);
+                if (closeableService != null) {
+                    // Releases the waiting requests however the processing of this request ends,
+                    // e.g. if an exception mapper produced the response or the client went away
+                    closeableService.add(() -> complete(self, null));
+                }
+                return;
+            }
+
+            final SharedResponse response = await(leader);
+            if (response != null) {
+                coalesced.mark();
+                requestContext.abortWith(response.toResponse());
+            } else {
+                fallbacks.mark();
+            }
+        }
+
+        @Nullable
+        private SharedResponse await(CompletableFuture<SharedResponse> leader) {
+            if (waiting.incrementAndGet() > maxWaitingRequests) {
+                waiting.decrementAndGet();
+                return null;
+            }
+            try {
+                return leader.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException | TimeoutException e) {
+                return null;
+            } finally {
+                waiting.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext,
+                           ContainerResponseContext responseContext) throws IOException {
+            final Object leader = requestContext.getProperty(LEADER_PROPERTY);
+            if (!(leader instanceof Leader)) {
+                return;
+            }
+
+            if (responseContext.getStatus() == Response.Status.OK.getStatusCode()
+                && responseContext.hasEntity()
+                && !responseContext.getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+                requestContext.setProperty(SHAREABLE_PROPERTY, Boolean.TRUE);
+            } else {
+                complete((Leader) leader, null);
+            }
+        }
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+            final Object leader = context.getProperty(LEADER_PROPERTY);
+            if (!(leader instanceof Leader) || context.getProperty(SHAREABLE_PROPERTY) == null) {
+                context.proceed();
+                return;
+            }
+
+            final CapturingOutputStream capturing = new CapturingOutputStream(context.getOutputStream(), maximumResponseSize);
+            context.setOutputStream(capturing);
+            SharedResponse response = null;
+            try {
+                context.proceed();
+                final byte[] body = capturing.getCaptured();
+                if (body != null) {
+                    response = new SharedResponse(body, context.getHeaders());
+                }
+            } finally {
+                complete((Leader) leader, response);
+            }
+        }
+
+        private void complete(Leader leader, @Nullable SharedResponse response) {
+            // Only removes the entry of this request, not one of a later equivalent request
+            inFlight.remove(leader.key, leader.future);
+            leader.future.complete(response);
+        }
+    }
+
+    private static final class Leader {
+        private final String key;
+        private final CompletableFuture<SharedResponse> future;
+
+        private Leader(String key, CompletableFuture<SharedResponse> future) {
+            this.key = key;
+            this.future = future;
+        }
+    }
+}
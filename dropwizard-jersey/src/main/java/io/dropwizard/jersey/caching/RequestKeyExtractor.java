@@ -0,0 +1,22 @@
+package io.dropwizard.jersey.caching;
+
+import javax.ws.rs.container.ContainerRequestContext;
+
+/**
+ * Extracts a key from a request. Requests to the same resource method with equal keys are
+ * considered equivalent and may share a single response.
+ *
+ * <p>Implementations must have a public no-argument constructor.</p>
+ *
+ * @see CoalesceRequests#keyExtractor()
+ * @since 2.1.5
+ */
+public interface RequestKeyExtractor {
+    /**
+     * Extracts the key of the given request.
+     *
+     * @param requestContext the context of the request
+     * @return the key identifying equivalent requests
+     */
+    String getKey(ContainerRequestContext requestContext);
+}
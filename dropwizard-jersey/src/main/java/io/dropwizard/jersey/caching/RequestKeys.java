@@ -0,0 +1,78 @@
+package io.dropwizard.jersey.caching;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.MultivaluedMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds keys which identify equivalent requests to the same resource method.
+ */
+final class RequestKeys {
+    private RequestKeys() {
+    }
+
+    /**
+     * Builds a key from the normalized request path, the query parameters sorted by name and the
+     * values of the given headers.
+     */
+    static String of(ContainerRequestContext requestContext, List<String> headers) {
+        final String path = requestContext.getUriInfo().getRequestUri().normalize().getRawPath();
+        final StringBuilder key = new StringBuilder(normalizeEncoding(path == null ? "" : path));
+        final MultivaluedMap<String, String> queryParameters = requestContext.getUriInfo().getQueryParameters(false);
+        if (!queryParameters.isEmpty()) {
+            char separator = '?';
+            for (Map.Entry<String, List<String>> parameter : new TreeMap<>(queryParameters).entrySet()) {
+                for (String value : parameter.getValue()) {
+                    key.append(separator).append(normalizeEncoding(parameter.getKey()))
+                        .append('=').append(normalizeEncoding(value));
+                    separator = '&';
+                }
+            }
+        }
+        for (String header : headers) {
+            key.append('\n').append(header).append(':');
+            final String value = requestContext.getHeaderString(header);
+            if (value != null) {
+                key.append(value);
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Normalizes the percent-encoding of a URI component as described in RFC 3986, section 6.2.2:
+     * unreserved characters are decoded and the hex digits of the other octets are upper-cased.
+     */
+    static String normalizeEncoding(String component) {
+        if (component.indexOf('%') < 0) {
+            return component;
+        }
+        final StringBuilder normalized = new StringBuilder(component.length());
+        for (int i = 0; i < component.length(); i++) {
+            final char c = component.charAt(i);
+            final int high = i + 2 < component.length() ? Character.digit(component.charAt(i + 1), 16) : -1;
+            final int low = high >= 0 ? Character.digit(component.charAt(i + 2), 16) : -1;
+            if (c != '%' || low < 0) {
+                normalized.append(c);
+                continue;
+            }
+            final char decoded = (char) (high * 16 + low);
+            if (isUnreserved(decoded)) {
+                normalized.append(decoded);
+            } else {
+                normalized.append('%')
+                    .append(Character.toUpperCase(component.charAt(i + 1)))
+                    .append(Character.toUpperCase(component.charAt(i + 2)));
+            }
+            i += 2;
+        }
+        return normalized.toString();
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+            || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+}
@@ -0,0 +1,70 @@
+package io.dropwizard.jersey.errors;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.core.Response;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Shared {@link ErrorMessage} instances for client and server errors which carry the default message of a
+ * {@link javax.ws.rs.WebApplicationException}, e.g. {@code HTTP 404 Not Found}.
+ * <p/>
+ * Since these instances never change, message body writers may serialize them once and reuse the serialized body.
+ *
+ * @since 2.1.5
+ */
+public final class DefaultErrorMessages {
+    private static final Map<Integer, ErrorMessage> MESSAGES;
+
+    static {
+        final Map<Integer, ErrorMessage> messages = new HashMap<>();
+        for (Response.Status status : Response.Status.values()) {
+            final Response.Status.Family family = status.getFamily();
+            if (family == Response.Status.Family.CLIENT_ERROR || family == Response.Status.Family.SERVER_ERROR) {
+                // Matches the message of a WebApplicationException which was created without a message
+                final String message = "HTTP " + status.getStatusCode() + ' ' + status.getReasonPhrase();
+                messages.put(status.getStatusCode(), new ErrorMessage(status.getStatusCode(), message));
+            }
+        }
+        MESSAGES = Collections.unmodifiableMap(messages);
+    }
+
+    private DefaultErrorMessages() {
+    }
+
+    /**
+     * Returns the shared error message for the given status code.
+     *
+     * @param code the HTTP status code
+     * @return the shared error message, or {@code null} if the status code is not a known error status
+     */
+    @Nullable
+    public static ErrorMessage forStatus(int code) {
+        return MESSAGES.get(code);
+    }
+
+    /**
+     * Returns the shared error message for the given status code, if the given message is the default message
+     * for that status code, otherwise creates a new {@link ErrorMessage}.
+     *
+     * @param code    the HTTP status code
+     * @param message the message of the error
+     */
+    public static ErrorMessage of(int code, String message) {
+        final ErrorMessage errorMessage = MESSAGES.get(code);
+        if (errorMessage != null && errorMessage.getMessage().equals(message)) {
+            return errorMessage;
+        }
+        return new ErrorMessage(code, message);
+    }
+
+    /**
+     * Returns whether the given error message is one of the shared instances.
+     *
+     * @param errorMessage an error message
+     */
+    public static boolean isDefault(ErrorMessage errorMessage) {
+        return MESSAGES.get(errorMessage.getCode()) == errorMessage;
+    }
+}
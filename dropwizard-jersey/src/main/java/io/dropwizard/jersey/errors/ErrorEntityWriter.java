@@ -7,18 +7,30 @@ import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.MessageBodyWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * This class allows producing non-JSON responses for particular entities. For example, register a instance with the
  * {@link ErrorMessage} entity and the TEXT_HTML MediaType to produce custom HTML error messages.
+ * <p/>
+ * The shared {@link DefaultErrorMessages default error messages} are rendered only once, along with the response
+ * headers set by the writer of the representation.
  *
  * @param <T> The entity type to handle
  * @param <U> The response type to produce
@@ -60,6 +72,21 @@ public abstract class ErrorEntityWriter<T, U> implements MessageBodyWriter<T> {
         // Fix the headers, because Dropwizard error mappers always set the content type to APPLICATION_JSON
         responseHeaders.putSingle(HttpHeaders.CONTENT_TYPE, contentType);
 
+        if (entity instanceof ErrorMessage && DefaultErrorMessages.isDefault((ErrorMessage) entity)) {
+            final int code = ((ErrorMessage) entity).getCode();
+            RenderedErrorMessage rendered = renderedErrorMessages.get(code);
+            if (rendered == null) {
+                final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                final MultivaluedMap<String, Object> renderedHeaders = new MultivaluedHashMap<>(responseHeaders);
+                writer.writeTo(getRepresentation(entity), representation, representation, annotations,
+                    contentType, renderedHeaders, buffer);
+                rendered = new RenderedErrorMessage(buffer.toByteArray(), responseHeaders, renderedHeaders);
+                renderedErrorMessages.putIfAbsent(code, rendered);
+            }
+            rendered.writeTo(responseHeaders, entityStream);
+            return;
+        }
+
         writer.writeTo(getRepresentation(entity), representation, representation, annotations,
             contentType, responseHeaders, entityStream);
     }
@@ -68,6 +95,7 @@ public abstract class ErrorEntityWriter<T, U> implements MessageBodyWriter<T> {
 
     private MediaType contentType;
     private Class<U> representation;
+    private final ConcurrentMap<Integer, RenderedErrorMessage> renderedErrorMessages = new ConcurrentHashMap<>();
 
     @Context
     @Nullable
@@ -76,4 +104,30 @@ public abstract class ErrorEntityWriter<T, U> implements MessageBodyWriter<T> {
     @Context
     @Nullable
     private javax.inject.Provider<MessageBodyWorkers> mbw;
+
+    /**
+     * The body of a rendered error message and the response headers its writer set.
+     */
+    private static final class RenderedErrorMessage {
+        private final byte[] body;
+        private final Map<String, List<Object>> headers = new HashMap<>();
+
+        private RenderedErrorMessage(byte[] body, MultivaluedMap<String, Object> originalHeaders,
+                                     MultivaluedMap<String, Object> renderedHeaders) {
+            this.body = body;
+            for (Map.Entry<String, List<Object>> header : renderedHeaders.entrySet()) {
+                if (!Objects.equals(header.getValue(), originalHeaders.get(header.getKey()))) {
+                    headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+                }
+            }
+        }
+
+        private void writeTo(MultivaluedMap<String, Object> responseHeaders, OutputStream entityStream)
+            throws IOException {
+            for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+                responseHeaders.put(header.getKey(), new ArrayList<>(header.getValue()));
+            }
+            entityStream.write(body);
+        }
+    }
 }
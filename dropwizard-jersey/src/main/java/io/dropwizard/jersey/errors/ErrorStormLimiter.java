@@ -0,0 +1,141 @@
+package io.dropwizard.jersey.errors;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Limits how often {@link LoggingExceptionMapper} logs the stack trace of identical exceptions, so that a storm of
+ * failures does not turn into a storm of stack traces in the logs.
+ * <p/>
+ * Exceptions are considered identical if they have the same class and the same top stack frames. Up to
+ * {@code maxStackTracesPerInterval} stack traces of identical exceptions are logged per interval, further ones are
+ * only logged as a single line.
+ * <p/>
+ * The following metrics are registered with the prefix {@code io.dropwizard.jersey.errors.LoggingExceptionMapper}:
+ * <ul>
+ *     <li>{@code exceptions.<exception class>}: a meter of the logged exceptions per exception class</li>
+ *     <li>{@code suppressed-stack-traces}: a meter of the exceptions whose stack trace was not logged</li>
+ * </ul>
+ *
+ * @since 2.1.5
+ */
+public class ErrorStormLimiter {
+    /**
+     * The number of top stack frames which identify an exception.
+     */
+    public static final int FINGERPRINT_FRAMES = 8;
+
+    private static final String PREFIX = LoggingExceptionMapper.class.getName();
+    private static final long MAXIMUM_FINGERPRINTS = 10_000L;
+
+    private final int maxStackTracesPerInterval;
+    private final long intervalNanos;
+    private final Cache<Fingerprint, Window> windows;
+    private final Meter suppressed;
+    private final ClassValue<Meter> exceptionMeters;
+    private final Clock clock;
+
+    public ErrorStormLimiter(MetricRegistry metricRegistry, int maxStackTracesPerInterval, long interval, TimeUnit unit) {
+        this(metricRegistry, maxStackTracesPerInterval, interval, unit, Clock.defaultClock());
+    }
+
+    ErrorStormLimiter(MetricRegistry metricRegistry, int maxStackTracesPerInterval, long interval, TimeUnit unit,
+                      Clock clock) {
+        requireNonNull(metricRegistry);
+        this.maxStackTracesPerInterval = maxStackTracesPerInterval;
+        this.intervalNanos = unit.toNanos(interval);
+        this.clock = requireNonNull(clock);
+        this.windows = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_FINGERPRINTS)
+            .expireAfterAccess(interval, unit)
+            .ticker(clock::getTick)
+            .build();
+        this.suppressed = metricRegistry.meter(name(PREFIX, "suppressed-stack-traces"));
+        this.exceptionMeters = new ClassValue<Meter>() {
+            @Override
+            protected Meter computeValue(Class<?> type) {
+                return metricRegistry.meter(name(PREFIX, "exceptions", type.getName()));
+            }
+        };
+    }
+
+    /**
+     * Records the given exception and decides whether its stack trace should be logged.
+     *
+     * @param exception the exception which is about to be logged
+     * @return {@code true} if the stack trace should be logged, {@code false} if it should be suppressed
+     */
+    public boolean tryAcquire(Throwable exception) {
+        exceptionMeters.get(exception.getClass()).mark();
+
+        final long now = clock.getTick();
+        final Window window = windows.get(new Fingerprint(exception), key -> new Window(now));
+        if (window != null && !window.tryAcquire(now, intervalNanos, maxStackTracesPerInterval)) {
+            suppressed.mark();
+            return false;
+        }
+        return true;
+    }
+
+    private static final class Fingerprint {
+        private final Class<?> type;
+        private final StackTraceElement[] frames;
+        private final int hashCode;
+
+        private Fingerprint(Throwable exception) {
+            final StackTraceElement[] stackTrace = exception.getStackTrace();
+            this.type = exception.getClass();
+            this.frames = stackTrace.length > FINGERPRINT_FRAMES
+                ? Arrays.copyOf(stackTrace, FINGERPRINT_FRAMES)
+                : stackTrace;
+            this.hashCode = 31 * type.hashCode() + Arrays.hashCode(frames);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Fingerprint)) {
+                return false;
+            }
+            final Fingerprint other = (Fingerprint) obj;
+            return hashCode == other.hashCode && type == other.type && Arrays.equals(frames, other.frames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class Window {
+        private long start;
+        private int count;
+
+        private Window(long start) {
+            this.start = start;
+        }
+
+        synchronized boolean tryAcquire(long now, long intervalNanos, int maxPermits) {
+            if (now - start >= intervalNanos) {
+                start = now;
+                count = 0;
+            }
+            if (count < maxPermits) {
+                count++;
+                return true;
+            }
+            return false;
+        }
+    }
+}
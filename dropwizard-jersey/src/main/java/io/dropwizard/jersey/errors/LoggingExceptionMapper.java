@@ -3,6 +3,7 @@ package io.dropwizard.jersey.errors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
@@ -17,11 +18,24 @@ import static java.util.Objects.requireNonNull;
 public abstract class LoggingExceptionMapper<E extends Throwable> implements ExceptionMapper<E> {
     protected final Logger logger;
 
+    @Nullable
+    private final ErrorStormLimiter errorStormLimiter;
+
     /**
      * @since 2.0
      */
     protected LoggingExceptionMapper(Logger logger) {
+        this(logger, null);
+    }
+
+    /**
+     * @param logger            the logger for unexpected exceptions
+     * @param errorStormLimiter limits the logging of identical stack traces, or {@code null} to log all of them
+     * @since 2.1.5
+     */
+    protected LoggingExceptionMapper(Logger logger, @Nullable ErrorStormLimiter errorStormLimiter) {
         this.logger = requireNonNull(logger, "logger");
+        this.errorStormLimiter = errorStormLimiter;
     }
 
     /**
@@ -31,6 +45,14 @@ public abstract class LoggingExceptionMapper<E extends Throwable> implements Exc
         this(LoggerFactory.getLogger(LoggingExceptionMapper.class));
     }
 
+    /**
+     * @param errorStormLimiter limits the logging of identical stack traces
+     * @since 2.1.5
+     */
+    public LoggingExceptionMapper(ErrorStormLimiter errorStormLimiter) {
+        this(LoggerFactory.getLogger(LoggingExceptionMapper.class), requireNonNull(errorStormLimiter));
+    }
+
     @Override
     public Response toResponse(E exception) {
         // If we're dealing with a web exception, we can service certain types of request (like
@@ -47,7 +69,7 @@ public abstract class LoggingExceptionMapper<E extends Throwable> implements Exc
 
             return Response.fromResponse(response)
                     .type(MediaType.APPLICATION_JSON_TYPE)
-                    .entity(new ErrorMessage(response.getStatus(), exception.getLocalizedMessage()))
+                    .entity(DefaultErrorMessages.of(response.getStatus(), exception.getLocalizedMessage()))
                     .build();
         }
 
@@ -74,7 +96,11 @@ public abstract class LoggingExceptionMapper<E extends Throwable> implements Exc
 
     @SuppressWarnings("Slf4jFormatShouldBeConst")
     protected void logException(long id, E exception) {
-        logger.error(formatLogMessage(id, exception), exception);
+        if (errorStormLimiter == null || errorStormLimiter.tryAcquire(exception)) {
+            logger.error(formatLogMessage(id, exception), exception);
+        } else {
+            logger.error("{} (repeated stack trace suppressed): {}", formatLogMessage(id, exception), exception.toString());
+        }
     }
 
     @SuppressWarnings("UnusedParameters")
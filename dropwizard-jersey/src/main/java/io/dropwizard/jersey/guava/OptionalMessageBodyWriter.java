@@ -2,6 +2,7 @@ package io.dropwizard.jersey.guava;
 
 import com.google.common.base.Optional;
 import io.dropwizard.jersey.optional.EmptyOptionalException;
+import io.dropwizard.jersey.optional.MessageBodyWriterCache;
 import org.glassfish.jersey.message.MessageBodyWorkers;
 
 import javax.annotation.Nullable;
@@ -27,6 +28,8 @@ public class OptionalMessageBodyWriter implements MessageBodyWriter<Optional<?>>
     @Nullable
     private javax.inject.Provider<MessageBodyWorkers> mbw;
 
+    private final MessageBodyWriterCache writers = new MessageBodyWriterCache();
+
     // Jersey ignores this
     @Override
     public long getSize(Optional<?> entity, Class<?> type, Type genericType,
@@ -56,8 +59,8 @@ public class OptionalMessageBodyWriter implements MessageBodyWriter<Optional<?>>
 
         final ParameterizedType actualGenericType = (ParameterizedType) genericType;
         final Type actualGenericTypeArgument = actualGenericType.getActualTypeArguments()[0];
-        final MessageBodyWriter writer = requireNonNull(mbw).get().getMessageBodyWriter(entity.get().getClass(),
-                actualGenericTypeArgument, annotations, mediaType);
+        final MessageBodyWriter writer = requireNonNull(writers.get(requireNonNull(mbw).get(), entity.get().getClass(),
+                actualGenericTypeArgument, annotations, mediaType));
         writer.writeTo(entity.get(), entity.get().getClass(),
                 actualGenericTypeArgument,
                 annotations, mediaType, httpHeaders, entityStream);
@@ -2,21 +2,35 @@ package io.dropwizard.jersey.jackson;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.jaxrs.cfg.ObjectWriterInjector;
 import com.fasterxml.jackson.jaxrs.json.JacksonJaxbJsonProvider;
+import io.dropwizard.jersey.errors.DefaultErrorMessages;
+import io.dropwizard.jersey.errors.ErrorMessage;
 
 import javax.annotation.Nullable;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * A Jersey provider which enables using Jackson to parse request entities into objects and generate
  * response entities from objects.
  * <p/>
  * (Essentially, extends {@link JacksonJaxbJsonProvider} with support for {@link JsonIgnoreType}.)
+ * <p/>
+ * The shared {@link DefaultErrorMessages default error messages} are serialized only once, if they are written as
+ * plain UTF-8 JSON without annotations or an {@link ObjectWriterInjector end-point modifier}.
  */
 public class JacksonMessageBodyProvider extends JacksonJaxbJsonProvider {
     private final ObjectMapper mapper;
+    private final ConcurrentMap<Integer, byte[]> serializedErrorMessages = new ConcurrentHashMap<>();
 
     public JacksonMessageBodyProvider(ObjectMapper mapper) {
         this.mapper = mapper;
@@ -39,6 +53,46 @@ public class JacksonMessageBodyProvider extends JacksonJaxbJsonProvider {
         return isProvidable(type) && super.isWriteable(type, genericType, annotations, mediaType);
     }
 
+    @Override
+    public void writeTo(Object value,
+                        Class<?> type,
+                        Type genericType,
+                        Annotation[] annotations,
+                        MediaType mediaType,
+                        MultivaluedMap<String, Object> httpHeaders,
+                        OutputStream entityStream) throws IOException {
+        if (value instanceof ErrorMessage && DefaultErrorMessages.isDefault((ErrorMessage) value)
+            && isPlainUtf8Json(annotations, mediaType)) {
+            final ErrorMessage errorMessage = (ErrorMessage) value;
+            byte[] body = serializedErrorMessages.get(errorMessage.getCode());
+            if (body == null) {
+                final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                super.writeTo(value, type, genericType, annotations, mediaType, httpHeaders, buffer);
+                body = buffer.toByteArray();
+                serializedErrorMessages.putIfAbsent(errorMessage.getCode(), body);
+            }
+            entityStream.write(body);
+            return;
+        }
+        super.writeTo(value, type, genericType, annotations, mediaType, httpHeaders, entityStream);
+    }
+
+    /**
+     * Whether the entity is written with the configuration of the provider alone, so the serialized entity doesn't
+     * depend on the resource method or the request.
+     */
+    private static boolean isPlainUtf8Json(@Nullable Annotation[] annotations, @Nullable MediaType mediaType) {
+        if ((annotations != null && annotations.length > 0) || ObjectWriterInjector.get() != null) {
+            return false;
+        }
+        if (mediaType == null || !MediaType.APPLICATION_JSON_TYPE.getType().equalsIgnoreCase(mediaType.getType())
+            || !MediaType.APPLICATION_JSON_TYPE.getSubtype().equalsIgnoreCase(mediaType.getSubtype())) {
+            return false;
+        }
+        final String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        return charset == null || StandardCharsets.UTF_8.name().equalsIgnoreCase(charset);
+    }
+
     private boolean isProvidable(Class<?> type) {
         final JsonIgnoreType ignore = type.getAnnotation(JsonIgnoreType.class);
         return (ignore == null) || !ignore.value();
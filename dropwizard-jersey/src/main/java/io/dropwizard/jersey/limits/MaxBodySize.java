@@ -0,0 +1,30 @@
+package io.dropwizard.jersey.limits;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * An annotation which limits the size of the request entities accepted by the annotated resource
+ * method, or by all resource methods of the annotated resource class. Requests with larger entities
+ * are rejected with {@code 413 Request Entity Too Large}.
+ *
+ * <p>An annotation on a method takes precedence over an annotation on its class, which in turn
+ * takes precedence over the {@link RequestBodySizeLimitFeature#MAX_REQUEST_BODY_SIZE application-wide limit}.</p>
+ *
+ * @see RequestBodySizeLimitFeature
+ * @since 2.1.5
+ */
+@Documented
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface MaxBodySize {
+    /**
+     * The maximum size in bytes of a request entity. A negative value removes the limit.
+     *
+     * @return the maximum size of a request entity in bytes
+     */
+    long value();
+}
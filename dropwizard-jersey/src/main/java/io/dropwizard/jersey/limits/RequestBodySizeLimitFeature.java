@@ -0,0 +1,109 @@
+package io.dropwizard.jersey.limits;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import org.glassfish.jersey.server.model.AnnotatedMethod;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import static com.codahale.metrics.MetricRegistry.name;
+
+/**
+ * A {@link DynamicFeature} which limits the size of request entities, either for the whole
+ * application by setting the {@link #MAX_REQUEST_BODY_SIZE} property or for individual resources
+ * with {@link MaxBodySize}.
+ *
+ * <p>Requests declaring a larger {@code Content-Length} are rejected before their entity is read.
+ * All other request entities are counted while they are read, and reading fails with
+ * {@code 413 Request Entity Too Large} as soon as the limit is exceeded, so oversized entities are
+ * never buffered in full. Rejected requests are counted by a {@code rejected-request-bodies} meter
+ * for each resource method.</p>
+ *
+ * @since 2.1.5
+ */
+@Provider
+public class RequestBodySizeLimitFeature implements DynamicFeature {
+    /**
+     * The name of the property holding the maximum size in bytes of request entities for
+     * resource methods without {@link MaxBodySize} annotation.
+     */
+    public static final String MAX_REQUEST_BODY_SIZE = "io.dropwizard.jersey.limits.maxRequestBodySize";
+
+    private final MetricRegistry metricRegistry;
+
+    @Inject
+    public RequestBodySizeLimitFeature(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
+    @Override
+    public void configure(final ResourceInfo resourceInfo, final FeatureContext configuration) {
+        final long maxBodySize = maxBodySize(resourceInfo, configuration);
+        if (maxBodySize >= 0) {
+            final Method method = resourceInfo.getResourceMethod();
+            final Meter rejected = metricRegistry.meter(name(resourceInfo.getResourceClass(), method.getName(),
+                "rejected-request-bodies"));
+            configuration.register(new RequestBodySizeLimitFilter(maxBodySize, rejected));
+        }
+    }
+
+    private static long maxBodySize(ResourceInfo resourceInfo, FeatureContext configuration) {
+        final MaxBodySize methodLimit = new AnnotatedMethod(resourceInfo.getResourceMethod())
+            .getAnnotation(MaxBodySize.class);
+        if (methodLimit != null) {
+            return methodLimit.value();
+        }
+        final MaxBodySize classLimit = resourceInfo.getResourceClass().getAnnotation(MaxBodySize.class);
+        if (classLimit != null) {
+            return classLimit.value();
+        }
+        final Object property = configuration.getConfiguration().getProperty(MAX_REQUEST_BODY_SIZE);
+        if (property instanceof Number) {
+            return ((Number) property).longValue();
+        }
+        if (property != null) {
+            return Long.parseLong(property.toString());
+        }
+        return -1L;
+    }
+
+    static WebApplicationException entityTooLarge(long maxBodySize) {
+        return new WebApplicationException("Request entity exceeds the maximum size of " + maxBodySize + " bytes",
+            Response.Status.REQUEST_ENTITY_TOO_LARGE);
+    }
+
+    @Priority(Priorities.HEADER_DECORATOR)
+    private static class RequestBodySizeLimitFilter implements ContainerRequestFilter {
+        private final long maxBodySize;
+        private final Meter rejected;
+
+        RequestBodySizeLimitFilter(long maxBodySize, Meter rejected) {
+            this.maxBodySize = maxBodySize;
+            this.rejected = rejected;
+        }
+
+        @Override
+        public void filter(ContainerRequestContext requestContext) throws IOException {
+            if (requestContext.getLength() > maxBodySize) {
+                rejected.mark();
+                throw entityTooLarge(maxBodySize);
+            }
+            if (requestContext.hasEntity()) {
+                requestContext.setEntityStream(new SizeLimitedInputStream(requestContext.getEntityStream(),
+                    maxBodySize, rejected));
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.dropwizard.jersey.limits;
+
+import com.codahale.metrics.Meter;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An {@link InputStream} which fails with {@code 413 Request Entity Too Large} as soon as more than
+ * the allowed number of bytes has been read from it.
+ */
+class SizeLimitedInputStream extends FilterInputStream {
+    private final long maxBodySize;
+    private final Meter rejected;
+    private long count;
+    private long mark;
+    private boolean exceeded;
+
+    SizeLimitedInputStream(InputStream in, long maxBodySize, Meter rejected) {
+        super(in);
+        this.maxBodySize = maxBodySize;
+        this.rejected = rejected;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int result = in.read();
+        if (result != -1) {
+            count(1);
+        }
+        return result;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        final int result = in.read(b, off, len);
+        if (result != -1) {
+            count(result);
+        }
+        return result;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        final long result = in.skip(n);
+        count(result);
+        return result;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        in.mark(readLimit);
+        mark = count;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        in.reset();
+        count = mark;
+    }
+
+    private void count(long read) {
+        count += read;
+        if (count > maxBodySize) {
+            if (!exceeded) {
+                exceeded = true;
+                rejected.mark();
+            }
+            throw RequestBodySizeLimitFeature.entityTooLarge(maxBodySize);
+        }
+    }
+}
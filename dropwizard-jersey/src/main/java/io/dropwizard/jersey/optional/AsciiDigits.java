@@ -0,0 +1,37 @@
+package io.dropwizard.jersey.optional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the decimal representation of integral values as ASCII bytes without allocating a {@link String}.
+ */
+final class AsciiDigits {
+    // Long.MIN_VALUE has 19 digits plus the sign
+    private static final int MAX_LENGTH = 20;
+    private static final byte[] MIN_VALUE = Long.toString(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+
+    private AsciiDigits() {
+    }
+
+    static void write(long value, OutputStream out) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            // Cannot be negated
+            out.write(MIN_VALUE);
+            return;
+        }
+
+        final byte[] buffer = new byte[MAX_LENGTH];
+        int position = MAX_LENGTH;
+        long remaining = Math.abs(value);
+        do {
+            buffer[--position] = (byte) ('0' + (remaining % 10));
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0) {
+            buffer[--position] = '-';
+        }
+        out.write(buffer, position, MAX_LENGTH - position);
+    }
+}
@@ -0,0 +1,94 @@
+package io.dropwizard.jersey.optional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.glassfish.jersey.message.MessageBodyWorkers;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.MessageBodyWriter;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Remembers the {@link MessageBodyWriter} resolved for the contents of a wrapper type such as
+ * {@link java.util.Optional}, so that the {@link MessageBodyWorkers} are only consulted once per
+ * combination of raw type, generic type, annotations and media type.
+ * <p>
+ * The annotations are part of the key because writers may accept or reject an entity based on
+ * the annotations of the resource method.
+ *
+ * @since 2.1.5
+ */
+public final class MessageBodyWriterCache {
+    private static final int MAXIMUM_SIZE = 1024;
+
+    private final Cache<Key, MessageBodyWriter<?>> writers = Caffeine.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .build();
+
+    /**
+     * Returns the writer for the given entity type, resolving it through {@code workers} on a cache miss.
+     *
+     * @param workers     the message body workers of the current application
+     * @param type        the raw type of the entity
+     * @param genericType the generic type of the entity
+     * @param annotations the annotations of the resource method
+     * @param mediaType   the media type of the response
+     * @return the writer, or {@code null} if none is able to write the entity
+     */
+    @Nullable
+    public MessageBodyWriter<?> get(MessageBodyWorkers workers, Class<?> type, Type genericType,
+                                    Annotation[] annotations, MediaType mediaType) {
+        final Key key = new Key(type, genericType, annotations, mediaType);
+        final MessageBodyWriter<?> cached = writers.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final MessageBodyWriter<?> writer = workers.getMessageBodyWriter(type, genericType, annotations, mediaType);
+        if (writer != null) {
+            writers.put(key, writer);
+        }
+        return writer;
+    }
+
+    private static final class Key {
+        private final Class<?> type;
+        private final Type genericType;
+        private final List<Annotation> annotations;
+        private final MediaType mediaType;
+        private final int hashCode;
+
+        private Key(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            this.type = type;
+            this.genericType = genericType;
+            this.annotations = Arrays.asList(annotations);
+            this.mediaType = mediaType;
+            this.hashCode = Objects.hash(type, genericType, this.annotations, mediaType);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return type.equals(other.type)
+                && genericType.equals(other.genericType)
+                && annotations.equals(other.annotations)
+                && mediaType.equals(other.mediaType);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
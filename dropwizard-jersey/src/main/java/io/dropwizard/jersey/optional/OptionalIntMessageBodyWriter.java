@@ -11,8 +11,6 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.OptionalInt;
 
-import static java.nio.charset.StandardCharsets.US_ASCII;
-
 @Provider
 @Produces(MediaType.WILDCARD)
 public class OptionalIntMessageBodyWriter implements MessageBodyWriter<OptionalInt> {
@@ -35,7 +33,9 @@ public class OptionalIntMessageBodyWriter implements MessageBodyWriter<OptionalI
                         MediaType mediaType,
                         MultivaluedMap<String, Object> httpHeaders,
                         OutputStream entityStream) throws IOException {
-        final String body = Integer.toString(entity.orElseThrow(() -> EmptyOptionalException.INSTANCE));
-        entityStream.write(body.getBytes(US_ASCII));
+        if (!entity.isPresent()) {
+            throw EmptyOptionalException.INSTANCE;
+        }
+        AsciiDigits.write(entity.getAsInt(), entityStream);
     }
 }
@@ -26,6 +26,8 @@ public class OptionalMessageBodyWriter implements MessageBodyWriter<Optional<?>>
     @Nullable
     private javax.inject.Provider<MessageBodyWorkers> mbw;
 
+    private final MessageBodyWriterCache writers = new MessageBodyWriterCache();
+
     // Jersey ignores this
     @Override
     public long getSize(Optional<?> entity, Class<?> type, Type genericType,
@@ -54,8 +56,8 @@ public class OptionalMessageBodyWriter implements MessageBodyWriter<Optional<?>>
         final Type innerGenericType = (genericType instanceof ParameterizedType) ?
             ((ParameterizedType) genericType).getActualTypeArguments()[0] : entityObj.getClass();
 
-        final MessageBodyWriter writer = requireNonNull(mbw).get().getMessageBodyWriter(entityObj.getClass(),
-            innerGenericType, annotations, mediaType);
+        final MessageBodyWriter writer = requireNonNull(writers.get(requireNonNull(mbw).get(), entityObj.getClass(),
+            innerGenericType, annotations, mediaType));
         writer.writeTo(entityObj, entityObj.getClass(),
             innerGenericType, annotations, mediaType, httpHeaders, entityStream);
     }
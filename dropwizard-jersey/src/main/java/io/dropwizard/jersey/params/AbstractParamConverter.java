@@ -4,11 +4,12 @@ import org.glassfish.jersey.internal.inject.ExtractorException;
 import org.glassfish.jersey.server.internal.LocalizationMessages;
 
 import javax.annotation.Nullable;
-import javax.ws.rs.ProcessingException;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.ext.ParamConverter;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * Converter to Jersey for Dropwizard's *Param classes.
@@ -21,13 +22,25 @@ import java.lang.reflect.InvocationTargetException;
  * @since 2.0
  */
 public class AbstractParamConverter<T> implements ParamConverter<T> {
-    private final Constructor<T> constructor;
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, String.class, String.class);
+
+    private final MethodHandle constructor;
     private final String parameterName;
     @Nullable
     private final String defaultValue;
 
+    /**
+     * @throws IllegalArgumentException if the constructor is not accessible
+     */
     public AbstractParamConverter(Constructor<T> constructor, String parameterName, @Nullable String defaultValue) {
-        this.constructor = constructor;
+        this(unreflect(constructor), parameterName, defaultValue);
+    }
+
+    /**
+     * @param constructor a {@link MethodHandle} to the {@code (String, String)} constructor of the param class
+     */
+    AbstractParamConverter(MethodHandle constructor, String parameterName, @Nullable String defaultValue) {
+        this.constructor = constructor.asType(CONSTRUCTOR_TYPE);
         this.parameterName = parameterName;
         this.defaultValue = defaultValue;
     }
@@ -37,19 +50,15 @@ public class AbstractParamConverter<T> implements ParamConverter<T> {
      */
     @Override
     @Nullable
+    @SuppressWarnings("unchecked")
     public T fromString(String value) {
+        final String defaultedValue = (value == null || value.isEmpty()) && defaultValue != null ? defaultValue : value;
         try {
-            final String defaultedValue = (value == null || value.isEmpty()) && defaultValue != null ? defaultValue : value;
-            return constructor.newInstance(defaultedValue, parameterName);
-        } catch (InvocationTargetException ex) {
-            final Throwable cause = ex.getCause();
-            if (cause instanceof WebApplicationException) {
-                throw (WebApplicationException) cause;
-            } else {
-                throw new ExtractorException(cause);
-            }
-        } catch (final Exception ex) {
-            throw new ProcessingException(ex);
+            return (T) constructor.invokeExact(defaultedValue, parameterName);
+        } catch (WebApplicationException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ExtractorException(ex);
         }
     }
 
@@ -64,4 +73,11 @@ public class AbstractParamConverter<T> implements ParamConverter<T> {
         return value.toString();
     }
 
+    private static MethodHandle unreflect(Constructor<?> constructor) {
+        try {
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Unable to access " + constructor, e);
+        }
+    }
 }
@@ -7,8 +7,11 @@ import javax.annotation.Nullable;
 import javax.ws.rs.ext.ParamConverter;
 import javax.ws.rs.ext.ParamConverterProvider;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Type;
+import java.util.Optional;
 
 /**
  * Provides converters to Jersey for Dropwizard's *Param classes.
@@ -17,23 +20,36 @@ import java.lang.reflect.Type;
  * value provided and the name of the parameter, so if value parsing fails the parameter name can be used in the error
  * message. If the param class does not have a two-string constructor this provider will return null, causing jersey
  * to use the single-string constructor for the parameter type as it normally would.</p>
+ *
+ * <p>The two-string constructor of each param class is resolved once and cached as a {@link MethodHandle}.</p>
  */
 public class AbstractParamConverterProvider implements ParamConverterProvider {
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(void.class, String.class, String.class);
+
+    private static final ClassValue<Optional<MethodHandle>> CONSTRUCTORS = new ClassValue<Optional<MethodHandle>>() {
+        @Override
+        protected Optional<MethodHandle> computeValue(Class<?> type) {
+            try {
+                return Optional.of(MethodHandles.lookup().findConstructor(type, CONSTRUCTOR_TYPE));
+            } catch (NoSuchMethodException | IllegalAccessException ignored) {
+                return Optional.empty();
+            }
+        }
+    };
+
     @Override
     @Nullable
     public <T> ParamConverter<T> getConverter(Class<T> rawType, Type genericType, Annotation[] annotations) {
         if (AbstractParam.class.isAssignableFrom(rawType)) {
-            final String parameterName = JerseyParameterNameProvider.getParameterNameFromAnnotations(annotations).orElse("Parameter");
-            final Constructor<T> constructor;
-            try {
-                constructor = rawType.getConstructor(String.class, String.class);
-            } catch (NoSuchMethodException ignored) {
-                // The Param class did not have a (String, String) constructor. We return null,
+            final Optional<MethodHandle> constructor = CONSTRUCTORS.get(rawType);
+            if (!constructor.isPresent()) {
+                // The Param class did not have an accessible (String, String) constructor. We return null,
                 // leaving Jersey to handle these parameters as it normally would.
                 return null;
             }
+            final String parameterName = JerseyParameterNameProvider.getParameterNameFromAnnotations(annotations).orElse("Parameter");
             final String defaultValue = DefaultValueUtils.getDefaultValue(annotations);
-            return new AbstractParamConverter<>(constructor, parameterName, defaultValue);
+            return new AbstractParamConverter<>(constructor.get(), parameterName, defaultValue);
         }
         return null;
     }
@@ -1,10 +1,14 @@
 package io.dropwizard.jersey.setup;
 
 import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.jersey.ResourceScanCache;
+import io.dropwizard.jersey.async.ManagedAsyncExecutorProvider;
 import org.glassfish.jersey.server.ResourceConfig;
 
 import javax.annotation.Nullable;
 import javax.servlet.Servlet;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 
 import static java.util.Objects.requireNonNull;
@@ -12,6 +16,8 @@ import static java.util.Objects.requireNonNull;
 public class JerseyEnvironment {
     private final JerseyContainerHolder holder;
     private final DropwizardResourceConfig config;
+    @Nullable
+    private ExecutorService asyncExecutor;
 
     public JerseyEnvironment(JerseyContainerHolder holder,
                              DropwizardResourceConfig config) {
@@ -49,11 +55,32 @@ public class JerseyEnvironment {
     /**
      * Adds array of package names which will be used to scan for components. Packages will be
      * scanned recursively, including all nested packages.
+     * <p/>
+     * The packages are scanned lazily by Jersey, unless a {@link #setScanCache(ResourceScanCache) scan cache} has
+     * been set before, in which case they are scanned immediately and the result is cached.
      *
      * @param packages array of package names
+     * @see DropwizardResourceConfig#scanPackages(boolean, String...)
      */
     public void packages(String... packages) {
-        config.packages(requireNonNull(packages));
+        requireNonNull(packages);
+        if (config.getScanCache().isPresent()) {
+            config.scanPackages(true, packages);
+        } else {
+            config.packages(packages);
+        }
+    }
+
+    /**
+     * Sets the cache for the results of {@link #packages(String...)}, which avoids scanning the class path again on
+     * the next start of the application, as long as the class path did not change. Only packages which are
+     * registered after the cache has been set are cached.
+     *
+     * @param scanCache the cache for scanned resource and provider classes
+     * @since 2.1.5
+     */
+    public void setScanCache(ResourceScanCache scanCache) {
+        config.setScanCache(requireNonNull(scanCache));
     }
 
     /**
@@ -99,6 +126,32 @@ public class JerseyEnvironment {
         return (T) config.getProperties().get(name);
     }
 
+    /**
+     * Sets the executor which runs {@link org.glassfish.jersey.server.ManagedAsync} resource methods and which
+     * resources may use to complete {@link java.util.concurrent.CompletionStage} results. The executor is not
+     * shut down by Jersey, so it should be managed by the application's lifecycle.
+     *
+     * @param executor the executor for asynchronous resource methods
+     * @throws IllegalStateException if an executor has already been set
+     * @since 2.1.5
+     */
+    public void setAsyncExecutor(ExecutorService executor) {
+        if (asyncExecutor != null) {
+            throw new IllegalStateException("The asynchronous executor has already been set");
+        }
+        asyncExecutor = requireNonNull(executor);
+        config.register(new ManagedAsyncExecutorProvider(executor));
+    }
+
+    /**
+     * Returns the executor for asynchronous resource methods, if one has been set.
+     *
+     * @since 2.1.5
+     */
+    public Optional<ExecutorService> getAsyncExecutor() {
+        return Optional.ofNullable(asyncExecutor);
+    }
+
     public String getUrlPattern() {
         return config.getUrlPattern();
     }
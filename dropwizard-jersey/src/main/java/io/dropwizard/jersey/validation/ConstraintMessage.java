@@ -13,9 +13,9 @@ import javax.validation.Path;
 import javax.validation.metadata.ConstraintDescriptor;
 import java.lang.annotation.Annotation;
 import java.time.Duration;
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -26,8 +26,15 @@ import static org.glassfish.jersey.model.Parameter.Source.UNKNOWN;
 
 public class ConstraintMessage {
 
-    private static final Cache<AbstractMap.SimpleImmutableEntry<Path, ? extends ConstraintDescriptor<?>>, String> PREFIX_CACHE =
+    /**
+     * The number of resolved message prefixes to keep around. The cache is bounded so that a client sending
+     * arbitrary invalid input cannot grow it without limit.
+     */
+    private static final long PREFIX_CACHE_MAXIMUM_SIZE = 10_000L;
+
+    private static final Cache<PrefixKey, String> PREFIX_CACHE =
             Caffeine.newBuilder()
+            .maximumSize(PREFIX_CACHE_MAXIMUM_SIZE)
             .expireAfterWrite(Duration.ofHours(1))
             .build();
 
@@ -38,12 +45,24 @@ public class ConstraintMessage {
      * Gets the human friendly location of where the violation was raised.
      */
     public static String getMessage(ConstraintViolation<?> v, Invocable invocable) {
-        final AbstractMap.SimpleImmutableEntry<Path, ? extends ConstraintDescriptor<?>> of =
-            new AbstractMap.SimpleImmutableEntry<>(v.getPropertyPath(), v.getConstraintDescriptor());
-        final String cachePrefix = PREFIX_CACHE.get(of, k -> calculatePrefix(v, invocable));
+        final PrefixKey key = new PrefixKey(invocable, v.getPropertyPath(), v.getConstraintDescriptor());
+        final String cachePrefix = PREFIX_CACHE.get(key, k -> calculatePrefix(v, invocable));
         return cachePrefix + v.getMessage();
     }
 
+    /**
+     * Gets the human friendly locations of all the given violations, in iteration order.
+     *
+     * @since 2.1.5
+     */
+    public static List<String> getMessages(Set<? extends ConstraintViolation<?>> violations, Invocable invocable) {
+        final List<String> messages = new ArrayList<>(violations.size());
+        for (ConstraintViolation<?> violation : violations) {
+            messages.add(getMessage(violation, invocable));
+        }
+        return messages;
+    }
+
     private static String stripLastComponent(String str) {
         int pos = str.lastIndexOf('.');
         return pos == -1 ? str : str.substring(0, pos);
@@ -204,4 +223,41 @@ public class ConstraintMessage {
                 .flatMap(superClass -> getFieldAnnotations(superClass, name));
         }
     }
+
+    /**
+     * The message prefix only depends on where the violation was raised (the resource method and the property
+     * path) and on which constraint was violated, not on the invalid value itself.
+     */
+    private static final class PrefixKey {
+        private final Invocable invocable;
+        private final Path propertyPath;
+        private final ConstraintDescriptor<?> constraintDescriptor;
+        private final int hashCode;
+
+        private PrefixKey(Invocable invocable, Path propertyPath, ConstraintDescriptor<?> constraintDescriptor) {
+            this.invocable = invocable;
+            this.propertyPath = propertyPath;
+            this.constraintDescriptor = constraintDescriptor;
+            this.hashCode = Objects.hash(invocable, propertyPath, constraintDescriptor);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PrefixKey)) {
+                return false;
+            }
+            final PrefixKey that = (PrefixKey) o;
+            return invocable.equals(that.invocable)
+                && propertyPath.equals(that.propertyPath)
+                && constraintDescriptor.equals(that.constraintDescriptor);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -29,6 +29,7 @@ public class FuzzyEnumParamConverter<T> implements ParamConverter<T> {
     private static final Logger LOGGER = LoggerFactory.getLogger(FuzzyEnumParamConverter.class);
 
     private final Class<T> rawType;
+    private final Class<Enum<?>> enumType;
     private final Method fromStringMethod;
     private final Enum<?>[] constants;
     private final String parameterName;
@@ -38,6 +39,8 @@ public class FuzzyEnumParamConverter<T> implements ParamConverter<T> {
                             Enum<?>[] constants,
                             String parameterName) {
         this.rawType = rawType;
+        @SuppressWarnings("unchecked") final Class<Enum<?>> enumType = (Class<Enum<?>>) rawType;
+        this.enumType = enumType;
         this.fromStringMethod = fromStringMethod;
         this.constants = constants;
         this.parameterName = parameterName;
@@ -74,7 +77,7 @@ public class FuzzyEnumParamConverter<T> implements ParamConverter<T> {
             }
         }
 
-        Object constant = Enums.fromStringFuzzy(value, constants);
+        Object constant = Enums.fromStringFuzzy(value, enumType);
 
         // return if a value is found
         if (constant != null) {
@@ -8,9 +8,7 @@ import javax.validation.ConstraintViolation;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.ExceptionMapper;
 import javax.ws.rs.ext.Provider;
-import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Provider
 public class JerseyViolationExceptionMapper implements ExceptionMapper<JerseyViolationException> {
@@ -23,13 +21,9 @@ public class JerseyViolationExceptionMapper implements ExceptionMapper<JerseyVio
 
         final Set<ConstraintViolation<?>> violations = exception.getConstraintViolations();
         final Invocable invocable = exception.getInvocable();
-        final List<String> errors = exception.getConstraintViolations().stream()
-                .map(violation -> ConstraintMessage.getMessage(violation, invocable))
-                .collect(Collectors.toList());
-
         final int status = ConstraintMessage.determineStatus(violations, invocable);
         return Response.status(status)
-                .entity(new ValidationErrorMessage(errors))
+                .entity(ValidationErrorMessage.lazily(() -> ConstraintMessage.getMessages(violations, invocable)))
                 .build();
     }
 }
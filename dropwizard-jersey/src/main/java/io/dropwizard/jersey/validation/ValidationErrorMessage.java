@@ -3,7 +3,10 @@ package io.dropwizard.jersey.validation;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class ValidationErrorMessage {
     private final List<String> errors;
@@ -13,8 +16,48 @@ public class ValidationErrorMessage {
         this.errors = errors;
     }
 
+    /**
+     * Creates a message whose errors are only computed once they are first requested, which usually happens when
+     * the message is serialized. Responses which are never written (e.g. for {@code HEAD} requests) don't pay for
+     * formatting the errors.
+     *
+     * @param errorsSupplier the supplier of the errors, invoked at most once
+     * @return a new {@link ValidationErrorMessage}
+     * @since 2.1.5
+     */
+    public static ValidationErrorMessage lazily(Supplier<List<String>> errorsSupplier) {
+        return new LazyValidationErrorMessage(errorsSupplier);
+    }
+
     @JsonProperty
     public List<String> getErrors() {
         return errors;
     }
+
+    private static final class LazyValidationErrorMessage extends ValidationErrorMessage {
+        private final Supplier<List<String>> errorsSupplier;
+
+        @Nullable
+        private volatile List<String> computedErrors;
+
+        private LazyValidationErrorMessage(Supplier<List<String>> errorsSupplier) {
+            super(Collections.emptyList());
+            this.errorsSupplier = errorsSupplier;
+        }
+
+        @Override
+        public List<String> getErrors() {
+            List<String> result = computedErrors;
+            if (result == null) {
+                synchronized (this) {
+                    result = computedErrors;
+                    if (result == null) {
+                        result = errorsSupplier.get();
+                        computedErrors = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
 }
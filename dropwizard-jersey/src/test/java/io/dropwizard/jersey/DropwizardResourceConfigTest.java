@@ -1,10 +1,12 @@
 package io.dropwizard.jersey;
 
+import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.jersey.dummy.DummyResource;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.server.model.Resource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import javax.inject.Inject;
 import javax.ws.rs.DELETE;
@@ -15,11 +17,13 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.core.MediaType;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class DropwizardResourceConfigTest {
-    private DropwizardResourceConfig rc = DropwizardResourceConfig.forTesting();
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private DropwizardResourceConfig rc = DropwizardResourceConfig.forTesting(metricRegistry);
     private AbstractJerseyTest jerseyTest = new AbstractJerseyTest() {
         @Override
         protected Application configure() {
@@ -59,6 +63,53 @@ class DropwizardResourceConfigTest {
                 ResourceInterface.class);
     }
 
+    @Test
+    void scansPackagesImmediately() {
+        rc.scanPackages(true, getClass().getPackage().getName());
+
+        assertThat(rc.getClasses()).contains(
+                DummyResource.class,
+                TestResource.class,
+                ResourceInterface.class);
+        assertThat(metricRegistry.timer("io.dropwizard.jersey.DropwizardResourceConfig.startup.scanning").getCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void readsScannedClassesFromCache(@TempDir java.nio.file.Path cacheDirectory) {
+        final ResourceScanCache cache = new ResourceScanCache(cacheDirectory, "");
+        final String packageName = getClass().getPackage().getName();
+        rc.setScanCache(cache);
+        rc.scanPackages(true, packageName);
+        assertThat(cache.read(true, packageName)).hasValueSatisfying(classNames ->
+                assertThat(classNames).contains(DummyResource.class.getName(), TestResource.class.getName()));
+
+        cache.write(Collections.singleton(DummyResource.class.getName()), true, packageName);
+        final DropwizardResourceConfig cachedConfig = DropwizardResourceConfig.forTesting();
+        cachedConfig.setScanCache(cache);
+        cachedConfig.scanPackages(true, packageName);
+
+        assertThat(cachedConfig.getClasses())
+                .contains(DummyResource.class)
+                .doesNotContain(TestResource.class);
+    }
+
+    @Test
+    void recordsStartupTimings() {
+        rc.register(TestResource.class);
+
+        runJersey();
+
+        assertThat(metricRegistry.getTimers().keySet()).contains(
+                "io.dropwizard.jersey.DropwizardResourceConfig.startup.binding",
+                "io.dropwizard.jersey.DropwizardResourceConfig.startup.validation",
+                "io.dropwizard.jersey.DropwizardResourceConfig.startup.endpoint-logging");
+        assertThat(metricRegistry.timer("io.dropwizard.jersey.DropwizardResourceConfig.startup.validation").getCount())
+                .isEqualTo(1);
+        assertThat(metricRegistry.timer("io.dropwizard.jersey.DropwizardResourceConfig.startup.endpoint-logging")
+                .getCount()).isEqualTo(1);
+    }
+
     @Test
     void combinesAlRegisteredClasses() {
         rc.register(new TestResource());
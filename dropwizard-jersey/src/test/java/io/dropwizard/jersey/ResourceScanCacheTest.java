@@ -0,0 +1,75 @@
+package io.dropwizard.jersey;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceScanCacheTest {
+    @Test
+    void storesClassNamesPerPackages(@TempDir Path cacheDirectory) {
+        final ResourceScanCache cache = new ResourceScanCache(cacheDirectory, "");
+        final Set<String> classNames = new LinkedHashSet<>(Arrays.asList("com.example.A", "com.example.B"));
+
+        assertThat(cache.read(true, "com.example")).isEmpty();
+        cache.write(classNames, true, "com.example");
+
+        assertThat(cache.read(true, "com.example")).hasValue(classNames);
+        assertThat(cache.read(false, "com.example")).isEmpty();
+        assertThat(cache.read(true, "com.example.other")).isEmpty();
+    }
+
+    @Test
+    void invalidatesCacheWhenClassPathChanges(@TempDir Path cacheDirectory) throws Exception {
+        final Path jar = Files.write(cacheDirectory.resolve("app.jar"), new byte[]{1});
+        final ResourceScanCache cache = new ResourceScanCache(cacheDirectory, jar.toString());
+        cache.write(Collections.singleton("com.example.A"), true, "com.example");
+
+        Files.write(jar, new byte[]{1, 2});
+
+        assertThat(new ResourceScanCache(cacheDirectory, jar.toString()).read(true, "com.example")).isEmpty();
+    }
+
+    @Test
+    void invalidatesCacheWhenManifestClassPathChanges(@TempDir Path cacheDirectory) throws Exception {
+        final Path library = Files.write(Files.createDirectory(cacheDirectory.resolve("lib")).resolve("library.jar"),
+            new byte[]{1});
+        final Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, "lib/library.jar");
+        final Path jar = cacheDirectory.resolve("app.jar");
+        try (OutputStream out = new JarOutputStream(Files.newOutputStream(jar), manifest)) {
+            out.flush();
+        }
+        final ResourceScanCache cache = new ResourceScanCache(cacheDirectory, jar.toString());
+        cache.write(Collections.singleton("com.example.A"), true, "com.example");
+
+        Files.write(library, new byte[]{1, 2});
+
+        assertThat(new ResourceScanCache(cacheDirectory, jar.toString()).read(true, "com.example")).isEmpty();
+    }
+
+    @Test
+    void doesNotCacheClassPathsWithDirectories(@TempDir Path cacheDirectory) throws Exception {
+        final Path classes = Files.createDirectory(cacheDirectory.resolve("classes"));
+        final Path jar = Files.write(cacheDirectory.resolve("app.jar"), new byte[]{1});
+        final ResourceScanCache cache = new ResourceScanCache(cacheDirectory, jar + File.pathSeparator + classes);
+
+        cache.write(Collections.singleton("com.example.A"), true, "com.example");
+
+        assertThat(cache.read(true, "com.example")).isEmpty();
+        assertThat(ResourceScanCache.hashClassPath(jar.toString())).isNotNull();
+    }
+}
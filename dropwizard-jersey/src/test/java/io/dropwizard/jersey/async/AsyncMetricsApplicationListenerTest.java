@@ -0,0 +1,96 @@
+package io.dropwizard.jersey.async;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.glassfish.jersey.server.model.Resource;
+import org.glassfish.jersey.server.model.ResourceModel;
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Response;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AsyncMetricsApplicationListenerTest extends AbstractJerseyTest {
+    // configure() is called from the constructor of JerseyTest, before instance fields are initialized
+    private static final MetricRegistry METRIC_REGISTRY = new MetricRegistry();
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(r -> new Thread(r, "test-async"));
+
+    @AfterAll
+    static void shutdownExecutor() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting(METRIC_REGISTRY)
+            .register(new ManagedAsyncExecutorProvider(EXECUTOR))
+            .register(AsyncResource.class);
+    }
+
+    @Test
+    void countsAsynchronousRequests() {
+        final long requests = METRIC_REGISTRY.meter("io.dropwizard.jersey.async.requests").getCount();
+
+        assertThat(target("/async/stage").request().get(String.class)).isEqualTo("stage");
+        assertThat(target("/async/sync").request().get(String.class)).isEqualTo("sync");
+
+        assertThat(METRIC_REGISTRY.meter("io.dropwizard.jersey.async.requests").getCount()).isEqualTo(requests + 1);
+    }
+
+    @Test
+    void countsTimeouts() {
+        final long timeouts = METRIC_REGISTRY.meter("io.dropwizard.jersey.async.timeouts").getCount();
+
+        final Response response = target("/async/timeout").request().get();
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(METRIC_REGISTRY.meter("io.dropwizard.jersey.async.timeouts").getCount()).isEqualTo(timeouts + 1);
+    }
+
+    @Test
+    void runsManagedAsyncMethodsOnTheProvidedExecutor() {
+        assertThat(target("/async/managed").request().get(String.class)).isEqualTo("test-async");
+    }
+
+    @Test
+    void doesNotListenToRequestsOfApplicationsWithoutAsynchronousMethods() {
+        final AsyncMetricsApplicationListener listener = new AsyncMetricsApplicationListener(new MetricRegistry());
+        final RequestEvent requestEvent = mock(RequestEvent.class);
+        assertThat(listener.onRequest(requestEvent)).isNotNull();
+
+        listener.onEvent(initializationFinished(SyncResource.class));
+        assertThat(listener.onRequest(requestEvent)).isNull();
+
+        listener.onEvent(initializationFinished(AsyncResource.class));
+        assertThat(listener.onRequest(requestEvent)).isNotNull();
+    }
+
+    private static ApplicationEvent initializationFinished(Class<?> resourceClass) {
+        final ResourceModel resourceModel = new ResourceModel.Builder(false)
+            .addResource(Resource.from(resourceClass))
+            .build();
+        final ApplicationEvent event = mock(ApplicationEvent.class);
+        when(event.getType()).thenReturn(ApplicationEvent.Type.INITIALIZATION_FINISHED);
+        when(event.getResourceModel()).thenReturn(resourceModel);
+        return event;
+    }
+
+    @Path("/sync")
+    public static class SyncResource {
+        @GET
+        public String sync() {
+            return "sync";
+        }
+    }
+}
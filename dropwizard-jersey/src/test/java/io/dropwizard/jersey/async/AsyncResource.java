@@ -0,0 +1,39 @@
+package io.dropwizard.jersey.async;
+
+import org.glassfish.jersey.server.ManagedAsync;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+@Path("/async")
+public class AsyncResource {
+    @GET
+    @Path("timeout")
+    public void timeout(@Suspended AsyncResponse response) {
+        response.setTimeout(10, TimeUnit.MILLISECONDS);
+    }
+
+    @GET
+    @Path("stage")
+    public CompletionStage<String> stage() {
+        return CompletableFuture.supplyAsync(() -> "stage");
+    }
+
+    @GET
+    @Path("managed")
+    @ManagedAsync
+    public String managed() {
+        return Thread.currentThread().getName();
+    }
+
+    @GET
+    @Path("sync")
+    public String sync() {
+        return "sync";
+    }
+}
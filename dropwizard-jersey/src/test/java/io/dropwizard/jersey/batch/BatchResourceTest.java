@@ -0,0 +1,136 @@
+package io.dropwizard.jersey.batch;
+
+import com.codahale.metrics.MetricRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.util.Duration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.Path;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchResourceTest extends AbstractJerseyTest {
+    private static final GenericType<List<BatchResponse>> RESPONSES = new GenericType<List<BatchResponse>>() {
+    };
+
+    // configure() is called from the constructor of JerseyTest, before instance fields are initialized
+    private static final MetricRegistry METRIC_REGISTRY = new MetricRegistry();
+    private static final ObjectMapper MAPPER = Jackson.newObjectMapper();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting(METRIC_REGISTRY)
+            .register(new BatchResource(MAPPER, EXECUTOR, METRIC_REGISTRY, 3, Duration.seconds(5)))
+            .register(BatchedResource.class)
+            .register(new OtherBatchResource());
+    }
+
+    @Path("/other-batch")
+    public static class OtherBatchResource extends BatchResource {
+        OtherBatchResource() {
+            super(MAPPER, EXECUTOR, METRIC_REGISTRY);
+        }
+    }
+
+    @AfterAll
+    static void shutDownExecutor() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    void processesRequestsInOrder() {
+        final List<BatchResponse> responses = batch(
+            new BatchRequest(HttpMethod.GET, "/batched/a", Collections.singletonMap("X-User", "alice"), null),
+            new BatchRequest(HttpMethod.POST, "batched", Collections.emptyMap(),
+                MAPPER.createObjectNode().put("b", "c")),
+            new BatchRequest(HttpMethod.GET, "/batched/text"));
+
+        assertThat(responses).extracting(BatchResponse::getStatus).containsExactly(200, 200, 200);
+        assertThat(responses.get(0).getBody()).isEqualTo(MAPPER.createObjectNode().put("a", "alice"));
+        assertThat(responses.get(1).getBody()).isEqualTo(MAPPER.createObjectNode().put("b", "c"));
+        assertThat(responses.get(2).getBody()).isEqualTo(new TextNode("plain"));
+        assertThat(responses.get(2).getHeaders()).containsEntry("Content-Type", "text/plain");
+    }
+
+    @Test
+    void inheritsTheHeadersOfTheBatchRequest() {
+        final List<BatchResponse> responses = target("/batch").request()
+            .header("X-User", "bob")
+            .post(Entity.json(Collections.singletonList(new BatchRequest(HttpMethod.GET, "/batched/a"))), RESPONSES);
+
+        assertThat(responses).singleElement()
+            .extracting(BatchResponse::getBody)
+            .isEqualTo(MAPPER.createObjectNode().put("a", "bob"));
+    }
+
+    @Test
+    void reportsTheStatusOfFailedRequests() {
+        final List<BatchResponse> responses = batch(
+            new BatchRequest(HttpMethod.GET, "/missing"),
+            new BatchRequest(HttpMethod.DELETE, "/batched/a"),
+            new BatchRequest(HttpMethod.POST, "/batch"));
+
+        assertThat(responses).extracting(BatchResponse::getStatus).containsExactly(404, 405, 400);
+    }
+
+    @Test
+    void rejectsNestedBatches() {
+        final List<BatchResponse> responses = batch(
+            new BatchRequest(HttpMethod.POST, "batch/"),
+            new BatchRequest(HttpMethod.POST, "/batched/../batch"),
+            new BatchRequest(HttpMethod.POST, "/%62atch"));
+
+        assertThat(responses).extracting(BatchResponse::getStatus).containsExactly(400, 400, 400);
+    }
+
+    @Test
+    void rejectsBatchesNestedThroughAnotherPath() {
+        final List<BatchResponse> responses = batch(new BatchRequest(HttpMethod.POST, "/other-batch",
+            Collections.emptyMap(), MAPPER.createArrayNode()));
+
+        assertThat(responses).extracting(BatchResponse::getStatus).containsExactly(400);
+    }
+
+    @Test
+    void rejectsTooLargeBatches() {
+        final List<BatchRequest> batch = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            batch.add(new BatchRequest(HttpMethod.GET, "/batched/" + i));
+        }
+        final Response response = target("/batch").request().post(Entity.json(batch));
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    void recordsTheBatchSize() {
+        final long count = METRIC_REGISTRY.histogram("io.dropwizard.jersey.batch.BatchResource.batch-size").getCount();
+        batch(new BatchRequest(HttpMethod.GET, "/batched/a"), new BatchRequest(HttpMethod.GET, "/batched/b"));
+
+        assertThat(METRIC_REGISTRY.histogram("io.dropwizard.jersey.batch.BatchResource.batch-size").getCount())
+            .isEqualTo(count + 1);
+        assertThat(METRIC_REGISTRY.timer("io.dropwizard.jersey.batch.BatchResource.requests").getCount())
+            .isGreaterThanOrEqualTo(2);
+    }
+
+    private List<BatchResponse> batch(BatchRequest... requests) {
+        return target("/batch").request().post(Entity.json(Arrays.asList(requests)), RESPONSES);
+    }
+}
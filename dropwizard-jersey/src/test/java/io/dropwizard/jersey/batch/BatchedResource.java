@@ -0,0 +1,35 @@
+package io.dropwizard.jersey.batch;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import java.util.Collections;
+import java.util.Map;
+
+@Path("/batched")
+@Produces(MediaType.APPLICATION_JSON)
+public class BatchedResource {
+    @GET
+    @Path("/{id}")
+    public Map<String, String> show(@PathParam("id") String id, @HeaderParam("X-User") String user) {
+        return Collections.singletonMap(id, user);
+    }
+
+    @POST
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Map<String, String> echo(Map<String, String> entity) {
+        return entity;
+    }
+
+    @GET
+    @Path("/text")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String text() {
+        return "plain";
+    }
+}
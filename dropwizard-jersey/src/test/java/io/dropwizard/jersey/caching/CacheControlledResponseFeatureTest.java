@@ -6,6 +6,7 @@ import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.Test;
 
 import javax.ws.rs.core.Application;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
@@ -91,4 +92,90 @@ class CacheControlledResponseFeatureTest extends AbstractJerseyTest {
         assertThat(response.getHeaders().get(HttpHeaders.CACHE_CONTROL))
                 .containsOnly("no-transform, s-maxage=46800");
     }
+
+    @Test
+    void eTaggedResponsesHaveWeakETagHeaders() throws Exception {
+        final Response response = target("/caching/etagged").request().get();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getEntityTag()).isNotNull()
+            .satisfies(tag -> assertThat(tag.isWeak()).isTrue());
+        assertThat(response.readEntity(String.class)).isEqualTo("etagged");
+    }
+
+    @Test
+    void eTaggedResponsesAreNotModifiedIfTagMatches() throws Exception {
+        final EntityTag tag = target("/caching/etagged").request().get().getEntityTag();
+
+        final Response response = target("/caching/etagged").request()
+            .header(HttpHeaders.IF_NONE_MATCH, tag.toString())
+            .get();
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getEntityTag()).isEqualTo(tag);
+        assertThat(response.hasEntity()).isFalse();
+    }
+
+    @Test
+    void eTaggedResponsesAreSentIfTagDoesNotMatch() throws Exception {
+        final Response response = target("/caching/etagged").request()
+            .header(HttpHeaders.IF_NONE_MATCH, "W/\"other\"")
+            .get();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.readEntity(String.class)).isEqualTo("etagged");
+    }
+
+    @Test
+    void eTaggedResponsesFailPreconditionsIfMatchDoesNotMatch() throws Exception {
+        final Response response = target("/caching/etagged").request()
+            .header(HttpHeaders.IF_MATCH, "\"other\"")
+            .get();
+
+        assertThat(response.getStatus()).isEqualTo(412);
+        assertThat(response.hasEntity()).isFalse();
+    }
+
+    @Test
+    void strongETagsAreStable() throws Exception {
+        final Response first = target("/caching/etagged-strong").request().get();
+        final Response second = target("/caching/etagged-strong").request()
+            .header(HttpHeaders.IF_NONE_MATCH, first.getEntityTag().toString())
+            .get();
+
+        assertThat(first.getEntityTag()).isNotNull()
+            .satisfies(tag -> assertThat(tag.isWeak()).isFalse());
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getHeaders().get(HttpHeaders.CACHE_CONTROL))
+            .containsOnly("no-cache, no-transform");
+    }
+
+    @Test
+    void keptETagsAnswerPollingWithoutSerialization() throws Exception {
+        CachingResource.value = "polled";
+        final Response first = target("/caching/etagged-cached").request().get();
+        assertThat(first.readEntity(String.class)).isEqualTo("polled");
+        final int serializations = CachingResource.SERIALIZATIONS.get();
+
+        final Response second = target("/caching/etagged-cached").request()
+            .header(HttpHeaders.IF_NONE_MATCH, first.getEntityTag().toString())
+            .get();
+
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getEntityTag()).isEqualTo(first.getEntityTag());
+        assertThat(CachingResource.SERIALIZATIONS).hasValue(serializations);
+    }
+
+    @Test
+    void keptETagsAreNotSentWithChangedEntities() throws Exception {
+        CachingResource.value = "before";
+        final EntityTag before = target("/caching/etagged-cached").request().get().getEntityTag();
+        CachingResource.value = "after";
+
+        final Response response = target("/caching/etagged-cached").request().get();
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getEntityTag()).isNotEqualTo(before);
+        assertThat(response.readEntity(String.class)).isEqualTo("after");
+    }
 }
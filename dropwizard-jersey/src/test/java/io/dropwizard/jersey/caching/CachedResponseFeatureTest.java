@@ -0,0 +1,100 @@
+package io.dropwizard.jersey.caching;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedResponseFeatureTest extends AbstractJerseyTest {
+    private static final String METRIC_PREFIX =
+        "io.dropwizard.jersey.caching.CachedResponseResource.showCounter.cached-response";
+
+    // configure() is called from the constructor of JerseyTest, before instance fields are initialized
+    private static final MetricRegistry METRIC_REGISTRY = new MetricRegistry();
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting(METRIC_REGISTRY)
+            .register(CachedResponseResource.class);
+    }
+
+    @BeforeEach
+    void resetInvocations() {
+        CachedResponseResource.INVOCATIONS.set(0);
+    }
+
+    @Test
+    void repeatedRequestsAreServedFromCache() {
+        final long hits = METRIC_REGISTRY.meter(METRIC_PREFIX + ".hits").getCount();
+        final long misses = METRIC_REGISTRY.meter(METRIC_PREFIX + ".misses").getCount();
+
+        final String first = target("/cached/counter").queryParam("name", "a").request().get(String.class);
+        final String second = target("/cached/counter").queryParam("name", "a").request().get(String.class);
+
+        assertThat(first).isEqualTo("a-1");
+        assertThat(second).isEqualTo("a-1");
+        assertThat(CachedResponseResource.INVOCATIONS).hasValue(1);
+        assertThat(METRIC_REGISTRY.meter(METRIC_PREFIX + ".hits").getCount()).isEqualTo(hits + 1);
+        assertThat(METRIC_REGISTRY.meter(METRIC_PREFIX + ".misses").getCount()).isEqualTo(misses + 1);
+    }
+
+    @Test
+    void cachedResponsesKeepTheirMediaType() {
+        target("/cached/counter").queryParam("name", "type").request().get(String.class);
+
+        assertThat(target("/cached/counter").queryParam("name", "type").request().get().getMediaType())
+            .isEqualTo(MediaType.TEXT_PLAIN_TYPE);
+    }
+
+    @Test
+    void cachedResponsesKeepTheirHeaders() {
+        final Response first = target("/cached/headers").request().get();
+        final Response second = target("/cached/headers").request().get();
+
+        assertThat(second.readEntity(String.class)).isEqualTo("headers");
+        assertThat(second.getHeaderString("X-Invocation")).isEqualTo(first.getHeaderString("X-Invocation"));
+        assertThat(CachedResponseResource.INVOCATIONS).hasValue(1);
+    }
+
+    @Test
+    void equivalentUrisShareCachedResponses() {
+        assertThat(target("/cached/counter").queryParam("name", "e").request().get(String.class))
+            .isEqualTo("e-1");
+        assertThat(client().target(getBaseUri().resolve("cached/counter?%6eame=%65")).request().get(String.class))
+            .isEqualTo("e-1");
+    }
+
+    @Test
+    void differentQueryParametersAreCachedSeparately() {
+        assertThat(target("/cached/counter").queryParam("name", "b").request().get(String.class))
+            .isEqualTo("b-1");
+        assertThat(target("/cached/counter").queryParam("name", "c").request().get(String.class))
+            .isEqualTo("c-2");
+    }
+
+    @Test
+    void selectedHeadersAreCachedSeparately() {
+        assertThat(target("/cached/counter").queryParam("name", "d").request()
+            .header("X-Tenant", "one").get(String.class))
+            .isEqualTo("d-1");
+        assertThat(target("/cached/counter").queryParam("name", "d").request()
+            .header("X-Tenant", "two").get(String.class))
+            .isEqualTo("d-2");
+        assertThat(target("/cached/counter").queryParam("name", "d").request()
+            .header("X-Tenant", "one").get(String.class))
+            .isEqualTo("d-1");
+    }
+
+    @Test
+    void unsuccessfulResponsesAreNotCached() {
+        assertThat(target("/cached/failure").request().get().readEntity(String.class)).isEqualTo("failure-1");
+        assertThat(target("/cached/failure").request().get().readEntity(String.class)).isEqualTo("failure-2");
+    }
+}
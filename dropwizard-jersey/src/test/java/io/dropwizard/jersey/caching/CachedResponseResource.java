@@ -0,0 +1,37 @@
+package io.dropwizard.jersey.caching;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Path("/cached/")
+@Produces(MediaType.TEXT_PLAIN)
+public class CachedResponseResource {
+    static final AtomicInteger INVOCATIONS = new AtomicInteger();
+
+    @GET
+    @Path("/counter")
+    @CachedResponse(ttl = 1, ttlUnit = TimeUnit.MINUTES, varyBy = "X-Tenant")
+    public String showCounter(@QueryParam("name") String name) {
+        return name + "-" + INVOCATIONS.incrementAndGet();
+    }
+
+    @GET
+    @Path("/headers")
+    @CachedResponse(ttl = 1, ttlUnit = TimeUnit.MINUTES)
+    public Response showHeaders() {
+        return Response.ok("headers").header("X-Invocation", INVOCATIONS.incrementAndGet()).build();
+    }
+
+    @GET
+    @Path("/failure")
+    @CachedResponse(ttl = 1, ttlUnit = TimeUnit.MINUTES)
+    public Response showFailure() {
+        return Response.serverError().entity("failure-" + INVOCATIONS.incrementAndGet()).build();
+    }
+}
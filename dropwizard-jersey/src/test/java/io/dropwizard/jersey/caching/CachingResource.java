@@ -4,11 +4,17 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Path("/caching/")
 @Produces(MediaType.TEXT_PLAIN)
 public class CachingResource {
+    static final AtomicInteger SERIALIZATIONS = new AtomicInteger();
+    static volatile String value = "etagged-cached";
+
     @GET
     @Path("/immutable")
     @CacheControl(immutable = true)
@@ -71,4 +77,30 @@ public class CachingResource {
     public String showSharedMaxAge() {
         return "shared-max-age";
     }
+
+    @GET
+    @Path("/etagged")
+    @ETagged
+    public String showETagged() {
+        return "etagged";
+    }
+
+    @GET
+    @Path("/etagged-strong")
+    @CacheControl(noCache = true)
+    @ETagged(weak = false)
+    public String showETaggedStrong() {
+        return "etagged-strong";
+    }
+
+    @GET
+    @Path("/etagged-cached")
+    @ETagged(hashCacheTtl = 1, hashCacheTtlUnit = TimeUnit.HOURS)
+    public StreamingOutput showETaggedCached() {
+        final String current = value;
+        return output -> {
+            SERIALIZATIONS.incrementAndGet();
+            output.write(current.getBytes(StandardCharsets.UTF_8));
+        };
+    }
 }
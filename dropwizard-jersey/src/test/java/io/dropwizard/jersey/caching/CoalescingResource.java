@@ -0,0 +1,57 @@
+package io.dropwizard.jersey.caching;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Path("/coalesced/")
+@Produces(MediaType.TEXT_PLAIN)
+public class CoalescingResource {
+    static final AtomicInteger INVOCATIONS = new AtomicInteger();
+    static volatile CountDownLatch release = new CountDownLatch(0);
+
+    public static class CountingKeyExtractor implements RequestKeyExtractor {
+        static final AtomicInteger EXTRACTIONS = new AtomicInteger();
+
+        @Override
+        public String getKey(ContainerRequestContext requestContext) {
+            EXTRACTIONS.incrementAndGet();
+            return requestContext.getUriInfo().getPath();
+        }
+    }
+
+    @GET
+    @Path("/slow")
+    @CoalesceRequests(keyExtractor = CountingKeyExtractor.class)
+    public Response showSlow() throws InterruptedException {
+        final int invocation = INVOCATIONS.incrementAndGet();
+        release.await(5, TimeUnit.SECONDS);
+        return Response.ok("slow-" + invocation)
+            .header("X-Invocation", invocation)
+            .build();
+    }
+
+    @GET
+    @Path("/private")
+    @CoalesceRequests
+    public String showPrivate(@HeaderParam(HttpHeaders.AUTHORIZATION) String authorization) throws InterruptedException {
+        INVOCATIONS.incrementAndGet();
+        release.await(5, TimeUnit.SECONDS);
+        return "private-" + authorization;
+    }
+
+    @GET
+    @Path("/failing")
+    @CoalesceRequests
+    public String showFailing() {
+        throw new IllegalStateException("failed");
+    }
+}
@@ -0,0 +1,110 @@
+package io.dropwizard.jersey.caching;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescingFeatureTest extends AbstractJerseyTest {
+    private static final String METRIC_PREFIX =
+        "io.dropwizard.jersey.caching.CoalescingResource.showSlow.coalesced-requests";
+
+    // configure() is called from the constructor of JerseyTest, before instance fields are initialized
+    private static final MetricRegistry METRIC_REGISTRY = new MetricRegistry();
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting(METRIC_REGISTRY)
+            .register(CoalescingResource.class);
+    }
+
+    @BeforeEach
+    void resetResource() {
+        CoalescingResource.INVOCATIONS.set(0);
+        CoalescingResource.CountingKeyExtractor.EXTRACTIONS.set(0);
+    }
+
+    @Test
+    void concurrentRequestsShareOneExecution() throws Exception {
+        final long coalesced = METRIC_REGISTRY.meter(METRIC_PREFIX + ".coalesced").getCount();
+        CoalescingResource.release = new CountDownLatch(1);
+
+        // The test container may only have two worker threads
+        final List<Future<Response>> responses = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            responses.add(target("/coalesced/slow").request().async().get());
+        }
+        awaitGauge(METRIC_PREFIX + ".waiting", 1);
+        CoalescingResource.release.countDown();
+
+        for (Future<Response> future : responses) {
+            final Response response = future.get(5, TimeUnit.SECONDS);
+            assertThat(response.readEntity(String.class)).isEqualTo("slow-1");
+            assertThat(response.getHeaderString("X-Invocation")).isEqualTo("1");
+        }
+        assertThat(CoalescingResource.INVOCATIONS).hasValue(1);
+        assertThat(METRIC_REGISTRY.meter(METRIC_PREFIX + ".coalesced").getCount()).isEqualTo(coalesced + 1);
+    }
+
+    @Test
+    void requestsWithDifferentCredentialsAreNotCoalesced() throws Exception {
+        final String prefix = "io.dropwizard.jersey.caching.CoalescingResource.showPrivate.coalesced-requests";
+        CoalescingResource.release = new CountDownLatch(1);
+
+        final Future<Response> alice = target("/coalesced/private").request()
+            .header(HttpHeaders.AUTHORIZATION, "Bearer alice").async().get();
+        final Future<Response> bob = target("/coalesced/private").request()
+            .header(HttpHeaders.AUTHORIZATION, "Bearer bob").async().get();
+        awaitGauge(prefix + ".in-flight", 2);
+        CoalescingResource.release.countDown();
+
+        assertThat(alice.get(5, TimeUnit.SECONDS).readEntity(String.class)).isEqualTo("private-Bearer alice");
+        assertThat(bob.get(5, TimeUnit.SECONDS).readEntity(String.class)).isEqualTo("private-Bearer bob");
+        assertThat(CoalescingResource.INVOCATIONS).hasValue(2);
+        assertThat(METRIC_REGISTRY.meter(prefix + ".coalesced").getCount()).isZero();
+    }
+
+    @Test
+    void failingRequestsReleaseTheirKey() throws Exception {
+        final String prefix = "io.dropwizard.jersey.caching.CoalescingResource.showFailing.coalesced-requests";
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(target("/coalesced/failing").request().get().getStatus()).isEqualTo(500);
+            // The key is released once the processing of the request has finished
+            awaitGauge(prefix + ".in-flight", 0);
+        }
+        assertThat(METRIC_REGISTRY.meter(prefix + ".executions").getCount()).isEqualTo(2);
+        assertThat(METRIC_REGISTRY.meter(prefix + ".fallbacks").getCount()).isZero();
+    }
+
+    @Test
+    void sequentialRequestsAreExecutedSeparately() {
+        assertThat(target("/coalesced/slow").request().get(String.class)).isEqualTo("slow-1");
+        assertThat(target("/coalesced/slow").request().get(String.class)).isEqualTo("slow-2");
+    }
+
+    private static void awaitGauge(String name, int value) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!Integer.valueOf(value).equals(gaugeValue(name))) {
+            assertThat(System.nanoTime()).as("waiting for %s to reach %d", name, value).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static Object gaugeValue(String name) {
+        return requireNonNull(METRIC_REGISTRY.getGauges().get(name)).getValue();
+    }
+}
@@ -0,0 +1,33 @@
+package io.dropwizard.jersey.errors;
+
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.NotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DefaultErrorMessagesTest {
+    @Test
+    void reusesMessagesWithTheDefaultText() {
+        final ErrorMessage message = DefaultErrorMessages.of(404, new NotFoundException().getLocalizedMessage());
+
+        assertThat(message).isSameAs(DefaultErrorMessages.forStatus(404))
+            .isEqualTo(new ErrorMessage(404, "HTTP 404 Not Found"));
+        assertThat(DefaultErrorMessages.isDefault(message)).isTrue();
+    }
+
+    @Test
+    void createsMessagesWithCustomText() {
+        final ErrorMessage message = DefaultErrorMessages.of(404, "No such thing");
+
+        assertThat(message).isEqualTo(new ErrorMessage(404, "No such thing"));
+        assertThat(DefaultErrorMessages.isDefault(message)).isFalse();
+        assertThat(DefaultErrorMessages.isDefault(new ErrorMessage(404, "HTTP 404 Not Found"))).isFalse();
+    }
+
+    @Test
+    void onlyCoversErrorStatusCodes() {
+        assertThat(DefaultErrorMessages.forStatus(200)).isNull();
+        assertThat(DefaultErrorMessages.forStatus(503)).isNotNull();
+    }
+}
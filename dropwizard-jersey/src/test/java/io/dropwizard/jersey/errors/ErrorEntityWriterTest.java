@@ -12,10 +12,18 @@ import org.glassfish.jersey.test.spi.TestContainerException;
 import org.glassfish.jersey.test.spi.TestContainerFactory;
 import org.junit.jupiter.api.Test;
 
+import javax.ws.rs.Produces;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.MessageBodyWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -36,6 +44,37 @@ class ErrorEntityWriterTest extends AbstractJerseyTest {
                     return "<!DOCTYPE html><html><body>" + entity.getMessage() + "</body></html>";
                 }
             });
+            register(PlainTextPageWriter.class);
+            register(new ErrorEntityWriter<ErrorMessage, PlainTextPage>(MediaType.TEXT_PLAIN_TYPE, PlainTextPage.class) {
+                @Override
+                protected PlainTextPage getRepresentation(ErrorMessage entity) {
+                    return new PlainTextPage(entity.getMessage());
+                }
+            });
+        }
+    }
+
+    public static class PlainTextPage {
+        private final String text;
+
+        PlainTextPage(String text) {
+            this.text = text;
+        }
+    }
+
+    @Produces(MediaType.TEXT_PLAIN)
+    public static class PlainTextPageWriter implements MessageBodyWriter<PlainTextPage> {
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return type == PlainTextPage.class;
+        }
+
+        @Override
+        public void writeTo(PlainTextPage page, Class<?> type, Type genericType, Annotation[] annotations,
+                            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException {
+            httpHeaders.putSingle("X-Page-Writer", "plain");
+            entityStream.write(page.text.getBytes(StandardCharsets.UTF_8));
         }
     }
 
@@ -65,4 +104,14 @@ class ErrorEntityWriterTest extends AbstractJerseyTest {
             });
     }
 
+    @Test
+    void keepsHeadersOfRenderedDefaultErrorMessages() {
+        for (int i = 0; i < 2; i++) {
+            final Response response = target("/exception/missing").request(MediaType.TEXT_PLAIN_TYPE).get();
+            assertThat(response.getStatus()).isEqualTo(404);
+            assertThat(response.getHeaderString("X-Page-Writer")).isEqualTo("plain");
+            assertThat(response.readEntity(String.class)).isEqualTo("HTTP 404 Not Found");
+        }
+    }
+
 }
@@ -0,0 +1,72 @@
+package io.dropwizard.jersey.errors;
+
+import com.codahale.metrics.Clock;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorStormLimiterTest {
+    private static final String PREFIX = "io.dropwizard.jersey.errors.LoggingExceptionMapper";
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final ErrorStormLimiter limiter = new ErrorStormLimiter(metricRegistry, 2, 1, TimeUnit.HOURS);
+
+    @Test
+    void suppressesRepeatedStackTraces() {
+        final Throwable[] exceptions = identicalExceptions(3);
+
+        assertThat(limiter.tryAcquire(exceptions[0])).isTrue();
+        assertThat(limiter.tryAcquire(exceptions[1])).isTrue();
+        assertThat(limiter.tryAcquire(exceptions[2])).isFalse();
+
+        assertThat(metricRegistry.meter(PREFIX + ".exceptions.java.lang.IllegalStateException").getCount())
+            .isEqualTo(3);
+        assertThat(metricRegistry.meter(PREFIX + ".suppressed-stack-traces").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void distinguishesExceptionsByClassAndStackTrace() {
+        for (Throwable exception : identicalExceptions(3)) {
+            limiter.tryAcquire(exception);
+        }
+
+        assertThat(limiter.tryAcquire(new IllegalArgumentException("BOOM"))).isTrue();
+        assertThat(limiter.tryAcquire(new IllegalStateException("BOOM"))).isTrue();
+    }
+
+    @Test
+    void logsStackTracesAgainAfterTheInterval() {
+        final ManualClock clock = new ManualClock();
+        final ErrorStormLimiter shortLimiter =
+            new ErrorStormLimiter(metricRegistry, 1, 10, TimeUnit.MILLISECONDS, clock);
+        final Throwable[] exceptions = identicalExceptions(4);
+        assertThat(shortLimiter.tryAcquire(exceptions[0])).isTrue();
+        assertThat(shortLimiter.tryAcquire(exceptions[1])).isFalse();
+
+        clock.tick = TimeUnit.MILLISECONDS.toNanos(9);
+        assertThat(shortLimiter.tryAcquire(exceptions[2])).isFalse();
+
+        clock.tick = TimeUnit.MILLISECONDS.toNanos(20);
+        assertThat(shortLimiter.tryAcquire(exceptions[3])).isTrue();
+    }
+
+    private static class ManualClock extends Clock {
+        private long tick;
+
+        @Override
+        public long getTick() {
+            return tick;
+        }
+    }
+
+    private static Throwable[] identicalExceptions(int count) {
+        final Throwable[] exceptions = new Throwable[count];
+        for (int i = 0; i < count; i++) {
+            exceptions[i] = new IllegalStateException("BOOM");
+        }
+        return exceptions;
+    }
+}
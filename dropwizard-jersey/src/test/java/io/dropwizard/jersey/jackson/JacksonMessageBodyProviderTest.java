@@ -2,10 +2,17 @@ package io.dropwizard.jersey.jackson;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreType;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.jaxrs.cfg.EndpointConfigBase;
+import com.fasterxml.jackson.jaxrs.cfg.ObjectWriterInjector;
+import com.fasterxml.jackson.jaxrs.cfg.ObjectWriterModifier;
 import io.dropwizard.jackson.Jackson;
+import io.dropwizard.jersey.errors.DefaultErrorMessages;
+import io.dropwizard.jersey.errors.ErrorMessage;
 import io.dropwizard.validation.Validated;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIf;
@@ -18,6 +25,7 @@ import javax.validation.constraints.NotNull;
 import javax.validation.groups.Default;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -246,6 +254,41 @@ public class JacksonMessageBodyProviderTest {
                 .hasToString("{\"id\":500}");
     }
 
+    @Test
+    void serializesDefaultErrorMessagesOnce() throws Exception {
+        final ErrorMessage notFound = Objects.requireNonNull(DefaultErrorMessages.forStatus(404));
+        for (int i = 0; i < 2; i++) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            provider.writeTo(notFound, ErrorMessage.class, ErrorMessage.class, NONE,
+                MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(), output);
+            assertThat(output).hasToString("{\"code\":404,\"message\":\"HTTP 404 Not Found\"}");
+        }
+    }
+
+    @Test
+    void serializesDefaultErrorMessagesWithEndpointModifiers() throws Exception {
+        final ErrorMessage notFound = Objects.requireNonNull(DefaultErrorMessages.forStatus(404));
+        provider.writeTo(notFound, ErrorMessage.class, ErrorMessage.class, NONE,
+            MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(), new ByteArrayOutputStream());
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ObjectWriterInjector.set(new ObjectWriterModifier() {
+            @Override
+            public ObjectWriter modify(EndpointConfigBase<?> endpoint, MultivaluedMap<String, Object> responseHeaders,
+                                       Object valueToWrite, ObjectWriter w, JsonGenerator g) {
+                return w.withDefaultPrettyPrinter();
+            }
+        });
+        try {
+            provider.writeTo(notFound, ErrorMessage.class, ErrorMessage.class, NONE,
+                MediaType.APPLICATION_JSON_TYPE, new MultivaluedHashMap<>(), output);
+        } finally {
+            ObjectWriterInjector.getAndClear();
+        }
+
+        assertThat(output.toString()).contains(System.lineSeparator());
+    }
+
     @Test
     void returnsValidatedCollectionRequestEntities() throws Exception {
         testValidatedCollectionType(Collection.class,
@@ -0,0 +1,80 @@
+package io.dropwizard.jersey.limits;
+
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.jersey.AbstractJerseyTest;
+import io.dropwizard.jersey.DropwizardResourceConfig;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.Response;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestBodySizeLimitFeatureTest extends AbstractJerseyTest {
+    // configure() is called from the constructor of JerseyTest, before instance fields are initialized
+    private static final MetricRegistry METRIC_REGISTRY = new MetricRegistry();
+
+    private static final String SMALL_ENTITY = "{\"a\":\"b\"}";
+    private static final String MEDIUM_ENTITY = "{\"a\":\"b\",\"c\":\"d\",\"e\":\"f\"}";
+    private static final String LARGE_ENTITY = "{\"a\":\"" + repeat('b', 100) + "\"}";
+
+    @Override
+    protected Application configure() {
+        return DropwizardResourceConfig.forTesting(METRIC_REGISTRY)
+            .register(SizeLimitedResource.class);
+    }
+
+    @Test
+    void acceptsEntitiesWithinTheLimit() {
+        assertThat(post("/limits/class", SMALL_ENTITY).readEntity(Integer.class)).isEqualTo(1);
+        assertThat(post("/limits/class", MEDIUM_ENTITY).readEntity(Integer.class)).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsEntitiesExceedingTheClassLimit() {
+        final long rejected = rejectedCount("classLimit");
+        assertThat(post("/limits/class", LARGE_ENTITY).getStatus()).isEqualTo(413);
+        assertThat(rejectedCount("classLimit")).isEqualTo(rejected + 1);
+    }
+
+    @Test
+    void methodLimitTakesPrecedence() {
+        assertThat(post("/limits/method", SMALL_ENTITY).getStatus()).isEqualTo(200);
+        assertThat(post("/limits/method", MEDIUM_ENTITY).getStatus()).isEqualTo(413);
+    }
+
+    @Test
+    void negativeLimitsRemoveTheLimit() {
+        assertThat(post("/limits/unlimited", LARGE_ENTITY).readEntity(Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsStreamedEntitiesWhileReading() {
+        // A stream entity is sent with chunked encoding, so there is no Content-Length to check up front
+        final InputStream entity = new ByteArrayInputStream(LARGE_ENTITY.getBytes(UTF_8));
+        final Response response = target("/limits/class").request()
+            .post(Entity.json(entity));
+        assertThat(response.getStatus()).isEqualTo(413);
+    }
+
+    private Response post(String path, String entity) {
+        return target(path).request().post(Entity.json(entity));
+    }
+
+    private static long rejectedCount(String method) {
+        return METRIC_REGISTRY.meter(MetricRegistry.name(SizeLimitedResource.class, method, "rejected-request-bodies"))
+            .getCount();
+    }
+
+    private static String repeat(char c, int count) {
+        final StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
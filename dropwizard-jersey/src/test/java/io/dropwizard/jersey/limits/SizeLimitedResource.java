@@ -0,0 +1,32 @@
+package io.dropwizard.jersey.limits;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.MediaType;
+import java.util.Map;
+
+@Path("/limits")
+@Consumes(MediaType.APPLICATION_JSON)
+@MaxBodySize(64)
+public class SizeLimitedResource {
+    @POST
+    @Path("/class")
+    public int classLimit(Map<String, String> entity) {
+        return entity.size();
+    }
+
+    @POST
+    @Path("/method")
+    @MaxBodySize(16)
+    public int methodLimit(Map<String, String> entity) {
+        return entity.size();
+    }
+
+    @POST
+    @Path("/unlimited")
+    @MaxBodySize(-1)
+    public int unlimited(Map<String, String> entity) {
+        return entity.size();
+    }
+}
@@ -0,0 +1,20 @@
+package io.dropwizard.jersey.optional;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsciiDigitsTest {
+    @Test
+    void writesTheDecimalRepresentation() throws IOException {
+        for (long value : new long[]{0L, 7L, -7L, 10L, 1234567890L, -1234567890L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            AsciiDigits.write(value, out);
+            assertThat(new String(out.toByteArray(), US_ASCII)).isEqualTo(Long.toString(value));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.dropwizard.jersey.optional;
+
+import org.glassfish.jersey.message.MessageBodyWorkers;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.MessageBodyWriter;
+import java.lang.annotation.Annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MessageBodyWriterCacheTest {
+    private static final Annotation[] NO_ANNOTATIONS = new Annotation[0];
+
+    private final MessageBodyWorkers workers = mock(MessageBodyWorkers.class);
+    private final MessageBodyWriter<?> writer = mock(MessageBodyWriter.class);
+    private final MessageBodyWriterCache cache = new MessageBodyWriterCache();
+
+    @Test
+    void resolvesEachTypeAndMediaTypeOnce() {
+        doReturnWriter();
+
+        assertThat(cache.get(workers, String.class, String.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE))
+            .isSameAs(writer);
+        assertThat(cache.get(workers, String.class, String.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE))
+            .isSameAs(writer);
+        assertThat(cache.get(workers, String.class, String.class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE))
+            .isSameAs(writer);
+
+        verify(workers, times(1)).getMessageBodyWriter(String.class, String.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE);
+        verify(workers, times(1)).getMessageBodyWriter(String.class, String.class, NO_ANNOTATIONS, MediaType.APPLICATION_JSON_TYPE);
+    }
+
+    @Test
+    void resolvesWritersSeparatelyForDifferentAnnotations() throws Exception {
+        doReturnWriter();
+        final Annotation[] annotations = MessageBodyWriterCacheTest.class
+            .getDeclaredMethod("resolvesWritersSeparatelyForDifferentAnnotations").getAnnotations();
+
+        cache.get(workers, String.class, String.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE);
+        cache.get(workers, String.class, String.class, annotations, MediaType.TEXT_PLAIN_TYPE);
+        cache.get(workers, String.class, String.class, annotations.clone(), MediaType.TEXT_PLAIN_TYPE);
+
+        verify(workers, times(1)).getMessageBodyWriter(String.class, String.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE);
+        verify(workers, times(1)).getMessageBodyWriter(String.class, String.class, annotations, MediaType.TEXT_PLAIN_TYPE);
+    }
+
+    @Test
+    void doesNotCacheMissingWriters() {
+        assertThat(cache.get(workers, String.class, String.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE)).isNull();
+        doReturnWriter();
+        assertThat(cache.get(workers, String.class, String.class, NO_ANNOTATIONS, MediaType.TEXT_PLAIN_TYPE))
+            .isSameAs(writer);
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void doReturnWriter() {
+        when(workers.getMessageBodyWriter(eq((Class) String.class), eq(String.class), any(Annotation[].class), any(MediaType.class)))
+            .thenReturn((MessageBodyWriter) writer);
+    }
+}
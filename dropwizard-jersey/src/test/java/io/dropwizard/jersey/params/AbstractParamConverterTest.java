@@ -0,0 +1,59 @@
+package io.dropwizard.jersey.params;
+
+import org.glassfish.jersey.internal.inject.ExtractorException;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.WebApplicationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class AbstractParamConverterTest {
+    @Test
+    void createsParamsWithTheParameterName() throws Exception {
+        final AbstractParamConverter<IntParam> converter =
+            new AbstractParamConverter<>(IntParam.class.getConstructor(String.class, String.class), "id", null);
+
+        assertThat(converter.fromString("200")).isEqualTo(new IntParam("200"));
+        assertThatExceptionOfType(WebApplicationException.class)
+            .isThrownBy(() -> converter.fromString("foo"))
+            .satisfies(e -> assertThat(e.getMessage()).isEqualTo("id is not a number."));
+    }
+
+    @Test
+    void usesTheDefaultValueForEmptyInput() throws Exception {
+        final AbstractParamConverter<IntParam> converter =
+            new AbstractParamConverter<>(IntParam.class.getConstructor(String.class, String.class), "id", "42");
+
+        assertThat(converter.fromString("")).isEqualTo(new IntParam("42"));
+    }
+
+    @Test
+    void wrapsExceptionsOfTheParamClass() throws Exception {
+        final AbstractParamConverter<FailingParam> converter =
+            new AbstractParamConverter<>(FailingParam.class.getConstructor(String.class, String.class), "id", null);
+
+        assertThatExceptionOfType(ExtractorException.class)
+            .isThrownBy(() -> converter.fromString("exception"))
+            .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void doesNotWrapErrorsOfTheParamClass() throws Exception {
+        final AbstractParamConverter<FailingParam> converter =
+            new AbstractParamConverter<>(FailingParam.class.getConstructor(String.class, String.class), "id", null);
+
+        assertThatExceptionOfType(OutOfMemoryError.class)
+            .isThrownBy(() -> converter.fromString("error"));
+    }
+
+    public static class FailingParam {
+        public FailingParam(@Nullable String input, String parameterName) {
+            if ("error".equals(input)) {
+                throw new OutOfMemoryError(parameterName);
+            }
+            throw new IllegalStateException(parameterName);
+        }
+    }
+}
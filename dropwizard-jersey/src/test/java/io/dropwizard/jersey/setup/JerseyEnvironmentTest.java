@@ -1,7 +1,13 @@
 package io.dropwizard.jersey.setup;
 
+import com.codahale.metrics.MetricRegistry;
 import io.dropwizard.jersey.DropwizardResourceConfig;
+import io.dropwizard.jersey.ResourceScanCache;
+import io.dropwizard.jersey.dummy.DummyResource;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -29,6 +35,34 @@ class JerseyEnvironmentTest {
         assertThat(jerseyEnvironment.getUrlPattern()).isEqualTo(slashStarPath);
     }
 
+    @Test
+    void scansPackagesLazilyWithoutScanCache() {
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        final DropwizardResourceConfig resourceConfig = new DropwizardResourceConfig(metricRegistry);
+
+        new JerseyEnvironment(holder, resourceConfig).packages(DummyResource.class.getPackage().getName());
+
+        assertThat(scanningTimerCount(metricRegistry)).isZero();
+        assertThat(resourceConfig.getClasses()).contains(DummyResource.class);
+    }
+
+    @Test
+    void scansPackagesImmediatelyWithScanCache(@TempDir Path cacheDirectory) {
+        final MetricRegistry metricRegistry = new MetricRegistry();
+        final DropwizardResourceConfig resourceConfig = new DropwizardResourceConfig(metricRegistry);
+        final JerseyEnvironment environment = new JerseyEnvironment(holder, resourceConfig);
+
+        environment.setScanCache(new ResourceScanCache(cacheDirectory));
+        environment.packages(DummyResource.class.getPackage().getName());
+
+        assertThat(scanningTimerCount(metricRegistry)).isEqualTo(1);
+        assertThat(resourceConfig.getClasses()).contains(DummyResource.class);
+    }
+
+    private static long scanningTimerCount(MetricRegistry metricRegistry) {
+        return metricRegistry.timer("io.dropwizard.jersey.DropwizardResourceConfig.startup.scanning").getCount();
+    }
+
     private void assertPatternEndsWithSlashStar(String jerseyRootPath) {
         jerseyEnvironment.setUrlPattern(jerseyRootPath);
         assertThat(jerseyEnvironment.getUrlPattern()).endsWith("/*");
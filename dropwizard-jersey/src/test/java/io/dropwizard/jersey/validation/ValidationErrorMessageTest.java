@@ -0,0 +1,46 @@
+package io.dropwizard.jersey.validation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dropwizard.jackson.Jackson;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidationErrorMessageTest {
+    private final ObjectMapper mapper = Jackson.newObjectMapper();
+
+    @Test
+    void eagerErrorsAreReturnedAsGiven() throws Exception {
+        final ValidationErrorMessage message = mapper.readValue("{\"errors\":[\"name must not be empty\"]}",
+            ValidationErrorMessage.class);
+
+        assertThat(message.getErrors()).containsExactly("name must not be empty");
+        assertThat(new ValidationErrorMessage(Collections.emptyList()).getErrors()).isEmpty();
+    }
+
+    @Test
+    void lazyErrorsAreComputedOnce() {
+        final AtomicInteger invocations = new AtomicInteger();
+        final ValidationErrorMessage message = ValidationErrorMessage.lazily(() -> {
+            invocations.incrementAndGet();
+            return Collections.singletonList("name must not be empty");
+        });
+
+        assertThat(invocations).hasValue(0);
+        assertThat(message.getErrors()).containsExactly("name must not be empty");
+        assertThat(message.getErrors()).containsExactly("name must not be empty");
+        assertThat(invocations).hasValue(1);
+    }
+
+    @Test
+    void lazyErrorsAreSerialized() throws Exception {
+        final ValidationErrorMessage message = ValidationErrorMessage.lazily(
+            () -> Collections.singletonList("name must not be empty"));
+
+        assertThat(mapper.writeValueAsString(message))
+            .isEqualTo("{\"errors\":[\"name must not be empty\"]}");
+    }
+}
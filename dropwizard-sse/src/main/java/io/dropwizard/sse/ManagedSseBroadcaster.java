@@ -0,0 +1,206 @@
+package io.dropwizard.sse;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import io.dropwizard.lifecycle.Managed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.SseEventSink;
+import javax.annotation.Nullable;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Broadcasts server-sent events to a set of connected clients without blocking the broadcasting thread.
+ * <p/>
+ * Every client has a bounded queue of pending events, which is drained on the given executor. A write which doesn't
+ * complete immediately doesn't hold the executor thread: the next event of the client is sent once the write
+ * completes. When the queue of a client is full, the event is dropped for this client and, if
+ * {@code evictSlowConsumers} is enabled, the client is disconnected, so that a single slow consumer cannot hold back
+ * the others or exhaust the server's memory.
+ * <p/>
+ * The following metrics are registered with the prefix {@code io.dropwizard.sse.ManagedSseBroadcaster.<name>}:
+ * <ul>
+ *     <li>{@code open-streams}: a gauge of the connected clients</li>
+ *     <li>{@code dropped-events}: a meter of events which were dropped because a client's queue was full</li>
+ *     <li>{@code evicted-streams}: a meter of clients which were disconnected for being too slow</li>
+ * </ul>
+ *
+ * @since 2.1.5
+ */
+public class ManagedSseBroadcaster implements Managed {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ManagedSseBroadcaster.class);
+
+    private final Executor executor;
+    private final int maxQueuedEvents;
+    private final boolean evictSlowConsumers;
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final Meter droppedEvents;
+    private final Meter evictedStreams;
+
+    /**
+     * @param name               the name of the broadcaster, used for its metrics
+     * @param executor           the executor which writes events to the clients
+     * @param metricRegistry     the registry for the broadcaster's metrics
+     * @param maxQueuedEvents    the maximum number of pending events per client
+     * @param evictSlowConsumers whether to disconnect clients whose queue is full
+     */
+    public ManagedSseBroadcaster(String name, Executor executor, MetricRegistry metricRegistry,
+                                 int maxQueuedEvents, boolean evictSlowConsumers) {
+        if (maxQueuedEvents < 1) {
+            throw new IllegalArgumentException("maxQueuedEvents must be positive");
+        }
+        this.executor = requireNonNull(executor);
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.evictSlowConsumers = evictSlowConsumers;
+
+        final String prefix = name(ManagedSseBroadcaster.class, name);
+        metricRegistry.register(name(prefix, "open-streams"), (Gauge<Integer>) clients::size);
+        this.droppedEvents = metricRegistry.meter(name(prefix, "dropped-events"));
+        this.evictedStreams = metricRegistry.meter(name(prefix, "evicted-streams"));
+    }
+
+    /**
+     * Adds the given event sink to the clients which receive broadcast events.
+     *
+     * @param sink the event sink of a connected client
+     */
+    public void register(SseEventSink sink) {
+        clients.add(new Client(requireNonNull(sink)));
+    }
+
+    /**
+     * Queues the given event for all connected clients and returns immediately.
+     *
+     * @param event the event to broadcast
+     */
+    public void broadcast(OutboundSseEvent event) {
+        requireNonNull(event);
+        for (Client client : clients) {
+            client.offer(event);
+        }
+    }
+
+    /**
+     * Returns the number of connected clients.
+     */
+    public int getOpenStreams() {
+        return clients.size();
+    }
+
+    @Override
+    public void stop() {
+        for (Client client : clients) {
+            client.close();
+        }
+    }
+
+    private final class Client implements Runnable {
+        private final SseEventSink sink;
+        private final BlockingQueue<OutboundSseEvent> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private Client(SseEventSink sink) {
+            this.sink = sink;
+            this.queue = new ArrayBlockingQueue<>(maxQueuedEvents);
+        }
+
+        private void offer(OutboundSseEvent event) {
+            if (sink.isClosed()) {
+                close();
+            } else if (queue.offer(event)) {
+                schedule();
+            } else {
+                droppedEvents.mark();
+                if (evictSlowConsumers) {
+                    LOGGER.debug("Evicting slow SSE client with {} pending events", queue.size());
+                    evictedStreams.mark();
+                    close();
+                }
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    LOGGER.warn("Unable to schedule sending of SSE events", e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            OutboundSseEvent event;
+            while ((event = queue.poll()) != null) {
+                if (sink.isClosed()) {
+                    close();
+                    break;
+                }
+                final CompletableFuture<?> sent;
+                try {
+                    sent = sink.send(event).toCompletableFuture();
+                } catch (RuntimeException e) {
+                    LOGGER.debug("Unable to send SSE event, closing the stream", e);
+                    close();
+                    break;
+                }
+                if (!sent.isDone() || sent.isCompletedExceptionally()) {
+                    // Sending the next event only once this one is written keeps the events of a client in order,
+                    // without holding this thread while a slow client catches up
+                    sent.whenComplete((ignored, failure) -> onSent(failure));
+                    return;
+                }
+            }
+            finish();
+        }
+
+        private void onSent(@Nullable Throwable failure) {
+            if (failure != null) {
+                LOGGER.debug("Unable to send SSE event, closing the stream", failure);
+                close();
+                finish();
+                return;
+            }
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                LOGGER.warn("Unable to schedule sending of SSE events", e);
+                finish();
+            }
+        }
+
+        private void finish() {
+            scheduled.set(false);
+            // An event may have been queued after the queue was drained, but before the flag was reset
+            if (!queue.isEmpty() && clients.contains(this)) {
+                schedule();
+            }
+        }
+
+        private void close() {
+            if (clients.remove(this)) {
+                queue.clear();
+                try {
+                    sink.close();
+                } catch (RuntimeException e) {
+                    LOGGER.debug("Unable to close SSE stream", e);
+                }
+            }
+        }
+    }
+}
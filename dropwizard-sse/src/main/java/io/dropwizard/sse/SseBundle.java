@@ -0,0 +1,87 @@
+package io.dropwizard.sse;
+
+import io.dropwizard.Configuration;
+import io.dropwizard.ConfiguredBundle;
+import io.dropwizard.setup.Environment;
+import org.glassfish.jersey.internal.inject.AbstractBinder;
+import org.glassfish.jersey.media.sse.SseFeature;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A {@link ConfiguredBundle}, which enables server-sent events in your application and provides a
+ * {@link ManagedSseBroadcaster} for pushing events to many clients. The broadcaster can be injected into resources
+ * with {@code @Context} or {@code @Inject}:
+ *
+ * <pre>{@code
+ * @GET
+ * @Produces(MediaType.SERVER_SENT_EVENTS)
+ * public void subscribe(@Context SseEventSink sink, @Context ManagedSseBroadcaster broadcaster) {
+ *     broadcaster.register(sink);
+ * }
+ * }</pre>
+ *
+ * @see org.glassfish.jersey.media.sse.SseFeature
+ * @since 2.1.5
+ */
+public class SseBundle implements ConfiguredBundle<Configuration> {
+    public static final int DEFAULT_MAX_QUEUED_EVENTS = 64;
+    public static final int DEFAULT_MAX_THREADS = 8;
+
+    private final int maxQueuedEvents;
+    private final boolean evictSlowConsumers;
+    private final int maxThreads;
+
+    @Nullable
+    private ManagedSseBroadcaster broadcaster;
+
+    public SseBundle() {
+        this(DEFAULT_MAX_QUEUED_EVENTS, true, DEFAULT_MAX_THREADS);
+    }
+
+    /**
+     * @param maxQueuedEvents    the maximum number of pending events per client
+     * @param evictSlowConsumers whether to disconnect clients whose queue is full
+     * @param maxThreads         the maximum number of threads writing events to clients
+     */
+    public SseBundle(int maxQueuedEvents, boolean evictSlowConsumers, int maxThreads) {
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.evictSlowConsumers = evictSlowConsumers;
+        this.maxThreads = maxThreads;
+    }
+
+    @Override
+    public void run(Configuration configuration, Environment environment) {
+        final ExecutorService executor = environment.lifecycle().executorService("sse-broadcaster-%d")
+            .minThreads(maxThreads)
+            .maxThreads(maxThreads)
+            .allowCoreThreadTimeOut(true)
+            .build();
+        final ManagedSseBroadcaster managedBroadcaster = new ManagedSseBroadcaster(environment.getName(), executor,
+            environment.metrics(), maxQueuedEvents, evictSlowConsumers);
+        environment.lifecycle().manage(managedBroadcaster);
+
+        environment.jersey().register(SseFeature.class);
+        environment.jersey().register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(managedBroadcaster).to(ManagedSseBroadcaster.class);
+            }
+        });
+        this.broadcaster = managedBroadcaster;
+    }
+
+    /**
+     * Returns the broadcaster of the application.
+     *
+     * @throws IllegalStateException if the bundle has not been run yet
+     */
+    public ManagedSseBroadcaster getBroadcaster() {
+        final ManagedSseBroadcaster managedBroadcaster = broadcaster;
+        if (managedBroadcaster == null) {
+            throw new IllegalStateException("The SSE bundle has not been run yet");
+        }
+        return managedBroadcaster;
+    }
+}
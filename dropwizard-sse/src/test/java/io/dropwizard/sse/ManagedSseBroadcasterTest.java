@@ -0,0 +1,207 @@
+package io.dropwizard.sse;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.SseEventSink;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ManagedSseBroadcasterTest {
+    private static final String PREFIX = "io.dropwizard.sse.ManagedSseBroadcaster.test";
+
+    private final MetricRegistry metricRegistry = new MetricRegistry();
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+    @Test
+    void sendsEventsToAllClientsInOrder() {
+        final ManagedSseBroadcaster broadcaster = new ManagedSseBroadcaster("test", Runnable::run, metricRegistry, 4, true);
+        final RecordingSink first = new RecordingSink();
+        final RecordingSink second = new RecordingSink();
+        broadcaster.register(first);
+        broadcaster.register(second);
+
+        broadcaster.broadcast(event("one"));
+        broadcaster.broadcast(event("two"));
+
+        assertThat(first.data()).containsExactly("one", "two");
+        assertThat(second.data()).containsExactly("one", "two");
+        assertThat(metricRegistry.getGauges().get(PREFIX + ".open-streams"))
+            .extracting(Gauge::getValue)
+            .isEqualTo(2);
+    }
+
+    @Test
+    void evictsSlowConsumers() {
+        final ManagedSseBroadcaster broadcaster = new ManagedSseBroadcaster("test", tasks::add, metricRegistry, 2, true);
+        final RecordingSink slow = new RecordingSink();
+        broadcaster.register(slow);
+
+        broadcaster.broadcast(event("one"));
+        broadcaster.broadcast(event("two"));
+        broadcaster.broadcast(event("three"));
+
+        assertThat(slow.closed).isTrue();
+        assertThat(broadcaster.getOpenStreams()).isZero();
+        assertThat(metricRegistry.meter(PREFIX + ".dropped-events").getCount()).isEqualTo(1);
+        assertThat(metricRegistry.meter(PREFIX + ".evicted-streams").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsEventsForSlowConsumersWithoutEviction() {
+        final ManagedSseBroadcaster broadcaster = new ManagedSseBroadcaster("test", tasks::add, metricRegistry, 2, false);
+        final RecordingSink slow = new RecordingSink();
+        broadcaster.register(slow);
+
+        broadcaster.broadcast(event("one"));
+        broadcaster.broadcast(event("two"));
+        broadcaster.broadcast(event("three"));
+        runTasks();
+
+        assertThat(slow.closed).isFalse();
+        assertThat(slow.data()).containsExactly("one", "two");
+        assertThat(metricRegistry.meter(PREFIX + ".dropped-events").getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotHoldTheExecutorWhileAWriteIsPending() {
+        final ManagedSseBroadcaster broadcaster = new ManagedSseBroadcaster("test", tasks::add, metricRegistry, 4, true);
+        final RecordingSink slow = new RecordingSink();
+        slow.deferred = true;
+        final RecordingSink fast = new RecordingSink();
+        broadcaster.register(slow);
+        broadcaster.register(fast);
+
+        broadcaster.broadcast(event("one"));
+        broadcaster.broadcast(event("two"));
+        runTasks();
+
+        assertThat(fast.data()).containsExactly("one", "two");
+        assertThat(slow.data()).containsExactly("one");
+
+        slow.completePending();
+        runTasks();
+
+        assertThat(slow.data()).containsExactly("one", "two");
+        assertThat(slow.closed).isFalse();
+    }
+
+    @Test
+    void closesStreamsWhosePendingWriteFails() {
+        final ManagedSseBroadcaster broadcaster = new ManagedSseBroadcaster("test", tasks::add, metricRegistry, 4, true);
+        final RecordingSink slow = new RecordingSink();
+        slow.deferred = true;
+        broadcaster.register(slow);
+
+        broadcaster.broadcast(event("one"));
+        runTasks();
+        slow.failPending(new IllegalStateException("broken pipe"));
+
+        assertThat(slow.closed).isTrue();
+        assertThat(broadcaster.getOpenStreams()).isZero();
+    }
+
+    @Test
+    void removesClosedAndFailingStreams() {
+        final ManagedSseBroadcaster broadcaster = new ManagedSseBroadcaster("test", Runnable::run, metricRegistry, 4, true);
+        final RecordingSink closed = new RecordingSink();
+        final RecordingSink failing = new RecordingSink();
+        failing.failure = new IllegalStateException("broken pipe");
+        broadcaster.register(closed);
+        broadcaster.register(failing);
+        closed.closed = true;
+
+        broadcaster.broadcast(event("one"));
+
+        assertThat(failing.closed).isTrue();
+        assertThat(broadcaster.getOpenStreams()).isZero();
+    }
+
+    @Test
+    void closesAllStreamsOnStop() {
+        final ManagedSseBroadcaster broadcaster = new ManagedSseBroadcaster("test", Runnable::run, metricRegistry, 4, true);
+        final RecordingSink sink = new RecordingSink();
+        broadcaster.register(sink);
+
+        broadcaster.stop();
+
+        assertThat(sink.closed).isTrue();
+        assertThat(broadcaster.getOpenStreams()).isZero();
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private static OutboundSseEvent event(String data) {
+        return new OutboundEvent.Builder().data(data).build();
+    }
+
+    private static class RecordingSink implements SseEventSink {
+        private final List<OutboundSseEvent> events = new ArrayList<>();
+        private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+        private volatile boolean closed;
+        private boolean deferred;
+        @Nullable
+        private RuntimeException failure;
+
+        void completePending() {
+            final List<CompletableFuture<Void>> writes = new ArrayList<>(pending);
+            pending.clear();
+            writes.forEach(write -> write.complete(null));
+        }
+
+        void failPending(Throwable cause) {
+            final List<CompletableFuture<Void>> writes = new ArrayList<>(pending);
+            pending.clear();
+            writes.forEach(write -> write.completeExceptionally(cause));
+        }
+
+        List<Object> data() {
+            final List<Object> data = new ArrayList<>();
+            for (OutboundSseEvent event : events) {
+                data.add(event.getData());
+            }
+            return data;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+        @Override
+        public CompletionStage<?> send(OutboundSseEvent event) {
+            final CompletableFuture<Void> result = new CompletableFuture<>();
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                events.add(event);
+                if (deferred) {
+                    pending.add(result);
+                } else {
+                    result.complete(null);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.dropwizard.sse;
+
+import io.dropwizard.Configuration;
+import io.dropwizard.logging.BootstrapLogging;
+import io.dropwizard.setup.Environment;
+import org.glassfish.jersey.media.sse.SseFeature;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class SseBundleTest {
+    static {
+        BootstrapLogging.bootstrap();
+    }
+
+    @Test
+    void testRun() {
+        final Environment environment = new Environment("sse-test");
+        final SseBundle bundle = new SseBundle();
+        assertThatIllegalStateException().isThrownBy(bundle::getBroadcaster);
+
+        bundle.run(new Configuration(), environment);
+
+        assertThat(environment.jersey().getResourceConfig().getClasses()).contains(SseFeature.class);
+        assertThat(bundle.getBroadcaster().getOpenStreams()).isZero();
+        assertThat(environment.metrics().getGauges())
+            .containsKey("io.dropwizard.sse.ManagedSseBroadcaster.sse-test.open-streams");
+    }
+}
@@ -6,6 +6,16 @@ import javax.annotation.Nullable;
  * Helper methods for enum types.
  */
 public class Enums {
+    private static final ClassValue<FuzzyEnumTable> FUZZY_TABLES = new ClassValue<FuzzyEnumTable>() {
+        @Override
+        protected FuzzyEnumTable computeValue(Class<?> type) {
+            final Object[] constants = type.getEnumConstants();
+            if (constants == null) {
+                throw new IllegalArgumentException(type.getName() + " is not an enum type");
+            }
+            return new FuzzyEnumTable((Enum<?>[]) constants);
+        }
+    };
 
     /**
      * Convert a string to an enum with more permissive rules than {@link Enum} valueOf().
@@ -47,4 +57,19 @@ public class Enums {
         return null;
     }
 
+    /**
+     * Convert a string to a constant of the given enum type with the same rules as
+     * {@link #fromStringFuzzy(String, Enum[])}.
+     * <br/>
+     * The constants of each enum type are indexed on first use, so that a conversion takes constant time and
+     * doesn't allocate.
+     * @param value The string to convert.
+     * @param enumType The {@link Enum} type to which you wish to convert.
+     * @return The enum or null, if no enum constant matched the input value.
+     * @since 2.1.5
+     */
+    @Nullable
+    public static <T extends Enum<?>> T fromStringFuzzy(String value, Class<T> enumType) {
+        return enumType.cast(FUZZY_TABLES.get(enumType).get(value));
+    }
 }
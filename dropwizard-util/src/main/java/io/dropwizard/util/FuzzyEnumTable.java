@@ -0,0 +1,131 @@
+package io.dropwizard.util;
+
+import javax.annotation.Nullable;
+
+/**
+ * A precomputed lookup table implementing {@link Enums#fromStringFuzzy(String, Enum[])} for one enum type.
+ * <p>
+ * Constants are stored in two open-addressing tables, keyed by their case-folded name and their case-folded
+ * {@link Enum#toString()}. Hashing and comparing the input skip or translate the ignored characters on the fly,
+ * so a lookup neither scans all constants nor allocates.
+ */
+final class FuzzyEnumTable {
+    private final String[] nameKeys;
+    private final Enum<?>[] nameValues;
+    private final String[] toStringKeys;
+    private final Enum<?>[] toStringValues;
+    private final int mask;
+
+    FuzzyEnumTable(Enum<?>[] constants) {
+        final int capacity = tableSize(constants.length);
+        this.mask = capacity - 1;
+        this.nameKeys = new String[capacity];
+        this.nameValues = new Enum<?>[capacity];
+        this.toStringKeys = new String[capacity];
+        this.toStringValues = new Enum<?>[capacity];
+
+        // Insert in declaration order and keep the first match, like the linear scan does
+        for (Enum<?> constant : constants) {
+            insert(nameKeys, nameValues, fold(constant.name(), true), constant);
+        }
+        for (Enum<?> constant : constants) {
+            final String text = constant.toString();
+            if (text != null) {
+                insert(toStringKeys, toStringValues, fold(text, false), constant);
+            }
+        }
+    }
+
+    @Nullable
+    Enum<?> get(String value) {
+        final Enum<?> byName = find(nameKeys, nameValues, value, true);
+        return byName != null ? byName : find(toStringKeys, toStringValues, value, false);
+    }
+
+    private void insert(String[] keys, Enum<?>[] values, String key, Enum<?> constant) {
+        int index = hash(key, false) & mask;
+        while (keys[index] != null) {
+            if (keys[index].equals(key)) {
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = constant;
+    }
+
+    @Nullable
+    private Enum<?> find(String[] keys, Enum<?>[] values, String value, boolean normalize) {
+        int index = hash(value, normalize) & mask;
+        String key;
+        while ((key = keys[index]) != null) {
+            if (matches(key, value, normalize)) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    private static int hash(String value, boolean normalize) {
+        int hash = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (!normalize || !isIgnored(c)) {
+                hash = 31 * hash + fold(c, normalize);
+            }
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean matches(String key, String value, boolean normalize) {
+        int position = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (normalize && isIgnored(c)) {
+                continue;
+            }
+            if (position == key.length() || key.charAt(position++) != fold(c, normalize)) {
+                return false;
+            }
+        }
+        return position == key.length();
+    }
+
+    private static String fold(String value, boolean normalize) {
+        final StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (!normalize || !isIgnored(c)) {
+                builder.append(fold(c, normalize));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isIgnored(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    /**
+     * Maps all characters which {@link String#equalsIgnoreCase(String)} considers equal to the same character.
+     */
+    private static char fold(char c, boolean normalize) {
+        if (normalize && (c == '-' || c == '.')) {
+            return '_';
+        }
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static int tableSize(int entries) {
+        // Keep the load factor at or below one half
+        int size = 2;
+        while (size < entries * 2) {
+            size <<= 1;
+        }
+        return size;
+    }
+}
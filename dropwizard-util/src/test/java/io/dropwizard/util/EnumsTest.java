@@ -1,5 +1,6 @@
 package io.dropwizard.util;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -7,6 +8,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 class EnumsTest {
 
@@ -48,4 +50,38 @@ class EnumsTest {
     void canGuess(String text, VideoFormat result) {
         assertThat(Enums.fromStringFuzzy(text, VideoFormat.values())).isEqualTo(result);
     }
+
+    @ParameterizedTest
+    @MethodSource("data")
+    void canGuessWithLookupTable(String text, VideoFormat result) {
+        assertThat(Enums.fromStringFuzzy(text, VideoFormat.class)).isEqualTo(result);
+    }
+
+    enum Ambiguous {
+        A_B,
+        AB {
+            @Override
+            public String toString() {
+                return "a_b";
+            }
+        },
+        Straße,
+        K
+    }
+
+    @Test
+    void lookupTableMatchesLinearScan() {
+        for (String text : new String[]{"a_b", "A-B", "a.b", "ab", "AB", "a b", "STRASSE", "straße", "STRAßE",
+            "\u212A", "k", "", " ", "_"}) {
+            assertThat(Enums.fromStringFuzzy(text, Ambiguous.class))
+                .as(text)
+                .isEqualTo(Enums.fromStringFuzzy(text, Ambiguous.values()));
+        }
+    }
+
+    @Test
+    void rejectsNonEnumTypes() {
+        assertThatIllegalArgumentException()
+            .isThrownBy(() -> Enums.fromStringFuzzy("QuickTime", VideoFormat.HDMOV.getClass()));
+    }
 }
@@ -11,17 +11,27 @@ import org.slf4j.LoggerFactory;
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
  * This class is the base validator for the <code>@SelfValidating</code> annotation. It
  * initiates the self validation process on an object, generating wrapping methods to call
  * the validation methods efficiently and then calls them.
+ * <p>
+ * The wrapping methods are generated once per validated class with {@link LambdaMetafactory},
+ * so that each validation is a plain interface call instead of a reflective invocation.
  */
 public class SelfValidatingValidator implements ConstraintValidator<SelfValidating, Object> {
     private final Logger log;
@@ -37,35 +47,32 @@ public class SelfValidatingValidator implements ConstraintValidator<SelfValidati
         log = logger;
     }
 
-    @SuppressWarnings("rawtypes")
-    private final ConcurrentMap<Class<?>, List<ValidationCaller>> methodMap = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, List<BiConsumer<Object, ViolationCollector>>> methodMap = new ConcurrentHashMap<>();
     private final AnnotationConfiguration annotationConfiguration = new AnnotationConfiguration.StdConfiguration(AnnotationInclusion.INCLUDE_AND_INHERIT_IF_INHERITED);
     private final TypeResolver typeResolver = new TypeResolver();
     private final MemberResolver memberResolver = new MemberResolver(typeResolver);
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public boolean isValid(Object value, ConstraintValidatorContext context) {
         final ViolationCollector collector = new ViolationCollector(context);
         context.disableDefaultConstraintViolation();
-        for (ValidationCaller caller : methodMap.computeIfAbsent(value.getClass(), this::findMethods)) {
-            caller.setValidationObject(value);
-            caller.call(collector);
+        final List<BiConsumer<Object, ViolationCollector>> callers = methodMap.computeIfAbsent(value.getClass(), this::findMethods);
+        for (int i = 0; i < callers.size(); i++) {
+            callers.get(i).accept(value, collector);
         }
         return !collector.hasViolationOccurred();
     }
 
     /**
-     * This method generates <code>ValidationCaller</code>s for each method annotated
+     * This method generates callers for each method annotated
      * with <code>@SelfValidation</code> that adheres to required signature.
      */
-    @SuppressWarnings({ "rawtypes" })
-    private <T> List<ValidationCaller> findMethods(Class<T> annotated) {
+    private List<BiConsumer<Object, ViolationCollector>> findMethods(Class<?> annotated) {
         ResolvedTypeWithMembers annotatedType = memberResolver.resolve(typeResolver.resolve(annotated), annotationConfiguration, null);
-        final List<ValidationCaller> callers = Arrays.stream(annotatedType.getMemberMethods())
+        final List<BiConsumer<Object, ViolationCollector>> callers = Arrays.stream(annotatedType.getMemberMethods())
             .filter(this::isValidationMethod)
             .filter(this::isMethodCorrect)
-            .map(m -> new ProxyValidationCaller<>(annotated, m))
+            .map(m -> createCaller(m.getRawMember()))
             .collect(Collectors.toList());
         if (callers.isEmpty()) {
             log.warn("The class {} is annotated with @SelfValidating but contains no valid methods that are annotated " +
@@ -93,23 +100,65 @@ public class SelfValidatingValidator implements ConstraintValidator<SelfValidati
         return true;
     }
 
-    static final class ProxyValidationCaller<T> extends ValidationCaller<T> {
-        private final Class<T> cls;
-        private final ResolvedMethod resolvedMethod;
+    /**
+     * Generates a caller for the given validation method. If the method can't be linked from this
+     * class (e.g. because it is declared in a class not visible to our class loader), it falls back
+     * to a reflective invocation.
+     */
+    BiConsumer<Object, ViolationCollector> createCaller(Method method) {
+        if (!isVisible(method.getDeclaringClass())) {
+            return new ReflectiveCaller(method);
+        }
+        final CallSite callSite;
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle handle = lookup.unreflect(method);
+            callSite = LambdaMetafactory.metafactory(lookup,
+                "accept",
+                MethodType.methodType(BiConsumer.class),
+                MethodType.methodType(void.class, Object.class, Object.class),
+                handle,
+                MethodType.methodType(void.class, method.getDeclaringClass(), ViolationCollector.class));
+        } catch (IllegalAccessException | LambdaConversionException e) {
+            log.warn("Unable to generate a caller for the method {}, calling it reflectively", method, e);
+            return new ReflectiveCaller(method);
+        }
+        return createCaller(callSite);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, ViolationCollector> createCaller(CallSite callSite) {
+        try {
+            return (BiConsumer<Object, ViolationCollector>) callSite.getTarget().invoke();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            // The factory of a non-capturing lambda doesn't throw checked exceptions
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean isVisible(Class<?> cls) {
+        try {
+            return Class.forName(cls.getName(), false, SelfValidatingValidator.class.getClassLoader()) == cls;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    static final class ReflectiveCaller implements BiConsumer<Object, ViolationCollector> {
+        private final Method method;
 
-        ProxyValidationCaller(Class<T> cls, ResolvedMethod resolvedMethod) {
-            this.cls = cls;
-            this.resolvedMethod = resolvedMethod;
+        ReflectiveCaller(Method method) {
+            this.method = method;
         }
 
         @Override
-        public void call(ViolationCollector vc) {
-            final Method method = resolvedMethod.getRawMember();
-            final T obj = cls.cast(getValidationObject());
+        public void accept(Object obj, ViolationCollector vc) {
             try {
                 method.invoke(obj, vc);
             } catch (ReflectiveOperationException e) {
-                throw new IllegalStateException("Couldn't call " + resolvedMethod + " on " + getValidationObject(), e);
+                throw new IllegalStateException("Couldn't call " + method + " on " + obj, e);
             }
         }
     }
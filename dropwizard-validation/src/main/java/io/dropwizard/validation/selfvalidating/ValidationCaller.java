@@ -7,7 +7,10 @@ import javax.annotation.Nullable;
  * It is used as a base class for the code generation.
  *
  * @param <T> the object type that contains the validation method
+ * @deprecated {@link SelfValidatingValidator} calls the validation methods through generated callers and no longer
+ * uses this class
  */
+@Deprecated
 public abstract class ValidationCaller<T> {
 
     /**
@@ -14,6 +14,7 @@ import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -77,6 +78,17 @@ class SelfValidatingValidatorTest {
             ViolationCollector.class);
     }
 
+    @Test
+    void generatedCallerInvokesMethod() throws NoSuchMethodException {
+        final BiConsumer<Object, ViolationCollector> caller = selfValidatingValidator.createCaller(
+            ValidExample.class.getMethod("validate", ViolationCollector.class));
+        final ViolationCollector collector = mock(ViolationCollector.class);
+
+        assertThat(caller).isNotInstanceOf(SelfValidatingValidator.ReflectiveCaller.class);
+        caller.accept(new ValidExample(-1), collector);
+        verify(collector).addViolation("n must be positive!");
+    }
+
     private ResolvedMethod getMethod(String name, Class<?>... params) {
         AnnotationConfiguration annotationConfiguration = new AnnotationConfiguration.StdConfiguration(AnnotationInclusion.INCLUDE_AND_INHERIT_IF_INHERITED);
         TypeResolver typeResolver = new TypeResolver();